@@ -0,0 +1,212 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.PlaybackException;
+import com.google.android.exoplayer2.upstream.BaseDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSourceException;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads {@code asset:///} URIs through an {@link AssetFileDescriptor}, using positional reads on
+ * the underlying file channel.
+ *
+ * <p>Unlike the input streams {@link AssetManager#open} returns, this copies straight from the
+ * APK into ExoPlayer's buffer and seeks without skipping through the stream. It only works for
+ * assets stored uncompressed, which is the default for media files; compressed assets and other
+ * URIs are read through the upstream data source.
+ *
+ * <p>Transfers are reported to the listeners of this data source on either path, like {@link
+ * com.google.android.exoplayer2.upstream.AssetDataSource} does.
+ */
+final class AssetFdDataSource extends BaseDataSource {
+  private static final String SCHEME_ASSET = "asset";
+  private static final String ANDROID_ASSET_PREFIX = "/android_asset/";
+
+  /** Creates {@link AssetFdDataSource} instances around an upstream factory. */
+  static final class Factory implements DataSource.Factory {
+    private final AssetManager assetManager;
+    private final DataSource.Factory upstreamFactory;
+
+    Factory(@NonNull Context context, @NonNull DataSource.Factory upstreamFactory) {
+      this.assetManager = context.getAssets();
+      this.upstreamFactory = upstreamFactory;
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new AssetFdDataSource(assetManager, upstreamFactory.createDataSource());
+    }
+  }
+
+  private final AssetManager assetManager;
+  private final DataSource upstream;
+  @Nullable private DataSource openedUpstream;
+  @Nullable private AssetFileDescriptor assetFileDescriptor;
+  @Nullable private FileInputStream inputStream;
+  @Nullable private FileChannel channel;
+  @Nullable private Uri uri;
+  private long position;
+  private long bytesRemaining;
+  private boolean opened;
+
+  AssetFdDataSource(@NonNull AssetManager assetManager, @NonNull DataSource upstream) {
+    super(/* isNetwork= */ false);
+    this.assetManager = assetManager;
+    this.upstream = upstream;
+  }
+
+  @Override
+  public long open(@NonNull DataSpec dataSpec) throws IOException {
+    transferInitializing(dataSpec);
+    if (!SCHEME_ASSET.equals(dataSpec.uri.getScheme())) {
+      return openUpstream(dataSpec);
+    }
+    String path = assetPath(dataSpec.uri.getPath());
+    try {
+      assetFileDescriptor = assetManager.openFd(path);
+    } catch (FileNotFoundException e) {
+      // Compressed assets have no file descriptor, so they have to be streamed.
+      return openUpstream(dataSpec);
+    }
+    uri = dataSpec.uri;
+    inputStream = new FileInputStream(assetFileDescriptor.getFileDescriptor());
+    channel = inputStream.getChannel();
+    long assetLength = assetFileDescriptor.getLength();
+    if (assetLength == AssetFileDescriptor.UNKNOWN_LENGTH) {
+      assetLength = channel.size() - assetFileDescriptor.getStartOffset();
+    }
+    if (dataSpec.position > assetLength) {
+      throw new DataSourceException(PlaybackException.ERROR_CODE_IO_READ_POSITION_OUT_OF_RANGE);
+    }
+    position = assetFileDescriptor.getStartOffset() + dataSpec.position;
+    bytesRemaining =
+        dataSpec.length != C.LENGTH_UNSET
+            ? Math.min(dataSpec.length, assetLength - dataSpec.position)
+            : assetLength - dataSpec.position;
+    opened = true;
+    transferStarted(dataSpec);
+    return bytesRemaining;
+  }
+
+  private long openUpstream(DataSpec dataSpec) throws IOException {
+    openedUpstream = upstream;
+    long length = upstream.open(dataSpec);
+    opened = true;
+    transferStarted(dataSpec);
+    return length;
+  }
+
+  @Override
+  public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+    if (openedUpstream != null) {
+      int read = openedUpstream.read(buffer, offset, length);
+      if (read > 0) {
+        bytesTransferred(read);
+      }
+      return read;
+    }
+    if (length == 0) {
+      return 0;
+    }
+    if (bytesRemaining == 0) {
+      return C.RESULT_END_OF_INPUT;
+    }
+    int bytesToRead = (int) Math.min(bytesRemaining, length);
+    int read = channel.read(ByteBuffer.wrap(buffer, offset, bytesToRead), position);
+    if (read == -1) {
+      throw new EOFException();
+    }
+    position += read;
+    bytesRemaining -= read;
+    bytesTransferred(read);
+    return read;
+  }
+
+  @Nullable
+  @Override
+  public Uri getUri() {
+    return openedUpstream != null ? openedUpstream.getUri() : uri;
+  }
+
+  @NonNull
+  @Override
+  public Map<String, List<String>> getResponseHeaders() {
+    return openedUpstream != null
+        ? openedUpstream.getResponseHeaders()
+        : Collections.<String, List<String>>emptyMap();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      closeSource();
+    } finally {
+      if (opened) {
+        opened = false;
+        transferEnded();
+      }
+    }
+  }
+
+  private void closeSource() throws IOException {
+    if (openedUpstream != null) {
+      try {
+        openedUpstream.close();
+      } finally {
+        openedUpstream = null;
+      }
+      return;
+    }
+    uri = null;
+    channel = null;
+    try {
+      if (inputStream != null) {
+        inputStream.close();
+      }
+    } finally {
+      inputStream = null;
+      try {
+        if (assetFileDescriptor != null) {
+          assetFileDescriptor.close();
+        }
+      } finally {
+        assetFileDescriptor = null;
+      }
+    }
+  }
+
+  /** Returns the path {@link AssetManager} expects for the path of an {@code asset:} URI. */
+  @VisibleForTesting
+  @NonNull
+  static String assetPath(@Nullable String uriPath) {
+    if (uriPath == null) {
+      return "";
+    }
+    if (uriPath.startsWith(ANDROID_ASSET_PREFIX)) {
+      return uriPath.substring(ANDROID_ASSET_PREFIX.length());
+    }
+    return uriPath.startsWith("/") ? uriPath.substring(1) : uriPath;
+  }
+}
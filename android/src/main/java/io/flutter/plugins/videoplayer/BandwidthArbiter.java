@@ -0,0 +1,261 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.BandwidthMeter;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares one bandwidth meter between all players and keeps lower-priority players from loading
+ * while a more important one is short on buffer.
+ *
+ * <p>A player is short on buffer below {@link #PROTECTED_BUFFER_US}, or below half its target live
+ * offset if that is less, since a live player cannot buffer past the live edge. It blocks others
+ * for at most {@link #MAX_STARVATION_MS} at a time, so a player that never fills its buffer cannot
+ * stop them for good, and players that are playing are never blocked.
+ *
+ * <p>Because every player reports to the same meter, the estimate used for adaptive track
+ * selection reflects the whole link rather than whatever share of it one player happened to get.
+ * Each player is represented by a {@link Participant}, which also counts the bytes the player
+ * downloads so that its share of the traffic can be reported. The shared estimate can be seeded
+ * while players exist, see {@link #seedBitrateEstimate}.
+ *
+ * <p>This class is thread-safe. Participants are consulted on the players' playback threads and
+ * count bytes on their loader threads.
+ */
+final class BandwidthArbiter {
+  /** Players with less buffered than this take precedence over lower-priority ones. */
+  static final long PROTECTED_BUFFER_US = 10_000_000;
+  /** How long a buffer level reported by a participant is trusted. */
+  static final long REPORT_VALIDITY_MS = 2000;
+  /** How long a player short on buffer may keep blocking lower-priority ones. */
+  static final long MAX_STARVATION_MS = 5000;
+
+  private final SeededBandwidthMeter bandwidthMeter;
+  private final CopyOnWriteArrayList<Participant> participants = new CopyOnWriteArrayList<>();
+
+  BandwidthArbiter(@NonNull BandwidthMeter bandwidthMeter) {
+    this.bandwidthMeter = new SeededBandwidthMeter(bandwidthMeter);
+  }
+
+  @NonNull
+  BandwidthMeter getBandwidthMeter() {
+    return bandwidthMeter;
+  }
+
+  /** Returns the estimated bitrate of the shared link, in bits per second. */
+  long getBitrateEstimate() {
+    return bandwidthMeter.getBitrateEstimate();
+  }
+
+  /**
+   * Makes the shared meter report {@code bitrateEstimate} until it measures the link again, so
+   * that current players select tracks from it right away; null reverts to the measured estimate.
+   */
+  void seedBitrateEstimate(@Nullable Long bitrateEstimate) {
+    bandwidthMeter.seed(bitrateEstimate);
+  }
+
+  @NonNull
+  Participant register() {
+    Participant participant = new Participant();
+    participants.add(participant);
+    return participant;
+  }
+
+  void unregister(@NonNull Participant participant) {
+    participants.remove(participant);
+  }
+
+  @VisibleForTesting
+  long now() {
+    return SystemClock.elapsedRealtime();
+  }
+
+  private boolean mayLoad(Participant participant) {
+    if (participant.playing) {
+      // Stalling a playing player would only make it rebuffer.
+      return true;
+    }
+    long nowMs = now();
+    for (Participant other : participants) {
+      if (other != participant && other.outranks(participant) && other.isStarved(nowMs)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long totalBytesTransferred() {
+    long total = 0;
+    for (Participant participant : participants) {
+      total += participant.bytesTransferred.get();
+    }
+    return total;
+  }
+
+  /** The arbiter's view of one player. */
+  final class Participant implements TransferListener {
+    private final AtomicLong bytesTransferred = new AtomicLong();
+    private volatile int priority = PreparationScheduler.PRIORITY_NORMAL;
+    private volatile boolean playing;
+    private volatile long bufferedDurationUs;
+    private volatile long reportedAtMs;
+    private volatile boolean reported;
+    private volatile long targetLiveOffsetUs = C.TIME_UNSET;
+    private volatile long starvedSinceMs = C.TIME_UNSET;
+
+    void setPriority(int priority) {
+      this.priority = priority;
+    }
+
+    void setPlaying(boolean playing) {
+      this.playing = playing;
+    }
+
+    /** Sets the player's target live offset, or {@link C#TIME_UNSET} if it is not playing live. */
+    void setTargetLiveOffsetUs(long targetLiveOffsetUs) {
+      this.targetLiveOffsetUs = targetLiveOffsetUs;
+    }
+
+    /**
+     * Records the player's buffer level and returns whether it may load more, given the needs of
+     * the other players.
+     */
+    boolean mayContinueLoading(long bufferedDurationUs) {
+      long nowMs = now();
+      this.bufferedDurationUs = bufferedDurationUs;
+      this.reportedAtMs = nowMs;
+      this.reported = true;
+      if (bufferedDurationUs >= getProtectedBufferUs()) {
+        starvedSinceMs = C.TIME_UNSET;
+      } else if (starvedSinceMs == C.TIME_UNSET) {
+        starvedSinceMs = nowMs;
+      }
+      return mayLoad(this);
+    }
+
+    private long getProtectedBufferUs() {
+      long targetLiveOffsetUs = this.targetLiveOffsetUs;
+      return targetLiveOffsetUs == C.TIME_UNSET
+          ? PROTECTED_BUFFER_US
+          : Math.min(PROTECTED_BUFFER_US, targetLiveOffsetUs / 2);
+    }
+
+    long getBytesTransferred() {
+      return bytesTransferred.get();
+    }
+
+    /** Returns this player's fraction of the bytes downloaded by all current players. */
+    double getShare() {
+      long total = totalBytesTransferred();
+      return total == 0 ? 0 : (double) bytesTransferred.get() / total;
+    }
+
+    private boolean outranks(Participant other) {
+      if (playing != other.playing) {
+        return playing;
+      }
+      return priority > other.priority;
+    }
+
+    private boolean isStarved(long nowMs) {
+      // A player that stopped reporting has nothing left to load.
+      long starvedSinceMs = this.starvedSinceMs;
+      return reported
+          && nowMs - reportedAtMs <= REPORT_VALIDITY_MS
+          && starvedSinceMs != C.TIME_UNSET
+          && nowMs - starvedSinceMs <= MAX_STARVATION_MS;
+    }
+
+    @Override
+    public void onTransferInitializing(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+    @Override
+    public void onTransferStart(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+    @Override
+    public void onBytesTransferred(
+        @NonNull DataSource source,
+        @NonNull DataSpec dataSpec,
+        boolean isNetwork,
+        int bytesTransferred) {
+      if (isNetwork) {
+        this.bytesTransferred.addAndGet(bytesTransferred);
+      }
+    }
+
+    @Override
+    public void onTransferEnd(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+  }
+
+  /** A meter that reports a seeded estimate until the wrapped meter takes its next sample. */
+  private static final class SeededBandwidthMeter implements BandwidthMeter {
+    private static final class Seed {
+      final long bitrateEstimate;
+      final long measuredEstimate;
+
+      Seed(long bitrateEstimate, long measuredEstimate) {
+        this.bitrateEstimate = bitrateEstimate;
+        this.measuredEstimate = measuredEstimate;
+      }
+    }
+
+    private final BandwidthMeter meter;
+    @Nullable private volatile Seed seed;
+
+    SeededBandwidthMeter(BandwidthMeter meter) {
+      this.meter = meter;
+    }
+
+    void seed(@Nullable Long bitrateEstimate) {
+      seed = bitrateEstimate == null ? null : new Seed(bitrateEstimate, meter.getBitrateEstimate());
+    }
+
+    @Override
+    public long getBitrateEstimate() {
+      long measuredEstimate = meter.getBitrateEstimate();
+      Seed seed = this.seed;
+      if (seed == null) {
+        return measuredEstimate;
+      }
+      if (seed.measuredEstimate != measuredEstimate) {
+        // The meter took a sample since it was seeded.
+        this.seed = null;
+        return measuredEstimate;
+      }
+      return seed.bitrateEstimate;
+    }
+
+    @Nullable
+    @Override
+    public TransferListener getTransferListener() {
+      return meter.getTransferListener();
+    }
+
+    @Override
+    public void addEventListener(@NonNull Handler eventHandler, @NonNull EventListener listener) {
+      meter.addEventListener(eventHandler, listener);
+    }
+
+    @Override
+    public void removeEventListener(@NonNull EventListener listener) {
+      meter.removeEventListener(listener);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DefaultBandwidthMeter;
+import com.google.android.exoplayer2.util.NetworkTypeObserver;
+
+/**
+ * Remembers the bandwidth estimate for each network type across app launches, so that new players
+ * can pick their first tracks from a realistic estimate instead of a generic default.
+ *
+ * <p>Samples are merged into an exponentially weighted average whose old value loses weight as it
+ * ages, and estimates older than {@link #MAX_AGE_MS} are forgotten.
+ */
+final class BandwidthEstimateStore {
+  private static final String PREFERENCES_NAME = "io.flutter.plugins.videoplayer.bandwidth";
+  private static final String KEY_ESTIMATE = "estimate_";
+  private static final String KEY_TIME = "time_";
+  /** The network types ExoPlayer keeps separate initial estimates for. */
+  private static final int[] NETWORK_TYPES = {
+    C.NETWORK_TYPE_WIFI,
+    C.NETWORK_TYPE_2G,
+    C.NETWORK_TYPE_3G,
+    C.NETWORK_TYPE_4G,
+    C.NETWORK_TYPE_5G_NSA,
+    C.NETWORK_TYPE_5G_SA,
+    C.NETWORK_TYPE_ETHERNET,
+    C.NETWORK_TYPE_CELLULAR_UNKNOWN,
+    C.NETWORK_TYPE_OTHER,
+  };
+
+  /** Weight of a new sample relative to a freshly stored estimate. */
+  static final double SAMPLE_WEIGHT = 0.3;
+  /** Time after which a stored estimate counts half as much against a new sample. */
+  static final long HALF_LIFE_MS = 6 * 60 * 60 * 1000L;
+
+  static final long MAX_AGE_MS = 7 * 24 * 60 * 60 * 1000L;
+  /** Minimum time between writes caused by bandwidth samples. */
+  private static final long SAVE_INTERVAL_MS = 10_000;
+
+  private final SharedPreferences preferences;
+  @Nullable private final NetworkTypeObserver networkTypeObserver;
+  private long lastSavedAtMs = -SAVE_INTERVAL_MS;
+
+  BandwidthEstimateStore(@NonNull Context context) {
+    this(
+        context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE),
+        NetworkTypeObserver.getInstance(context));
+  }
+
+  @VisibleForTesting
+  BandwidthEstimateStore(
+      @NonNull SharedPreferences preferences, @Nullable NetworkTypeObserver networkTypeObserver) {
+    this.preferences = preferences;
+    this.networkTypeObserver = networkTypeObserver;
+  }
+
+  /**
+   * Returns a bandwidth meter seeded with the stored estimates that records its samples back into
+   * this store. Samples are delivered on {@code handler}.
+   *
+   * <p>A non-null {@code initialEstimate} seeds the meter for the current network instead of the
+   * stored estimate, without replacing it in the store.
+   */
+  @NonNull
+  DefaultBandwidthMeter createBandwidthMeter(
+      @NonNull Context context, @NonNull Handler handler, @Nullable Long initialEstimate) {
+    DefaultBandwidthMeter.Builder builder = new DefaultBandwidthMeter.Builder(context);
+    long nowMs = System.currentTimeMillis();
+    for (int networkType : NETWORK_TYPES) {
+      Long estimate = get(networkType, nowMs);
+      if (estimate != null) {
+        builder.setInitialBitrateEstimate(networkType, estimate);
+      }
+    }
+    if (initialEstimate != null) {
+      builder.setInitialBitrateEstimate(getNetworkType(), initialEstimate);
+    }
+    DefaultBandwidthMeter meter = builder.build();
+    meter.addEventListener(
+        handler,
+        (elapsedMs, bytesTransferred, bitrateEstimate) -> {
+          long elapsedRealtimeMs = SystemClock.elapsedRealtime();
+          if (elapsedRealtimeMs - lastSavedAtMs >= SAVE_INTERVAL_MS) {
+            lastSavedAtMs = elapsedRealtimeMs;
+            record(getNetworkType(), bitrateEstimate, System.currentTimeMillis());
+          }
+        });
+    return meter;
+  }
+
+  /** Returns the estimate stored for the current network, in bits per second. */
+  @Nullable
+  Long getCurrent() {
+    return get(getNetworkType(), System.currentTimeMillis());
+  }
+
+  /** Replaces the estimate for the current network; {@code null} forgets it. */
+  void overrideCurrent(@Nullable Long bitrateEstimate) {
+    override(getNetworkType(), bitrateEstimate, System.currentTimeMillis());
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Long get(int networkType, long nowMs) {
+    long savedAtMs = preferences.getLong(KEY_TIME + networkType, Long.MIN_VALUE);
+    if (savedAtMs == Long.MIN_VALUE || nowMs - savedAtMs > MAX_AGE_MS) {
+      return null;
+    }
+    return preferences.getLong(KEY_ESTIMATE + networkType, 0);
+  }
+
+  /** Merges a new sample into the estimate for {@code networkType}. */
+  @VisibleForTesting
+  void record(int networkType, long bitrateEstimate, long nowMs) {
+    if (!isPersistable(networkType) || bitrateEstimate <= 0) {
+      return;
+    }
+    Long stored = get(networkType, nowMs);
+    long merged = bitrateEstimate;
+    if (stored != null) {
+      long ageMs = Math.max(0, nowMs - preferences.getLong(KEY_TIME + networkType, nowMs));
+      double storedWeight = (1 - SAMPLE_WEIGHT) * Math.pow(0.5, (double) ageMs / HALF_LIFE_MS);
+      merged = Math.round(stored * storedWeight + bitrateEstimate * (1 - storedWeight));
+    }
+    write(networkType, merged, nowMs);
+  }
+
+  @VisibleForTesting
+  void override(int networkType, @Nullable Long bitrateEstimate, long nowMs) {
+    if (!isPersistable(networkType)) {
+      return;
+    }
+    if (bitrateEstimate == null) {
+      preferences
+          .edit()
+          .remove(KEY_ESTIMATE + networkType)
+          .remove(KEY_TIME + networkType)
+          .apply();
+    } else {
+      write(networkType, bitrateEstimate, nowMs);
+    }
+  }
+
+  private void write(int networkType, long bitrateEstimate, long nowMs) {
+    preferences
+        .edit()
+        .putLong(KEY_ESTIMATE + networkType, bitrateEstimate)
+        .putLong(KEY_TIME + networkType, nowMs)
+        .apply();
+  }
+
+  private int getNetworkType() {
+    return networkTypeObserver == null
+        ? C.NETWORK_TYPE_UNKNOWN
+        : networkTypeObserver.getNetworkType();
+  }
+
+  private static boolean isPersistable(int networkType) {
+    // Nothing useful can be learnt while offline or when the network is not known.
+    return networkType != C.NETWORK_TYPE_OFFLINE && networkType != C.NETWORK_TYPE_UNKNOWN;
+  }
+}
@@ -0,0 +1,128 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.cache.CacheKeyFactory;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Builds media cache keys that stay the same across URL variants of one resource, such as signed
+ * CDN URLs whose signature and expiry parameters change on every request.
+ *
+ * <p>Keys are derived from the URL by dropping the configured query parameters and then applying
+ * the configured regular expression rewrite. When the player was given a content id, the scheme,
+ * host and query are dropped as well and the key is the content id followed by the path.
+ */
+final class CacheKeyNormalizer implements CacheKeyFactory {
+  /** How URLs are turned into keys. Immutable. */
+  static final class Rules {
+    static final Rules NONE = new Rules(Collections.emptyList(), null, null);
+
+    final Set<String> strippedParameters;
+    @Nullable final Pattern rewritePattern;
+    @NonNull final String rewriteReplacement;
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if {@code rewritePattern} is not a valid
+     *     regular expression.
+     */
+    Rules(
+        @NonNull List<String> strippedParameters,
+        @Nullable String rewritePattern,
+        @Nullable String rewriteReplacement) {
+      this.strippedParameters = new HashSet<>(strippedParameters);
+      this.rewritePattern = rewritePattern != null ? Pattern.compile(rewritePattern) : null;
+      this.rewriteReplacement = rewriteReplacement != null ? rewriteReplacement : "";
+    }
+  }
+
+  private static final String CONTENT_ID_PREFIX = "content:";
+
+  private final Rules rules;
+  @Nullable private final String contentId;
+
+  CacheKeyNormalizer(@NonNull Rules rules, @Nullable String contentId) {
+    this.rules = rules;
+    this.contentId = contentId;
+  }
+
+  @NonNull
+  @Override
+  public String buildCacheKey(@NonNull DataSpec dataSpec) {
+    if (dataSpec.key != null) {
+      return dataSpec.key;
+    }
+    return normalize(dataSpec.uri.toString());
+  }
+
+  @NonNull
+  String normalize(@NonNull String url) {
+    String key;
+    if (contentId != null) {
+      key = CONTENT_ID_PREFIX + contentId + pathOf(url);
+    } else {
+      key = stripParameters(url, rules.strippedParameters);
+    }
+    if (rules.rewritePattern != null) {
+      key = rules.rewritePattern.matcher(key).replaceAll(rules.rewriteReplacement);
+    }
+    return key;
+  }
+
+  /** Returns {@code url} without its fragment and the query parameters named in {@code names}. */
+  @NonNull
+  static String stripParameters(@NonNull String url, @NonNull Set<String> names) {
+    int fragmentStart = url.indexOf('#');
+    String withoutFragment = fragmentStart < 0 ? url : url.substring(0, fragmentStart);
+    int queryStart = withoutFragment.indexOf('?');
+    if (queryStart < 0 || names.isEmpty()) {
+      return withoutFragment;
+    }
+    StringBuilder builder = new StringBuilder(withoutFragment.length());
+    builder.append(withoutFragment, 0, queryStart);
+    char separator = '?';
+    for (String parameter : withoutFragment.substring(queryStart + 1).split("&")) {
+      if (parameter.isEmpty()) {
+        continue;
+      }
+      int nameEnd = parameter.indexOf('=');
+      String name = nameEnd < 0 ? parameter : parameter.substring(0, nameEnd);
+      if (!names.contains(name)) {
+        builder.append(separator).append(parameter);
+        separator = '&';
+      }
+    }
+    return builder.toString();
+  }
+
+  /** Returns the path of {@code url}, without scheme, authority, query or fragment. */
+  @NonNull
+  static String pathOf(@NonNull String url) {
+    int start = 0;
+    int schemeEnd = url.indexOf("://");
+    if (schemeEnd >= 0) {
+      int pathStart = url.indexOf('/', schemeEnd + 3);
+      if (pathStart < 0) {
+        return "/";
+      }
+      start = pathStart;
+    }
+    int end = url.length();
+    for (char terminator : new char[] {'?', '#'}) {
+      int index = url.indexOf(terminator, start);
+      if (index >= 0 && index < end) {
+        end = index;
+      }
+    }
+    return url.substring(start, end);
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.source.hls.playlist.DefaultHlsPlaylistParserFactory;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMediaPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMultivariantPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsPlaylistParserFactory;
+import com.google.android.exoplayer2.upstream.ParsingLoadable;
+import com.google.android.exoplayer2.util.Util;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link ParsingLoadable.Parser} that returns the manifest previously parsed from identical
+ * bytes, as recorded in a {@link ManifestCache}, instead of parsing again.
+ */
+final class CachingManifestParser<T> implements ParsingLoadable.Parser<T> {
+  private final ParsingLoadable.Parser<? extends T> delegate;
+  private final Class<T> manifestClass;
+  private final ManifestCache cache;
+
+  CachingManifestParser(
+      @NonNull ParsingLoadable.Parser<? extends T> delegate,
+      @NonNull Class<T> manifestClass,
+      @NonNull ManifestCache cache) {
+    this.delegate = delegate;
+    this.manifestClass = manifestClass;
+    this.cache = cache;
+  }
+
+  @NonNull
+  @Override
+  public T parse(@NonNull Uri uri, @NonNull InputStream inputStream) throws IOException {
+    byte[] data = Util.toByteArray(inputStream);
+    Object cached = cache.getParsed(uri, data);
+    if (manifestClass.isInstance(cached)) {
+      return manifestClass.cast(cached);
+    }
+    T manifest = delegate.parse(uri, new ByteArrayInputStream(data));
+    cache.putParsed(uri, data, manifest);
+    return manifest;
+  }
+
+  /** Wraps the default HLS playlist parsers so that initial playlist loads use the cache. */
+  static final class HlsFactory implements HlsPlaylistParserFactory {
+    private final HlsPlaylistParserFactory delegate = new DefaultHlsPlaylistParserFactory();
+    private final ManifestCache cache;
+
+    HlsFactory(@NonNull ManifestCache cache) {
+      this.cache = cache;
+    }
+
+    @NonNull
+    @Override
+    public ParsingLoadable.Parser<HlsPlaylist> createPlaylistParser() {
+      return new CachingManifestParser<>(
+          delegate.createPlaylistParser(), HlsPlaylist.class, cache);
+    }
+
+    @NonNull
+    @Override
+    public ParsingLoadable.Parser<HlsPlaylist> createPlaylistParser(
+        @NonNull HlsMultivariantPlaylist multivariantPlaylist,
+        @Nullable HlsMediaPlaylist previousMediaPlaylist) {
+      ParsingLoadable.Parser<HlsPlaylist> parser =
+          delegate.createPlaylistParser(multivariantPlaylist, previousMediaPlaylist);
+      // Playlist refreshes may be delta updates whose meaning depends on the previous playlist.
+      return previousMediaPlaylist == null
+          ? new CachingManifestParser<>(parser, HlsPlaylist.class, cache)
+          : parser;
+    }
+  }
+}
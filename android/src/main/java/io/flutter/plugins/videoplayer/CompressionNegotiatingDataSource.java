@@ -0,0 +1,120 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wraps the data source of manifest and text track loads so that they negotiate a compressed
+ * content encoding, and counts the bytes saved in a {@link CompressionStats}. Audio and video
+ * segment requests never go through it and keep the identity encoding.
+ *
+ * <p>{@link com.google.android.exoplayer2.upstream.ParsingLoadable} already allows gzip for the
+ * manifests ExoPlayer loads, but not for subtitle segments, which are media loads. Only requests
+ * for a whole resource are marked, since a byte range of a compressed response cannot be decoded.
+ * Decoding is done by {@link com.google.android.exoplayer2.upstream.DefaultHttpDataSource} as the
+ * response is read, so bytes are never buffered here. It only supports gzip, which is therefore
+ * the only encoding advertised.
+ */
+final class CompressionNegotiatingDataSource implements DataSource {
+  /** Creates compression negotiating data sources on top of another factory. */
+  static final class Factory implements DataSource.Factory {
+    private final DataSource.Factory upstreamFactory;
+    private final CompressionStats stats;
+
+    Factory(@NonNull DataSource.Factory upstreamFactory, @NonNull CompressionStats stats) {
+      this.upstreamFactory = upstreamFactory;
+      this.stats = stats;
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new CompressionNegotiatingDataSource(upstreamFactory.createDataSource(), stats);
+    }
+  }
+
+  private final DataSource upstream;
+  private final CompressionStats stats;
+  private boolean compressed;
+  private long encodedLength;
+  private long bytesRead;
+
+  CompressionNegotiatingDataSource(@NonNull DataSource upstream, @NonNull CompressionStats stats) {
+    this.upstream = upstream;
+    this.stats = stats;
+  }
+
+  @Override
+  public void addTransferListener(@NonNull TransferListener transferListener) {
+    upstream.addTransferListener(transferListener);
+  }
+
+  @Override
+  public long open(@NonNull DataSpec dataSpec) throws IOException {
+    DataSpec request = dataSpec;
+    boolean wholeResource = dataSpec.position == 0 && dataSpec.length == C.LENGTH_UNSET;
+    if (wholeResource && !dataSpec.isFlagSet(DataSpec.FLAG_ALLOW_GZIP)) {
+      request = dataSpec.buildUpon().setFlags(dataSpec.flags | DataSpec.FLAG_ALLOW_GZIP).build();
+    }
+    long length = upstream.open(request);
+    bytesRead = 0;
+    Map<String, List<String>> headers = upstream.getResponseHeaders();
+    compressed = "gzip".equalsIgnoreCase(ResponseHeaders.get(headers, "Content-Encoding"));
+    encodedLength =
+        compressed ? parseLength(ResponseHeaders.get(headers, "Content-Length")) : C.LENGTH_UNSET;
+    return length;
+  }
+
+  @Override
+  public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+    int read = upstream.read(buffer, offset, length);
+    if (read > 0) {
+      bytesRead += read;
+    }
+    return read;
+  }
+
+  @Nullable
+  @Override
+  public Uri getUri() {
+    return upstream.getUri();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, List<String>> getResponseHeaders() {
+    return upstream.getResponseHeaders();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (compressed && encodedLength != C.LENGTH_UNSET) {
+      stats.record(encodedLength, bytesRead);
+    }
+    compressed = false;
+    upstream.close();
+  }
+
+  private static long parseLength(@Nullable String value) {
+    if (value == null) {
+      return C.LENGTH_UNSET;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return C.LENGTH_UNSET;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the compressed responses read by the {@link CompressionNegotiatingDataSource}s of one
+ * plugin instance.
+ *
+ * <p>This class is thread-safe; it is updated from the loader threads of every player.
+ */
+final class CompressionStats {
+  private final AtomicLong compressedResponses = new AtomicLong();
+  private final AtomicLong compressedBytes = new AtomicLong();
+  private final AtomicLong decompressedBytes = new AtomicLong();
+
+  /**
+   * Records a compressed response of {@code compressedBytes} on the wire and {@code
+   * decompressedBytes} once decoded.
+   */
+  void record(long compressedBytes, long decompressedBytes) {
+    compressedResponses.incrementAndGet();
+    this.compressedBytes.addAndGet(compressedBytes);
+    this.decompressedBytes.addAndGet(decompressedBytes);
+  }
+
+  /** Number of compressed responses with a known encoded length that have been read. */
+  long getCompressedResponseCount() {
+    return compressedResponses.get();
+  }
+
+  /** Bytes transferred on the wire for compressed responses. */
+  long getCompressedBytes() {
+    return compressedBytes.get();
+  }
+
+  /** Bytes produced by decoding compressed responses. */
+  long getDecompressedBytes() {
+    return decompressedBytes.get();
+  }
+}
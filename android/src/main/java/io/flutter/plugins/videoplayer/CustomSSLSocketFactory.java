@@ -4,24 +4,79 @@
 
 package io.flutter.plugins.videoplayer;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 
+/**
+ * An {@link SSLSocketFactory} that enables TLSv1.1 and TLSv1.2 on API levels below 21.
+ *
+ * <p>Every instance creates its sockets from one shared {@link SSLContext}, so TLS sessions stay
+ * resumable when the plugin is attached to a new engine. On newer API levels the platform's
+ * default context already keeps one session cache for all connections and is left untouched.
+ */
 // SSLSocketFactory does not have nullability annotations.
 @SuppressWarnings("UnknownNullness")
 public class CustomSSLSocketFactory extends SSLSocketFactory {
+  /** Number of TLS sessions kept for resumption; media CDNs typically need only a few hosts. */
+  static final int SESSION_CACHE_SIZE = 64;
+  /**
+   * How long a TLS session stays resumable, set explicitly because providers differ; 24 hours is
+   * the upper bound RFC 5246 recommends.
+   */
+  static final int SESSION_TIMEOUT_SECONDS = 24 * 60 * 60;
+
+  private static final String[] ENABLED_PROTOCOLS = new String[] {"TLSv1.1", "TLSv1.2"};
+  private static SSLContext sharedContext;
+
+  // Null for instances created around a delegate in tests.
+  @Nullable private final SSLContext sslContext;
   private final SSLSocketFactory sslSocketFactory;
 
   public CustomSSLSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext context = SSLContext.getInstance("TLS");
-    context.init(null, null, null);
-    sslSocketFactory = context.getSocketFactory();
+    this(getSharedContext());
+  }
+
+  private CustomSSLSocketFactory(@NonNull SSLContext sslContext) {
+    this.sslContext = sslContext;
+    this.sslSocketFactory = sslContext.getSocketFactory();
+  }
+
+  @VisibleForTesting
+  CustomSSLSocketFactory(@NonNull SSLSocketFactory delegate) {
+    this.sslContext = null;
+    this.sslSocketFactory = delegate;
+  }
+
+  /** Returns the context the sockets of this factory are created from. */
+  @VisibleForTesting
+  @Nullable
+  SSLContext getSslContext() {
+    return sslContext;
+  }
+
+  private static synchronized SSLContext getSharedContext()
+      throws KeyManagementException, NoSuchAlgorithmException {
+    if (sharedContext == null) {
+      SSLContext context = SSLContext.getInstance("TLS");
+      context.init(null, null, null);
+      SSLSessionContext sessionContext = context.getClientSessionContext();
+      if (sessionContext != null) {
+        sessionContext.setSessionCacheSize(SESSION_CACHE_SIZE);
+        sessionContext.setSessionTimeout(SESSION_TIMEOUT_SECONDS);
+      }
+      sharedContext = context;
+    }
+    return sharedContext;
   }
 
   @Override
@@ -69,7 +124,8 @@ public class CustomSSLSocketFactory extends SSLSocketFactory {
 
   private Socket enableProtocols(Socket socket) {
     if (socket instanceof SSLSocket) {
-      ((SSLSocket) socket).setEnabledProtocols(new String[] {"TLSv1.1", "TLSv1.2"});
+      // setEnabledProtocols copies the array, so the constant can be shared by every socket.
+      ((SSLSocket) socket).setEnabledProtocols(ENABLED_PROTOCOLS);
     }
     return socket;
   }
@@ -0,0 +1,564 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultRenderersFactory;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.offline.DefaultDownloadIndex;
+import com.google.android.exoplayer2.offline.DefaultDownloaderFactory;
+import com.google.android.exoplayer2.offline.Download;
+import com.google.android.exoplayer2.offline.DownloadCursor;
+import com.google.android.exoplayer2.offline.DownloadHelper;
+import com.google.android.exoplayer2.offline.DownloadManager;
+import com.google.android.exoplayer2.offline.DownloadRequest;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.NoOpCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import com.google.android.exoplayer2.util.MimeTypes;
+import com.google.android.exoplayer2.util.Util;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Downloads media for offline playback with ExoPlayer's {@link DownloadManager}.
+ *
+ * <p>Downloads are identified by their URI. Their state is kept in a database and their bytes in a
+ * cache under the app's files directory, so both survive process restarts; unfinished downloads
+ * resume with range requests once a download method is first called on a new tracker. Completed
+ * downloads are played from that cache by players created for the same URI.
+ *
+ * <p>Request headers are stored with each download, except for credentials, which are only kept in
+ * memory. After a restart, unfinished downloads that were made with credentials are stopped with
+ * {@link #STOP_REASON_NEEDS_CREDENTIALS} until the app supplies them again through {@link #resume};
+ * no download starts before the database has been checked for them. The database is read on a
+ * background thread; {@link #getOfflineMedia} waits for that read if it has not finished yet.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the main thread.
+ */
+final class DownloadTracker {
+  private static final String TAG = "DownloadTracker";
+  private static final String DIRECTORY = "video_player_downloads";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  /** Stop reason of downloads paused through {@link #pause}. */
+  static final int STOP_REASON_PAUSED = 1;
+  /** Stop reason of downloads that wait for their credentials after a restart. */
+  static final int STOP_REASON_NEEDS_CREDENTIALS = 2;
+  /** Marks stored headers that had credentials removed; not a valid header name. */
+  private static final String CREDENTIALS_REMOVED_KEY = ":credentials";
+  /** Headers that are never written to the download database, in lower case. */
+  private static final List<String> SECRET_HEADERS =
+      Arrays.asList("authorization", "proxy-authorization", "cookie");
+
+  /** Receives the outcome of {@link #enqueue}. */
+  interface Callback {
+    void onEnqueued();
+
+    void onError(@NonNull Exception error);
+  }
+
+  /** Receives the result of {@link #getDownloads} on the main thread. */
+  interface DownloadsCallback {
+    void onDownloads(@NonNull List<Download> downloads);
+  }
+
+  /** A completed download, to be played without the network. */
+  static final class OfflineMedia {
+    private final DownloadRequest request;
+    private final Cache cache;
+
+    OfflineMedia(@NonNull DownloadRequest request, @NonNull Cache cache) {
+      this.request = request;
+      this.cache = cache;
+    }
+
+    /** Returns the media item, restricted to the downloaded renditions. */
+    @NonNull
+    MediaItem toMediaItem() {
+      return request.toMediaItem();
+    }
+
+    /** Returns a factory reading from the download cache, falling back to {@code upstream}. */
+    @NonNull
+    DataSource.Factory createDataSourceFactory(@NonNull DataSource.Factory upstreamFactory) {
+      return new CacheDataSource.Factory()
+          .setCache(cache)
+          .setUpstreamDataSourceFactory(upstreamFactory)
+          .setCacheWriteDataSinkFactory(null);
+    }
+  }
+
+  private final Context context;
+  private final SimpleCache cache;
+  private final DownloadManager downloadManager;
+  private final ExecutorService indexExecutor;
+  private final Future<List<Download>> indexRead;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  // Adaptive downloads whose renditions are being picked, by URI.
+  private final Map<String, PendingDownload> pendingDownloads = new HashMap<>();
+  // Credential headers by URI; read by the download threads.
+  private final Map<String, Map<String, String>> credentials = new ConcurrentHashMap<>();
+  // Requests of completed downloads by URI, so that players never query the database.
+  private final Map<String, DownloadRequest> completedRequests = new HashMap<>();
+  // URIs of unfinished downloads that were restored without their credentials.
+  private final Set<String> awaitingCredentials = new HashSet<>();
+  // URIs whose download changed before the completed downloads were read from the database.
+  @Nullable private Set<String> changedWhileLoading = new HashSet<>();
+  private boolean startRequested;
+  private boolean started;
+  private boolean released;
+
+  private static final class PendingDownload {
+    final DownloadHelper helper;
+    final Callback callback;
+
+    PendingDownload(DownloadHelper helper, Callback callback) {
+      this.helper = helper;
+      this.callback = callback;
+    }
+
+    void cancel() {
+      helper.release();
+      callback.onError(new IllegalStateException("The download was cancelled."));
+    }
+  }
+
+  DownloadTracker(@NonNull Context context) {
+    this.context = context;
+    StandaloneDatabaseProvider databaseProvider = new StandaloneDatabaseProvider(context);
+    cache = new SimpleCache(getDirectory(context), new NoOpCacheEvictor(), databaseProvider);
+    downloadManager =
+        new DownloadManager(
+            context,
+            new DefaultDownloadIndex(databaseProvider),
+            request ->
+                new DefaultDownloaderFactory(
+                        new CacheDataSource.Factory()
+                            .setCache(cache)
+                            .setUpstreamDataSourceFactory(
+                                buildHttpDataSourceFactory(headersFor(request))),
+                        Runnable::run)
+                    .createDownloader(request));
+    downloadManager.addListener(
+        new DownloadManager.Listener() {
+          @Override
+          public void onDownloadChanged(
+              @NonNull DownloadManager downloadManager,
+              @NonNull Download download,
+              @Nullable Exception finalException) {
+            onDownloadUpdated(download.request.id, download);
+          }
+
+          @Override
+          public void onDownloadRemoved(
+              @NonNull DownloadManager downloadManager, @NonNull Download download) {
+            onDownloadUpdated(download.request.id, null);
+          }
+        });
+    indexExecutor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "VideoPlayerDownloadIndex");
+              thread.setDaemon(true);
+              return thread;
+            });
+    indexRead = indexExecutor.submit(this::readIndex);
+    indexExecutor.execute(() -> mainHandler.post(this::finishIndexRead));
+  }
+
+  /** Whether downloads were ever made, without creating a tracker. */
+  static boolean hasDownloads(@NonNull Context context) {
+    return getDirectory(context).exists();
+  }
+
+  private static File getDirectory(Context context) {
+    return new File(context.getFilesDir(), DIRECTORY);
+  }
+
+  /**
+   * Adds a download of {@code uri}. For HLS, DASH and SmoothStreaming the highest-quality video
+   * rendition within the given limits is picked, along with the matching audio and text tracks.
+   */
+  void enqueue(
+      @NonNull String uri,
+      @Nullable String formatHint,
+      @NonNull Map<String, String> httpHeaders,
+      @Nullable Integer maxVideoHeight,
+      @Nullable Integer maxVideoBitrate,
+      @NonNull Callback callback) {
+    start();
+    setCredentials(uri, httpHeaders);
+    byte[] data = encodeHeaders(httpHeaders);
+    String mimeType = adaptiveMimeType(Uri.parse(uri), formatHint);
+    if (mimeType == null) {
+      downloadManager.addDownload(
+          new DownloadRequest.Builder(uri, Uri.parse(uri)).setData(data).build());
+      callback.onEnqueued();
+      return;
+    }
+
+    DefaultTrackSelector.Parameters.Builder parameters =
+        DownloadHelper.getDefaultTrackSelectorParameters(context).buildUpon();
+    if (maxVideoHeight != null) {
+      parameters.setMaxVideoSize(Integer.MAX_VALUE, maxVideoHeight);
+    }
+    if (maxVideoBitrate != null) {
+      parameters.setMaxVideoBitrate(maxVideoBitrate);
+    }
+    DownloadHelper helper =
+        DownloadHelper.forMediaItem(
+            new MediaItem.Builder().setUri(uri).setMimeType(mimeType).build(),
+            parameters.build(),
+            new DefaultRenderersFactory(context),
+            buildHttpDataSourceFactory(httpHeaders));
+    PendingDownload pending = new PendingDownload(helper, callback);
+    PendingDownload previous = pendingDownloads.put(uri, pending);
+    if (previous != null) {
+      previous.cancel();
+    }
+    helper.prepare(
+        new DownloadHelper.Callback() {
+          @Override
+          public void onPrepared(@NonNull DownloadHelper helper) {
+            if (pendingDownloads.get(uri) != pending) {
+              return; // Cancelled.
+            }
+            pendingDownloads.remove(uri);
+            downloadManager.addDownload(helper.getDownloadRequest(uri, data));
+            helper.release();
+            callback.onEnqueued();
+          }
+
+          @Override
+          public void onPrepareError(@NonNull DownloadHelper helper, @NonNull IOException e) {
+            if (pendingDownloads.get(uri) != pending) {
+              return;
+            }
+            pendingDownloads.remove(uri);
+            helper.release();
+            callback.onError(e);
+          }
+        });
+  }
+
+  void pause(@NonNull String uri) {
+    start();
+    downloadManager.setStopReason(uri, STOP_REASON_PAUSED);
+  }
+
+  /**
+   * Resumes the download of {@code uri}. Credentials in {@code httpHeaders} replace the ones kept
+   * in memory, which are lost when the process ends.
+   */
+  void resume(@NonNull String uri, @Nullable Map<String, String> httpHeaders) {
+    if (httpHeaders != null) {
+      setCredentials(uri, httpHeaders);
+    }
+    if (credentials.containsKey(uri)) {
+      awaitingCredentials.remove(uri);
+    }
+    start();
+    downloadManager.setStopReason(
+        uri,
+        awaitingCredentials.contains(uri)
+            ? STOP_REASON_NEEDS_CREDENTIALS
+            : Download.STOP_REASON_NONE);
+  }
+
+  /** Cancels the download of {@code uri} and deletes what was downloaded. */
+  void remove(@NonNull String uri) {
+    start();
+    credentials.remove(uri);
+    awaitingCredentials.remove(uri);
+    PendingDownload pending = pendingDownloads.remove(uri);
+    if (pending != null) {
+      pending.cancel();
+    }
+    downloadManager.removeDownload(uri);
+  }
+
+  void setMaxParallelDownloads(int maxParallelDownloads) {
+    start();
+    downloadManager.setMaxParallelDownloads(Math.max(1, maxParallelDownloads));
+  }
+
+  /**
+   * Passes every download the tracker knows about, including completed and failed ones, to {@code
+   * callback}. Downloads in progress report live progress; the database only holds a snapshot.
+   */
+  void getDownloads(@NonNull DownloadsCallback callback) {
+    start();
+    indexExecutor.execute(
+        () -> {
+          List<Download> stored = readIndex();
+          mainHandler.post(
+              () -> {
+                Map<String, Download> downloads = new LinkedHashMap<>();
+                for (Download download : stored) {
+                  downloads.put(download.request.id, download);
+                }
+                if (!released) {
+                  for (Download download : downloadManager.getCurrentDownloads()) {
+                    downloads.put(download.request.id, download);
+                  }
+                }
+                callback.onDownloads(new ArrayList<>(downloads.values()));
+              });
+        });
+  }
+
+  /**
+   * Returns the completed download of {@code uri}, if there is one. Right after the tracker is
+   * created this waits for the database to be read.
+   */
+  @Nullable
+  OfflineMedia getOfflineMedia(@NonNull String uri) {
+    finishIndexRead();
+    DownloadRequest request = completedRequests.get(uri);
+    return request != null ? new OfflineMedia(request, cache) : null;
+  }
+
+  void release() {
+    for (PendingDownload pending : pendingDownloads.values()) {
+      pending.cancel();
+    }
+    pendingDownloads.clear();
+    released = true;
+    indexExecutor.shutdownNow();
+    downloadManager.release();
+    cache.release();
+  }
+
+  /**
+   * Starts the downloads that were unfinished when the tracker was created, once those that need
+   * credentials have been stopped.
+   */
+  private void start() {
+    startRequested = true;
+    if (!started && changedWhileLoading == null) {
+      started = true;
+      downloadManager.resumeDownloads();
+    }
+  }
+
+  private void setCredentials(String uri, Map<String, String> httpHeaders) {
+    Map<String, String> secrets = secretHeaders(httpHeaders);
+    if (secrets.isEmpty()) {
+      credentials.remove(uri);
+    } else {
+      credentials.put(uri, secrets);
+    }
+  }
+
+  /** Returns the stored headers of {@code request} along with its credentials, if known. */
+  private Map<String, String> headersFor(DownloadRequest request) {
+    Map<String, String> httpHeaders = decodeHeaders(request.data);
+    Map<String, String> secrets = credentials.get(request.id);
+    if (secrets != null) {
+      httpHeaders.putAll(secrets);
+    }
+    return httpHeaders;
+  }
+
+  private List<Download> readIndex() {
+    List<Download> downloads = new ArrayList<>();
+    try {
+      DownloadCursor cursor = downloadManager.getDownloadIndex().getDownloads();
+      try {
+        while (cursor.moveToNext()) {
+          downloads.add(cursor.getDownload());
+        }
+      } finally {
+        cursor.close();
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to read the download index.", e);
+    }
+    return downloads;
+  }
+
+  /** Applies the downloads read from the database; does nothing after the first call. */
+  private void finishIndexRead() {
+    Set<String> changed = changedWhileLoading;
+    if (changed == null || released) {
+      return;
+    }
+    List<Download> downloads;
+    try {
+      downloads = indexRead.get();
+    } catch (ExecutionException | InterruptedException e) {
+      Log.w(TAG, "Failed to read the download index.", e);
+      downloads = new ArrayList<>();
+    }
+    changedWhileLoading = null;
+    for (Download download : downloads) {
+      String uri = download.request.id;
+      if (download.state == Download.STATE_COMPLETED && !changed.contains(uri)) {
+        completedRequests.put(uri, download.request);
+      } else if (!download.isTerminalState()
+          && download.state != Download.STATE_REMOVING
+          && hadCredentials(download.request.data)
+          && !credentials.containsKey(uri)) {
+        awaitingCredentials.add(uri);
+        if (download.stopReason == Download.STOP_REASON_NONE) {
+          downloadManager.setStopReason(uri, STOP_REASON_NEEDS_CREDENTIALS);
+        }
+      }
+    }
+    if (startRequested) {
+      start();
+    }
+  }
+
+  private void onDownloadUpdated(String uri, @Nullable Download download) {
+    if (changedWhileLoading != null) {
+      changedWhileLoading.add(uri);
+    }
+    if (download != null && download.state == Download.STATE_COMPLETED) {
+      completedRequests.put(uri, download.request);
+    } else {
+      completedRequests.remove(uri);
+    }
+  }
+
+  @Nullable
+  private static String adaptiveMimeType(Uri uri, @Nullable String formatHint) {
+    int type;
+    if (formatHint == null) {
+      type = Util.inferContentType(uri);
+    } else {
+      switch (formatHint) {
+        case "ss":
+          type = C.CONTENT_TYPE_SS;
+          break;
+        case "dash":
+          type = C.CONTENT_TYPE_DASH;
+          break;
+        case "hls":
+          type = C.CONTENT_TYPE_HLS;
+          break;
+        default:
+          type = C.CONTENT_TYPE_OTHER;
+          break;
+      }
+    }
+    switch (type) {
+      case C.CONTENT_TYPE_SS:
+        return MimeTypes.APPLICATION_SS;
+      case C.CONTENT_TYPE_DASH:
+        return MimeTypes.APPLICATION_MPD;
+      case C.CONTENT_TYPE_HLS:
+        return MimeTypes.APPLICATION_M3U8;
+      default:
+        return null;
+    }
+  }
+
+  private static DataSource.Factory buildHttpDataSourceFactory(Map<String, String> httpHeaders) {
+    String userAgent = httpHeaders.get("User-Agent");
+    return new DefaultHttpDataSource.Factory()
+        .setUserAgent(userAgent != null ? userAgent : "ExoPlayer")
+        .setAllowCrossProtocolRedirects(true)
+        .setDefaultRequestProperties(httpHeaders);
+  }
+
+  /**
+   * Encodes the request headers to store with the download, so that it can resume after a restart.
+   * Credentials are left out, see {@link #secretHeaders}.
+   */
+  @VisibleForTesting
+  static byte[] encodeHeaders(@NonNull Map<String, String> httpHeaders) {
+    Map<String, String> stored = new HashMap<>(httpHeaders);
+    Map<String, String> secrets = secretHeaders(httpHeaders);
+    if (!secrets.isEmpty()) {
+      stored.keySet().removeAll(secrets.keySet());
+      stored.put(CREDENTIALS_REMOVED_KEY, "true");
+    }
+    return new JSONObject(stored).toString().getBytes(UTF_8);
+  }
+
+  /** Returns whether credentials were removed from the headers encoded in {@code data}. */
+  @VisibleForTesting
+  static boolean hadCredentials(@Nullable byte[] data) {
+    JSONObject json = parseHeaders(data);
+    return json != null && json.has(CREDENTIALS_REMOVED_KEY);
+  }
+
+  /** Returns the headers of {@code httpHeaders} that carry credentials. */
+  @VisibleForTesting
+  @NonNull
+  static Map<String, String> secretHeaders(@NonNull Map<String, String> httpHeaders) {
+    Map<String, String> secrets = new HashMap<>();
+    for (Map.Entry<String, String> header : httpHeaders.entrySet()) {
+      if (header.getKey() != null
+          && SECRET_HEADERS.contains(header.getKey().toLowerCase(Locale.US))) {
+        secrets.put(header.getKey(), header.getValue());
+      }
+    }
+    return secrets;
+  }
+
+  @VisibleForTesting
+  @NonNull
+  static Map<String, String> decodeHeaders(@Nullable byte[] data) {
+    Map<String, String> httpHeaders = new HashMap<>();
+    JSONObject json = parseHeaders(data);
+    if (json == null) {
+      return httpHeaders;
+    }
+    Iterator<String> names = json.keys();
+    while (names.hasNext()) {
+      String name = names.next();
+      if (!name.equals(CREDENTIALS_REMOVED_KEY)) {
+        httpHeaders.put(name, json.optString(name));
+      }
+    }
+    return httpHeaders;
+  }
+
+  @Nullable
+  private static JSONObject parseHeaders(@Nullable byte[] data) {
+    if (data == null || data.length == 0) {
+      return null;
+    }
+    try {
+      return new JSONObject(new String(data, UTF_8));
+    } catch (JSONException e) {
+      Log.w(TAG, "Ignoring malformed download headers.", e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.extractor.DefaultExtractorsFactory;
+import com.google.android.exoplayer2.extractor.Extractor;
+import com.google.android.exoplayer2.extractor.ExtractorInput;
+import com.google.android.exoplayer2.extractor.ExtractorOutput;
+import com.google.android.exoplayer2.extractor.ExtractorsFactory;
+import com.google.android.exoplayer2.extractor.PositionHolder;
+import com.google.android.exoplayer2.extractor.mp4.FragmentedMp4Extractor;
+import com.google.android.exoplayer2.extractor.mp4.Mp4Extractor;
+import com.google.android.exoplayer2.extractor.ts.DefaultTsPayloadReaderFactory;
+import com.google.android.exoplayer2.extractor.ts.TsExtractor;
+import com.google.android.exoplayer2.source.UnrecognizedInputFormatException;
+import com.google.android.exoplayer2.util.FileTypes;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link ExtractorsFactory} for fast-start progressive playback.
+ *
+ * <p>When the response headers or the URI say the container is MP4 or MPEG-TS, only the extractors
+ * for that container are created and sniffed. TS streams may start on the first I slice instead of
+ * waiting for an IDR frame. If the stream turns out to be something else, the extractors of {@link
+ * DefaultExtractorsFactory} are sniffed instead, so a mislabelled stream still plays.
+ */
+final class FastStartExtractorsFactory implements ExtractorsFactory {
+  // Allows playback to start on the first I slice of streams that rarely send IDR frames.
+  private static final int TS_PAYLOAD_READER_FLAGS =
+      DefaultTsPayloadReaderFactory.FLAG_ALLOW_NON_IDR_KEYFRAMES
+          | DefaultTsPayloadReaderFactory.FLAG_DETECT_ACCESS_UNITS;
+
+  private final DefaultExtractorsFactory fallback =
+      new DefaultExtractorsFactory().setTsExtractorFlags(TS_PAYLOAD_READER_FLAGS);
+
+  @NonNull
+  @Override
+  public Extractor[] createExtractors() {
+    return fallback.createExtractors();
+  }
+
+  @NonNull
+  @Override
+  public Extractor[] createExtractors(
+      @NonNull Uri uri, @NonNull Map<String, List<String>> responseHeaders) {
+    int fileType = FileTypes.inferFileTypeFromResponseHeaders(responseHeaders);
+    if (fileType == FileTypes.UNKNOWN) {
+      fileType = FileTypes.inferFileTypeFromUri(uri);
+    }
+    switch (fileType) {
+      case FileTypes.MP4:
+        return new Extractor[] {
+          new FallbackExtractor(
+              new Extractor[] {new Mp4Extractor(), new FragmentedMp4Extractor()},
+              fallback,
+              uri,
+              responseHeaders)
+        };
+      case FileTypes.TS:
+        return new Extractor[] {
+          new FallbackExtractor(
+              new Extractor[] {new TsExtractor(TS_PAYLOAD_READER_FLAGS)},
+              fallback,
+              uri,
+              responseHeaders)
+        };
+      default:
+        return fallback.createExtractors(uri, responseHeaders);
+    }
+  }
+
+  /**
+   * Sniffs the preferred extractors and, when none of them recognizes the stream, the extractors of
+   * a fallback factory.
+   *
+   * <p>It is the only extractor returned to ExoPlayer, which does not sniff a single extractor, so
+   * the choice is made on the first {@link #read}.
+   */
+  static final class FallbackExtractor implements Extractor {
+    private final Extractor[] preferred;
+    private final ExtractorsFactory fallback;
+    private final Uri uri;
+    private final Map<String, List<String>> responseHeaders;
+
+    @Nullable private ExtractorOutput output;
+    @Nullable private Extractor extractor;
+
+    FallbackExtractor(
+        @NonNull Extractor[] preferred,
+        @NonNull ExtractorsFactory fallback,
+        @NonNull Uri uri,
+        @NonNull Map<String, List<String>> responseHeaders) {
+      this.preferred = preferred;
+      this.fallback = fallback;
+      this.uri = uri;
+      this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    public boolean sniff(@NonNull ExtractorInput input) throws IOException {
+      return select(input, preferred) != null
+          || select(input, fallback.createExtractors(uri, responseHeaders)) != null;
+    }
+
+    @Override
+    public void init(@NonNull ExtractorOutput output) {
+      this.output = output;
+    }
+
+    @Override
+    public int read(@NonNull ExtractorInput input, @NonNull PositionHolder seekPosition)
+        throws IOException {
+      if (extractor == null) {
+        Extractor selected = select(input, preferred);
+        if (selected == null) {
+          selected = select(input, fallback.createExtractors(uri, responseHeaders));
+        }
+        if (selected == null) {
+          throw new UnrecognizedInputFormatException(
+              "None of the available extractors could read the stream.", uri);
+        }
+        if (output != null) {
+          selected.init(output);
+        }
+        extractor = selected;
+      }
+      return extractor.read(input, seekPosition);
+    }
+
+    @Override
+    public void seek(long position, long timeUs) {
+      if (extractor != null) {
+        extractor.seek(position, timeUs);
+      }
+    }
+
+    /** Returns the extractor reading the stream, or null before the first {@link #read}. */
+    @VisibleForTesting
+    @Nullable
+    Extractor getSelectedExtractor() {
+      return extractor;
+    }
+
+    @Override
+    public void release() {
+      if (extractor != null) {
+        extractor.release();
+      }
+    }
+
+    /** Returns the first of {@code extractors} that recognizes the stream, or null if none does. */
+    @Nullable
+    private static Extractor select(ExtractorInput input, Extractor[] extractors)
+        throws IOException {
+      for (Extractor candidate : extractors) {
+        try {
+          if (candidate.sniff(input)) {
+            return candidate;
+          }
+        } catch (EOFException e) {
+          // The stream is too short for this extractor; try the next one.
+        } finally {
+          input.resetPeekPosition();
+        }
+      }
+      return null;
+    }
+  }
+}
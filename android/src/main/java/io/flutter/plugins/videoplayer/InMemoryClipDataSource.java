@@ -0,0 +1,234 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves a small progressive clip from memory once it has been read in full, so that a looping
+ * clip is only read through the upstream data source once.
+ *
+ * <p>Like {@code CacheDataSource}, a pass that reads the clip from its start is served from
+ * upstream while its bytes are copied into memory, so the first bytes are never held back. Only a
+ * reopen at another position reads the whole clip before returning.
+ *
+ * <p>Whether the clip is kept, and the bytes themselves, live in a {@link Clip} shared by all the
+ * data sources of one player. Clips larger than the clip's limit are streamed from upstream as
+ * usual.
+ */
+final class InMemoryClipDataSource implements DataSource {
+  /** Default limit on the size of a clip kept in memory. */
+  static final int MAX_CLIP_BYTES = 5 * 1024 * 1024;
+
+  private static final int READ_BUFFER_BYTES = 16 * 1024;
+
+  /** The in-memory copy of one player's clip. Thread-safe. */
+  static final class Clip {
+    private final int maxBytes;
+    private boolean enabled;
+    private boolean tooLarge;
+    private boolean opened;
+    @Nullable private byte[] data;
+
+    Clip(int maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    /** Starts or stops keeping the clip in memory; stopping frees the bytes. */
+    synchronized void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+      if (!enabled) {
+        data = null;
+      }
+    }
+
+    /** Frees the bytes for good; called when the player is disposed. */
+    synchronized void release() {
+      enabled = false;
+      data = null;
+    }
+
+    synchronized boolean isLoaded() {
+      return data != null;
+    }
+
+    @Nullable
+    synchronized byte[] getData() {
+      return data;
+    }
+
+    synchronized boolean shouldLoad() {
+      return enabled && !tooLarge && data == null;
+    }
+
+    synchronized void setData(@NonNull byte[] data) {
+      if (enabled) {
+        this.data = data;
+      }
+    }
+
+    synchronized void markTooLarge() {
+      tooLarge = true;
+    }
+
+    /** Returns whether the clip had been opened before. */
+    synchronized boolean markOpened() {
+      boolean wasOpened = opened;
+      opened = true;
+      return wasOpened;
+    }
+  }
+
+  /** Creates {@link InMemoryClipDataSource} instances that share one {@link Clip}. */
+  static final class Factory implements DataSource.Factory {
+    private final DataSource.Factory upstreamFactory;
+    private final Clip clip;
+
+    Factory(@NonNull DataSource.Factory upstreamFactory, @NonNull Clip clip) {
+      this.upstreamFactory = upstreamFactory;
+      this.clip = clip;
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new InMemoryClipDataSource(upstreamFactory.createDataSource(), clip);
+    }
+  }
+
+  private final DataSource upstream;
+  private final Clip clip;
+  @Nullable private DataSource current;
+  // The bytes of the current pass, while it may still become the whole clip.
+  @Nullable private ByteArrayOutputStream recording;
+
+  InMemoryClipDataSource(@NonNull DataSource upstream, @NonNull Clip clip) {
+    this.upstream = upstream;
+    this.clip = clip;
+  }
+
+  @Override
+  public void addTransferListener(@NonNull TransferListener transferListener) {
+    upstream.addTransferListener(transferListener);
+  }
+
+  @Override
+  public long open(@NonNull DataSpec dataSpec) throws IOException {
+    boolean reopened = clip.markOpened();
+    byte[] data = clip.getData();
+    if (data == null && clip.shouldLoad()) {
+      if (dataSpec.position == 0 && dataSpec.length == C.LENGTH_UNSET) {
+        return openRecording(dataSpec);
+      }
+      if (reopened) {
+        data = load(dataSpec);
+      }
+    }
+    if (data != null) {
+      current = new ByteArrayDataSource(data);
+    } else {
+      current = upstream;
+    }
+    return current.open(dataSpec);
+  }
+
+  /** Serves the whole clip from upstream while copying it into memory. */
+  private long openRecording(DataSpec dataSpec) throws IOException {
+    current = upstream;
+    long length = upstream.open(dataSpec);
+    if (length != C.LENGTH_UNSET && length > clip.maxBytes) {
+      clip.markTooLarge();
+    } else {
+      recording =
+          new ByteArrayOutputStream(length == C.LENGTH_UNSET ? READ_BUFFER_BYTES : (int) length);
+    }
+    return length;
+  }
+
+  /** Reads the whole clip from upstream, or returns null if it is over the limit. */
+  @Nullable
+  private byte[] load(DataSpec dataSpec) throws IOException {
+    DataSpec wholeClip = dataSpec.buildUpon().setPosition(0).setLength(C.LENGTH_UNSET).build();
+    try {
+      long length = upstream.open(wholeClip);
+      if (length != C.LENGTH_UNSET && length > clip.maxBytes) {
+        clip.markTooLarge();
+        return null;
+      }
+      ByteArrayOutputStream output =
+          new ByteArrayOutputStream(length == C.LENGTH_UNSET ? READ_BUFFER_BYTES : (int) length);
+      byte[] buffer = new byte[READ_BUFFER_BYTES];
+      int read;
+      while ((read = upstream.read(buffer, 0, buffer.length)) != C.RESULT_END_OF_INPUT) {
+        output.write(buffer, 0, read);
+        if (output.size() > clip.maxBytes) {
+          clip.markTooLarge();
+          return null;
+        }
+      }
+      byte[] data = output.toByteArray();
+      clip.setData(data);
+      return data;
+    } finally {
+      upstream.close();
+    }
+  }
+
+  @Override
+  public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+    int read = current.read(buffer, offset, length);
+    ByteArrayOutputStream recording = this.recording;
+    if (recording != null) {
+      if (read == C.RESULT_END_OF_INPUT) {
+        clip.setData(recording.toByteArray());
+        this.recording = null;
+      } else if (recording.size() + read > clip.maxBytes) {
+        // The rest of this pass is streamed; the clip is not tried again.
+        clip.markTooLarge();
+        this.recording = null;
+      } else {
+        recording.write(buffer, offset, read);
+      }
+    }
+    return read;
+  }
+
+  @Nullable
+  @Override
+  public Uri getUri() {
+    return current == null ? null : current.getUri();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, List<String>> getResponseHeaders() {
+    return current == null ? Collections.emptyMap() : current.getResponseHeaders();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // A pass that ends early does not hold the whole clip.
+    recording = null;
+    if (current != null) {
+      try {
+        current.close();
+      } finally {
+        current = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLivePlaybackSpeedControl;
+import com.google.android.exoplayer2.LivePlaybackSpeedControl;
+import com.google.android.exoplayer2.MediaItem;
+
+/**
+ * A {@link LivePlaybackSpeedControl} that defers to a {@link DefaultLivePlaybackSpeedControl} and
+ * records the speed it picks, so that the player can report whether it is catching up with the
+ * live edge.
+ *
+ * <p>The player calls the control on its playback thread; the getters may be called from any
+ * thread.
+ */
+final class LiveLatencyMonitor implements LivePlaybackSpeedControl {
+  /** Playing at normal speed, within the tolerated distance of the target offset. */
+  static final String CATCH_UP_NONE = "none";
+  /** Playing faster because the player fell behind the target offset. */
+  static final String CATCH_UP_SPEEDING_UP = "speedingUp";
+  /** Playing slower because the player is closer to the live edge than the target offset. */
+  static final String CATCH_UP_SLOWING_DOWN = "slowingDown";
+
+  private final LivePlaybackSpeedControl delegate;
+  private volatile float adjustedSpeed = 1f;
+  private volatile long targetLiveOffsetUs = C.TIME_UNSET;
+
+  LiveLatencyMonitor() {
+    this(new DefaultLivePlaybackSpeedControl.Builder().build());
+  }
+
+  LiveLatencyMonitor(@NonNull LivePlaybackSpeedControl delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void setLiveConfiguration(@NonNull MediaItem.LiveConfiguration liveConfiguration) {
+    delegate.setLiveConfiguration(liveConfiguration);
+    adjustedSpeed = 1f;
+    targetLiveOffsetUs = delegate.getTargetLiveOffsetUs();
+  }
+
+  @Override
+  public void setTargetLiveOffsetOverrideUs(long liveOffsetUs) {
+    delegate.setTargetLiveOffsetOverrideUs(liveOffsetUs);
+    targetLiveOffsetUs = delegate.getTargetLiveOffsetUs();
+  }
+
+  @Override
+  public void notifyRebuffer() {
+    delegate.notifyRebuffer();
+    targetLiveOffsetUs = delegate.getTargetLiveOffsetUs();
+  }
+
+  @Override
+  public float getAdjustedPlaybackSpeed(long liveOffsetUs, long bufferedDurationUs) {
+    float speed = delegate.getAdjustedPlaybackSpeed(liveOffsetUs, bufferedDurationUs);
+    adjustedSpeed = speed;
+    targetLiveOffsetUs = delegate.getTargetLiveOffsetUs();
+    return speed;
+  }
+
+  @Override
+  public long getTargetLiveOffsetUs() {
+    return delegate.getTargetLiveOffsetUs();
+  }
+
+  /** Returns the speed last picked to approach the target offset, relative to the normal speed. */
+  float getAdjustedSpeed() {
+    return adjustedSpeed;
+  }
+
+  /** Returns the current target offset in milliseconds, or {@link C#TIME_UNSET} if unknown. */
+  long getTargetLiveOffsetMs() {
+    long targetUs = targetLiveOffsetUs;
+    return targetUs == C.TIME_UNSET ? C.TIME_UNSET : targetUs / 1000;
+  }
+
+  /** Returns one of the {@code CATCH_UP_*} constants. */
+  @NonNull
+  String getCatchUpState() {
+    float speed = adjustedSpeed;
+    if (speed > 1f) {
+      return CATCH_UP_SPEEDING_UP;
+    } else if (speed < 1f) {
+      return CATCH_UP_SLOWING_DOWN;
+    }
+    return CATCH_UP_NONE;
+  }
+}
@@ -0,0 +1,197 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.source.dash.manifest.DashManifest;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMediaPlaylist;
+import com.google.android.exoplayer2.source.smoothstreaming.manifest.SsManifest;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An in-memory LRU cache of HLS playlists, DASH MPDs and SmoothStreaming manifests shared by all
+ * players.
+ *
+ * <p>Each entry keeps the raw manifest bytes together with the manifest parsed from them, so that
+ * re-opening the same URI can skip both the network request and the parse. VOD manifests are
+ * served from memory for {@code vodTtlMs}; live manifests are always revalidated with {@code
+ * If-None-Match}/{@code If-Modified-Since}.
+ *
+ * <p>This class is thread-safe; it is accessed from the loader threads of every player.
+ */
+final class ManifestCache {
+  static final int DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+  static final long DEFAULT_VOD_TTL_MS = 10 * 60 * 1000;
+
+  private final int maxBytes;
+  private final long vodTtlMs;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private int totalBytes;
+
+  ManifestCache() {
+    this(DEFAULT_MAX_BYTES, DEFAULT_VOD_TTL_MS);
+  }
+
+  ManifestCache(int maxBytes, long vodTtlMs) {
+    this.maxBytes = maxBytes;
+    this.vodTtlMs = vodTtlMs;
+  }
+
+  /** Cached state for a single manifest URI, guarded by the owning cache's lock. */
+  static final class Entry {
+    final String key;
+    final byte[] data;
+    final Uri resolvedUri;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+    long validatedAtMs;
+    @Nullable Object manifest;
+    boolean live = true;
+
+    Entry(
+        String key,
+        byte[] data,
+        Uri resolvedUri,
+        @Nullable String etag,
+        @Nullable String lastModified,
+        long validatedAtMs) {
+      this.key = key;
+      this.data = data;
+      this.resolvedUri = resolvedUri;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.validatedAtMs = validatedAtMs;
+    }
+
+    boolean hasValidators() {
+      return etag != null || lastModified != null;
+    }
+  }
+
+  /** Returns the entry for {@code key} if its bytes can be used without contacting the server. */
+  @Nullable
+  synchronized Entry getFresh(@NonNull String key) {
+    Entry entry = entries.get(key);
+    if (entry == null || entry.live || entry.manifest == null) {
+      return null;
+    }
+    return now() - entry.validatedAtMs <= vodTtlMs ? entry : null;
+  }
+
+  /** Returns the entry for {@code key}, regardless of its age. */
+  @Nullable
+  synchronized Entry get(@NonNull String key) {
+    return entries.get(key);
+  }
+
+  /** Records that the server confirmed (304) that {@code entry} is still current. */
+  synchronized void markValidated(@NonNull Entry entry) {
+    entry.validatedAtMs = now();
+  }
+
+  /** Stores freshly downloaded manifest bytes, dropping any previously parsed result. */
+  synchronized void putData(
+      @NonNull String key,
+      @NonNull byte[] data,
+      @NonNull Uri resolvedUri,
+      @Nullable String etag,
+      @Nullable String lastModified) {
+    remove(key);
+    if (data.length > maxBytes) {
+      return;
+    }
+    entries.put(key, new Entry(key, data, resolvedUri, etag, lastModified, now()));
+    totalBytes += data.length;
+    trimToSize();
+  }
+
+  /**
+   * Returns the parsed manifest cached for the manifest loaded from {@code uri} if it was parsed
+   * from exactly {@code data}.
+   */
+  @Nullable
+  synchronized Object getParsed(@NonNull Uri uri, @NonNull byte[] data) {
+    Entry entry = findByUri(uri);
+    if (entry == null || entry.manifest == null || !Arrays.equals(entry.data, data)) {
+      return null;
+    }
+    return entry.manifest;
+  }
+
+  /** Attaches {@code manifest}, parsed from {@code data}, to the entry loaded from {@code uri}. */
+  synchronized void putParsed(@NonNull Uri uri, @NonNull byte[] data, @NonNull Object manifest) {
+    Entry entry = findByUri(uri);
+    if (entry == null || !Arrays.equals(entry.data, data)) {
+      return;
+    }
+    entry.manifest = manifest;
+    entry.live = isLive(manifest);
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    totalBytes = 0;
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return entries.size();
+  }
+
+  @Nullable
+  private Entry findByUri(Uri uri) {
+    String key = uri.toString();
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      return entry;
+    }
+    // The parser sees the URI after redirects, which may differ from the requested one.
+    for (Entry candidate : entries.values()) {
+      if (candidate.resolvedUri.equals(uri)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private void remove(String key) {
+    Entry previous = entries.remove(key);
+    if (previous != null) {
+      totalBytes -= previous.data.length;
+    }
+  }
+
+  private void trimToSize() {
+    Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+    while (totalBytes > maxBytes && iterator.hasNext()) {
+      totalBytes -= iterator.next().getValue().data.length;
+      iterator.remove();
+    }
+  }
+
+  @VisibleForTesting
+  long now() {
+    return SystemClock.elapsedRealtime();
+  }
+
+  private static boolean isLive(Object manifest) {
+    if (manifest instanceof HlsMediaPlaylist) {
+      return !((HlsMediaPlaylist) manifest).hasEndTag;
+    } else if (manifest instanceof DashManifest) {
+      return ((DashManifest) manifest).dynamic;
+    } else if (manifest instanceof SsManifest) {
+      return ((SsManifest) manifest).isLive;
+    }
+    // Multivariant playlists do not change while a stream is live.
+    return false;
+  }
+}
@@ -0,0 +1,224 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.source.hls.HlsDataSourceFactory;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link DataSource} for manifest requests that serves fresh manifests from a {@link
+ * ManifestCache}, revalidates stale ones with conditional requests, and records the bytes of
+ * everything it downloads.
+ *
+ * <p>Data sources from its {@link Factory} also negotiate gzip, see {@link
+ * CompressionNegotiatingDataSource}.
+ */
+final class ManifestCachingDataSource implements DataSource {
+  private static final int HTTP_NOT_MODIFIED = 304;
+  /** Manifests larger than this are streamed through without being recorded. */
+  private static final int MAX_RECORDED_BYTES = 2 * 1024 * 1024;
+
+  /**
+   * Creates caching, gzip negotiating data sources for manifests and media data sources for
+   * everything else.
+   */
+  static final class Factory implements DataSource.Factory, HlsDataSourceFactory {
+    private final DataSource.Factory upstreamFactory;
+    private final DataSource.Factory mediaFactory;
+    private final ManifestCache cache;
+    private final CompressionStats compressionStats;
+
+    Factory(
+        @NonNull DataSource.Factory upstreamFactory,
+        @NonNull ManifestCache cache,
+        @NonNull CompressionStats compressionStats) {
+      this(upstreamFactory, upstreamFactory, cache, compressionStats);
+    }
+
+    /**
+     * Creates a factory that loads manifests from {@code upstreamFactory} and media, by data type,
+     * from {@code mediaFactory}.
+     */
+    Factory(
+        @NonNull DataSource.Factory upstreamFactory,
+        @NonNull DataSource.Factory mediaFactory,
+        @NonNull ManifestCache cache,
+        @NonNull CompressionStats compressionStats) {
+      this.upstreamFactory = upstreamFactory;
+      this.mediaFactory = mediaFactory;
+      this.cache = cache;
+      this.compressionStats = compressionStats;
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new CompressionNegotiatingDataSource(
+          new ManifestCachingDataSource(upstreamFactory.createDataSource(), cache),
+          compressionStats);
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource(int dataType) {
+      return dataType == C.DATA_TYPE_MANIFEST
+          ? createDataSource()
+          : mediaFactory.createDataSource();
+    }
+  }
+
+  private final DataSource upstream;
+  private final ManifestCache cache;
+
+  @Nullable private ManifestCache.Entry servingEntry;
+  private int servingOffset;
+  @Nullable private String recordingKey;
+  @Nullable private ByteArrayOutputStream recording;
+  private boolean reachedEnd;
+
+  ManifestCachingDataSource(@NonNull DataSource upstream, @NonNull ManifestCache cache) {
+    this.upstream = upstream;
+    this.cache = cache;
+  }
+
+  @Override
+  public void addTransferListener(@NonNull TransferListener transferListener) {
+    upstream.addTransferListener(transferListener);
+  }
+
+  @Override
+  public long open(@NonNull DataSpec dataSpec) throws IOException {
+    if (!isCacheable(dataSpec)) {
+      return upstream.open(dataSpec);
+    }
+    String key = dataSpec.uri.toString();
+    ManifestCache.Entry fresh = cache.getFresh(key);
+    if (fresh != null) {
+      return serve(fresh);
+    }
+
+    ManifestCache.Entry stale = cache.get(key);
+    DataSpec request = dataSpec;
+    if (stale != null && stale.hasValidators()) {
+      Map<String, String> validators = new HashMap<>();
+      if (stale.etag != null) {
+        validators.put("If-None-Match", stale.etag);
+      }
+      if (stale.lastModified != null) {
+        validators.put("If-Modified-Since", stale.lastModified);
+      }
+      request = dataSpec.withAdditionalHeaders(validators);
+    }
+    try {
+      long length = upstream.open(request);
+      recordingKey = key;
+      if (length == C.LENGTH_UNSET || length <= MAX_RECORDED_BYTES) {
+        recording = new ByteArrayOutputStream(length > 0 ? (int) length : 8192);
+      }
+      reachedEnd = false;
+      return length;
+    } catch (HttpDataSource.InvalidResponseCodeException e) {
+      if (stale == null || e.responseCode != HTTP_NOT_MODIFIED) {
+        throw e;
+      }
+      upstream.close();
+      cache.markValidated(stale);
+      return serve(stale);
+    }
+  }
+
+  @Override
+  public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    ManifestCache.Entry entry = servingEntry;
+    if (entry != null) {
+      int remaining = entry.data.length - servingOffset;
+      if (remaining == 0) {
+        return C.RESULT_END_OF_INPUT;
+      }
+      int bytesRead = Math.min(remaining, length);
+      System.arraycopy(entry.data, servingOffset, buffer, offset, bytesRead);
+      servingOffset += bytesRead;
+      return bytesRead;
+    }
+    int bytesRead = upstream.read(buffer, offset, length);
+    if (recording != null) {
+      if (bytesRead == C.RESULT_END_OF_INPUT) {
+        reachedEnd = true;
+      } else if (recording.size() + bytesRead > MAX_RECORDED_BYTES) {
+        recording = null;
+      } else {
+        recording.write(buffer, offset, bytesRead);
+      }
+    }
+    return bytesRead;
+  }
+
+  @Nullable
+  @Override
+  public Uri getUri() {
+    ManifestCache.Entry entry = servingEntry;
+    return entry != null ? entry.resolvedUri : upstream.getUri();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, List<String>> getResponseHeaders() {
+    return servingEntry != null ? Collections.emptyMap() : upstream.getResponseHeaders();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (servingEntry != null) {
+      servingEntry = null;
+      return;
+    }
+    try {
+      if (recording != null && reachedEnd) {
+        Map<String, List<String>> headers = upstream.getResponseHeaders();
+        Uri resolvedUri = upstream.getUri();
+        cache.putData(
+            recordingKey,
+            recording.toByteArray(),
+            resolvedUri != null ? resolvedUri : Uri.parse(recordingKey),
+            ResponseHeaders.get(headers, "ETag"),
+            ResponseHeaders.get(headers, "Last-Modified"));
+      }
+    } finally {
+      recording = null;
+      recordingKey = null;
+      upstream.close();
+    }
+  }
+
+  private long serve(ManifestCache.Entry entry) {
+    servingEntry = entry;
+    servingOffset = 0;
+    return entry.data.length;
+  }
+
+  private static boolean isCacheable(DataSpec dataSpec) {
+    String scheme = dataSpec.uri.getScheme();
+    return ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))
+        && dataSpec.position == 0
+        && dataSpec.length == C.LENGTH_UNSET
+        && dataSpec.httpMethod == DataSpec.HTTP_METHOD_GET;
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheKeyFactory;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An on-disk cache of media segments shared by all players, keyed by {@link CacheKeyNormalizer}
+ * so that URL variants of one segment are stored once.
+ *
+ * <p>Only media data sources read through the cache. Manifests, which change under the same URL
+ * for live streams, are loaded from the un-cached upstream by {@link ManifestCachingDataSource}
+ * and kept in {@link ManifestCache} instead; which loads are manifests is decided by their data
+ * type, not by their URL.
+ *
+ * <p>Counters record how often a request was for a URL variant of something requested before,
+ * and how often such a request found bytes already in the cache.
+ */
+final class MediaCache {
+  private static final String DIRECTORY = "video_player_media";
+  /** Number of keys for which the first URL is remembered, to recognize URL variants. */
+  private static final int MAX_TRACKED_KEYS = 4096;
+
+  private final SimpleCache cache;
+  private final long maxBytes;
+  private volatile CacheKeyNormalizer.Rules rules = CacheKeyNormalizer.Rules.NONE;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong variantRequests = new AtomicLong();
+  private final AtomicLong dedupHits = new AtomicLong();
+  private final AtomicLong cachedBytesRead = new AtomicLong();
+
+  private final Map<String, String> firstUrlByKey =
+      new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+          return size() > MAX_TRACKED_KEYS;
+        }
+      };
+
+  MediaCache(@NonNull Context context, long maxBytes) {
+    this.maxBytes = maxBytes;
+    this.cache =
+        new SimpleCache(
+            new File(context.getCacheDir(), DIRECTORY),
+            new LeastRecentlyUsedCacheEvictor(maxBytes),
+            new StandaloneDatabaseProvider(context));
+  }
+
+  long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /** Applies to data sources created afterwards. */
+  void setRules(@NonNull CacheKeyNormalizer.Rules rules) {
+    this.rules = rules;
+  }
+
+  @NonNull
+  CacheKeyNormalizer.Rules getRules() {
+    return rules;
+  }
+
+  /**
+   * Returns a factory for data sources that read media through the cache, keyed by {@code
+   * contentId} if it is set. Everything it opens is cached, so it must not be used for manifests.
+   */
+  @NonNull
+  DataSource.Factory createDataSourceFactory(
+      @NonNull DataSource.Factory upstreamFactory, @Nullable String contentId) {
+    CacheKeyNormalizer normalizer = new CacheKeyNormalizer(rules, contentId);
+    CacheKeyFactory cacheKeyFactory =
+        dataSpec -> {
+          String key = normalizer.buildCacheKey(dataSpec);
+          recordRequest(dataSpec.uri.toString(), key, dataSpec.position);
+          return key;
+        };
+    CacheDataSource.Factory cacheDataSourceFactory =
+        new CacheDataSource.Factory()
+            .setCache(cache)
+            .setCacheKeyFactory(cacheKeyFactory)
+            .setUpstreamDataSourceFactory(upstreamFactory)
+            .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+            .setEventListener(
+                new CacheDataSource.EventListener() {
+                  @Override
+                  public void onCachedBytesRead(long cacheSizeBytes, long cachedBytes) {
+                    cachedBytesRead.addAndGet(cachedBytes);
+                  }
+
+                  @Override
+                  public void onCacheIgnored(int reason) {}
+                });
+    return cacheDataSourceFactory;
+  }
+
+  private void recordRequest(String url, String key, long position) {
+    requests.incrementAndGet();
+    String firstUrl;
+    synchronized (firstUrlByKey) {
+      firstUrl = firstUrlByKey.get(key);
+      if (firstUrl == null) {
+        firstUrlByKey.put(key, url);
+      }
+    }
+    if (firstUrl != null && !firstUrl.equals(url)) {
+      variantRequests.incrementAndGet();
+      if (cache.getCachedLength(key, position, 1) > 0) {
+        dedupHits.incrementAndGet();
+      }
+    }
+  }
+
+  /** Number of media requests made through the cache. */
+  long getRequestCount() {
+    return requests.get();
+  }
+
+  /** Number of requests whose URL differed from an earlier one with the same key. */
+  long getVariantRequestCount() {
+    return variantRequests.get();
+  }
+
+  /** Number of variant requests that found their bytes already cached. */
+  long getDedupHitCount() {
+    return dedupHits.get();
+  }
+
+  long getCachedBytesRead() {
+    return cachedBytesRead.get();
+  }
+
+  void release() {
+    cache.release();
+  }
+}
@@ -16,6 +16,7 @@ import io.flutter.plugin.common.StandardMessageCodec;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /** Generated class from Pigeon. */
@@ -414,6 +415,82 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ScrubbingMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Boolean isScrubbing;
+
+    public @NonNull Boolean getIsScrubbing() {
+      return isScrubbing;
+    }
+
+    public void setIsScrubbing(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isScrubbing\" is null.");
+      }
+      this.isScrubbing = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ScrubbingMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isScrubbing;
+
+      public @NonNull Builder setIsScrubbing(@NonNull Boolean setterArg) {
+        this.isScrubbing = setterArg;
+        return this;
+      }
+
+      public @NonNull ScrubbingMessage build() {
+        ScrubbingMessage pigeonReturn = new ScrubbingMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIsScrubbing(isScrubbing);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(isScrubbing);
+      return toListResult;
+    }
+
+    static @NonNull ScrubbingMessage fromList(@NonNull ArrayList<Object> list) {
+      ScrubbingMessage pigeonResult = new ScrubbingMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object isScrubbing = list.get(1);
+      pigeonResult.setIsScrubbing((Boolean) isScrubbing);
+      return pigeonResult;
+    }
+  }
+
   /** Generated class from Pigeon that represents data sent in messages. */
   public static final class CreateMessage {
     private @Nullable String asset;
@@ -469,6 +546,156 @@ public class Messages {
       this.httpHeaders = setterArg;
     }
 
+    private @Nullable byte[] bytes;
+
+    public @Nullable byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@Nullable byte[] setterArg) {
+      this.bytes = setterArg;
+    }
+
+    private @Nullable String cacheContentId;
+
+    public @Nullable String getCacheContentId() {
+      return cacheContentId;
+    }
+
+    public void setCacheContentId(@Nullable String setterArg) {
+      this.cacheContentId = setterArg;
+    }
+
+    private @Nullable Long liveTargetOffsetMs;
+
+    public @Nullable Long getLiveTargetOffsetMs() {
+      return liveTargetOffsetMs;
+    }
+
+    public void setLiveTargetOffsetMs(@Nullable Long setterArg) {
+      this.liveTargetOffsetMs = setterArg;
+    }
+
+    private @Nullable Long liveMaxOffsetMs;
+
+    public @Nullable Long getLiveMaxOffsetMs() {
+      return liveMaxOffsetMs;
+    }
+
+    public void setLiveMaxOffsetMs(@Nullable Long setterArg) {
+      this.liveMaxOffsetMs = setterArg;
+    }
+
+    private @Nullable Double liveMinPlaybackSpeed;
+
+    public @Nullable Double getLiveMinPlaybackSpeed() {
+      return liveMinPlaybackSpeed;
+    }
+
+    public void setLiveMinPlaybackSpeed(@Nullable Double setterArg) {
+      this.liveMinPlaybackSpeed = setterArg;
+    }
+
+    private @Nullable Double liveMaxPlaybackSpeed;
+
+    public @Nullable Double getLiveMaxPlaybackSpeed() {
+      return liveMaxPlaybackSpeed;
+    }
+
+    public void setLiveMaxPlaybackSpeed(@Nullable Double setterArg) {
+      this.liveMaxPlaybackSpeed = setterArg;
+    }
+
+    private @Nullable Long backBufferDurationMs;
+
+    public @Nullable Long getBackBufferDurationMs() {
+      return backBufferDurationMs;
+    }
+
+    public void setBackBufferDurationMs(@Nullable Long setterArg) {
+      this.backBufferDurationMs = setterArg;
+    }
+
+    private @Nullable Boolean retainBackBufferFromKeyframe;
+
+    public @Nullable Boolean getRetainBackBufferFromKeyframe() {
+      return retainBackBufferFromKeyframe;
+    }
+
+    public void setRetainBackBufferFromKeyframe(@Nullable Boolean setterArg) {
+      this.retainBackBufferFromKeyframe = setterArg;
+    }
+
+    private @Nullable Boolean audioOnly;
+
+    public @Nullable Boolean getAudioOnly() {
+      return audioOnly;
+    }
+
+    public void setAudioOnly(@Nullable Boolean setterArg) {
+      this.audioOnly = setterArg;
+    }
+
+    private @Nullable TrackPreferencesMessage trackPreferences;
+
+    public @Nullable TrackPreferencesMessage getTrackPreferences() {
+      return trackPreferences;
+    }
+
+    public void setTrackPreferences(@Nullable TrackPreferencesMessage setterArg) {
+      this.trackPreferences = setterArg;
+    }
+
+    private @Nullable List<PlaylistItemMessage> playlist;
+
+    public @Nullable List<PlaylistItemMessage> getPlaylist() {
+      return playlist;
+    }
+
+    public void setPlaylist(@Nullable List<PlaylistItemMessage> setterArg) {
+      this.playlist = setterArg;
+    }
+
+    private @Nullable SnapshotMessage snapshot;
+
+    public @Nullable SnapshotMessage getSnapshot() {
+      return snapshot;
+    }
+
+    public void setSnapshot(@Nullable SnapshotMessage setterArg) {
+      this.snapshot = setterArg;
+    }
+
+    private @Nullable Boolean fastStart;
+
+    public @Nullable Boolean getFastStart() {
+      return fastStart;
+    }
+
+    public void setFastStart(@Nullable Boolean setterArg) {
+      this.fastStart = setterArg;
+    }
+
+    private @Nullable Boolean multiplexEvents;
+
+    public @Nullable Boolean getMultiplexEvents() {
+      return multiplexEvents;
+    }
+
+    public void setMultiplexEvents(@Nullable Boolean setterArg) {
+      this.multiplexEvents = setterArg;
+    }
+
+    private @Nullable Long priority;
+
+    public @Nullable Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@Nullable Long setterArg) {
+      this.priority = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     CreateMessage() {}
 
@@ -509,6 +736,111 @@ public class Messages {
         return this;
       }
 
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@Nullable byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable String cacheContentId;
+
+      public @NonNull Builder setCacheContentId(@Nullable String setterArg) {
+        this.cacheContentId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long liveTargetOffsetMs;
+
+      public @NonNull Builder setLiveTargetOffsetMs(@Nullable Long setterArg) {
+        this.liveTargetOffsetMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long liveMaxOffsetMs;
+
+      public @NonNull Builder setLiveMaxOffsetMs(@Nullable Long setterArg) {
+        this.liveMaxOffsetMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Double liveMinPlaybackSpeed;
+
+      public @NonNull Builder setLiveMinPlaybackSpeed(@Nullable Double setterArg) {
+        this.liveMinPlaybackSpeed = setterArg;
+        return this;
+      }
+
+      private @Nullable Double liveMaxPlaybackSpeed;
+
+      public @NonNull Builder setLiveMaxPlaybackSpeed(@Nullable Double setterArg) {
+        this.liveMaxPlaybackSpeed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backBufferDurationMs;
+
+      public @NonNull Builder setBackBufferDurationMs(@Nullable Long setterArg) {
+        this.backBufferDurationMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean retainBackBufferFromKeyframe;
+
+      public @NonNull Builder setRetainBackBufferFromKeyframe(@Nullable Boolean setterArg) {
+        this.retainBackBufferFromKeyframe = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean audioOnly;
+
+      public @NonNull Builder setAudioOnly(@Nullable Boolean setterArg) {
+        this.audioOnly = setterArg;
+        return this;
+      }
+
+      private @Nullable TrackPreferencesMessage trackPreferences;
+
+      public @NonNull Builder setTrackPreferences(@Nullable TrackPreferencesMessage setterArg) {
+        this.trackPreferences = setterArg;
+        return this;
+      }
+
+      private @Nullable List<PlaylistItemMessage> playlist;
+
+      public @NonNull Builder setPlaylist(@Nullable List<PlaylistItemMessage> setterArg) {
+        this.playlist = setterArg;
+        return this;
+      }
+
+      private @Nullable SnapshotMessage snapshot;
+
+      public @NonNull Builder setSnapshot(@Nullable SnapshotMessage setterArg) {
+        this.snapshot = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean fastStart;
+
+      public @NonNull Builder setFastStart(@Nullable Boolean setterArg) {
+        this.fastStart = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean multiplexEvents;
+
+      public @NonNull Builder setMultiplexEvents(@Nullable Boolean setterArg) {
+        this.multiplexEvents = setterArg;
+        return this;
+      }
+
+      private @Nullable Long priority;
+
+      public @NonNull Builder setPriority(@Nullable Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
       public @NonNull CreateMessage build() {
         CreateMessage pigeonReturn = new CreateMessage();
         pigeonReturn.setAsset(asset);
@@ -516,18 +848,48 @@ public class Messages {
         pigeonReturn.setPackageName(packageName);
         pigeonReturn.setFormatHint(formatHint);
         pigeonReturn.setHttpHeaders(httpHeaders);
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setCacheContentId(cacheContentId);
+        pigeonReturn.setLiveTargetOffsetMs(liveTargetOffsetMs);
+        pigeonReturn.setLiveMaxOffsetMs(liveMaxOffsetMs);
+        pigeonReturn.setLiveMinPlaybackSpeed(liveMinPlaybackSpeed);
+        pigeonReturn.setLiveMaxPlaybackSpeed(liveMaxPlaybackSpeed);
+        pigeonReturn.setBackBufferDurationMs(backBufferDurationMs);
+        pigeonReturn.setRetainBackBufferFromKeyframe(retainBackBufferFromKeyframe);
+        pigeonReturn.setAudioOnly(audioOnly);
+        pigeonReturn.setTrackPreferences(trackPreferences);
+        pigeonReturn.setPlaylist(playlist);
+        pigeonReturn.setSnapshot(snapshot);
+        pigeonReturn.setFastStart(fastStart);
+        pigeonReturn.setMultiplexEvents(multiplexEvents);
+        pigeonReturn.setPriority(priority);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(5);
+      ArrayList<Object> toListResult = new ArrayList<Object>(20);
       toListResult.add(asset);
       toListResult.add(uri);
       toListResult.add(packageName);
       toListResult.add(formatHint);
       toListResult.add(httpHeaders);
+      toListResult.add(bytes);
+      toListResult.add(cacheContentId);
+      toListResult.add(liveTargetOffsetMs);
+      toListResult.add(liveMaxOffsetMs);
+      toListResult.add(liveMinPlaybackSpeed);
+      toListResult.add(liveMaxPlaybackSpeed);
+      toListResult.add(backBufferDurationMs);
+      toListResult.add(retainBackBufferFromKeyframe);
+      toListResult.add(audioOnly);
+      toListResult.add((trackPreferences == null) ? null : trackPreferences.toList());
+      toListResult.add(playlist);
+      toListResult.add((snapshot == null) ? null : snapshot.toList());
+      toListResult.add(fastStart);
+      toListResult.add(multiplexEvents);
+      toListResult.add(priority);
       return toListResult;
     }
 
@@ -543,162 +905,4530 @@ public class Messages {
       pigeonResult.setFormatHint((String) formatHint);
       Object httpHeaders = list.get(4);
       pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      Object bytes = list.get(5);
+      pigeonResult.setBytes((byte[]) bytes);
+      Object cacheContentId = list.get(6);
+      pigeonResult.setCacheContentId((String) cacheContentId);
+      Object liveTargetOffsetMs = list.get(7);
+      pigeonResult.setLiveTargetOffsetMs(
+          (liveTargetOffsetMs == null)
+              ? null
+              : ((liveTargetOffsetMs instanceof Integer)
+                  ? (Integer) liveTargetOffsetMs
+                  : (Long) liveTargetOffsetMs));
+      Object liveMaxOffsetMs = list.get(8);
+      pigeonResult.setLiveMaxOffsetMs(
+          (liveMaxOffsetMs == null)
+              ? null
+              : ((liveMaxOffsetMs instanceof Integer)
+                  ? (Integer) liveMaxOffsetMs
+                  : (Long) liveMaxOffsetMs));
+      Object liveMinPlaybackSpeed = list.get(9);
+      pigeonResult.setLiveMinPlaybackSpeed((Double) liveMinPlaybackSpeed);
+      Object liveMaxPlaybackSpeed = list.get(10);
+      pigeonResult.setLiveMaxPlaybackSpeed((Double) liveMaxPlaybackSpeed);
+      Object backBufferDurationMs = list.get(11);
+      pigeonResult.setBackBufferDurationMs(
+          (backBufferDurationMs == null)
+              ? null
+              : ((backBufferDurationMs instanceof Integer)
+                  ? (Integer) backBufferDurationMs
+                  : (Long) backBufferDurationMs));
+      Object retainBackBufferFromKeyframe = list.get(12);
+      pigeonResult.setRetainBackBufferFromKeyframe((Boolean) retainBackBufferFromKeyframe);
+      Object audioOnly = list.get(13);
+      pigeonResult.setAudioOnly((Boolean) audioOnly);
+      Object trackPreferences = list.get(14);
+      pigeonResult.setTrackPreferences(
+          (trackPreferences == null) ? null : TrackPreferencesMessage.fromList((ArrayList<Object>) trackPreferences));
+      Object playlist = list.get(15);
+      pigeonResult.setPlaylist((List<PlaylistItemMessage>) playlist);
+      Object snapshot = list.get(16);
+      pigeonResult.setSnapshot(
+          (snapshot == null) ? null : SnapshotMessage.fromList((ArrayList<Object>) snapshot));
+      Object fastStart = list.get(17);
+      pigeonResult.setFastStart((Boolean) fastStart);
+      Object multiplexEvents = list.get(18);
+      pigeonResult.setMultiplexEvents((Boolean) multiplexEvents);
+      Object priority = list.get(19);
+      pigeonResult.setPriority(
+          (priority == null)
+              ? null
+              : ((priority instanceof Integer) ? (Integer) priority : (Long) priority));
       return pigeonResult;
     }
   }
 
   /** Generated class from Pigeon that represents data sent in messages. */
-  public static final class MixWithOthersMessage {
-    private @NonNull Boolean mixWithOthers;
+  public static final class SnapshotMessage {
+    private @NonNull String uri;
 
-    public @NonNull Boolean getMixWithOthers() {
-      return mixWithOthers;
+    public @NonNull String getUri() {
+      return uri;
     }
 
-    public void setMixWithOthers(@NonNull Boolean setterArg) {
+    public void setUri(@NonNull String setterArg) {
       if (setterArg == null) {
-        throw new IllegalStateException("Nonnull field \"mixWithOthers\" is null.");
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
       }
-      this.mixWithOthers = setterArg;
+      this.uri = setterArg;
     }
 
-    /** Constructor is non-public to enforce null safety; use Builder. */
-    MixWithOthersMessage() {}
+    private @Nullable String formatHint;
 
-    public static final class Builder {
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
 
-      private @Nullable Boolean mixWithOthers;
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
 
-      public @NonNull Builder setMixWithOthers(@NonNull Boolean setterArg) {
-        this.mixWithOthers = setterArg;
-        return this;
-      }
+    private @Nullable String cacheContentId;
 
-      public @NonNull MixWithOthersMessage build() {
-        MixWithOthersMessage pigeonReturn = new MixWithOthersMessage();
-        pigeonReturn.setMixWithOthers(mixWithOthers);
-        return pigeonReturn;
+    public @Nullable String getCacheContentId() {
+      return cacheContentId;
+    }
+
+    public void setCacheContentId(@Nullable String setterArg) {
+      this.cacheContentId = setterArg;
+    }
+
+    private @NonNull Long position;
+
+    public @NonNull Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
       }
+      this.position = setterArg;
     }
 
-    @NonNull
-    ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<Object>(1);
-      toListResult.add(mixWithOthers);
-      return toListResult;
+    private @Nullable Long bitrateEstimate;
+
+    public @Nullable Long getBitrateEstimate() {
+      return bitrateEstimate;
     }
 
-    static @NonNull MixWithOthersMessage fromList(@NonNull ArrayList<Object> list) {
-      MixWithOthersMessage pigeonResult = new MixWithOthersMessage();
-      Object mixWithOthers = list.get(0);
-      pigeonResult.setMixWithOthers((Boolean) mixWithOthers);
-      return pigeonResult;
+    public void setBitrateEstimate(@Nullable Long setterArg) {
+      this.bitrateEstimate = setterArg;
     }
-  }
 
-  private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
-    public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
+    private @Nullable String audioLanguage;
 
-    private AndroidVideoPlayerApiCodec() {}
+    public @Nullable String getAudioLanguage() {
+      return audioLanguage;
+    }
 
-    @Override
-    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 128:
-          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 129:
-          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 130:
-          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 131:
-          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 132:
-          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 133:
-          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 134:
-          return VolumeMessage.fromList((ArrayList<Object>) readValue(buffer));
-        default:
-          return super.readValueOfType(type, buffer);
-      }
+    public void setAudioLanguage(@Nullable String setterArg) {
+      this.audioLanguage = setterArg;
     }
 
-    @Override
-    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
-        stream.write(128);
-        writeValue(stream, ((CreateMessage) value).toList());
-      } else if (value instanceof LoopingMessage) {
-        stream.write(129);
-        writeValue(stream, ((LoopingMessage) value).toList());
-      } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
-        writeValue(stream, ((MixWithOthersMessage) value).toList());
-      } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
-        writeValue(stream, ((PlaybackSpeedMessage) value).toList());
-      } else if (value instanceof PositionMessage) {
-        stream.write(132);
-        writeValue(stream, ((PositionMessage) value).toList());
-      } else if (value instanceof TextureMessage) {
-        stream.write(133);
-        writeValue(stream, ((TextureMessage) value).toList());
-      } else if (value instanceof VolumeMessage) {
-        stream.write(134);
-        writeValue(stream, ((VolumeMessage) value).toList());
-      } else {
-        super.writeValue(stream, value);
+    private @Nullable String textLanguage;
+
+    public @Nullable String getTextLanguage() {
+      return textLanguage;
+    }
+
+    public void setTextLanguage(@Nullable String setterArg) {
+      this.textLanguage = setterArg;
+    }
+
+    private @Nullable Long videoBitrate;
+
+    public @Nullable Long getVideoBitrate() {
+      return videoBitrate;
+    }
+
+    public void setVideoBitrate(@Nullable Long setterArg) {
+      this.videoBitrate = setterArg;
+    }
+
+    private @Nullable Long videoWidth;
+
+    public @Nullable Long getVideoWidth() {
+      return videoWidth;
+    }
+
+    public void setVideoWidth(@Nullable Long setterArg) {
+      this.videoWidth = setterArg;
+    }
+
+    private @Nullable Long videoHeight;
+
+    public @Nullable Long getVideoHeight() {
+      return videoHeight;
+    }
+
+    public void setVideoHeight(@Nullable Long setterArg) {
+      this.videoHeight = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SnapshotMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      private @Nullable String cacheContentId;
+
+      public @NonNull Builder setCacheContentId(@Nullable String setterArg) {
+        this.cacheContentId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      public @NonNull Builder setPosition(@NonNull Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bitrateEstimate;
+
+      public @NonNull Builder setBitrateEstimate(@Nullable Long setterArg) {
+        this.bitrateEstimate = setterArg;
+        return this;
+      }
+
+      private @Nullable String audioLanguage;
+
+      public @NonNull Builder setAudioLanguage(@Nullable String setterArg) {
+        this.audioLanguage = setterArg;
+        return this;
+      }
+
+      private @Nullable String textLanguage;
+
+      public @NonNull Builder setTextLanguage(@Nullable String setterArg) {
+        this.textLanguage = setterArg;
+        return this;
+      }
+
+      private @Nullable Long videoBitrate;
+
+      public @NonNull Builder setVideoBitrate(@Nullable Long setterArg) {
+        this.videoBitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable Long videoWidth;
+
+      public @NonNull Builder setVideoWidth(@Nullable Long setterArg) {
+        this.videoWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long videoHeight;
+
+      public @NonNull Builder setVideoHeight(@Nullable Long setterArg) {
+        this.videoHeight = setterArg;
+        return this;
+      }
+
+      public @NonNull SnapshotMessage build() {
+        SnapshotMessage pigeonReturn = new SnapshotMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setFormatHint(formatHint);
+        pigeonReturn.setCacheContentId(cacheContentId);
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setBitrateEstimate(bitrateEstimate);
+        pigeonReturn.setAudioLanguage(audioLanguage);
+        pigeonReturn.setTextLanguage(textLanguage);
+        pigeonReturn.setVideoBitrate(videoBitrate);
+        pigeonReturn.setVideoWidth(videoWidth);
+        pigeonReturn.setVideoHeight(videoHeight);
+        return pigeonReturn;
       }
     }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(10);
+      toListResult.add(uri);
+      toListResult.add(formatHint);
+      toListResult.add(cacheContentId);
+      toListResult.add(position);
+      toListResult.add(bitrateEstimate);
+      toListResult.add(audioLanguage);
+      toListResult.add(textLanguage);
+      toListResult.add(videoBitrate);
+      toListResult.add(videoWidth);
+      toListResult.add(videoHeight);
+      return toListResult;
+    }
+
+    static @NonNull SnapshotMessage fromList(@NonNull ArrayList<Object> list) {
+      SnapshotMessage pigeonResult = new SnapshotMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object formatHint = list.get(1);
+      pigeonResult.setFormatHint((String) formatHint);
+      Object cacheContentId = list.get(2);
+      pigeonResult.setCacheContentId((String) cacheContentId);
+      Object position = list.get(3);
+      pigeonResult.setPosition(
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position));
+      Object bitrateEstimate = list.get(4);
+      pigeonResult.setBitrateEstimate(
+          (bitrateEstimate == null)
+              ? null
+              : ((bitrateEstimate instanceof Integer)
+                  ? (Integer) bitrateEstimate
+                  : (Long) bitrateEstimate));
+      Object audioLanguage = list.get(5);
+      pigeonResult.setAudioLanguage((String) audioLanguage);
+      Object textLanguage = list.get(6);
+      pigeonResult.setTextLanguage((String) textLanguage);
+      Object videoBitrate = list.get(7);
+      pigeonResult.setVideoBitrate(
+          (videoBitrate == null)
+              ? null
+              : ((videoBitrate instanceof Integer) ? (Integer) videoBitrate : (Long) videoBitrate));
+      Object videoWidth = list.get(8);
+      pigeonResult.setVideoWidth(
+          (videoWidth == null)
+              ? null
+              : ((videoWidth instanceof Integer) ? (Integer) videoWidth : (Long) videoWidth));
+      Object videoHeight = list.get(9);
+      pigeonResult.setVideoHeight(
+          (videoHeight == null)
+              ? null
+              : ((videoHeight instanceof Integer) ? (Integer) videoHeight : (Long) videoHeight));
+      return pigeonResult;
+    }
   }
 
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface AndroidVideoPlayerApi {
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlaylistItemMessage {
+    private @NonNull String uri;
 
-    void initialize();
+    public @NonNull String getUri() {
+      return uri;
+    }
 
-    @NonNull
-    TextureMessage create(@NonNull CreateMessage msg);
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
 
-    void dispose(@NonNull TextureMessage msg);
+    private @Nullable String formatHint;
 
-    void setLooping(@NonNull LoopingMessage msg);
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
 
-    void setVolume(@NonNull VolumeMessage msg);
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
 
-    void setPlaybackSpeed(@NonNull PlaybackSpeedMessage msg);
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaylistItemMessage() {}
 
-    void play(@NonNull TextureMessage msg);
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaylistItemMessage build() {
+        PlaylistItemMessage pigeonReturn = new PlaylistItemMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setFormatHint(formatHint);
+        return pigeonReturn;
+      }
+    }
 
     @NonNull
-    PositionMessage position(@NonNull TextureMessage msg);
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(uri);
+      toListResult.add(formatHint);
+      return toListResult;
+    }
 
-    void seekTo(@NonNull PositionMessage msg);
+    static @NonNull PlaylistItemMessage fromList(@NonNull ArrayList<Object> list) {
+      PlaylistItemMessage pigeonResult = new PlaylistItemMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object formatHint = list.get(1);
+      pigeonResult.setFormatHint((String) formatHint);
+      return pigeonResult;
+    }
+  }
 
-    void pause(@NonNull TextureMessage msg);
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlaylistItemsMessage {
+    private @NonNull Long textureId;
 
-    void setMixWithOthers(@NonNull MixWithOthersMessage msg);
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
 
-    /** The codec used by AndroidVideoPlayerApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return AndroidVideoPlayerApiCodec.INSTANCE;
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
     }
-    /**
-     * Sets up an instance of `AndroidVideoPlayerApi` to handle messages through the
-     * `binaryMessenger`.
-     */
-    static void setup(
-        @NonNull BinaryMessenger binaryMessenger, @Nullable AndroidVideoPlayerApi api) {
+
+    private @Nullable Long index;
+
+    public @Nullable Long getIndex() {
+      return index;
+    }
+
+    public void setIndex(@Nullable Long setterArg) {
+      this.index = setterArg;
+    }
+
+    private @NonNull List<PlaylistItemMessage> items;
+
+    public @NonNull List<PlaylistItemMessage> getItems() {
+      return items;
+    }
+
+    public void setItems(@NonNull List<PlaylistItemMessage> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"items\" is null.");
+      }
+      this.items = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaylistItemsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long index;
+
+      public @NonNull Builder setIndex(@Nullable Long setterArg) {
+        this.index = setterArg;
+        return this;
+      }
+
+      private @Nullable List<PlaylistItemMessage> items;
+
+      public @NonNull Builder setItems(@NonNull List<PlaylistItemMessage> setterArg) {
+        this.items = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaylistItemsMessage build() {
+        PlaylistItemsMessage pigeonReturn = new PlaylistItemsMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIndex(index);
+        pigeonReturn.setItems(items);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(textureId);
+      toListResult.add(index);
+      toListResult.add(items);
+      return toListResult;
+    }
+
+    static @NonNull PlaylistItemsMessage fromList(@NonNull ArrayList<Object> list) {
+      PlaylistItemsMessage pigeonResult = new PlaylistItemsMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object index = list.get(1);
+      pigeonResult.setIndex(
+          (index == null)
+              ? null
+              : ((index instanceof Integer) ? (Integer) index : (Long) index));
+      Object items = list.get(2);
+      pigeonResult.setItems((List<PlaylistItemMessage>) items);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlaylistRangeMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long fromIndex;
+
+    public @NonNull Long getFromIndex() {
+      return fromIndex;
+    }
+
+    public void setFromIndex(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"fromIndex\" is null.");
+      }
+      this.fromIndex = setterArg;
+    }
+
+    private @NonNull Long toIndex;
+
+    public @NonNull Long getToIndex() {
+      return toIndex;
+    }
+
+    public void setToIndex(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"toIndex\" is null.");
+      }
+      this.toIndex = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaylistRangeMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long fromIndex;
+
+      public @NonNull Builder setFromIndex(@NonNull Long setterArg) {
+        this.fromIndex = setterArg;
+        return this;
+      }
+
+      private @Nullable Long toIndex;
+
+      public @NonNull Builder setToIndex(@NonNull Long setterArg) {
+        this.toIndex = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaylistRangeMessage build() {
+        PlaylistRangeMessage pigeonReturn = new PlaylistRangeMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setFromIndex(fromIndex);
+        pigeonReturn.setToIndex(toIndex);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(textureId);
+      toListResult.add(fromIndex);
+      toListResult.add(toIndex);
+      return toListResult;
+    }
+
+    static @NonNull PlaylistRangeMessage fromList(@NonNull ArrayList<Object> list) {
+      PlaylistRangeMessage pigeonResult = new PlaylistRangeMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object fromIndex = list.get(1);
+      pigeonResult.setFromIndex(
+          (fromIndex == null)
+              ? null
+              : ((fromIndex instanceof Integer) ? (Integer) fromIndex : (Long) fromIndex));
+      Object toIndex = list.get(2);
+      pigeonResult.setToIndex(
+          (toIndex == null)
+              ? null
+              : ((toIndex instanceof Integer) ? (Integer) toIndex : (Long) toIndex));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class VideoEnabledMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Boolean enabled;
+
+    public @NonNull Boolean getEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"enabled\" is null.");
+      }
+      this.enabled = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    VideoEnabledMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean enabled;
+
+      public @NonNull Builder setEnabled(@NonNull Boolean setterArg) {
+        this.enabled = setterArg;
+        return this;
+      }
+
+      public @NonNull VideoEnabledMessage build() {
+        VideoEnabledMessage pigeonReturn = new VideoEnabledMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setEnabled(enabled);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(enabled);
+      return toListResult;
+    }
+
+    static @NonNull VideoEnabledMessage fromList(@NonNull ArrayList<Object> list) {
+      VideoEnabledMessage pigeonResult = new VideoEnabledMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object enabled = list.get(1);
+      pigeonResult.setEnabled((Boolean) enabled);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class TrackPreferencesMessage {
+    private @NonNull List<String> preferredAudioLanguages;
+
+    public @NonNull List<String> getPreferredAudioLanguages() {
+      return preferredAudioLanguages;
+    }
+
+    public void setPreferredAudioLanguages(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preferredAudioLanguages\" is null.");
+      }
+      this.preferredAudioLanguages = setterArg;
+    }
+
+    private @NonNull List<String> allowedAudioLanguages;
+
+    public @NonNull List<String> getAllowedAudioLanguages() {
+      return allowedAudioLanguages;
+    }
+
+    public void setAllowedAudioLanguages(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"allowedAudioLanguages\" is null.");
+      }
+      this.allowedAudioLanguages = setterArg;
+    }
+
+    private @NonNull Boolean textTracksDisabled;
+
+    public @NonNull Boolean getTextTracksDisabled() {
+      return textTracksDisabled;
+    }
+
+    public void setTextTracksDisabled(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textTracksDisabled\" is null.");
+      }
+      this.textTracksDisabled = setterArg;
+    }
+
+    private @NonNull List<String> preferredVideoMimeTypes;
+
+    public @NonNull List<String> getPreferredVideoMimeTypes() {
+      return preferredVideoMimeTypes;
+    }
+
+    public void setPreferredVideoMimeTypes(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preferredVideoMimeTypes\" is null.");
+      }
+      this.preferredVideoMimeTypes = setterArg;
+    }
+
+    private @NonNull List<String> preferredAudioMimeTypes;
+
+    public @NonNull List<String> getPreferredAudioMimeTypes() {
+      return preferredAudioMimeTypes;
+    }
+
+    public void setPreferredAudioMimeTypes(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preferredAudioMimeTypes\" is null.");
+      }
+      this.preferredAudioMimeTypes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    TrackPreferencesMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable List<String> preferredAudioLanguages;
+
+      public @NonNull Builder setPreferredAudioLanguages(@NonNull List<String> setterArg) {
+        this.preferredAudioLanguages = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> allowedAudioLanguages;
+
+      public @NonNull Builder setAllowedAudioLanguages(@NonNull List<String> setterArg) {
+        this.allowedAudioLanguages = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean textTracksDisabled;
+
+      public @NonNull Builder setTextTracksDisabled(@NonNull Boolean setterArg) {
+        this.textTracksDisabled = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> preferredVideoMimeTypes;
+
+      public @NonNull Builder setPreferredVideoMimeTypes(@NonNull List<String> setterArg) {
+        this.preferredVideoMimeTypes = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> preferredAudioMimeTypes;
+
+      public @NonNull Builder setPreferredAudioMimeTypes(@NonNull List<String> setterArg) {
+        this.preferredAudioMimeTypes = setterArg;
+        return this;
+      }
+
+      public @NonNull TrackPreferencesMessage build() {
+        TrackPreferencesMessage pigeonReturn = new TrackPreferencesMessage();
+        pigeonReturn.setPreferredAudioLanguages(preferredAudioLanguages);
+        pigeonReturn.setAllowedAudioLanguages(allowedAudioLanguages);
+        pigeonReturn.setTextTracksDisabled(textTracksDisabled);
+        pigeonReturn.setPreferredVideoMimeTypes(preferredVideoMimeTypes);
+        pigeonReturn.setPreferredAudioMimeTypes(preferredAudioMimeTypes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(5);
+      toListResult.add(preferredAudioLanguages);
+      toListResult.add(allowedAudioLanguages);
+      toListResult.add(textTracksDisabled);
+      toListResult.add(preferredVideoMimeTypes);
+      toListResult.add(preferredAudioMimeTypes);
+      return toListResult;
+    }
+
+    static @NonNull TrackPreferencesMessage fromList(@NonNull ArrayList<Object> list) {
+      TrackPreferencesMessage pigeonResult = new TrackPreferencesMessage();
+      Object preferredAudioLanguages = list.get(0);
+      pigeonResult.setPreferredAudioLanguages((List<String>) preferredAudioLanguages);
+      Object allowedAudioLanguages = list.get(1);
+      pigeonResult.setAllowedAudioLanguages((List<String>) allowedAudioLanguages);
+      Object textTracksDisabled = list.get(2);
+      pigeonResult.setTextTracksDisabled((Boolean) textTracksDisabled);
+      Object preferredVideoMimeTypes = list.get(3);
+      pigeonResult.setPreferredVideoMimeTypes((List<String>) preferredVideoMimeTypes);
+      Object preferredAudioMimeTypes = list.get(4);
+      pigeonResult.setPreferredAudioMimeTypes((List<String>) preferredAudioMimeTypes);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class TrackSelectionMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull TrackPreferencesMessage preferences;
+
+    public @NonNull TrackPreferencesMessage getPreferences() {
+      return preferences;
+    }
+
+    public void setPreferences(@NonNull TrackPreferencesMessage setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preferences\" is null.");
+      }
+      this.preferences = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    TrackSelectionMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable TrackPreferencesMessage preferences;
+
+      public @NonNull Builder setPreferences(@NonNull TrackPreferencesMessage setterArg) {
+        this.preferences = setterArg;
+        return this;
+      }
+
+      public @NonNull TrackSelectionMessage build() {
+        TrackSelectionMessage pigeonReturn = new TrackSelectionMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setPreferences(preferences);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add((preferences == null) ? null : preferences.toList());
+      return toListResult;
+    }
+
+    static @NonNull TrackSelectionMessage fromList(@NonNull ArrayList<Object> list) {
+      TrackSelectionMessage pigeonResult = new TrackSelectionMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object preferences = list.get(1);
+      pigeonResult.setPreferences(
+          (preferences == null) ? null : TrackPreferencesMessage.fromList((ArrayList<Object>) preferences));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class SelectedTrackMessage {
+    private @NonNull String type;
+
+    public @NonNull String getType() {
+      return type;
+    }
+
+    public void setType(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @Nullable String language;
+
+    public @Nullable String getLanguage() {
+      return language;
+    }
+
+    public void setLanguage(@Nullable String setterArg) {
+      this.language = setterArg;
+    }
+
+    private @Nullable String mimeType;
+
+    public @Nullable String getMimeType() {
+      return mimeType;
+    }
+
+    public void setMimeType(@Nullable String setterArg) {
+      this.mimeType = setterArg;
+    }
+
+    private @Nullable String codecs;
+
+    public @Nullable String getCodecs() {
+      return codecs;
+    }
+
+    public void setCodecs(@Nullable String setterArg) {
+      this.codecs = setterArg;
+    }
+
+    private @Nullable Long bitrate;
+
+    public @Nullable Long getBitrate() {
+      return bitrate;
+    }
+
+    public void setBitrate(@Nullable Long setterArg) {
+      this.bitrate = setterArg;
+    }
+
+    private @Nullable Long width;
+
+    public @Nullable Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@Nullable Long setterArg) {
+      this.width = setterArg;
+    }
+
+    private @Nullable Long height;
+
+    public @Nullable Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@Nullable Long setterArg) {
+      this.height = setterArg;
+    }
+
+    private @NonNull Boolean isCurrent;
+
+    public @NonNull Boolean getIsCurrent() {
+      return isCurrent;
+    }
+
+    public void setIsCurrent(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isCurrent\" is null.");
+      }
+      this.isCurrent = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SelectedTrackMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String type;
+
+      public @NonNull Builder setType(@NonNull String setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable String language;
+
+      public @NonNull Builder setLanguage(@Nullable String setterArg) {
+        this.language = setterArg;
+        return this;
+      }
+
+      private @Nullable String mimeType;
+
+      public @NonNull Builder setMimeType(@Nullable String setterArg) {
+        this.mimeType = setterArg;
+        return this;
+      }
+
+      private @Nullable String codecs;
+
+      public @NonNull Builder setCodecs(@Nullable String setterArg) {
+        this.codecs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bitrate;
+
+      public @NonNull Builder setBitrate(@Nullable Long setterArg) {
+        this.bitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      public @NonNull Builder setWidth(@Nullable Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      public @NonNull Builder setHeight(@Nullable Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isCurrent;
+
+      public @NonNull Builder setIsCurrent(@NonNull Boolean setterArg) {
+        this.isCurrent = setterArg;
+        return this;
+      }
+
+      public @NonNull SelectedTrackMessage build() {
+        SelectedTrackMessage pigeonReturn = new SelectedTrackMessage();
+        pigeonReturn.setType(type);
+        pigeonReturn.setLanguage(language);
+        pigeonReturn.setMimeType(mimeType);
+        pigeonReturn.setCodecs(codecs);
+        pigeonReturn.setBitrate(bitrate);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setIsCurrent(isCurrent);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(8);
+      toListResult.add(type);
+      toListResult.add(language);
+      toListResult.add(mimeType);
+      toListResult.add(codecs);
+      toListResult.add(bitrate);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(isCurrent);
+      return toListResult;
+    }
+
+    static @NonNull SelectedTrackMessage fromList(@NonNull ArrayList<Object> list) {
+      SelectedTrackMessage pigeonResult = new SelectedTrackMessage();
+      Object type = list.get(0);
+      pigeonResult.setType((String) type);
+      Object language = list.get(1);
+      pigeonResult.setLanguage((String) language);
+      Object mimeType = list.get(2);
+      pigeonResult.setMimeType((String) mimeType);
+      Object codecs = list.get(3);
+      pigeonResult.setCodecs((String) codecs);
+      Object bitrate = list.get(4);
+      pigeonResult.setBitrate(
+          (bitrate == null)
+              ? null
+              : ((bitrate instanceof Integer) ? (Integer) bitrate : (Long) bitrate));
+      Object width = list.get(5);
+      pigeonResult.setWidth(
+          (width == null)
+              ? null
+              : ((width instanceof Integer) ? (Integer) width : (Long) width));
+      Object height = list.get(6);
+      pigeonResult.setHeight(
+          (height == null)
+              ? null
+              : ((height instanceof Integer) ? (Integer) height : (Long) height));
+      Object isCurrent = list.get(7);
+      pigeonResult.setIsCurrent((Boolean) isCurrent);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class SelectedTracksMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull List<SelectedTrackMessage> tracks;
+
+    public @NonNull List<SelectedTrackMessage> getTracks() {
+      return tracks;
+    }
+
+    public void setTracks(@NonNull List<SelectedTrackMessage> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"tracks\" is null.");
+      }
+      this.tracks = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SelectedTracksMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable List<SelectedTrackMessage> tracks;
+
+      public @NonNull Builder setTracks(@NonNull List<SelectedTrackMessage> setterArg) {
+        this.tracks = setterArg;
+        return this;
+      }
+
+      public @NonNull SelectedTracksMessage build() {
+        SelectedTracksMessage pigeonReturn = new SelectedTracksMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setTracks(tracks);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(tracks);
+      return toListResult;
+    }
+
+    static @NonNull SelectedTracksMessage fromList(@NonNull ArrayList<Object> list) {
+      SelectedTracksMessage pigeonResult = new SelectedTracksMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object tracks = list.get(1);
+      pigeonResult.setTracks((List<SelectedTrackMessage>) tracks);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class GroupCreateMessage {
+    private @NonNull List<Long> textureIds;
+
+    public @NonNull List<Long> getTextureIds() {
+      return textureIds;
+    }
+
+    public void setTextureIds(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureIds\" is null.");
+      }
+      this.textureIds = setterArg;
+    }
+
+    private @Nullable Long toleranceMs;
+
+    public @Nullable Long getToleranceMs() {
+      return toleranceMs;
+    }
+
+    public void setToleranceMs(@Nullable Long setterArg) {
+      this.toleranceMs = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    GroupCreateMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable List<Long> textureIds;
+
+      public @NonNull Builder setTextureIds(@NonNull List<Long> setterArg) {
+        this.textureIds = setterArg;
+        return this;
+      }
+
+      private @Nullable Long toleranceMs;
+
+      public @NonNull Builder setToleranceMs(@Nullable Long setterArg) {
+        this.toleranceMs = setterArg;
+        return this;
+      }
+
+      public @NonNull GroupCreateMessage build() {
+        GroupCreateMessage pigeonReturn = new GroupCreateMessage();
+        pigeonReturn.setTextureIds(textureIds);
+        pigeonReturn.setToleranceMs(toleranceMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureIds);
+      toListResult.add(toleranceMs);
+      return toListResult;
+    }
+
+    static @NonNull GroupCreateMessage fromList(@NonNull ArrayList<Object> list) {
+      GroupCreateMessage pigeonResult = new GroupCreateMessage();
+      Object textureIds = list.get(0);
+      pigeonResult.setTextureIds((List<Long>) textureIds);
+      Object toleranceMs = list.get(1);
+      pigeonResult.setToleranceMs(
+          (toleranceMs == null)
+              ? null
+              : ((toleranceMs instanceof Integer) ? (Integer) toleranceMs : (Long) toleranceMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class GroupMessage {
+    private @NonNull Long groupId;
+
+    public @NonNull Long getGroupId() {
+      return groupId;
+    }
+
+    public void setGroupId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"groupId\" is null.");
+      }
+      this.groupId = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    GroupMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long groupId;
+
+      public @NonNull Builder setGroupId(@NonNull Long setterArg) {
+        this.groupId = setterArg;
+        return this;
+      }
+
+      public @NonNull GroupMessage build() {
+        GroupMessage pigeonReturn = new GroupMessage();
+        pigeonReturn.setGroupId(groupId);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(groupId);
+      return toListResult;
+    }
+
+    static @NonNull GroupMessage fromList(@NonNull ArrayList<Object> list) {
+      GroupMessage pigeonResult = new GroupMessage();
+      Object groupId = list.get(0);
+      pigeonResult.setGroupId(
+          (groupId == null)
+              ? null
+              : ((groupId instanceof Integer) ? (Integer) groupId : (Long) groupId));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class GroupPositionMessage {
+    private @NonNull Long groupId;
+
+    public @NonNull Long getGroupId() {
+      return groupId;
+    }
+
+    public void setGroupId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"groupId\" is null.");
+      }
+      this.groupId = setterArg;
+    }
+
+    private @NonNull Long position;
+
+    public @NonNull Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
+      }
+      this.position = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    GroupPositionMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long groupId;
+
+      public @NonNull Builder setGroupId(@NonNull Long setterArg) {
+        this.groupId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      public @NonNull Builder setPosition(@NonNull Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      public @NonNull GroupPositionMessage build() {
+        GroupPositionMessage pigeonReturn = new GroupPositionMessage();
+        pigeonReturn.setGroupId(groupId);
+        pigeonReturn.setPosition(position);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(groupId);
+      toListResult.add(position);
+      return toListResult;
+    }
+
+    static @NonNull GroupPositionMessage fromList(@NonNull ArrayList<Object> list) {
+      GroupPositionMessage pigeonResult = new GroupPositionMessage();
+      Object groupId = list.get(0);
+      pigeonResult.setGroupId(
+          (groupId == null)
+              ? null
+              : ((groupId instanceof Integer) ? (Integer) groupId : (Long) groupId));
+      Object position = list.get(1);
+      pigeonResult.setPosition(
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class GroupSyncStatsMessage {
+    private @NonNull Long groupId;
+
+    public @NonNull Long getGroupId() {
+      return groupId;
+    }
+
+    public void setGroupId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"groupId\" is null.");
+      }
+      this.groupId = setterArg;
+    }
+
+    private @NonNull Long samples;
+
+    public @NonNull Long getSamples() {
+      return samples;
+    }
+
+    public void setSamples(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"samples\" is null.");
+      }
+      this.samples = setterArg;
+    }
+
+    private @NonNull Double meanErrorMs;
+
+    public @NonNull Double getMeanErrorMs() {
+      return meanErrorMs;
+    }
+
+    public void setMeanErrorMs(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"meanErrorMs\" is null.");
+      }
+      this.meanErrorMs = setterArg;
+    }
+
+    private @NonNull Long maxErrorMs;
+
+    public @NonNull Long getMaxErrorMs() {
+      return maxErrorMs;
+    }
+
+    public void setMaxErrorMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxErrorMs\" is null.");
+      }
+      this.maxErrorMs = setterArg;
+    }
+
+    private @NonNull Long lastErrorMs;
+
+    public @NonNull Long getLastErrorMs() {
+      return lastErrorMs;
+    }
+
+    public void setLastErrorMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lastErrorMs\" is null.");
+      }
+      this.lastErrorMs = setterArg;
+    }
+
+    private @NonNull Long reseeks;
+
+    public @NonNull Long getReseeks() {
+      return reseeks;
+    }
+
+    public void setReseeks(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"reseeks\" is null.");
+      }
+      this.reseeks = setterArg;
+    }
+
+    private @NonNull Long speedAdjustments;
+
+    public @NonNull Long getSpeedAdjustments() {
+      return speedAdjustments;
+    }
+
+    public void setSpeedAdjustments(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"speedAdjustments\" is null.");
+      }
+      this.speedAdjustments = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    GroupSyncStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long groupId;
+
+      public @NonNull Builder setGroupId(@NonNull Long setterArg) {
+        this.groupId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long samples;
+
+      public @NonNull Builder setSamples(@NonNull Long setterArg) {
+        this.samples = setterArg;
+        return this;
+      }
+
+      private @Nullable Double meanErrorMs;
+
+      public @NonNull Builder setMeanErrorMs(@NonNull Double setterArg) {
+        this.meanErrorMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxErrorMs;
+
+      public @NonNull Builder setMaxErrorMs(@NonNull Long setterArg) {
+        this.maxErrorMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lastErrorMs;
+
+      public @NonNull Builder setLastErrorMs(@NonNull Long setterArg) {
+        this.lastErrorMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long reseeks;
+
+      public @NonNull Builder setReseeks(@NonNull Long setterArg) {
+        this.reseeks = setterArg;
+        return this;
+      }
+
+      private @Nullable Long speedAdjustments;
+
+      public @NonNull Builder setSpeedAdjustments(@NonNull Long setterArg) {
+        this.speedAdjustments = setterArg;
+        return this;
+      }
+
+      public @NonNull GroupSyncStatsMessage build() {
+        GroupSyncStatsMessage pigeonReturn = new GroupSyncStatsMessage();
+        pigeonReturn.setGroupId(groupId);
+        pigeonReturn.setSamples(samples);
+        pigeonReturn.setMeanErrorMs(meanErrorMs);
+        pigeonReturn.setMaxErrorMs(maxErrorMs);
+        pigeonReturn.setLastErrorMs(lastErrorMs);
+        pigeonReturn.setReseeks(reseeks);
+        pigeonReturn.setSpeedAdjustments(speedAdjustments);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(7);
+      toListResult.add(groupId);
+      toListResult.add(samples);
+      toListResult.add(meanErrorMs);
+      toListResult.add(maxErrorMs);
+      toListResult.add(lastErrorMs);
+      toListResult.add(reseeks);
+      toListResult.add(speedAdjustments);
+      return toListResult;
+    }
+
+    static @NonNull GroupSyncStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      GroupSyncStatsMessage pigeonResult = new GroupSyncStatsMessage();
+      Object groupId = list.get(0);
+      pigeonResult.setGroupId(
+          (groupId == null)
+              ? null
+              : ((groupId instanceof Integer) ? (Integer) groupId : (Long) groupId));
+      Object samples = list.get(1);
+      pigeonResult.setSamples(
+          (samples == null)
+              ? null
+              : ((samples instanceof Integer) ? (Integer) samples : (Long) samples));
+      Object meanErrorMs = list.get(2);
+      pigeonResult.setMeanErrorMs((Double) meanErrorMs);
+      Object maxErrorMs = list.get(3);
+      pigeonResult.setMaxErrorMs(
+          (maxErrorMs == null)
+              ? null
+              : ((maxErrorMs instanceof Integer) ? (Integer) maxErrorMs : (Long) maxErrorMs));
+      Object lastErrorMs = list.get(4);
+      pigeonResult.setLastErrorMs(
+          (lastErrorMs == null)
+              ? null
+              : ((lastErrorMs instanceof Integer) ? (Integer) lastErrorMs : (Long) lastErrorMs));
+      Object reseeks = list.get(5);
+      pigeonResult.setReseeks(
+          (reseeks == null)
+              ? null
+              : ((reseeks instanceof Integer) ? (Integer) reseeks : (Long) reseeks));
+      Object speedAdjustments = list.get(6);
+      pigeonResult.setSpeedAdjustments(
+          (speedAdjustments == null)
+              ? null
+              : ((speedAdjustments instanceof Integer)
+                  ? (Integer) speedAdjustments
+                  : (Long) speedAdjustments));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PriorityMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long priority;
+
+    public @NonNull Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"priority\" is null.");
+      }
+      this.priority = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PriorityMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long priority;
+
+      public @NonNull Builder setPriority(@NonNull Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
+      public @NonNull PriorityMessage build() {
+        PriorityMessage pigeonReturn = new PriorityMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setPriority(priority);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(textureId);
+      toListResult.add(priority);
+      return toListResult;
+    }
+
+    static @NonNull PriorityMessage fromList(@NonNull ArrayList<Object> list) {
+      PriorityMessage pigeonResult = new PriorityMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object priority = list.get(1);
+      pigeonResult.setPriority(
+          (priority == null)
+              ? null
+              : ((priority instanceof Integer) ? (Integer) priority : (Long) priority));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PreparationLimitMessage {
+    private @NonNull Long maxConcurrentPreparations;
+
+    public @NonNull Long getMaxConcurrentPreparations() {
+      return maxConcurrentPreparations;
+    }
+
+    public void setMaxConcurrentPreparations(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxConcurrentPreparations\" is null.");
+      }
+      this.maxConcurrentPreparations = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PreparationLimitMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxConcurrentPreparations;
+
+      public @NonNull Builder setMaxConcurrentPreparations(@NonNull Long setterArg) {
+        this.maxConcurrentPreparations = setterArg;
+        return this;
+      }
+
+      public @NonNull PreparationLimitMessage build() {
+        PreparationLimitMessage pigeonReturn = new PreparationLimitMessage();
+        pigeonReturn.setMaxConcurrentPreparations(maxConcurrentPreparations);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(maxConcurrentPreparations);
+      return toListResult;
+    }
+
+    static @NonNull PreparationLimitMessage fromList(@NonNull ArrayList<Object> list) {
+      PreparationLimitMessage pigeonResult = new PreparationLimitMessage();
+      Object maxConcurrentPreparations = list.get(0);
+      pigeonResult.setMaxConcurrentPreparations(
+          (maxConcurrentPreparations == null)
+              ? null
+              : ((maxConcurrentPreparations instanceof Integer)
+                  ? (Integer) maxConcurrentPreparations
+                  : (Long) maxConcurrentPreparations));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class BandwidthMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long bitrateEstimate;
+
+    public @NonNull Long getBitrateEstimate() {
+      return bitrateEstimate;
+    }
+
+    public void setBitrateEstimate(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bitrateEstimate\" is null.");
+      }
+      this.bitrateEstimate = setterArg;
+    }
+
+    private @NonNull Double share;
+
+    public @NonNull Double getShare() {
+      return share;
+    }
+
+    public void setShare(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"share\" is null.");
+      }
+      this.share = setterArg;
+    }
+
+    private @NonNull Long bytesTransferred;
+
+    public @NonNull Long getBytesTransferred() {
+      return bytesTransferred;
+    }
+
+    public void setBytesTransferred(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesTransferred\" is null.");
+      }
+      this.bytesTransferred = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    BandwidthMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bitrateEstimate;
+
+      public @NonNull Builder setBitrateEstimate(@NonNull Long setterArg) {
+        this.bitrateEstimate = setterArg;
+        return this;
+      }
+
+      private @Nullable Double share;
+
+      public @NonNull Builder setShare(@NonNull Double setterArg) {
+        this.share = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytesTransferred;
+
+      public @NonNull Builder setBytesTransferred(@NonNull Long setterArg) {
+        this.bytesTransferred = setterArg;
+        return this;
+      }
+
+      public @NonNull BandwidthMessage build() {
+        BandwidthMessage pigeonReturn = new BandwidthMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setBitrateEstimate(bitrateEstimate);
+        pigeonReturn.setShare(share);
+        pigeonReturn.setBytesTransferred(bytesTransferred);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(textureId);
+      toListResult.add(bitrateEstimate);
+      toListResult.add(share);
+      toListResult.add(bytesTransferred);
+      return toListResult;
+    }
+
+    static @NonNull BandwidthMessage fromList(@NonNull ArrayList<Object> list) {
+      BandwidthMessage pigeonResult = new BandwidthMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object bitrateEstimate = list.get(1);
+      pigeonResult.setBitrateEstimate(
+          (bitrateEstimate == null)
+              ? null
+              : ((bitrateEstimate instanceof Integer)
+                  ? (Integer) bitrateEstimate
+                  : (Long) bitrateEstimate));
+      Object share = list.get(2);
+      pigeonResult.setShare((Double) share);
+      Object bytesTransferred = list.get(3);
+      pigeonResult.setBytesTransferred(
+          (bytesTransferred == null)
+              ? null
+              : ((bytesTransferred instanceof Integer)
+                  ? (Integer) bytesTransferred
+                  : (Long) bytesTransferred));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class BufferStatsMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long allocatedBytes;
+
+    public @NonNull Long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"allocatedBytes\" is null.");
+      }
+      this.allocatedBytes = setterArg;
+    }
+
+    private @NonNull Long backBufferDurationMs;
+
+    public @NonNull Long getBackBufferDurationMs() {
+      return backBufferDurationMs;
+    }
+
+    public void setBackBufferDurationMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"backBufferDurationMs\" is null.");
+      }
+      this.backBufferDurationMs = setterArg;
+    }
+
+    private @NonNull Long bufferedAheadMs;
+
+    public @NonNull Long getBufferedAheadMs() {
+      return bufferedAheadMs;
+    }
+
+    public void setBufferedAheadMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferedAheadMs\" is null.");
+      }
+      this.bufferedAheadMs = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    BufferStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long allocatedBytes;
+
+      public @NonNull Builder setAllocatedBytes(@NonNull Long setterArg) {
+        this.allocatedBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backBufferDurationMs;
+
+      public @NonNull Builder setBackBufferDurationMs(@NonNull Long setterArg) {
+        this.backBufferDurationMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferedAheadMs;
+
+      public @NonNull Builder setBufferedAheadMs(@NonNull Long setterArg) {
+        this.bufferedAheadMs = setterArg;
+        return this;
+      }
+
+      public @NonNull BufferStatsMessage build() {
+        BufferStatsMessage pigeonReturn = new BufferStatsMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setAllocatedBytes(allocatedBytes);
+        pigeonReturn.setBackBufferDurationMs(backBufferDurationMs);
+        pigeonReturn.setBufferedAheadMs(bufferedAheadMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(textureId);
+      toListResult.add(allocatedBytes);
+      toListResult.add(backBufferDurationMs);
+      toListResult.add(bufferedAheadMs);
+      return toListResult;
+    }
+
+    static @NonNull BufferStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      BufferStatsMessage pigeonResult = new BufferStatsMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object allocatedBytes = list.get(1);
+      pigeonResult.setAllocatedBytes(
+          (allocatedBytes == null)
+              ? null
+              : ((allocatedBytes instanceof Integer)
+                  ? (Integer) allocatedBytes
+                  : (Long) allocatedBytes));
+      Object backBufferDurationMs = list.get(2);
+      pigeonResult.setBackBufferDurationMs(
+          (backBufferDurationMs == null)
+              ? null
+              : ((backBufferDurationMs instanceof Integer)
+                  ? (Integer) backBufferDurationMs
+                  : (Long) backBufferDurationMs));
+      Object bufferedAheadMs = list.get(3);
+      pigeonResult.setBufferedAheadMs(
+          (bufferedAheadMs == null)
+              ? null
+              : ((bufferedAheadMs instanceof Integer)
+                  ? (Integer) bufferedAheadMs
+                  : (Long) bufferedAheadMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class BandwidthEstimateMessage {
+    private @Nullable Long bitrateEstimate;
+
+    public @Nullable Long getBitrateEstimate() {
+      return bitrateEstimate;
+    }
+
+    public void setBitrateEstimate(@Nullable Long setterArg) {
+      this.bitrateEstimate = setterArg;
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long bitrateEstimate;
+
+      public @NonNull Builder setBitrateEstimate(@Nullable Long setterArg) {
+        this.bitrateEstimate = setterArg;
+        return this;
+      }
+
+      public @NonNull BandwidthEstimateMessage build() {
+        BandwidthEstimateMessage pigeonReturn = new BandwidthEstimateMessage();
+        pigeonReturn.setBitrateEstimate(bitrateEstimate);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(bitrateEstimate);
+      return toListResult;
+    }
+
+    static @NonNull BandwidthEstimateMessage fromList(@NonNull ArrayList<Object> list) {
+      BandwidthEstimateMessage pigeonResult = new BandwidthEstimateMessage();
+      Object bitrateEstimate = list.get(0);
+      pigeonResult.setBitrateEstimate(
+          (bitrateEstimate == null)
+              ? null
+              : ((bitrateEstimate instanceof Integer)
+                  ? (Integer) bitrateEstimate
+                  : (Long) bitrateEstimate));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class MediaCacheConfigMessage {
+    private @NonNull Long maxBytes;
+
+    public @NonNull Long getMaxBytes() {
+      return maxBytes;
+    }
+
+    public void setMaxBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxBytes\" is null.");
+      }
+      this.maxBytes = setterArg;
+    }
+
+    private @NonNull List<String> strippedParameters;
+
+    public @NonNull List<String> getStrippedParameters() {
+      return strippedParameters;
+    }
+
+    public void setStrippedParameters(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"strippedParameters\" is null.");
+      }
+      this.strippedParameters = setterArg;
+    }
+
+    private @Nullable String rewritePattern;
+
+    public @Nullable String getRewritePattern() {
+      return rewritePattern;
+    }
+
+    public void setRewritePattern(@Nullable String setterArg) {
+      this.rewritePattern = setterArg;
+    }
+
+    private @Nullable String rewriteReplacement;
+
+    public @Nullable String getRewriteReplacement() {
+      return rewriteReplacement;
+    }
+
+    public void setRewriteReplacement(@Nullable String setterArg) {
+      this.rewriteReplacement = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MediaCacheConfigMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxBytes;
+
+      public @NonNull Builder setMaxBytes(@NonNull Long setterArg) {
+        this.maxBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> strippedParameters;
+
+      public @NonNull Builder setStrippedParameters(@NonNull List<String> setterArg) {
+        this.strippedParameters = setterArg;
+        return this;
+      }
+
+      private @Nullable String rewritePattern;
+
+      public @NonNull Builder setRewritePattern(@Nullable String setterArg) {
+        this.rewritePattern = setterArg;
+        return this;
+      }
+
+      private @Nullable String rewriteReplacement;
+
+      public @NonNull Builder setRewriteReplacement(@Nullable String setterArg) {
+        this.rewriteReplacement = setterArg;
+        return this;
+      }
+
+      public @NonNull MediaCacheConfigMessage build() {
+        MediaCacheConfigMessage pigeonReturn = new MediaCacheConfigMessage();
+        pigeonReturn.setMaxBytes(maxBytes);
+        pigeonReturn.setStrippedParameters(strippedParameters);
+        pigeonReturn.setRewritePattern(rewritePattern);
+        pigeonReturn.setRewriteReplacement(rewriteReplacement);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(maxBytes);
+      toListResult.add(strippedParameters);
+      toListResult.add(rewritePattern);
+      toListResult.add(rewriteReplacement);
+      return toListResult;
+    }
+
+    static @NonNull MediaCacheConfigMessage fromList(@NonNull ArrayList<Object> list) {
+      MediaCacheConfigMessage pigeonResult = new MediaCacheConfigMessage();
+      Object maxBytes = list.get(0);
+      pigeonResult.setMaxBytes(
+          (maxBytes == null)
+              ? null
+              : ((maxBytes instanceof Integer) ? (Integer) maxBytes : (Long) maxBytes));
+      Object strippedParameters = list.get(1);
+      pigeonResult.setStrippedParameters((List<String>) strippedParameters);
+      Object rewritePattern = list.get(2);
+      pigeonResult.setRewritePattern((String) rewritePattern);
+      Object rewriteReplacement = list.get(3);
+      pigeonResult.setRewriteReplacement((String) rewriteReplacement);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class MediaCacheStatsMessage {
+    private @NonNull Long requests;
+
+    public @NonNull Long getRequests() {
+      return requests;
+    }
+
+    public void setRequests(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"requests\" is null.");
+      }
+      this.requests = setterArg;
+    }
+
+    private @NonNull Long variantRequests;
+
+    public @NonNull Long getVariantRequests() {
+      return variantRequests;
+    }
+
+    public void setVariantRequests(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"variantRequests\" is null.");
+      }
+      this.variantRequests = setterArg;
+    }
+
+    private @NonNull Long dedupHits;
+
+    public @NonNull Long getDedupHits() {
+      return dedupHits;
+    }
+
+    public void setDedupHits(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"dedupHits\" is null.");
+      }
+      this.dedupHits = setterArg;
+    }
+
+    private @NonNull Long cachedBytesRead;
+
+    public @NonNull Long getCachedBytesRead() {
+      return cachedBytesRead;
+    }
+
+    public void setCachedBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cachedBytesRead\" is null.");
+      }
+      this.cachedBytesRead = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MediaCacheStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long requests;
+
+      public @NonNull Builder setRequests(@NonNull Long setterArg) {
+        this.requests = setterArg;
+        return this;
+      }
+
+      private @Nullable Long variantRequests;
+
+      public @NonNull Builder setVariantRequests(@NonNull Long setterArg) {
+        this.variantRequests = setterArg;
+        return this;
+      }
+
+      private @Nullable Long dedupHits;
+
+      public @NonNull Builder setDedupHits(@NonNull Long setterArg) {
+        this.dedupHits = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cachedBytesRead;
+
+      public @NonNull Builder setCachedBytesRead(@NonNull Long setterArg) {
+        this.cachedBytesRead = setterArg;
+        return this;
+      }
+
+      public @NonNull MediaCacheStatsMessage build() {
+        MediaCacheStatsMessage pigeonReturn = new MediaCacheStatsMessage();
+        pigeonReturn.setRequests(requests);
+        pigeonReturn.setVariantRequests(variantRequests);
+        pigeonReturn.setDedupHits(dedupHits);
+        pigeonReturn.setCachedBytesRead(cachedBytesRead);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(requests);
+      toListResult.add(variantRequests);
+      toListResult.add(dedupHits);
+      toListResult.add(cachedBytesRead);
+      return toListResult;
+    }
+
+    static @NonNull MediaCacheStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      MediaCacheStatsMessage pigeonResult = new MediaCacheStatsMessage();
+      Object requests = list.get(0);
+      pigeonResult.setRequests(
+          (requests == null)
+              ? null
+              : ((requests instanceof Integer) ? (Integer) requests : (Long) requests));
+      Object variantRequests = list.get(1);
+      pigeonResult.setVariantRequests(
+          (variantRequests == null)
+              ? null
+              : ((variantRequests instanceof Integer)
+                  ? (Integer) variantRequests
+                  : (Long) variantRequests));
+      Object dedupHits = list.get(2);
+      pigeonResult.setDedupHits(
+          (dedupHits == null)
+              ? null
+              : ((dedupHits instanceof Integer) ? (Integer) dedupHits : (Long) dedupHits));
+      Object cachedBytesRead = list.get(3);
+      pigeonResult.setCachedBytesRead(
+          (cachedBytesRead == null)
+              ? null
+              : ((cachedBytesRead instanceof Integer)
+                  ? (Integer) cachedBytesRead
+                  : (Long) cachedBytesRead));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CompressionStatsMessage {
+    private @NonNull Long compressedResponses;
+
+    public @NonNull Long getCompressedResponses() {
+      return compressedResponses;
+    }
+
+    public void setCompressedResponses(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"compressedResponses\" is null.");
+      }
+      this.compressedResponses = setterArg;
+    }
+
+    private @NonNull Long compressedBytes;
+
+    public @NonNull Long getCompressedBytes() {
+      return compressedBytes;
+    }
+
+    public void setCompressedBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"compressedBytes\" is null.");
+      }
+      this.compressedBytes = setterArg;
+    }
+
+    private @NonNull Long decompressedBytes;
+
+    public @NonNull Long getDecompressedBytes() {
+      return decompressedBytes;
+    }
+
+    public void setDecompressedBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"decompressedBytes\" is null.");
+      }
+      this.decompressedBytes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CompressionStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long compressedResponses;
+
+      public @NonNull Builder setCompressedResponses(@NonNull Long setterArg) {
+        this.compressedResponses = setterArg;
+        return this;
+      }
+
+      private @Nullable Long compressedBytes;
+
+      public @NonNull Builder setCompressedBytes(@NonNull Long setterArg) {
+        this.compressedBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long decompressedBytes;
+
+      public @NonNull Builder setDecompressedBytes(@NonNull Long setterArg) {
+        this.decompressedBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull CompressionStatsMessage build() {
+        CompressionStatsMessage pigeonReturn = new CompressionStatsMessage();
+        pigeonReturn.setCompressedResponses(compressedResponses);
+        pigeonReturn.setCompressedBytes(compressedBytes);
+        pigeonReturn.setDecompressedBytes(decompressedBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(compressedResponses);
+      toListResult.add(compressedBytes);
+      toListResult.add(decompressedBytes);
+      return toListResult;
+    }
+
+    static @NonNull CompressionStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      CompressionStatsMessage pigeonResult = new CompressionStatsMessage();
+      Object compressedResponses = list.get(0);
+      pigeonResult.setCompressedResponses(
+          (compressedResponses == null)
+              ? null
+              : ((compressedResponses instanceof Integer)
+                  ? (Integer) compressedResponses
+                  : (Long) compressedResponses));
+      Object compressedBytes = list.get(1);
+      pigeonResult.setCompressedBytes(
+          (compressedBytes == null)
+              ? null
+              : ((compressedBytes instanceof Integer)
+                  ? (Integer) compressedBytes
+                  : (Long) compressedBytes));
+      Object decompressedBytes = list.get(2);
+      pigeonResult.setDecompressedBytes(
+          (decompressedBytes == null)
+              ? null
+              : ((decompressedBytes instanceof Integer)
+                  ? (Integer) decompressedBytes
+                  : (Long) decompressedBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadRequestMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @Nullable String formatHint;
+
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
+
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    private @Nullable Long maxVideoHeight;
+
+    public @Nullable Long getMaxVideoHeight() {
+      return maxVideoHeight;
+    }
+
+    public void setMaxVideoHeight(@Nullable Long setterArg) {
+      this.maxVideoHeight = setterArg;
+    }
+
+    private @Nullable Long maxVideoBitrate;
+
+    public @Nullable Long getMaxVideoBitrate() {
+      return maxVideoBitrate;
+    }
+
+    public void setMaxVideoBitrate(@Nullable Long setterArg) {
+      this.maxVideoBitrate = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadRequestMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoHeight;
+
+      public @NonNull Builder setMaxVideoHeight(@Nullable Long setterArg) {
+        this.maxVideoHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoBitrate;
+
+      public @NonNull Builder setMaxVideoBitrate(@Nullable Long setterArg) {
+        this.maxVideoBitrate = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadRequestMessage build() {
+        DownloadRequestMessage pigeonReturn = new DownloadRequestMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setFormatHint(formatHint);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        pigeonReturn.setMaxVideoHeight(maxVideoHeight);
+        pigeonReturn.setMaxVideoBitrate(maxVideoBitrate);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(5);
+      toListResult.add(uri);
+      toListResult.add(formatHint);
+      toListResult.add(httpHeaders);
+      toListResult.add(maxVideoHeight);
+      toListResult.add(maxVideoBitrate);
+      return toListResult;
+    }
+
+    static @NonNull DownloadRequestMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadRequestMessage pigeonResult = new DownloadRequestMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object formatHint = list.get(1);
+      pigeonResult.setFormatHint((String) formatHint);
+      Object httpHeaders = list.get(2);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      Object maxVideoHeight = list.get(3);
+      pigeonResult.setMaxVideoHeight(
+          (maxVideoHeight == null)
+              ? null
+              : ((maxVideoHeight instanceof Integer)
+                  ? (Integer) maxVideoHeight
+                  : (Long) maxVideoHeight));
+      Object maxVideoBitrate = list.get(4);
+      pigeonResult.setMaxVideoBitrate(
+          (maxVideoBitrate == null)
+              ? null
+              : ((maxVideoBitrate instanceof Integer)
+                  ? (Integer) maxVideoBitrate
+                  : (Long) maxVideoBitrate));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadIdMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @Nullable Map<String, String> httpHeaders;
+
+    public @Nullable Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@Nullable Map<String, String> setterArg) {
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadIdMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@Nullable Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadIdMessage build() {
+        DownloadIdMessage pigeonReturn = new DownloadIdMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(uri);
+      toListResult.add(httpHeaders);
+      return toListResult;
+    }
+
+    static @NonNull DownloadIdMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadIdMessage pigeonResult = new DownloadIdMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object httpHeaders = list.get(1);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long state;
+
+    public @NonNull Long getState() {
+      return state;
+    }
+
+    public void setState(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"state\" is null.");
+      }
+      this.state = setterArg;
+    }
+
+    private @NonNull Long bytesDownloaded;
+
+    public @NonNull Long getBytesDownloaded() {
+      return bytesDownloaded;
+    }
+
+    public void setBytesDownloaded(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytesDownloaded\" is null.");
+      }
+      this.bytesDownloaded = setterArg;
+    }
+
+    private @Nullable Long contentLength;
+
+    public @Nullable Long getContentLength() {
+      return contentLength;
+    }
+
+    public void setContentLength(@Nullable Long setterArg) {
+      this.contentLength = setterArg;
+    }
+
+    private @Nullable Double percentDownloaded;
+
+    public @Nullable Double getPercentDownloaded() {
+      return percentDownloaded;
+    }
+
+    public void setPercentDownloaded(@Nullable Double setterArg) {
+      this.percentDownloaded = setterArg;
+    }
+
+    private @NonNull Boolean isPaused;
+
+    public @NonNull Boolean getIsPaused() {
+      return isPaused;
+    }
+
+    public void setIsPaused(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isPaused\" is null.");
+      }
+      this.isPaused = setterArg;
+    }
+
+    private @Nullable Boolean needsCredentials;
+
+    public @Nullable Boolean getNeedsCredentials() {
+      return needsCredentials;
+    }
+
+    public void setNeedsCredentials(@Nullable Boolean setterArg) {
+      this.needsCredentials = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long state;
+
+      public @NonNull Builder setState(@NonNull Long setterArg) {
+        this.state = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytesDownloaded;
+
+      public @NonNull Builder setBytesDownloaded(@NonNull Long setterArg) {
+        this.bytesDownloaded = setterArg;
+        return this;
+      }
+
+      private @Nullable Long contentLength;
+
+      public @NonNull Builder setContentLength(@Nullable Long setterArg) {
+        this.contentLength = setterArg;
+        return this;
+      }
+
+      private @Nullable Double percentDownloaded;
+
+      public @NonNull Builder setPercentDownloaded(@Nullable Double setterArg) {
+        this.percentDownloaded = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isPaused;
+
+      public @NonNull Builder setIsPaused(@NonNull Boolean setterArg) {
+        this.isPaused = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean needsCredentials;
+
+      public @NonNull Builder setNeedsCredentials(@Nullable Boolean setterArg) {
+        this.needsCredentials = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadMessage build() {
+        DownloadMessage pigeonReturn = new DownloadMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setState(state);
+        pigeonReturn.setBytesDownloaded(bytesDownloaded);
+        pigeonReturn.setContentLength(contentLength);
+        pigeonReturn.setPercentDownloaded(percentDownloaded);
+        pigeonReturn.setIsPaused(isPaused);
+        pigeonReturn.setNeedsCredentials(needsCredentials);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(7);
+      toListResult.add(uri);
+      toListResult.add(state);
+      toListResult.add(bytesDownloaded);
+      toListResult.add(contentLength);
+      toListResult.add(percentDownloaded);
+      toListResult.add(isPaused);
+      toListResult.add(needsCredentials);
+      return toListResult;
+    }
+
+    static @NonNull DownloadMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadMessage pigeonResult = new DownloadMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object state = list.get(1);
+      pigeonResult.setState(
+          (state == null)
+              ? null
+              : ((state instanceof Integer) ? (Integer) state : (Long) state));
+      Object bytesDownloaded = list.get(2);
+      pigeonResult.setBytesDownloaded(
+          (bytesDownloaded == null)
+              ? null
+              : ((bytesDownloaded instanceof Integer)
+                  ? (Integer) bytesDownloaded
+                  : (Long) bytesDownloaded));
+      Object contentLength = list.get(3);
+      pigeonResult.setContentLength(
+          (contentLength == null)
+              ? null
+              : ((contentLength instanceof Integer)
+                  ? (Integer) contentLength
+                  : (Long) contentLength));
+      Object percentDownloaded = list.get(4);
+      pigeonResult.setPercentDownloaded((Double) percentDownloaded);
+      Object isPaused = list.get(5);
+      pigeonResult.setIsPaused((Boolean) isPaused);
+      Object needsCredentials = list.get(6);
+      pigeonResult.setNeedsCredentials((Boolean) needsCredentials);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadsMessage {
+    private @NonNull List<DownloadMessage> downloads;
+
+    public @NonNull List<DownloadMessage> getDownloads() {
+      return downloads;
+    }
+
+    public void setDownloads(@NonNull List<DownloadMessage> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"downloads\" is null.");
+      }
+      this.downloads = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable List<DownloadMessage> downloads;
+
+      public @NonNull Builder setDownloads(@NonNull List<DownloadMessage> setterArg) {
+        this.downloads = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadsMessage build() {
+        DownloadsMessage pigeonReturn = new DownloadsMessage();
+        pigeonReturn.setDownloads(downloads);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(downloads);
+      return toListResult;
+    }
+
+    static @NonNull DownloadsMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadsMessage pigeonResult = new DownloadsMessage();
+      Object downloads = list.get(0);
+      pigeonResult.setDownloads((List<DownloadMessage>) downloads);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class DownloadLimitMessage {
+    private @NonNull Long maxParallelDownloads;
+
+    public @NonNull Long getMaxParallelDownloads() {
+      return maxParallelDownloads;
+    }
+
+    public void setMaxParallelDownloads(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxParallelDownloads\" is null.");
+      }
+      this.maxParallelDownloads = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    DownloadLimitMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxParallelDownloads;
+
+      public @NonNull Builder setMaxParallelDownloads(@NonNull Long setterArg) {
+        this.maxParallelDownloads = setterArg;
+        return this;
+      }
+
+      public @NonNull DownloadLimitMessage build() {
+        DownloadLimitMessage pigeonReturn = new DownloadLimitMessage();
+        pigeonReturn.setMaxParallelDownloads(maxParallelDownloads);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(maxParallelDownloads);
+      return toListResult;
+    }
+
+    static @NonNull DownloadLimitMessage fromList(@NonNull ArrayList<Object> list) {
+      DownloadLimitMessage pigeonResult = new DownloadLimitMessage();
+      Object maxParallelDownloads = list.get(0);
+      pigeonResult.setMaxParallelDownloads(
+          (maxParallelDownloads == null)
+              ? null
+              : ((maxParallelDownloads instanceof Integer)
+                  ? (Integer) maxParallelDownloads
+                  : (Long) maxParallelDownloads));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ThumbnailRequestMessage {
+    private @Nullable Long textureId;
+
+    public @Nullable Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@Nullable Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private @Nullable String uri;
+
+    public @Nullable String getUri() {
+      return uri;
+    }
+
+    public void setUri(@Nullable String setterArg) {
+      this.uri = setterArg;
+    }
+
+    private @Nullable String formatHint;
+
+    public @Nullable String getFormatHint() {
+      return formatHint;
+    }
+
+    public void setFormatHint(@Nullable String setterArg) {
+      this.formatHint = setterArg;
+    }
+
+    private @Nullable Map<String, String> httpHeaders;
+
+    public @Nullable Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@Nullable Map<String, String> setterArg) {
+      this.httpHeaders = setterArg;
+    }
+
+    private @NonNull List<Long> positions;
+
+    public @NonNull List<Long> getPositions() {
+      return positions;
+    }
+
+    public void setPositions(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"positions\" is null.");
+      }
+      this.positions = setterArg;
+    }
+
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ThumbnailRequestMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@Nullable Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@Nullable String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String formatHint;
+
+      public @NonNull Builder setFormatHint(@Nullable String setterArg) {
+        this.formatHint = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@Nullable Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> positions;
+
+      public @NonNull Builder setPositions(@NonNull List<Long> setterArg) {
+        this.positions = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
+        return this;
+      }
+
+      public @NonNull ThumbnailRequestMessage build() {
+        ThumbnailRequestMessage pigeonReturn = new ThumbnailRequestMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setFormatHint(formatHint);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        pigeonReturn.setPositions(positions);
+        pigeonReturn.setMaxSize(maxSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(textureId);
+      toListResult.add(uri);
+      toListResult.add(formatHint);
+      toListResult.add(httpHeaders);
+      toListResult.add(positions);
+      toListResult.add(maxSize);
+      return toListResult;
+    }
+
+    static @NonNull ThumbnailRequestMessage fromList(@NonNull ArrayList<Object> list) {
+      ThumbnailRequestMessage pigeonResult = new ThumbnailRequestMessage();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object uri = list.get(1);
+      pigeonResult.setUri((String) uri);
+      Object formatHint = list.get(2);
+      pigeonResult.setFormatHint((String) formatHint);
+      Object httpHeaders = list.get(3);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      Object positions = list.get(4);
+      pigeonResult.setPositions((List<Long>) positions);
+      Object maxSize = list.get(5);
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ThumbnailsMessage {
+    private @NonNull List<byte[]> thumbnails;
+
+    public @NonNull List<byte[]> getThumbnails() {
+      return thumbnails;
+    }
+
+    public void setThumbnails(@NonNull List<byte[]> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"thumbnails\" is null.");
+      }
+      this.thumbnails = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ThumbnailsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable List<byte[]> thumbnails;
+
+      public @NonNull Builder setThumbnails(@NonNull List<byte[]> setterArg) {
+        this.thumbnails = setterArg;
+        return this;
+      }
+
+      public @NonNull ThumbnailsMessage build() {
+        ThumbnailsMessage pigeonReturn = new ThumbnailsMessage();
+        pigeonReturn.setThumbnails(thumbnails);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(thumbnails);
+      return toListResult;
+    }
+
+    static @NonNull ThumbnailsMessage fromList(@NonNull ArrayList<Object> list) {
+      ThumbnailsMessage pigeonResult = new ThumbnailsMessage();
+      Object thumbnails = list.get(0);
+      pigeonResult.setThumbnails((List<byte[]>) thumbnails);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PosterFrameConfigMessage {
+    private @NonNull Long maxDiskBytes;
+
+    public @NonNull Long getMaxDiskBytes() {
+      return maxDiskBytes;
+    }
+
+    public void setMaxDiskBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxDiskBytes\" is null.");
+      }
+      this.maxDiskBytes = setterArg;
+    }
+
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PosterFrameConfigMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxDiskBytes;
+
+      public @NonNull Builder setMaxDiskBytes(@NonNull Long setterArg) {
+        this.maxDiskBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
+        return this;
+      }
+
+      public @NonNull PosterFrameConfigMessage build() {
+        PosterFrameConfigMessage pigeonReturn = new PosterFrameConfigMessage();
+        pigeonReturn.setMaxDiskBytes(maxDiskBytes);
+        pigeonReturn.setMaxSize(maxSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(maxDiskBytes);
+      toListResult.add(maxSize);
+      return toListResult;
+    }
+
+    static @NonNull PosterFrameConfigMessage fromList(@NonNull ArrayList<Object> list) {
+      PosterFrameConfigMessage pigeonResult = new PosterFrameConfigMessage();
+      Object maxDiskBytes = list.get(0);
+      pigeonResult.setMaxDiskBytes(
+          (maxDiskBytes == null)
+              ? null
+              : ((maxDiskBytes instanceof Integer) ? (Integer) maxDiskBytes : (Long) maxDiskBytes));
+      Object maxSize = list.get(1);
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PosterFrameRequestMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @Nullable Long position;
+
+    public @Nullable Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@Nullable Long setterArg) {
+      this.position = setterArg;
+    }
+
+    private @Nullable String cacheContentId;
+
+    public @Nullable String getCacheContentId() {
+      return cacheContentId;
+    }
+
+    public void setCacheContentId(@Nullable String setterArg) {
+      this.cacheContentId = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PosterFrameRequestMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      public @NonNull Builder setPosition(@Nullable Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable String cacheContentId;
+
+      public @NonNull Builder setCacheContentId(@Nullable String setterArg) {
+        this.cacheContentId = setterArg;
+        return this;
+      }
+
+      public @NonNull PosterFrameRequestMessage build() {
+        PosterFrameRequestMessage pigeonReturn = new PosterFrameRequestMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setCacheContentId(cacheContentId);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(uri);
+      toListResult.add(position);
+      toListResult.add(cacheContentId);
+      return toListResult;
+    }
+
+    static @NonNull PosterFrameRequestMessage fromList(@NonNull ArrayList<Object> list) {
+      PosterFrameRequestMessage pigeonResult = new PosterFrameRequestMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object position = list.get(1);
+      pigeonResult.setPosition(
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position));
+      Object cacheContentId = list.get(2);
+      pigeonResult.setCacheContentId((String) cacheContentId);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PosterFrameMessage {
+    private @Nullable byte[] bytes;
+
+    public @Nullable byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@Nullable byte[] setterArg) {
+      this.bytes = setterArg;
+    }
+
+    private @Nullable Long position;
+
+    public @Nullable Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@Nullable Long setterArg) {
+      this.position = setterArg;
+    }
+
+    public static final class Builder {
+
+      private @Nullable byte[] bytes;
+
+      public @NonNull Builder setBytes(@Nullable byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      public @NonNull Builder setPosition(@Nullable Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      public @NonNull PosterFrameMessage build() {
+        PosterFrameMessage pigeonReturn = new PosterFrameMessage();
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setPosition(position);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(bytes);
+      toListResult.add(position);
+      return toListResult;
+    }
+
+    static @NonNull PosterFrameMessage fromList(@NonNull ArrayList<Object> list) {
+      PosterFrameMessage pigeonResult = new PosterFrameMessage();
+      Object bytes = list.get(0);
+      pigeonResult.setBytes((byte[]) bytes);
+      Object position = list.get(1);
+      pigeonResult.setPosition(
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerCommand {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @Nullable Boolean isLooping;
+
+    public @Nullable Boolean getIsLooping() {
+      return isLooping;
+    }
+
+    public void setIsLooping(@Nullable Boolean setterArg) {
+      this.isLooping = setterArg;
+    }
+
+    private @Nullable Double volume;
+
+    public @Nullable Double getVolume() {
+      return volume;
+    }
+
+    public void setVolume(@Nullable Double setterArg) {
+      this.volume = setterArg;
+    }
+
+    private @Nullable Double speed;
+
+    public @Nullable Double getSpeed() {
+      return speed;
+    }
+
+    public void setSpeed(@Nullable Double setterArg) {
+      this.speed = setterArg;
+    }
+
+    private @Nullable Long position;
+
+    public @Nullable Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@Nullable Long setterArg) {
+      this.position = setterArg;
+    }
+
+    private @Nullable Boolean playWhenReady;
+
+    public @Nullable Boolean getPlayWhenReady() {
+      return playWhenReady;
+    }
+
+    public void setPlayWhenReady(@Nullable Boolean setterArg) {
+      this.playWhenReady = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerCommand() {}
+
+    public static final class Builder {
+
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isLooping;
+
+      public @NonNull Builder setIsLooping(@Nullable Boolean setterArg) {
+        this.isLooping = setterArg;
+        return this;
+      }
+
+      private @Nullable Double volume;
+
+      public @NonNull Builder setVolume(@Nullable Double setterArg) {
+        this.volume = setterArg;
+        return this;
+      }
+
+      private @Nullable Double speed;
+
+      public @NonNull Builder setSpeed(@Nullable Double setterArg) {
+        this.speed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      public @NonNull Builder setPosition(@Nullable Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean playWhenReady;
+
+      public @NonNull Builder setPlayWhenReady(@Nullable Boolean setterArg) {
+        this.playWhenReady = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerCommand build() {
+        PlayerCommand pigeonReturn = new PlayerCommand();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIsLooping(isLooping);
+        pigeonReturn.setVolume(volume);
+        pigeonReturn.setSpeed(speed);
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setPlayWhenReady(playWhenReady);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(textureId);
+      toListResult.add(isLooping);
+      toListResult.add(volume);
+      toListResult.add(speed);
+      toListResult.add(position);
+      toListResult.add(playWhenReady);
+      return toListResult;
+    }
+
+    static @NonNull PlayerCommand fromList(@NonNull ArrayList<Object> list) {
+      PlayerCommand pigeonResult = new PlayerCommand();
+      Object textureId = list.get(0);
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object isLooping = list.get(1);
+      pigeonResult.setIsLooping((Boolean) isLooping);
+      Object volume = list.get(2);
+      pigeonResult.setVolume((Double) volume);
+      Object speed = list.get(3);
+      pigeonResult.setSpeed((Double) speed);
+      Object position = list.get(4);
+      pigeonResult.setPosition(
+          (position == null)
+              ? null
+              : ((position instanceof Integer) ? (Integer) position : (Long) position));
+      Object playWhenReady = list.get(5);
+      pigeonResult.setPlayWhenReady((Boolean) playWhenReady);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerCommandsMessage {
+    private @NonNull List<PlayerCommand> commands;
+
+    public @NonNull List<PlayerCommand> getCommands() {
+      return commands;
+    }
+
+    public void setCommands(@NonNull List<PlayerCommand> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"commands\" is null.");
+      }
+      this.commands = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerCommandsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable List<PlayerCommand> commands;
+
+      public @NonNull Builder setCommands(@NonNull List<PlayerCommand> setterArg) {
+        this.commands = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerCommandsMessage build() {
+        PlayerCommandsMessage pigeonReturn = new PlayerCommandsMessage();
+        pigeonReturn.setCommands(commands);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(commands);
+      return toListResult;
+    }
+
+    static @NonNull PlayerCommandsMessage fromList(@NonNull ArrayList<Object> list) {
+      PlayerCommandsMessage pigeonResult = new PlayerCommandsMessage();
+      Object commands = list.get(0);
+      pigeonResult.setCommands((List<PlayerCommand>) commands);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class MixWithOthersMessage {
+    private @NonNull Boolean mixWithOthers;
+
+    public @NonNull Boolean getMixWithOthers() {
+      return mixWithOthers;
+    }
+
+    public void setMixWithOthers(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"mixWithOthers\" is null.");
+      }
+      this.mixWithOthers = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MixWithOthersMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Boolean mixWithOthers;
+
+      public @NonNull Builder setMixWithOthers(@NonNull Boolean setterArg) {
+        this.mixWithOthers = setterArg;
+        return this;
+      }
+
+      public @NonNull MixWithOthersMessage build() {
+        MixWithOthersMessage pigeonReturn = new MixWithOthersMessage();
+        pigeonReturn.setMixWithOthers(mixWithOthers);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(mixWithOthers);
+      return toListResult;
+    }
+
+    static @NonNull MixWithOthersMessage fromList(@NonNull ArrayList<Object> list) {
+      MixWithOthersMessage pigeonResult = new MixWithOthersMessage();
+      Object mixWithOthers = list.get(0);
+      pigeonResult.setMixWithOthers((Boolean) mixWithOthers);
+      return pigeonResult;
+    }
+  }
+
+  public interface Result<T> {
+    void success(T result);
+
+    void error(@NonNull Throwable error);
+  }
+
+  private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
+    public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
+
+    private AndroidVideoPlayerApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return BandwidthEstimateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
+          return BandwidthMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return BufferStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 131:
+          return CompressionStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 132:
+          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 133:
+          return DownloadIdMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 134:
+          return DownloadLimitMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
+          return DownloadMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return DownloadRequestMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return DownloadsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return GroupCreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return GroupMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return GroupPositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return GroupSyncStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return MediaCacheConfigMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return MediaCacheStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 147:
+          return PlayerCommand.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 148:
+          return PlayerCommandsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 149:
+          return PlaylistItemMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 150:
+          return PlaylistItemsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 151:
+          return PlaylistRangeMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 152:
+          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 153:
+          return PosterFrameConfigMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 154:
+          return PosterFrameMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 155:
+          return PosterFrameRequestMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 156:
+          return PreparationLimitMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 157:
+          return PriorityMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 158:
+          return ScrubbingMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 159:
+          return SelectedTrackMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 160:
+          return SelectedTracksMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 161:
+          return SnapshotMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 162:
+          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 163:
+          return ThumbnailRequestMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 164:
+          return ThumbnailsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 165:
+          return TrackPreferencesMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 166:
+          return TrackSelectionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 167:
+          return VideoEnabledMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 168:
+          return VolumeMessage.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof BandwidthEstimateMessage) {
+        stream.write(128);
+        writeValue(stream, ((BandwidthEstimateMessage) value).toList());
+      } else if (value instanceof BandwidthMessage) {
+        stream.write(129);
+        writeValue(stream, ((BandwidthMessage) value).toList());
+      } else if (value instanceof BufferStatsMessage) {
+        stream.write(130);
+        writeValue(stream, ((BufferStatsMessage) value).toList());
+      } else if (value instanceof CompressionStatsMessage) {
+        stream.write(131);
+        writeValue(stream, ((CompressionStatsMessage) value).toList());
+      } else if (value instanceof CreateMessage) {
+        stream.write(132);
+        writeValue(stream, ((CreateMessage) value).toList());
+      } else if (value instanceof DownloadIdMessage) {
+        stream.write(133);
+        writeValue(stream, ((DownloadIdMessage) value).toList());
+      } else if (value instanceof DownloadLimitMessage) {
+        stream.write(134);
+        writeValue(stream, ((DownloadLimitMessage) value).toList());
+      } else if (value instanceof DownloadMessage) {
+        stream.write(135);
+        writeValue(stream, ((DownloadMessage) value).toList());
+      } else if (value instanceof DownloadRequestMessage) {
+        stream.write(136);
+        writeValue(stream, ((DownloadRequestMessage) value).toList());
+      } else if (value instanceof DownloadsMessage) {
+        stream.write(137);
+        writeValue(stream, ((DownloadsMessage) value).toList());
+      } else if (value instanceof GroupCreateMessage) {
+        stream.write(138);
+        writeValue(stream, ((GroupCreateMessage) value).toList());
+      } else if (value instanceof GroupMessage) {
+        stream.write(139);
+        writeValue(stream, ((GroupMessage) value).toList());
+      } else if (value instanceof GroupPositionMessage) {
+        stream.write(140);
+        writeValue(stream, ((GroupPositionMessage) value).toList());
+      } else if (value instanceof GroupSyncStatsMessage) {
+        stream.write(141);
+        writeValue(stream, ((GroupSyncStatsMessage) value).toList());
+      } else if (value instanceof LoopingMessage) {
+        stream.write(142);
+        writeValue(stream, ((LoopingMessage) value).toList());
+      } else if (value instanceof MediaCacheConfigMessage) {
+        stream.write(143);
+        writeValue(stream, ((MediaCacheConfigMessage) value).toList());
+      } else if (value instanceof MediaCacheStatsMessage) {
+        stream.write(144);
+        writeValue(stream, ((MediaCacheStatsMessage) value).toList());
+      } else if (value instanceof MixWithOthersMessage) {
+        stream.write(145);
+        writeValue(stream, ((MixWithOthersMessage) value).toList());
+      } else if (value instanceof PlaybackSpeedMessage) {
+        stream.write(146);
+        writeValue(stream, ((PlaybackSpeedMessage) value).toList());
+      } else if (value instanceof PlayerCommand) {
+        stream.write(147);
+        writeValue(stream, ((PlayerCommand) value).toList());
+      } else if (value instanceof PlayerCommandsMessage) {
+        stream.write(148);
+        writeValue(stream, ((PlayerCommandsMessage) value).toList());
+      } else if (value instanceof PlaylistItemMessage) {
+        stream.write(149);
+        writeValue(stream, ((PlaylistItemMessage) value).toList());
+      } else if (value instanceof PlaylistItemsMessage) {
+        stream.write(150);
+        writeValue(stream, ((PlaylistItemsMessage) value).toList());
+      } else if (value instanceof PlaylistRangeMessage) {
+        stream.write(151);
+        writeValue(stream, ((PlaylistRangeMessage) value).toList());
+      } else if (value instanceof PositionMessage) {
+        stream.write(152);
+        writeValue(stream, ((PositionMessage) value).toList());
+      } else if (value instanceof PosterFrameConfigMessage) {
+        stream.write(153);
+        writeValue(stream, ((PosterFrameConfigMessage) value).toList());
+      } else if (value instanceof PosterFrameMessage) {
+        stream.write(154);
+        writeValue(stream, ((PosterFrameMessage) value).toList());
+      } else if (value instanceof PosterFrameRequestMessage) {
+        stream.write(155);
+        writeValue(stream, ((PosterFrameRequestMessage) value).toList());
+      } else if (value instanceof PreparationLimitMessage) {
+        stream.write(156);
+        writeValue(stream, ((PreparationLimitMessage) value).toList());
+      } else if (value instanceof PriorityMessage) {
+        stream.write(157);
+        writeValue(stream, ((PriorityMessage) value).toList());
+      } else if (value instanceof ScrubbingMessage) {
+        stream.write(158);
+        writeValue(stream, ((ScrubbingMessage) value).toList());
+      } else if (value instanceof SelectedTrackMessage) {
+        stream.write(159);
+        writeValue(stream, ((SelectedTrackMessage) value).toList());
+      } else if (value instanceof SelectedTracksMessage) {
+        stream.write(160);
+        writeValue(stream, ((SelectedTracksMessage) value).toList());
+      } else if (value instanceof SnapshotMessage) {
+        stream.write(161);
+        writeValue(stream, ((SnapshotMessage) value).toList());
+      } else if (value instanceof TextureMessage) {
+        stream.write(162);
+        writeValue(stream, ((TextureMessage) value).toList());
+      } else if (value instanceof ThumbnailRequestMessage) {
+        stream.write(163);
+        writeValue(stream, ((ThumbnailRequestMessage) value).toList());
+      } else if (value instanceof ThumbnailsMessage) {
+        stream.write(164);
+        writeValue(stream, ((ThumbnailsMessage) value).toList());
+      } else if (value instanceof TrackPreferencesMessage) {
+        stream.write(165);
+        writeValue(stream, ((TrackPreferencesMessage) value).toList());
+      } else if (value instanceof TrackSelectionMessage) {
+        stream.write(166);
+        writeValue(stream, ((TrackSelectionMessage) value).toList());
+      } else if (value instanceof VideoEnabledMessage) {
+        stream.write(167);
+        writeValue(stream, ((VideoEnabledMessage) value).toList());
+      } else if (value instanceof VolumeMessage) {
+        stream.write(168);
+        writeValue(stream, ((VolumeMessage) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface AndroidVideoPlayerApi {
+
+    void initialize();
+
+    @NonNull
+    TextureMessage create(@NonNull CreateMessage msg);
+
+    void dispose(@NonNull TextureMessage msg);
+
+    void setLooping(@NonNull LoopingMessage msg);
+
+    void setVolume(@NonNull VolumeMessage msg);
+
+    void setPlaybackSpeed(@NonNull PlaybackSpeedMessage msg);
+
+    void play(@NonNull TextureMessage msg);
+
+    @NonNull
+    PositionMessage position(@NonNull TextureMessage msg);
+
+    void seekTo(@NonNull PositionMessage msg);
+
+    void setScrubbing(@NonNull ScrubbingMessage msg);
+
+    void setVideoEnabled(@NonNull VideoEnabledMessage msg);
+
+    void setTrackSelection(@NonNull TrackSelectionMessage msg);
+
+    @NonNull
+    SelectedTracksMessage getSelectedTracks(@NonNull TextureMessage msg);
+
+    @NonNull
+    SnapshotMessage getSnapshot(@NonNull TextureMessage msg);
+
+    void pause(@NonNull TextureMessage msg);
+
+    void addPlaylistItems(@NonNull PlaylistItemsMessage msg);
+
+    void removePlaylistItems(@NonNull PlaylistRangeMessage msg);
+
+    void movePlaylistItem(@NonNull PlaylistRangeMessage msg);
+
+    void applyCommands(@NonNull PlayerCommandsMessage msg);
+
+    @NonNull
+    GroupMessage createGroup(@NonNull GroupCreateMessage msg);
+
+    void disposeGroup(@NonNull GroupMessage msg);
+
+    void playGroup(@NonNull GroupMessage msg);
+
+    void pauseGroup(@NonNull GroupMessage msg);
+
+    void seekGroup(@NonNull GroupPositionMessage msg);
+
+    @NonNull
+    GroupSyncStatsMessage getGroupSyncStats(@NonNull GroupMessage msg);
+
+    void setPriority(@NonNull PriorityMessage msg);
+
+    void setMaxConcurrentPreparations(@NonNull PreparationLimitMessage msg);
+
+    @NonNull
+    BandwidthMessage getBandwidth(@NonNull TextureMessage msg);
+
+    @NonNull
+    BufferStatsMessage getBufferStats(@NonNull TextureMessage msg);
+
+    @NonNull
+    BandwidthEstimateMessage getBandwidthEstimate();
+
+    void setBandwidthEstimate(@NonNull BandwidthEstimateMessage msg);
+
+    void configureMediaCache(@NonNull MediaCacheConfigMessage msg);
+
+    @NonNull
+    MediaCacheStatsMessage getMediaCacheStats();
+
+    @NonNull
+    CompressionStatsMessage getCompressionStats();
+
+    void enqueueDownload(@NonNull DownloadRequestMessage msg, @NonNull Result<Void> result);
+
+    void pauseDownload(@NonNull DownloadIdMessage msg);
+
+    void resumeDownload(@NonNull DownloadIdMessage msg);
+
+    void removeDownload(@NonNull DownloadIdMessage msg);
+
+    void getDownloads(@NonNull Result<DownloadsMessage> result);
+
+    void setMaxParallelDownloads(@NonNull DownloadLimitMessage msg);
+
+    void setMixWithOthers(@NonNull MixWithOthersMessage msg);
+
+    void getThumbnails(
+        @NonNull ThumbnailRequestMessage msg, @NonNull Result<ThumbnailsMessage> result);
+
+    void configurePosterFrames(@NonNull PosterFrameConfigMessage msg);
+
+    void getPosterFrame(
+        @NonNull PosterFrameRequestMessage msg, @NonNull Result<PosterFrameMessage> result);
+
+    /** The codec used by AndroidVideoPlayerApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return AndroidVideoPlayerApiCodec.INSTANCE;
+    }
+    /**
+     * Sets up an instance of `AndroidVideoPlayerApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(
+        @NonNull BinaryMessenger binaryMessenger, @Nullable AndroidVideoPlayerApi api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.initialize", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  api.initialize();
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.create", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CreateMessage msgArg = (CreateMessage) args.get(0);
+                try {
+                  TextureMessage output = api.create(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.dispose", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  api.dispose(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                LoopingMessage msgArg = (LoopingMessage) args.get(0);
+                try {
+                  api.setLooping(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                VolumeMessage msgArg = (VolumeMessage) args.get(0);
+                try {
+                  api.setVolume(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlaybackSpeedMessage msgArg = (PlaybackSpeedMessage) args.get(0);
+                try {
+                  api.setPlaybackSpeed(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.play", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  api.play(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.position",
+                getCodec(),
+                taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  PositionMessage output = api.position(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PositionMessage msgArg = (PositionMessage) args.get(0);
+                try {
+                  api.seekTo(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setScrubbing",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                ScrubbingMessage msgArg = (ScrubbingMessage) args.get(0);
+                try {
+                  api.setScrubbing(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoEnabled",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                VideoEnabledMessage msgArg = (VideoEnabledMessage) args.get(0);
+                try {
+                  api.setVideoEnabled(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TrackSelectionMessage msgArg = (TrackSelectionMessage) args.get(0);
+                try {
+                  api.setTrackSelection(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getSelectedTracks",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  SelectedTracksMessage output = api.getSelectedTracks(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getSnapshot",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  SnapshotMessage output = api.getSnapshot(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pause", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  api.pause(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.addPlaylistItems",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlaylistItemsMessage msgArg = (PlaylistItemsMessage) args.get(0);
+                try {
+                  api.addPlaylistItems(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.removePlaylistItems",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlaylistRangeMessage msgArg = (PlaylistRangeMessage) args.get(0);
+                try {
+                  api.removePlaylistItems(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.movePlaylistItem",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlaylistRangeMessage msgArg = (PlaylistRangeMessage) args.get(0);
+                try {
+                  api.movePlaylistItem(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.applyCommands",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerCommandsMessage msgArg = (PlayerCommandsMessage) args.get(0);
+                try {
+                  api.applyCommands(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.createGroup",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                GroupCreateMessage msgArg = (GroupCreateMessage) args.get(0);
+                try {
+                  GroupMessage output = api.createGroup(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.disposeGroup",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                GroupMessage msgArg = (GroupMessage) args.get(0);
+                try {
+                  api.disposeGroup(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.playGroup", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                GroupMessage msgArg = (GroupMessage) args.get(0);
+                try {
+                  api.playGroup(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.initialize", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pauseGroup", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                GroupMessage msgArg = (GroupMessage) args.get(0);
                 try {
-                  api.initialize();
+                  api.pauseGroup(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -713,15 +5443,40 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekGroup", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                CreateMessage msgArg = (CreateMessage) args.get(0);
+                GroupPositionMessage msgArg = (GroupPositionMessage) args.get(0);
                 try {
-                  TextureMessage output = api.create(msgArg);
+                  api.seekGroup(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getGroupSyncStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                GroupMessage msgArg = (GroupMessage) args.get(0);
+                try {
+                  GroupSyncStatsMessage output = api.getGroupSyncStats(msgArg);
                   wrapped.add(0, output);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -736,15 +5491,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.dispose", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPriority",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                PriorityMessage msgArg = (PriorityMessage) args.get(0);
                 try {
-                  api.dispose(msgArg);
+                  api.setPriority(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -759,15 +5516,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxConcurrentPreparations",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                LoopingMessage msgArg = (LoopingMessage) args.get(0);
+                PreparationLimitMessage msgArg = (PreparationLimitMessage) args.get(0);
                 try {
-                  api.setLooping(msgArg);
+                  api.setMaxConcurrentPreparations(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -782,15 +5541,91 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidth",
+                getCodec(),
+                taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                VolumeMessage msgArg = (VolumeMessage) args.get(0);
+                TextureMessage msgArg = (TextureMessage) args.get(0);
                 try {
-                  api.setVolume(msgArg);
+                  BandwidthMessage output = api.getBandwidth(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getBufferStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                TextureMessage msgArg = (TextureMessage) args.get(0);
+                try {
+                  BufferStatsMessage output = api.getBufferStats(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidthEstimate",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  BandwidthEstimateMessage output = api.getBandwidthEstimate();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setBandwidthEstimate",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BandwidthEstimateMessage msgArg = (BandwidthEstimateMessage) args.get(0);
+                try {
+                  api.setBandwidthEstimate(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -806,16 +5641,16 @@ public class Messages {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed",
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.configureMediaCache",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PlaybackSpeedMessage msgArg = (PlaybackSpeedMessage) args.get(0);
+                MediaCacheConfigMessage msgArg = (MediaCacheConfigMessage) args.get(0);
                 try {
-                  api.setPlaybackSpeed(msgArg);
+                  api.configureMediaCache(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -830,15 +5665,94 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.play", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getMediaCacheStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  MediaCacheStatsMessage output = api.getMediaCacheStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getCompressionStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  CompressionStatsMessage output = api.getCompressionStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.enqueueDownload",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                DownloadRequestMessage msgArg = (DownloadRequestMessage) args.get(0);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.enqueueDownload(msgArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.pauseDownload",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                DownloadIdMessage msgArg = (DownloadIdMessage) args.get(0);
                 try {
-                  api.play(msgArg);
+                  api.pauseDownload(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -853,16 +5767,18 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.position", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.resumeDownload",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                DownloadIdMessage msgArg = (DownloadIdMessage) args.get(0);
                 try {
-                  PositionMessage output = api.position(msgArg);
-                  wrapped.add(0, output);
+                  api.resumeDownload(msgArg);
+                  wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
                   wrapped = wrappedError;
@@ -876,15 +5792,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                PositionMessage msgArg = (PositionMessage) args.get(0);
+                DownloadIdMessage msgArg = (DownloadIdMessage) args.get(0);
                 try {
-                  api.seekTo(msgArg);
+                  api.removeDownload(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -899,15 +5817,46 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.pause", getCodec());
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getDownloads",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                Result<DownloadsMessage> resultCallback =
+                    new Result<DownloadsMessage>() {
+                      public void success(DownloadsMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getDownloads(resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxParallelDownloads",
+                getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                TextureMessage msgArg = (TextureMessage) args.get(0);
+                DownloadLimitMessage msgArg = (DownloadLimitMessage) args.get(0);
                 try {
-                  api.pause(msgArg);
+                  api.setMaxParallelDownloads(msgArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -944,6 +5893,93 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                ThumbnailRequestMessage msgArg = (ThumbnailRequestMessage) args.get(0);
+                Result<ThumbnailsMessage> resultCallback =
+                    new Result<ThumbnailsMessage>() {
+                      public void success(ThumbnailsMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getThumbnails(msgArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.configurePosterFrames",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PosterFrameConfigMessage msgArg = (PosterFrameConfigMessage) args.get(0);
+                try {
+                  api.configurePosterFrames(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getPosterFrame",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PosterFrameRequestMessage msgArg = (PosterFrameRequestMessage) args.get(0);
+                Result<PosterFrameMessage> resultCallback =
+                    new Result<PosterFrameMessage>() {
+                      public void success(PosterFrameMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getPosterFrame(msgArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 }
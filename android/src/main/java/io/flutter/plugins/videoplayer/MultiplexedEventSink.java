@@ -0,0 +1,102 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import androidx.annotation.NonNull;
+import io.flutter.plugin.common.EventChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Delivers the events of every multiplexed player over a single plugin-wide event channel.
+ *
+ * <p>Each event is tagged with the texture id of its player, and events are sent as one list per
+ * frame instead of one platform message per event. Batches are queued until Dart listens, so a
+ * player can start producing events as soon as it is created.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the main thread.
+ */
+final class MultiplexedEventSink implements EventChannel.StreamHandler {
+  static final String CHANNEL_NAME = "flutter.io/videoPlayer/videoEvents";
+  /** Flushes without waiting for a frame when vsync is paused, e.g. in the background. */
+  private static final long MAX_BATCH_DELAY_MS = 100;
+
+  private final QueuingEventSink downstream = new QueuingEventSink();
+  private Handler handler;
+  private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> flush();
+  private final Runnable fallbackFlush = this::flush;
+  private ArrayList<Object> batch = new ArrayList<>();
+  private boolean flushScheduled;
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink sink) {
+    downstream.setDelegate(sink);
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    downstream.setDelegate(null);
+  }
+
+  /** Returns a sink whose events are tagged with {@code textureId} and batched. */
+  @NonNull
+  EventChannel.EventSink forPlayer(long textureId) {
+    return new EventChannel.EventSink() {
+      @Override
+      public void success(Object event) {
+        Map<Object, Object> tagged = new HashMap<>((Map<?, ?>) event);
+        tagged.put("textureId", textureId);
+        add(tagged);
+      }
+
+      @Override
+      public void error(String code, String message, Object details) {
+        Map<Object, Object> tagged = new HashMap<>();
+        tagged.put("textureId", textureId);
+        tagged.put("event", "error");
+        tagged.put("code", code);
+        tagged.put("message", message);
+        tagged.put("details", details);
+        add(tagged);
+      }
+
+      @Override
+      public void endOfStream() {
+        Map<Object, Object> tagged = new HashMap<>();
+        tagged.put("textureId", textureId);
+        tagged.put("event", "endOfStream");
+        add(tagged);
+      }
+    };
+  }
+
+  private void add(Object event) {
+    batch.add(event);
+    if (!flushScheduled) {
+      flushScheduled = true;
+      if (handler == null) {
+        handler = new Handler(Looper.getMainLooper());
+      }
+      Choreographer.getInstance().postFrameCallback(frameCallback);
+      handler.postDelayed(fallbackFlush, MAX_BATCH_DELAY_MS);
+    }
+  }
+
+  private void flush() {
+    if (!flushScheduled) {
+      return;
+    }
+    flushScheduled = false;
+    Choreographer.getInstance().removeFrameCallback(frameCallback);
+    handler.removeCallbacks(fallbackFlush);
+    ArrayList<Object> events = batch;
+    batch = new ArrayList<>();
+    downstream.success(events);
+  }
+}
@@ -0,0 +1,226 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps several players showing the same moment, such as the camera angles of one event.
+ *
+ * <p>The first member is the master and plays undisturbed. Several times a second, each other
+ * member is compared with the master's position: a small drift is corrected by playing slightly
+ * faster or slower, and a large one by seeking to the master's position.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the main thread.
+ */
+final class PlaybackGroup {
+  static final int DEFAULT_TOLERANCE_MS = 40;
+  /** Interval between sync checks. */
+  static final long SYNC_INTERVAL_MS = 250;
+  /** Drift beyond which a member seeks instead of changing speed. */
+  private static final long MIN_RESEEK_THRESHOLD_MS = 1000;
+  /** Drift that is corrected by changing the speed by 100%; smaller drifts scale down. */
+  private static final double CORRECTION_WINDOW_MS = 2000;
+  /** Largest change of speed used to correct drift, relative to the master's speed. */
+  private static final double MAX_SPEED_CORRECTION = 0.05;
+
+  private final List<VideoPlayer> members;
+  private final Handler handler;
+  private final long toleranceMs;
+  private final long reseekThresholdMs;
+  private final Runnable syncRunnable = this::syncAndReschedule;
+  // The speed last set on each member other than the master.
+  private final Map<VideoPlayer, Float> memberSpeeds = new HashMap<>();
+  private boolean syncing;
+
+  private long samples;
+  private long memberSamples;
+  private long errorSumMs;
+  private long maxErrorMs;
+  private long lastErrorMs;
+  private long reseeks;
+  private long speedAdjustments;
+
+  PlaybackGroup(@NonNull List<VideoPlayer> members, long toleranceMs, @NonNull Handler handler) {
+    this.members = new ArrayList<>(members);
+    this.handler = handler;
+    this.toleranceMs = toleranceMs;
+    this.reseekThresholdMs = Math.max(MIN_RESEEK_THRESHOLD_MS, 4 * toleranceMs);
+  }
+
+  /** Returns the members, master first. */
+  @NonNull
+  List<VideoPlayer> getMembers() {
+    return new ArrayList<>(members);
+  }
+
+  /** Lines the other members up with the master, then plays all of them. */
+  void play() {
+    if (members.isEmpty()) {
+      return;
+    }
+    int position = (int) members.get(0).getCurrentPosition();
+    for (int i = 1; i < members.size(); i++) {
+      members.get(i).seekTo(position);
+    }
+    for (VideoPlayer member : members) {
+      member.play();
+    }
+    startSyncing();
+  }
+
+  void pause() {
+    stopSyncing();
+    restoreMemberSpeeds();
+    for (VideoPlayer member : members) {
+      member.pause();
+    }
+  }
+
+  void seekTo(int position) {
+    for (VideoPlayer member : members) {
+      member.seekTo(position);
+    }
+  }
+
+  /** Removes a member that is being disposed; the next member becomes master if needed. */
+  void remove(@NonNull VideoPlayer player) {
+    memberSpeeds.remove(player);
+    // A follower that becomes master must not keep its correction.
+    restoreMemberSpeeds();
+    members.remove(player);
+    if (members.size() < 2) {
+      stopSyncing();
+    }
+  }
+
+  void release() {
+    stopSyncing();
+    restoreMemberSpeeds();
+    members.clear();
+  }
+
+  private void startSyncing() {
+    if (!syncing && members.size() > 1) {
+      syncing = true;
+      handler.postDelayed(syncRunnable, SYNC_INTERVAL_MS);
+    }
+  }
+
+  private void stopSyncing() {
+    syncing = false;
+    handler.removeCallbacks(syncRunnable);
+  }
+
+  private void syncAndReschedule() {
+    if (!syncing) {
+      return;
+    }
+    sync();
+    handler.postDelayed(syncRunnable, SYNC_INTERVAL_MS);
+  }
+
+  /** Measures the drift of every member and corrects it. */
+  void sync() {
+    if (members.size() < 2) {
+      return;
+    }
+    VideoPlayer master = members.get(0);
+    if (!master.isPlaying()) {
+      // Nothing to follow while the master is buffering.
+      return;
+    }
+    long masterPosition = master.getCurrentPosition();
+    float masterSpeed = master.getPlaybackSpeed();
+    long sampleMaxErrorMs = 0;
+    for (int i = 1; i < members.size(); i++) {
+      VideoPlayer member = members.get(i);
+      long errorMs = member.getCurrentPosition() - masterPosition;
+      long absErrorMs = Math.abs(errorMs);
+      errorSumMs += absErrorMs;
+      memberSamples++;
+      sampleMaxErrorMs = Math.max(sampleMaxErrorMs, absErrorMs);
+      if (!member.isPlaying()) {
+        // A buffering member is seeked once it plays again; seeking now would restart buffering.
+        continue;
+      }
+      float speed = masterSpeed;
+      if (absErrorMs > reseekThresholdMs) {
+        member.seekTo((int) masterPosition);
+        reseeks++;
+      } else if (absErrorMs > toleranceMs) {
+        double correction =
+            Math.max(
+                -MAX_SPEED_CORRECTION,
+                Math.min(MAX_SPEED_CORRECTION, errorMs / CORRECTION_WINDOW_MS));
+        speed = (float) (masterSpeed * (1 - correction));
+      }
+      setMemberSpeed(member, speed);
+    }
+    samples++;
+    lastErrorMs = sampleMaxErrorMs;
+    maxErrorMs = Math.max(maxErrorMs, sampleMaxErrorMs);
+  }
+
+  private void setMemberSpeed(VideoPlayer member, float speed) {
+    Float current = memberSpeeds.get(member);
+    if (current == null) {
+      current = member.getPlaybackSpeed();
+    }
+    if (current == speed) {
+      return;
+    }
+    memberSpeeds.put(member, speed);
+    member.setPlaybackSpeed(speed);
+    speedAdjustments++;
+  }
+
+  /** Sets every member whose speed was corrected back to the master's speed. */
+  private void restoreMemberSpeeds() {
+    if (!memberSpeeds.isEmpty()) {
+      float masterSpeed = members.get(0).getPlaybackSpeed();
+      for (Map.Entry<VideoPlayer, Float> entry : memberSpeeds.entrySet()) {
+        if (entry.getValue() != masterSpeed) {
+          entry.getKey().setPlaybackSpeed(masterSpeed);
+        }
+      }
+      memberSpeeds.clear();
+    }
+  }
+
+  /** Number of sync checks made while the master was playing. */
+  long getSampleCount() {
+    return samples;
+  }
+
+  /** Mean distance between a member and the master over all checks, in milliseconds. */
+  double getMeanErrorMs() {
+    return memberSamples == 0 ? 0 : (double) errorSumMs / memberSamples;
+  }
+
+  /** Largest distance between any member and the master seen so far, in milliseconds. */
+  long getMaxErrorMs() {
+    return maxErrorMs;
+  }
+
+  /** Largest distance between any member and the master at the last check, in milliseconds. */
+  long getLastErrorMs() {
+    return lastErrorMs;
+  }
+
+  long getReseekCount() {
+    return reseeks;
+  }
+
+  /** Number of times the speed of a member was changed to correct drift or end a correction. */
+  long getSpeedAdjustmentCount() {
+    return speedAdjustments;
+  }
+}
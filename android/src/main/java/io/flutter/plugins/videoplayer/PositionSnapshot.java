@@ -0,0 +1,52 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Player;
+
+/**
+ * An immutable record of a player's position, from which the current position can be derived on
+ * any thread without touching the player.
+ */
+final class PositionSnapshot {
+  static final PositionSnapshot INITIAL = new PositionSnapshot(0, C.TIME_UNSET, 0, 1f, false);
+
+  private final long positionMs;
+  private final long durationMs;
+  private final long capturedAtMs;
+  private final float speed;
+  private final boolean advancing;
+
+  PositionSnapshot(
+      long positionMs, long durationMs, long capturedAtMs, float speed, boolean advancing) {
+    this.positionMs = positionMs;
+    this.durationMs = durationMs;
+    this.capturedAtMs = capturedAtMs;
+    this.speed = speed;
+    this.advancing = advancing;
+  }
+
+  /** Captures the state of {@code player}; must be called on the player's application thread. */
+  @NonNull
+  static PositionSnapshot capture(@NonNull Player player, long nowMs) {
+    return new PositionSnapshot(
+        player.getCurrentPosition(),
+        player.getDuration(),
+        nowMs,
+        player.getPlaybackParameters().speed,
+        player.isPlaying());
+  }
+
+  /** Returns the position at {@code nowMs}, extrapolated if the player was playing. */
+  long positionAt(long nowMs) {
+    if (!advancing) {
+      return positionMs;
+    }
+    long position = positionMs + (long) (Math.max(0, nowMs - capturedAtMs) * speed);
+    return durationMs == C.TIME_UNSET ? position : Math.min(position, durationMs);
+  }
+}
@@ -0,0 +1,368 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+import android.view.PixelCopy;
+import android.view.Surface;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.util.Util;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps downscaled frames that players last showed, so that Flutter can display one while a new
+ * player of the same media prepares.
+ *
+ * <p>Frames are copied from the player's surface and JPEG encoded on background threads, and stored
+ * in a memory LRU cache and in a bounded directory under the app's cache directory, where the least
+ * recently used files are deleted first. They are keyed by the media's cache key, see {@link
+ * #keyNormalizer}, and position, rounded down to {@link #POSITION_BUCKET_MS}; a lookup returns the
+ * frame nearest to the requested position.
+ */
+final class PosterFrameCache {
+  private static final String TAG = "PosterFrameCache";
+  private static final String DIRECTORY = "video_player_posters";
+  private static final String EXTENSION = ".jpg";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  /** Positions within the same bucket share a frame. */
+  static final long POSITION_BUCKET_MS = 1000;
+
+  private static final int MAX_MEMORY_BYTES = 8 * 1024 * 1024;
+  private static final int JPEG_QUALITY = 80;
+
+  /** A stored frame. */
+  static final class PosterFrame {
+    final byte[] jpeg;
+    final long positionMs;
+
+    PosterFrame(@NonNull byte[] jpeg, long positionMs) {
+      this.jpeg = jpeg;
+      this.positionMs = positionMs;
+    }
+  }
+
+  /** Receives the result of {@link #get} on the main thread. */
+  interface Callback {
+    void onPosterFrame(@Nullable PosterFrame frame);
+  }
+
+  private final File directory;
+  private final long maxDiskBytes;
+  private final int maxSize;
+  private final LruCache<String, byte[]> memory;
+  private final ExecutorService executor;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  // Runs surface copies, which read back from the GPU synchronously before API 34.
+  @Nullable private HandlerThread captureThread;
+  private boolean released;
+
+  PosterFrameCache(@NonNull Context context, long maxDiskBytes, int maxSize) {
+    this(
+        new File(context.getCacheDir(), DIRECTORY),
+        maxDiskBytes,
+        maxSize,
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "VideoPlayerPosterFrames");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            }));
+  }
+
+  @VisibleForTesting
+  PosterFrameCache(
+      @NonNull File directory, long maxDiskBytes, int maxSize, @NonNull ExecutorService executor) {
+    this.directory = directory;
+    this.maxDiskBytes = maxDiskBytes;
+    this.maxSize = maxSize;
+    this.executor = executor;
+    int maxMemoryBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, MAX_MEMORY_BYTES);
+    this.memory =
+        new LruCache<String, byte[]>(maxMemoryBytes) {
+          @Override
+          protected int sizeOf(String key, byte[] value) {
+            return value.length;
+          }
+        };
+  }
+
+  long getMaxDiskBytes() {
+    return maxDiskBytes;
+  }
+
+  /** The longest side of stored frames, in pixels. */
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the normalizer of the keys that frames are stored under, matching the keys of the media
+   * cache so that frames are shared by URLs that differ only in signatures or hosts.
+   */
+  @NonNull
+  static CacheKeyNormalizer keyNormalizer(
+      @Nullable MediaCache mediaCache, @Nullable String contentId) {
+    return new CacheKeyNormalizer(
+        mediaCache != null ? mediaCache.getRules() : CacheKeyNormalizer.Rules.NONE, contentId);
+  }
+
+  /**
+   * Copies the frame last queued to {@code surface}, downscaled to {@link #getMaxSize}, on a
+   * background thread and stores it under {@code key}. Must be called on the main thread; {@code
+   * onDone} runs on the main thread once {@code surface} is no longer used.
+   */
+  @RequiresApi(Build.VERSION_CODES.N)
+  void capture(
+      @NonNull String key,
+      long positionMs,
+      @NonNull Surface surface,
+      int width,
+      int height,
+      @NonNull Runnable onDone) {
+    if (released) {
+      onDone.run();
+      return;
+    }
+    if (captureThread == null) {
+      captureThread = new HandlerThread("VideoPlayerPosterCapture", Thread.MIN_PRIORITY);
+      captureThread.start();
+    }
+    Runnable copy =
+        () -> {
+          float scale = Math.min(1f, (float) maxSize / Math.max(width, height));
+          Bitmap frame =
+              Bitmap.createBitmap(
+                  Math.max(1, Math.round(width * scale)),
+                  Math.max(1, Math.round(height * scale)),
+                  Bitmap.Config.ARGB_8888);
+          try {
+            PixelCopy.request(
+                surface,
+                frame,
+                result -> {
+                  if (result == PixelCopy.SUCCESS) {
+                    put(key, positionMs, frame);
+                  } else {
+                    frame.recycle();
+                  }
+                  onDone.run();
+                },
+                mainHandler);
+          } catch (IllegalArgumentException e) {
+            // The surface was no longer valid.
+            frame.recycle();
+            mainHandler.post(onDone);
+          }
+        };
+    if (!new Handler(captureThread.getLooper()).post(copy)) {
+      onDone.run();
+    }
+  }
+
+  /** Encodes and stores {@code frame}, then recycles it. */
+  void put(@NonNull String key, long positionMs, @NonNull Bitmap frame) {
+    if (executor.isShutdown()) {
+      // Captured while the cache was being replaced or released.
+      frame.recycle();
+      return;
+    }
+    executor.execute(
+        () -> {
+          ByteArrayOutputStream output = new ByteArrayOutputStream();
+          frame.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, output);
+          frame.recycle();
+          putEncoded(key, positionMs, output.toByteArray());
+        });
+  }
+
+  /**
+   * Passes the frame stored under {@code key} nearest to {@code positionMs}, or the most recently
+   * used one if it is null, to {@code callback}.
+   */
+  void get(@NonNull String key, @Nullable Long positionMs, @NonNull Callback callback) {
+    executor.execute(
+        () -> {
+          PosterFrame frame = find(key, positionMs);
+          mainHandler.post(() -> callback.onPosterFrame(frame));
+        });
+  }
+
+  /** Stops pending work; stored frames are kept for the next launch. */
+  void release() {
+    released = true;
+    if (captureThread != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+      // Lets started copies finish, so that their surfaces are handed back.
+      captureThread.quitSafely();
+      captureThread = null;
+    }
+    executor.shutdownNow();
+    memory.evictAll();
+  }
+
+  @VisibleForTesting
+  void putEncoded(String key, long positionMs, byte[] jpeg) {
+    String name = fileName(key, bucketStartMs(positionMs));
+    memory.put(name, jpeg);
+    if (!directory.exists() && !directory.mkdirs()) {
+      Log.w(TAG, "Failed to create " + directory);
+      return;
+    }
+    File file = new File(directory, name);
+    try {
+      OutputStream output = new FileOutputStream(file);
+      try {
+        output.write(jpeg);
+      } finally {
+        output.close();
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to store a poster frame of " + key, e);
+      return;
+    }
+    trim();
+  }
+
+  @VisibleForTesting
+  @Nullable
+  PosterFrame find(String key, @Nullable Long positionMs) {
+    String prefix = keyHash(key) + '_';
+    File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix));
+    if (files == null || files.length == 0) {
+      return null;
+    }
+    File match = null;
+    long matchPositionMs = 0;
+    for (File file : files) {
+      long filePositionMs = parsePosition(file.getName(), prefix);
+      if (filePositionMs < 0) {
+        continue;
+      }
+      boolean better;
+      if (match == null) {
+        better = true;
+      } else if (positionMs == null) {
+        better = file.lastModified() > match.lastModified();
+      } else {
+        better = Math.abs(filePositionMs - positionMs) < Math.abs(matchPositionMs - positionMs);
+      }
+      if (better) {
+        match = file;
+        matchPositionMs = filePositionMs;
+      }
+    }
+    if (match == null) {
+      return null;
+    }
+    byte[] jpeg = memory.get(match.getName());
+    if (jpeg == null) {
+      try {
+        jpeg = readFile(match);
+      } catch (IOException e) {
+        Log.w(TAG, "Failed to read a poster frame of " + key, e);
+        return null;
+      }
+      memory.put(match.getName(), jpeg);
+    }
+    // Marks the file as recently used, see trim().
+    if (!match.setLastModified(System.currentTimeMillis())) {
+      Log.w(TAG, "Failed to touch " + match);
+    }
+    return new PosterFrame(jpeg, matchPositionMs);
+  }
+
+  /** Deletes the least recently used files until the directory fits in its limit. */
+  private void trim() {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    long totalBytes = 0;
+    for (File file : files) {
+      totalBytes += file.length();
+    }
+    if (totalBytes <= maxDiskBytes) {
+      return;
+    }
+    Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File file : files) {
+      if (totalBytes <= maxDiskBytes) {
+        break;
+      }
+      long length = file.length();
+      if (file.delete()) {
+        totalBytes -= length;
+        memory.remove(file.getName());
+      }
+    }
+  }
+
+  private static byte[] readFile(File file) throws IOException {
+    InputStream input = new FileInputStream(file);
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream((int) file.length());
+      byte[] buffer = new byte[16 * 1024];
+      int bytesRead;
+      while ((bytesRead = input.read(buffer)) != -1) {
+        output.write(buffer, 0, bytesRead);
+      }
+      return output.toByteArray();
+    } finally {
+      input.close();
+    }
+  }
+
+  static long bucketStartMs(long positionMs) {
+    return Math.max(0, positionMs / POSITION_BUCKET_MS * POSITION_BUCKET_MS);
+  }
+
+  @VisibleForTesting
+  static String fileName(String key, long bucketMs) {
+    return keyHash(key) + '_' + bucketMs + EXTENSION;
+  }
+
+  private static long parsePosition(String name, String prefix) {
+    if (!name.endsWith(EXTENSION)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(name.substring(prefix.length(), name.length() - EXTENSION.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /** Hashes {@code key} into a file name prefix of fixed length. */
+  private static String keyHash(String key) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      return Util.toHexString(digest.digest(key.getBytes(UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
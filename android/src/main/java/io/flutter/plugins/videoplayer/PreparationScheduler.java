@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decides when each player may prepare, so that players the user can see load first.
+ *
+ * <p>At most {@code maxConcurrentPreparations} players prepare at once, picked by priority and
+ * then by creation order. Off-screen players are neither prepared nor allowed to keep loading
+ * until their priority is raised or they are asked to play.
+ *
+ * <p>This class is not thread-safe. All calls must be made on the main thread.
+ */
+final class PreparationScheduler {
+  static final int PRIORITY_OFFSCREEN = 0;
+  static final int PRIORITY_NORMAL = 1;
+  static final int PRIORITY_VISIBLE = 2;
+  /** Value of {@code maxConcurrentPreparations} that lets every player prepare immediately. */
+  static final int UNLIMITED = 0;
+
+  private static final class Entry {
+    final VideoPlayer player;
+    int priority;
+    boolean started;
+    boolean finished;
+
+    Entry(VideoPlayer player, int priority) {
+      this.player = player;
+      this.priority = priority;
+    }
+  }
+
+  // Iteration order is creation order, which breaks ties between equal priorities.
+  private final Map<VideoPlayer, Entry> entries = new LinkedHashMap<>();
+  private int maxConcurrentPreparations = UNLIMITED;
+
+  /** Registers a new, unprepared player. */
+  void add(@NonNull VideoPlayer player, int priority) {
+    entries.put(player, new Entry(player, priority));
+    player.setPriority(priority);
+    schedule();
+  }
+
+  /** Forgets a player that is being disposed. */
+  void remove(@NonNull VideoPlayer player) {
+    if (entries.remove(player) != null) {
+      schedule();
+    }
+  }
+
+  void setPriority(@NonNull VideoPlayer player, int priority) {
+    Entry entry = entries.get(player);
+    if (entry == null || entry.priority == priority) {
+      return;
+    }
+    entry.priority = priority;
+    player.setPriority(priority);
+    schedule();
+  }
+
+  /** Prepares {@code player} right away, e.g. because playback was requested. */
+  void startNow(@NonNull VideoPlayer player) {
+    Entry entry = entries.get(player);
+    if (entry != null && !entry.started) {
+      start(entry);
+    }
+  }
+
+  void setMaxConcurrentPreparations(int maxConcurrentPreparations) {
+    this.maxConcurrentPreparations = Math.max(UNLIMITED, maxConcurrentPreparations);
+    schedule();
+  }
+
+  void clear() {
+    entries.clear();
+  }
+
+  private void schedule() {
+    int active = 0;
+    for (Entry entry : entries.values()) {
+      if (entry.started && !entry.finished && entry.priority > PRIORITY_OFFSCREEN) {
+        active++;
+      }
+    }
+    while (maxConcurrentPreparations == UNLIMITED || active < maxConcurrentPreparations) {
+      Entry next = null;
+      for (Entry entry : entries.values()) {
+        if (!entry.started
+            && entry.priority > PRIORITY_OFFSCREEN
+            && (next == null || entry.priority > next.priority)) {
+          next = entry;
+        }
+      }
+      if (next == null) {
+        return;
+      }
+      start(next);
+      active++;
+    }
+  }
+
+  private void start(Entry entry) {
+    entry.started = true;
+    entry.player.prepare(
+        () -> {
+          entry.finished = true;
+          schedule();
+        });
+  }
+}
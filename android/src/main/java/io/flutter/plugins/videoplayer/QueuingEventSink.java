@@ -4,8 +4,11 @@
 
 package io.flutter.plugins.videoplayer;
 
+import android.os.Handler;
+import android.os.Looper;
 import io.flutter.plugin.common.EventChannel;
-import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,13 +16,21 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
- * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
- * externally.
+ * <p>Events may be sent from any thread. They are kept in a lock-free queue and always delivered
+ * on the main thread, in the order they were sent; events sent on the main thread are delivered
+ * before the call returns. {@link #setDelegate} must be called on the main thread.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
-  private EventChannel.EventSink delegate;
-  private final ArrayList<Object> eventQueue = new ArrayList<>();
-  private boolean done = false;
+  private volatile EventChannel.EventSink delegate;
+  private final ConcurrentLinkedQueue<Object> eventQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final Runnable flush =
+      () -> {
+        flushScheduled.set(false);
+        maybeFlush();
+      };
+  private volatile Handler mainHandler;
+  private volatile boolean done = false;
 
   public void setDelegate(EventChannel.EventSink delegate) {
     this.delegate = delegate;
@@ -29,20 +40,20 @@ final class QueuingEventSink implements EventChannel.EventSink {
   @Override
   public void endOfStream() {
     enqueue(new EndOfStreamEvent());
-    maybeFlush();
     done = true;
+    flushOnMainThread();
   }
 
   @Override
   public void error(String code, String message, Object details) {
     enqueue(new ErrorEvent(code, message, details));
-    maybeFlush();
+    flushOnMainThread();
   }
 
   @Override
   public void success(Object event) {
     enqueue(event);
-    maybeFlush();
+    flushOnMainThread();
   }
 
   private void enqueue(Object event) {
@@ -52,11 +63,27 @@ final class QueuingEventSink implements EventChannel.EventSink {
     eventQueue.add(event);
   }
 
+  private void flushOnMainThread() {
+    Looper mainLooper = Looper.getMainLooper();
+    if (Looper.myLooper() == mainLooper) {
+      maybeFlush();
+    } else if (flushScheduled.compareAndSet(false, true)) {
+      Handler handler = mainHandler;
+      if (handler == null) {
+        handler = new Handler(mainLooper);
+        mainHandler = handler;
+      }
+      handler.post(flush);
+    }
+  }
+
   private void maybeFlush() {
+    EventChannel.EventSink delegate = this.delegate;
     if (delegate == null) {
       return;
     }
-    for (Object event : eventQueue) {
+    Object event;
+    while ((event = eventQueue.poll()) != null) {
       if (event instanceof EndOfStreamEvent) {
         delegate.endOfStream();
       } else if (event instanceof ErrorEvent) {
@@ -66,7 +93,6 @@ final class QueuingEventSink implements EventChannel.EventSink {
         delegate.success(event);
       }
     }
-    eventQueue.clear();
   }
 
   static class EndOfStreamEvent {}
@@ -0,0 +1,26 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/** Helpers for reading {@link com.google.android.exoplayer2.upstream.DataSource} headers. */
+final class ResponseHeaders {
+  private ResponseHeaders() {}
+
+  /** Returns the first value of the header called {@code name}, ignoring case. */
+  @Nullable
+  static String get(@NonNull Map<String, List<String>> headers, @NonNull String name) {
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.SeekParameters;
+
+/**
+ * Coalesces seek requests so that at most one seek is in flight per player.
+ *
+ * <p>While a seek is being processed, further requests only replace the pending target, so a burst
+ * of requests from a seek bar drag results in one seek to the latest position instead of one per
+ * request. While scrubbing, seeks snap to the closest sync sample so that no frames need to be
+ * decoded past the keyframe; ending the scrub issues a final exact seek to the last target.
+ *
+ * <p>All methods must be called on the player's application thread.
+ */
+final class SeekScheduler {
+  /** Upper bound on how long a seek is considered in flight if the player reports no progress. */
+  static final long MAX_SEEK_WAIT_MS = 500;
+
+  private final ExoPlayer exoPlayer;
+  private final Handler handler;
+  private final Runnable seekTimeout = this::onSeekProcessed;
+
+  private long pendingPositionMs = C.TIME_UNSET;
+  private long lastPositionMs = C.TIME_UNSET;
+  private boolean seekInFlight;
+  private boolean scrubbing;
+
+  SeekScheduler(@NonNull ExoPlayer exoPlayer, @NonNull Handler handler) {
+    this.exoPlayer = exoPlayer;
+    this.handler = handler;
+  }
+
+  /** Requests a seek to {@code positionMs}, replacing any seek that has not been issued yet. */
+  void seekTo(long positionMs) {
+    pendingPositionMs = positionMs;
+    if (!seekInFlight) {
+      issuePendingSeek();
+    }
+  }
+
+  /** Starts or ends a scrub gesture. */
+  void setScrubbing(boolean scrubbing) {
+    if (this.scrubbing == scrubbing) {
+      return;
+    }
+    this.scrubbing = scrubbing;
+    if (scrubbing) {
+      // Only seeks made during this scrub should be refined when it ends.
+      lastPositionMs = C.TIME_UNSET;
+    }
+    exoPlayer.setSeekParameters(scrubbing ? SeekParameters.CLOSEST_SYNC : SeekParameters.EXACT);
+    if (!scrubbing && pendingPositionMs == C.TIME_UNSET && lastPositionMs != C.TIME_UNSET) {
+      // The last scrub seek may have snapped to a keyframe; land exactly where the user let go.
+      seekTo(lastPositionMs);
+    }
+  }
+
+  /** Must be called from {@link Player.Listener#onPlaybackStateChanged(int)}. */
+  void onPlaybackStateChanged(int playbackState) {
+    if (seekInFlight && playbackState != Player.STATE_BUFFERING) {
+      onSeekProcessed();
+    }
+  }
+
+  /** Drops any pending seek. */
+  void release() {
+    handler.removeCallbacks(seekTimeout);
+    pendingPositionMs = C.TIME_UNSET;
+    seekInFlight = false;
+  }
+
+  private void issuePendingSeek() {
+    long positionMs = pendingPositionMs;
+    pendingPositionMs = C.TIME_UNSET;
+    lastPositionMs = positionMs;
+    // An idle player will not report a state change for the seek, so there is nothing to wait for.
+    seekInFlight = exoPlayer.getPlaybackState() != Player.STATE_IDLE;
+    exoPlayer.seekTo(positionMs);
+    if (seekInFlight) {
+      handler.postDelayed(seekTimeout, MAX_SEEK_WAIT_MS);
+    }
+  }
+
+  private void onSeekProcessed() {
+    handler.removeCallbacks(seekTimeout);
+    seekInFlight = false;
+    if (pendingPositionMs != C.TIME_UNSET) {
+      issuePendingSeek();
+    }
+  }
+}
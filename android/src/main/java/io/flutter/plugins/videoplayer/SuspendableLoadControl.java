@@ -0,0 +1,126 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.Renderer;
+import com.google.android.exoplayer2.source.TrackGroupArray;
+import com.google.android.exoplayer2.trackselection.ExoTrackSelection;
+import com.google.android.exoplayer2.upstream.Allocator;
+
+/**
+ * A {@link LoadControl} that defers to a {@link DefaultLoadControl} but can be told to stop
+ * loading, so that players which are not in use leave the network to the ones that are.
+ *
+ * <p>{@link #setLoadingAllowed} may be called from any thread; the player picks the change up the
+ * next time it decides whether to continue loading.
+ */
+final class SuspendableLoadControl implements LoadControl {
+  private final LoadControl delegate;
+  private volatile boolean loadingAllowed = true;
+  @Nullable private volatile BandwidthArbiter.Participant participant;
+
+  SuspendableLoadControl() {
+    this(new DefaultLoadControl());
+  }
+
+  /**
+   * Creates a control that keeps {@code backBufferDurationMs} of media behind the playback
+   * position, so that seeking back within it does not reload the media.
+   */
+  SuspendableLoadControl(int backBufferDurationMs, boolean retainBackBufferFromKeyframe) {
+    this(
+        new DefaultLoadControl.Builder()
+            .setBackBuffer(backBufferDurationMs, retainBackBufferFromKeyframe)
+            .build());
+  }
+
+  SuspendableLoadControl(@NonNull LoadControl delegate) {
+    this.delegate = delegate;
+  }
+
+  void setLoadingAllowed(boolean loadingAllowed) {
+    this.loadingAllowed = loadingAllowed;
+  }
+
+  /** Makes loading also subject to {@code participant}'s arbiter. */
+  void setParticipant(@Nullable BandwidthArbiter.Participant participant) {
+    this.participant = participant;
+  }
+
+  boolean isLoadingAllowed() {
+    return loadingAllowed;
+  }
+
+  /** Returns the memory held by the player's buffers, including the back buffer, in bytes. */
+  long getAllocatedBytes() {
+    return delegate.getAllocator().getTotalBytesAllocated();
+  }
+
+  @Override
+  public void onPrepared() {
+    delegate.onPrepared();
+  }
+
+  @Override
+  public void onTracksSelected(
+      @NonNull Renderer[] renderers,
+      @NonNull TrackGroupArray trackGroups,
+      @NonNull ExoTrackSelection[] trackSelections) {
+    delegate.onTracksSelected(renderers, trackGroups, trackSelections);
+  }
+
+  @Override
+  public void onStopped() {
+    delegate.onStopped();
+  }
+
+  @Override
+  public void onReleased() {
+    delegate.onReleased();
+  }
+
+  @NonNull
+  @Override
+  public Allocator getAllocator() {
+    return delegate.getAllocator();
+  }
+
+  @Override
+  public long getBackBufferDurationUs() {
+    return delegate.getBackBufferDurationUs();
+  }
+
+  @Override
+  public boolean retainBackBufferFromKeyframe() {
+    return delegate.retainBackBufferFromKeyframe();
+  }
+
+  @Override
+  public boolean shouldContinueLoading(
+      long playbackPositionUs, long bufferedDurationUs, float playbackSpeed) {
+    // Always ask the delegate so that it keeps tracking its own loading state.
+    boolean shouldContinue =
+        delegate.shouldContinueLoading(playbackPositionUs, bufferedDurationUs, playbackSpeed);
+    BandwidthArbiter.Participant participant = this.participant;
+    boolean arbiterAllows =
+        participant == null || participant.mayContinueLoading(bufferedDurationUs);
+    return shouldContinue && loadingAllowed && arbiterAllows;
+  }
+
+  @Override
+  public boolean shouldStartPlayback(
+      long bufferedDurationUs, float playbackSpeed, boolean rebuffering, long targetLiveOffsetUs) {
+    BandwidthArbiter.Participant participant = this.participant;
+    if (participant != null) {
+      participant.setTargetLiveOffsetUs(targetLiveOffsetUs);
+    }
+    return delegate.shouldStartPlayback(
+        bufferedDurationUs, playbackSpeed, rebuffering, targetLiveOffsetUs);
+  }
+}
@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.analytics.PlayerId;
+import com.google.android.exoplayer2.source.dash.BaseUrlExclusionList;
+import com.google.android.exoplayer2.source.dash.DashChunkSource;
+import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
+import com.google.android.exoplayer2.source.dash.PlayerEmsgHandler;
+import com.google.android.exoplayer2.source.dash.manifest.DashManifest;
+import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
+import com.google.android.exoplayer2.source.smoothstreaming.SsChunkSource;
+import com.google.android.exoplayer2.source.smoothstreaming.manifest.SsManifest;
+import com.google.android.exoplayer2.trackselection.ExoTrackSelection;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.LoaderErrorThrower;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.util.List;
+
+/**
+ * Chunk source factories that load the segments of text tracks through a {@link
+ * CompressionNegotiatingDataSource}, and those of all other tracks as they are.
+ *
+ * <p>Subtitle segments are {@link C#DATA_TYPE_MEDIA} loads like audio and video, so only the chunk
+ * source, which is created per track type, can tell them apart. HLS creates its chunk sources
+ * internally, so its subtitle segments are not covered.
+ */
+final class TextTrackChunkSources {
+  private TextTrackChunkSources() {}
+
+  /** A {@link DashChunkSource.Factory} compressing the segments of text adaptation sets. */
+  static final class DashFactory implements DashChunkSource.Factory {
+    private final DashChunkSource.Factory mediaFactory;
+    private final DashChunkSource.Factory textFactory;
+
+    DashFactory(@NonNull DataSource.Factory dataSourceFactory, @NonNull CompressionStats stats) {
+      this.mediaFactory = new DefaultDashChunkSource.Factory(dataSourceFactory);
+      this.textFactory =
+          new DefaultDashChunkSource.Factory(
+              new CompressionNegotiatingDataSource.Factory(dataSourceFactory, stats));
+    }
+
+    @NonNull
+    @Override
+    public DashChunkSource createDashChunkSource(
+        @NonNull LoaderErrorThrower manifestLoaderErrorThrower,
+        @NonNull DashManifest manifest,
+        @NonNull BaseUrlExclusionList baseUrlExclusionList,
+        int periodIndex,
+        @NonNull int[] adaptationSetIndices,
+        @NonNull ExoTrackSelection trackSelection,
+        int type,
+        long elapsedRealtimeOffsetMs,
+        boolean enableEventMessageTrack,
+        @NonNull List<Format> closedCaptionFormats,
+        @Nullable PlayerEmsgHandler.PlayerTrackEmsgHandler playerEmsgHandler,
+        @Nullable TransferListener transferListener,
+        @NonNull PlayerId playerId) {
+      DashChunkSource.Factory factory = type == C.TRACK_TYPE_TEXT ? textFactory : mediaFactory;
+      return factory.createDashChunkSource(
+          manifestLoaderErrorThrower,
+          manifest,
+          baseUrlExclusionList,
+          periodIndex,
+          adaptationSetIndices,
+          trackSelection,
+          type,
+          elapsedRealtimeOffsetMs,
+          enableEventMessageTrack,
+          closedCaptionFormats,
+          playerEmsgHandler,
+          transferListener,
+          playerId);
+    }
+  }
+
+  /** An {@link SsChunkSource.Factory} compressing the fragments of text stream elements. */
+  static final class SsFactory implements SsChunkSource.Factory {
+    private final SsChunkSource.Factory mediaFactory;
+    private final SsChunkSource.Factory textFactory;
+
+    SsFactory(@NonNull DataSource.Factory dataSourceFactory, @NonNull CompressionStats stats) {
+      this.mediaFactory = new DefaultSsChunkSource.Factory(dataSourceFactory);
+      this.textFactory =
+          new DefaultSsChunkSource.Factory(
+              new CompressionNegotiatingDataSource.Factory(dataSourceFactory, stats));
+    }
+
+    @NonNull
+    @Override
+    public SsChunkSource createChunkSource(
+        @NonNull LoaderErrorThrower manifestLoaderErrorThrower,
+        @NonNull SsManifest manifest,
+        int streamElementIndex,
+        @NonNull ExoTrackSelection trackSelection,
+        @Nullable TransferListener transferListener) {
+      SsChunkSource.Factory factory =
+          manifest.streamElements[streamElementIndex].type == C.TRACK_TYPE_TEXT
+              ? textFactory
+              : mediaFactory;
+      return factory.createChunkSource(
+          manifestLoaderErrorThrower,
+          manifest,
+          streamElementIndex,
+          trackSelection,
+          transferListener);
+    }
+  }
+}
@@ -0,0 +1,477 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.graphics.Bitmap;
+import android.media.MediaMetadataRetriever;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMediaPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsMultivariantPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsPlaylist;
+import com.google.android.exoplayer2.source.hls.playlist.HlsPlaylistParserFactory;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSourceInputStream;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultDataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.ParsingLoadable;
+import com.google.android.exoplayer2.util.UriUtil;
+import com.google.android.exoplayer2.util.Util;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Extracts seek bar preview frames on a background pool, independently of any player.
+ *
+ * <p>Frames are taken from the sync sample nearest to each position, using a dedicated {@link
+ * MediaMetadataRetriever} so the decoders of playing videos are never touched. HLS streams are
+ * served from the I-frame playlist advertised with {@code EXT-X-I-FRAME-STREAM-INF}, fetching only
+ * the byte range of a single keyframe per thumbnail. Streams without one fall back to the first
+ * frame of the segment holding each position, taken from their smallest rendition.
+ *
+ * <p>Thumbnails are JPEG encoded and kept in a memory-bounded LRU cache keyed by URI, position
+ * bucket and size.
+ */
+final class ThumbnailExtractor {
+  private static final String TAG = "ThumbnailExtractor";
+  /** Positions within the same bucket share a thumbnail. */
+  static final long POSITION_BUCKET_MS = 1000;
+
+  private static final int MAX_CACHE_BYTES = 16 * 1024 * 1024;
+  private static final int THREAD_COUNT = 2;
+  private static final int JPEG_QUALITY = 80;
+  private static final String USER_AGENT = "User-Agent";
+  private static final String FORMAT_HLS = "hls";
+
+  /** Receives the thumbnails for a request on the main thread. */
+  interface Callback {
+    /** Called with one entry per requested position, {@code null} where extraction failed. */
+    void onThumbnails(@NonNull List<byte[]> thumbnails);
+  }
+
+  private final Context context;
+  private final ManifestCache manifestCache;
+  private final CompressionStats compressionStats;
+  private final ExecutorService executor;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final LruCache<String, byte[]> cache;
+
+  ThumbnailExtractor(
+      @NonNull Context context,
+      @NonNull ManifestCache manifestCache,
+      @NonNull CompressionStats compressionStats) {
+    this.context = context;
+    this.manifestCache = manifestCache;
+    this.compressionStats = compressionStats;
+    this.executor =
+        Executors.newFixedThreadPool(
+            THREAD_COUNT,
+            runnable -> {
+              Thread thread = new Thread(runnable, "VideoPlayerThumbnails");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            });
+    int maxBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, MAX_CACHE_BYTES);
+    this.cache =
+        new LruCache<String, byte[]>(maxBytes) {
+          @Override
+          protected int sizeOf(String key, byte[] value) {
+            return value.length;
+          }
+        };
+  }
+
+  /**
+   * Extracts thumbnails of {@code uri} at {@code positionsMs}, scaled to fit in a {@code maxSize}
+   * square, and passes them to {@code callback}. The type of the media is inferred from {@code
+   * uri} unless {@code formatHint} is set.
+   */
+  void getThumbnails(
+      @NonNull String uri,
+      @Nullable String formatHint,
+      @NonNull Map<String, String> httpHeaders,
+      @NonNull List<Long> positionsMs,
+      int maxSize,
+      @NonNull Callback callback) {
+    executor.execute(
+        () -> {
+          List<byte[]> thumbnails = extract(uri, formatHint, httpHeaders, positionsMs, maxSize);
+          mainHandler.post(() -> callback.onThumbnails(thumbnails));
+        });
+  }
+
+  /** Stops pending extractions and drops all cached thumbnails. */
+  void release() {
+    executor.shutdownNow();
+    cache.evictAll();
+  }
+
+  private List<byte[]> extract(
+      String uri,
+      @Nullable String formatHint,
+      Map<String, String> httpHeaders,
+      List<Long> positionsMs,
+      int maxSize) {
+    List<byte[]> thumbnails = new ArrayList<>(positionsMs.size());
+    FrameGrabber grabber = null;
+    boolean grabberFailed = false;
+    try {
+      for (Long positionMs : positionsMs) {
+        if (positionMs == null) {
+          thumbnails.add(null);
+          continue;
+        }
+        long bucketMs = bucketStartMs(positionMs);
+        String key = cacheKey(uri, bucketMs, maxSize);
+        byte[] thumbnail = cache.get(key);
+        if (thumbnail == null && grabber == null && !grabberFailed) {
+          try {
+            grabber = openGrabber(uri, formatHint, httpHeaders, maxSize);
+          } catch (IOException | RuntimeException e) {
+            // Cached thumbnails are still returned.
+            Log.w(TAG, "Failed to open " + uri + " for thumbnails", e);
+            grabberFailed = true;
+          }
+        }
+        if (thumbnail == null && grabber != null) {
+          // A failed position leaves the others alone.
+          try {
+            Bitmap frame = grabber.grab(bucketMs);
+            if (frame != null) {
+              thumbnail = compress(frame, maxSize);
+              cache.put(key, thumbnail);
+            }
+          } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "Failed to extract the thumbnail at " + bucketMs + " ms of " + uri, e);
+          }
+        }
+        thumbnails.add(thumbnail);
+      }
+    } finally {
+      if (grabber != null) {
+        grabber.release();
+      }
+    }
+    return thumbnails;
+  }
+
+  private FrameGrabber openGrabber(
+      String uri, @Nullable String formatHint, Map<String, String> httpHeaders, int maxSize)
+      throws IOException {
+    Uri parsedUri = Uri.parse(uri);
+    if (isHls(parsedUri, formatHint)) {
+      return new HlsSegmentGrabber(
+          buildDataSourceFactory(httpHeaders),
+          manifestCache,
+          compressionStats,
+          parsedUri,
+          maxSize,
+          context.getCacheDir());
+    }
+    return new RetrieverGrabber(context, parsedUri, httpHeaders);
+  }
+
+  private DataSource.Factory buildDataSourceFactory(Map<String, String> httpHeaders) {
+    String userAgent = httpHeaders.get(USER_AGENT);
+    DefaultHttpDataSource.Factory httpDataSourceFactory =
+        new DefaultHttpDataSource.Factory()
+            .setUserAgent(userAgent != null ? userAgent : "ExoPlayer")
+            .setAllowCrossProtocolRedirects(true);
+    if (!httpHeaders.isEmpty()) {
+      httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+    }
+    return new DefaultDataSource.Factory(context, httpDataSourceFactory);
+  }
+
+  @VisibleForTesting
+  static boolean isHls(Uri uri, @Nullable String formatHint) {
+    return formatHint != null
+        ? FORMAT_HLS.equals(formatHint)
+        : Util.inferContentType(uri) == C.CONTENT_TYPE_HLS;
+  }
+
+  @VisibleForTesting
+  static long bucketStartMs(long positionMs) {
+    return Math.max(0, positionMs / POSITION_BUCKET_MS * POSITION_BUCKET_MS);
+  }
+
+  @VisibleForTesting
+  static String cacheKey(String uri, long bucketMs, int maxSize) {
+    return uri + '|' + bucketMs + '|' + maxSize;
+  }
+
+  private static byte[] compress(Bitmap frame, int maxSize) {
+    Bitmap scaled = frame;
+    int longestSide = Math.max(frame.getWidth(), frame.getHeight());
+    if (maxSize > 0 && longestSide > maxSize) {
+      float scale = (float) maxSize / longestSide;
+      scaled =
+          Bitmap.createScaledBitmap(
+              frame,
+              Math.max(1, Math.round(frame.getWidth() * scale)),
+              Math.max(1, Math.round(frame.getHeight() * scale)),
+              true);
+      frame.recycle();
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    scaled.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, output);
+    scaled.recycle();
+    return output.toByteArray();
+  }
+
+  private static void releaseQuietly(MediaMetadataRetriever retriever) {
+    try {
+      retriever.release();
+    } catch (IOException e) {
+      // Nothing left to clean up.
+    }
+  }
+
+  /** Decodes frames of a single media item. */
+  private interface FrameGrabber {
+    @Nullable
+    Bitmap grab(long positionMs) throws IOException;
+
+    void release();
+  }
+
+  /** Grabs frames of progressive media with the platform metadata retriever. */
+  private static final class RetrieverGrabber implements FrameGrabber {
+    private final MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+
+    RetrieverGrabber(Context context, Uri uri, Map<String, String> httpHeaders)
+        throws IOException {
+      String scheme = uri.getScheme();
+      if ("asset".equals(scheme)) {
+        String path = uri.getPath();
+        AssetFileDescriptor descriptor =
+            context.getAssets().openFd(path != null ? path.substring(1) : "");
+        try {
+          retriever.setDataSource(
+              descriptor.getFileDescriptor(), descriptor.getStartOffset(), descriptor.getLength());
+        } finally {
+          descriptor.close();
+        }
+      } else if ("http".equals(scheme) || "https".equals(scheme)) {
+        retriever.setDataSource(uri.toString(), httpHeaders);
+      } else {
+        retriever.setDataSource(context, uri);
+      }
+    }
+
+    @Nullable
+    @Override
+    public Bitmap grab(long positionMs) {
+      return retriever.getFrameAtTime(
+          positionMs * 1000, MediaMetadataRetriever.OPTION_CLOSEST_SYNC);
+    }
+
+    @Override
+    public void release() {
+      releaseQuietly(retriever);
+    }
+  }
+
+  /** The media playlist thumbnails of an HLS stream are taken from. */
+  @VisibleForTesting
+  static final class ThumbnailPlaylist {
+    final HlsMediaPlaylist playlist;
+    /** Whether each segment is a single keyframe, as in an I-frame playlist. */
+    final boolean keyframesOnly;
+
+    ThumbnailPlaylist(HlsMediaPlaylist playlist, boolean keyframesOnly) {
+      this.playlist = playlist;
+      this.keyframesOnly = keyframesOnly;
+    }
+  }
+
+  /**
+   * Loads the I-frame playlist of the HLS stream at {@code uri} that best covers {@code maxSize},
+   * or the media playlist of its smallest rendition covering it if none is advertised.
+   */
+  @VisibleForTesting
+  static ThumbnailPlaylist loadThumbnailPlaylist(
+      DataSource.Factory dataSourceFactory,
+      ManifestCache manifestCache,
+      CompressionStats compressionStats,
+      Uri uri,
+      int maxSize)
+      throws IOException {
+    // Playlists go through the shared manifest cache, so a stream that is already playing
+    // usually needs no playlist requests at all.
+    HlsPlaylistParserFactory parserFactory = new CachingManifestParser.HlsFactory(manifestCache);
+    ManifestCachingDataSource.Factory manifestDataSourceFactory =
+        new ManifestCachingDataSource.Factory(dataSourceFactory, manifestCache, compressionStats);
+    HlsPlaylist playlist =
+        ParsingLoadable.load(
+            manifestDataSourceFactory.createDataSource(C.DATA_TYPE_MANIFEST),
+            parserFactory.createPlaylistParser(),
+            uri,
+            C.DATA_TYPE_MANIFEST);
+    if (playlist instanceof HlsMediaPlaylist) {
+      return new ThumbnailPlaylist((HlsMediaPlaylist) playlist, false);
+    }
+    HlsMultivariantPlaylist multivariant = (HlsMultivariantPlaylist) playlist;
+    HlsMultivariantPlaylist.Variant variant =
+        selectVariant(multivariant.variants, maxSize, /* trickPlay= */ true);
+    boolean keyframesOnly = variant != null;
+    if (variant == null) {
+      variant = selectVariant(multivariant.variants, maxSize, /* trickPlay= */ false);
+    }
+    if (variant == null) {
+      throw new IOException("No video variant is advertised: " + uri);
+    }
+    HlsPlaylist mediaPlaylist =
+        ParsingLoadable.load(
+            manifestDataSourceFactory.createDataSource(C.DATA_TYPE_MANIFEST),
+            parserFactory.createPlaylistParser(multivariant, null),
+            variant.url,
+            C.DATA_TYPE_MANIFEST);
+    if (!(mediaPlaylist instanceof HlsMediaPlaylist)) {
+      throw new IOException("Invalid media playlist: " + variant.url);
+    }
+    return new ThumbnailPlaylist((HlsMediaPlaylist) mediaPlaylist, keyframesOnly);
+  }
+
+  /**
+   * Returns the smallest trick-play or, if {@code trickPlay} is false, regular variant covering
+   * {@code maxSize}, or the largest one if none does.
+   */
+  @Nullable
+  private static HlsMultivariantPlaylist.Variant selectVariant(
+      List<HlsMultivariantPlaylist.Variant> variants, int maxSize, boolean trickPlay) {
+    HlsMultivariantPlaylist.Variant smallestCovering = null;
+    HlsMultivariantPlaylist.Variant largest = null;
+    for (HlsMultivariantPlaylist.Variant variant : variants) {
+      if (((variant.format.roleFlags & C.ROLE_FLAG_TRICK_PLAY) != 0) != trickPlay) {
+        continue;
+      }
+      int size = longestSide(variant.format);
+      if (largest == null || size > longestSide(largest.format)) {
+        largest = variant;
+      }
+      if (size >= maxSize
+          && (smallestCovering == null || size < longestSide(smallestCovering.format))) {
+        smallestCovering = variant;
+      }
+    }
+    return smallestCovering != null ? smallestCovering : largest;
+  }
+
+  private static int longestSide(Format format) {
+    return Math.max(Math.max(format.width, format.height), 0);
+  }
+
+  /**
+   * Grabs frames of HLS streams from the keyframes listed in their I-frame playlist, or from the
+   * first frame of full segments if they have none.
+   */
+  private static final class HlsSegmentGrabber implements FrameGrabber {
+    private final DataSource dataSource;
+    private final HlsMediaPlaylist playlist;
+    private final File cacheDir;
+
+    HlsSegmentGrabber(
+        DataSource.Factory dataSourceFactory,
+        ManifestCache manifestCache,
+        CompressionStats compressionStats,
+        Uri uri,
+        int maxSize,
+        File cacheDir)
+        throws IOException {
+      this.dataSource = dataSourceFactory.createDataSource();
+      this.cacheDir = cacheDir;
+      this.playlist =
+          loadThumbnailPlaylist(dataSourceFactory, manifestCache, compressionStats, uri, maxSize)
+              .playlist;
+    }
+
+    @Nullable
+    @Override
+    public Bitmap grab(long positionMs) throws IOException {
+      HlsMediaPlaylist.Segment segment = findSegment(positionMs * 1000);
+      if (segment == null || segment.fullSegmentEncryptionKeyUri != null) {
+        return null;
+      }
+      File file = File.createTempFile("thumbnail", null, cacheDir);
+      try {
+        OutputStream output = new FileOutputStream(file);
+        try {
+          if (segment.initializationSegment != null) {
+            copy(segment.initializationSegment, output);
+          }
+          copy(segment, output);
+        } finally {
+          output.close();
+        }
+        MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+        try {
+          retriever.setDataSource(file.getAbsolutePath());
+          return retriever.getFrameAtTime();
+        } finally {
+          releaseQuietly(retriever);
+        }
+      } finally {
+        if (!file.delete()) {
+          file.deleteOnExit();
+        }
+      }
+    }
+
+    @Override
+    public void release() {}
+
+    @Nullable
+    private HlsMediaPlaylist.Segment findSegment(long positionUs) {
+      HlsMediaPlaylist.Segment match = null;
+      for (HlsMediaPlaylist.Segment segment : playlist.segments) {
+        if (match != null && segment.relativeStartTimeUs > positionUs) {
+          break;
+        }
+        match = segment;
+      }
+      return match;
+    }
+
+    private void copy(HlsMediaPlaylist.Segment segment, OutputStream output) throws IOException {
+      DataSpec dataSpec =
+          new DataSpec.Builder()
+              .setUri(UriUtil.resolveToUri(playlist.baseUri, segment.url))
+              .setPosition(segment.byteRangeOffset)
+              .setLength(segment.byteRangeLength)
+              .build();
+      DataSourceInputStream input = new DataSourceInputStream(dataSource, dataSpec);
+      try {
+        byte[] buffer = new byte[16 * 1024];
+        int bytesRead;
+        while ((bytesRead = input.read(buffer)) != -1) {
+          output.write(buffer, 0, bytesRead);
+        }
+      } finally {
+        input.close();
+      }
+    }
+  }
+}
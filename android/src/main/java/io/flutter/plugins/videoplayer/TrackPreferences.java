@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Tracks;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
+import com.google.android.exoplayer2.util.Util;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Which audio languages, text tracks and codecs a player may select. Immutable.
+ *
+ * <p>Preferences are applied through the player's track selection parameters, so renditions that
+ * are not selected are never loaded. Allowed audio languages are preferred in the order given
+ * after the preferred ones; if a stream has none of them, its audio is disabled rather than
+ * played in another language.
+ */
+final class TrackPreferences {
+  static final TrackPreferences NONE =
+      new TrackPreferences(
+          Collections.emptyList(),
+          Collections.emptyList(),
+          false,
+          Collections.emptyList(),
+          Collections.emptyList());
+
+  private final List<String> preferredAudioLanguages;
+  private final Set<String> allowedAudioLanguages;
+  private final boolean textTracksDisabled;
+  private final List<String> preferredVideoMimeTypes;
+  private final List<String> preferredAudioMimeTypes;
+
+  TrackPreferences(
+      @NonNull List<String> preferredAudioLanguages,
+      @NonNull List<String> allowedAudioLanguages,
+      boolean textTracksDisabled,
+      @NonNull List<String> preferredVideoMimeTypes,
+      @NonNull List<String> preferredAudioMimeTypes) {
+    List<String> languages = new ArrayList<>();
+    for (String language : preferredAudioLanguages) {
+      languages.add(Util.normalizeLanguageCode(language));
+    }
+    this.allowedAudioLanguages = new HashSet<>();
+    for (String language : allowedAudioLanguages) {
+      String normalized = Util.normalizeLanguageCode(language);
+      this.allowedAudioLanguages.add(normalized);
+      if (!languages.contains(normalized)) {
+        languages.add(normalized);
+      }
+    }
+    this.preferredAudioLanguages = languages;
+    this.textTracksDisabled = textTracksDisabled;
+    this.preferredVideoMimeTypes = new ArrayList<>(preferredVideoMimeTypes);
+    this.preferredAudioMimeTypes = new ArrayList<>(preferredAudioMimeTypes);
+  }
+
+  /** Returns {@code parameters} with these preferences applied; other settings are kept. */
+  @NonNull
+  TrackSelectionParameters applyTo(@NonNull TrackSelectionParameters parameters) {
+    return parameters
+        .buildUpon()
+        .setPreferredAudioLanguages(preferredAudioLanguages.toArray(new String[0]))
+        .setPreferredVideoMimeTypes(preferredVideoMimeTypes.toArray(new String[0]))
+        .setPreferredAudioMimeTypes(preferredAudioMimeTypes.toArray(new String[0]))
+        .setTrackTypeDisabled(C.TRACK_TYPE_TEXT, textTracksDisabled)
+        .build();
+  }
+
+  /** Whether an audio track in {@code language} may be played. */
+  boolean isAudioLanguageAllowed(@Nullable String language) {
+    if (allowedAudioLanguages.isEmpty()) {
+      return true;
+    }
+    return language != null
+        && allowedAudioLanguages.contains(Util.normalizeLanguageCode(language));
+  }
+
+  /**
+   * Whether {@code tracks} has audio that may be played. Streams without audio tracks count as
+   * allowed.
+   */
+  boolean allowsAudioOf(@NonNull Tracks tracks) {
+    boolean hasAudio = false;
+    for (Tracks.Group group : tracks.getGroups()) {
+      if (group.getType() != C.TRACK_TYPE_AUDIO) {
+        continue;
+      }
+      hasAudio = true;
+      for (int i = 0; i < group.length; i++) {
+        if (isAudioLanguageAllowed(group.getTrackFormat(i).language)) {
+          return true;
+        }
+      }
+    }
+    return !hasAudio;
+  }
+}
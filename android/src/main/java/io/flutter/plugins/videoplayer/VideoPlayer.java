@@ -5,9 +5,14 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
@@ -16,14 +21,21 @@ import com.google.android.exoplayer2.MediaItem;
 import com.google.android.exoplayer2.PlaybackException;
 import com.google.android.exoplayer2.PlaybackParameters;
 import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.Timeline;
+import com.google.android.exoplayer2.Tracks;
 import com.google.android.exoplayer2.audio.AudioAttributes;
 import com.google.android.exoplayer2.source.MediaSource;
 import com.google.android.exoplayer2.source.ProgressiveMediaSource;
 import com.google.android.exoplayer2.source.dash.DashMediaSource;
-import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
+import com.google.android.exoplayer2.source.dash.manifest.DashManifest;
+import com.google.android.exoplayer2.source.dash.manifest.DashManifestParser;
+import com.google.android.exoplayer2.source.hls.HlsDataSourceFactory;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
-import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
 import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.source.smoothstreaming.manifest.SsManifest;
+import com.google.android.exoplayer2.source.smoothstreaming.manifest.SsManifestParser;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
 import com.google.android.exoplayer2.upstream.DataSource;
 import com.google.android.exoplayer2.upstream.DefaultDataSource;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
@@ -35,6 +47,7 @@ import com.mux.stats.sdk.core.model.CustomerViewData;
 import com.mux.stats.sdk.muxstats.MuxStatsExoPlayer;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,6 +60,19 @@ final class VideoPlayer {
     private static final String FORMAT_DASH = "dash";
     private static final String FORMAT_HLS = "hls";
     private static final String FORMAT_OTHER = "other";
+    /** Prefix of the placeholder data source of players created from bytes. */
+    static final String IN_MEMORY_URI_PREFIX = "memory:///";
+
+    /** One entry of a player created with a playlist. */
+    static final class PlaylistItem {
+        final String uri;
+        @Nullable final String formatHint;
+
+        PlaylistItem(@NonNull String uri, @Nullable String formatHint) {
+            this.uri = uri;
+            this.formatHint = formatHint;
+        }
+    }
 
     private ExoPlayer exoPlayer;
     private Surface surface;
@@ -54,10 +80,53 @@ final class VideoPlayer {
     private QueuingEventSink eventSink;
     private final EventChannel eventChannel;
     private static final String USER_AGENT = "User-Agent";
+    /** Interval of the live latency reports of players with a live configuration. */
+    private static final long LIVE_REPORT_INTERVAL_MS = 1000;
 
     @VisibleForTesting boolean isInitialized = false;
     private final VideoPlayerOptions options;
+    private final ManifestCache manifestCache;
+    private final CompressionStats compressionStats;
+    private final String dataSource;
+    private final Map<String, String> httpHeaders;
+    @Nullable private final String formatHint;
+    private final Context context;
+    @Nullable private final MediaCache mediaCache;
+    // The upstream of every media data source; null in tests.
+    private final DataSource.Factory baseDataSourceFactory;
+    private final boolean isPlaylist;
+    private int lastPlaylistIndex;
+    private int lastPlaylistItemCount;
     private DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+    private SeekScheduler seekScheduler;
+    // Published on the main thread so that the position can be read from any thread.
+    private volatile PositionSnapshot positionSnapshot = PositionSnapshot.INITIAL;
+    private final SuspendableLoadControl loadControl;
+    private final LiveLatencyMonitor liveLatencyMonitor = new LiveLatencyMonitor();
+    private Handler handler;
+    private final Runnable liveReport = this::sendLiveLatency;
+    private boolean liveReportScheduled;
+    // Small progressive clips are kept in memory while looping.
+    private final InMemoryClipDataSource.Clip loopClip =
+            new InMemoryClipDataSource.Clip(InMemoryClipDataSource.MAX_CLIP_BYTES);
+    private boolean backgroundLoadingAllowed = true;
+    private boolean videoEnabled = true;
+    @Nullable private PosterFrameCache posterFrameCache;
+    // Frames are keyed like the media cache keys the media.
+    private final CacheKeyNormalizer posterFrameKeys;
+    private boolean renderedFirstFrame;
+    private long lastPosterFrameBucketMs = C.TIME_UNSET;
+    // The surface is released once no copy of it is in flight.
+    private int posterFrameCopiesInFlight;
+    private boolean releasePending;
+    private TrackPreferences trackPreferences = TrackPreferences.NONE;
+    private boolean audioDisallowed;
+    // Whether the video rendition of a restored snapshot is pinned until it is first selected.
+    private boolean initialVideoPinned;
+    @Nullable private final BandwidthArbiter bandwidthArbiter;
+    @Nullable private final BandwidthArbiter.Participant bandwidthParticipant;
+    private boolean prepareRequested;
+    @Nullable private Runnable onPreparationFinished;
 
     // MUX Fields
     private MuxStatsExoPlayer muxStatsExoPlayer = null;
@@ -65,30 +134,84 @@ final class VideoPlayer {
 
     VideoPlayer(
             Context context,
-            EventChannel eventChannel,
+            @Nullable EventChannel eventChannel,
+            QueuingEventSink eventSink,
             TextureRegistry.SurfaceTextureEntry textureEntry,
             String dataSource,
             String formatHint,
             @NonNull Map<String, String> httpHeaders,
-            VideoPlayerOptions options) {
+            @Nullable byte[] mediaBytes,
+            @Nullable List<PlaylistItem> playlist,
+            VideoPlayerOptions options,
+            ManifestCache manifestCache,
+            CompressionStats compressionStats,
+            @Nullable MediaCache mediaCache,
+            @Nullable DownloadTracker.OfflineMedia offlineMedia,
+            BandwidthArbiter bandwidthArbiter) {
         this.eventChannel = eventChannel;
         this.textureEntry = textureEntry;
         this.options = options;
-
-        exoPlayer = new ExoPlayer.Builder(context).build();
+        this.manifestCache = manifestCache;
+        this.compressionStats = compressionStats;
+        this.dataSource = dataSource;
+        this.httpHeaders = httpHeaders;
+        this.formatHint = formatHint;
+        this.context = context;
+        this.mediaCache = mediaCache;
+        this.posterFrameKeys = PosterFrameCache.keyNormalizer(mediaCache, options.cacheContentId);
+        this.isPlaylist = playlist != null;
+        this.bandwidthArbiter = bandwidthArbiter;
+        this.bandwidthParticipant = bandwidthArbiter.register();
+        // Seeks back within the back buffer are served from memory instead of being reloaded.
+        this.loadControl =
+                new SuspendableLoadControl(options.backBufferDurationMs, options.retainBackBufferFromKeyframe);
+        loadControl.setParticipant(bandwidthParticipant);
+
+        exoPlayer =
+                new ExoPlayer.Builder(context)
+                        .setLoadControl(loadControl)
+                        .setLivePlaybackSpeedControl(liveLatencyMonitor)
+                        .setBandwidthMeter(bandwidthArbiter.getBandwidthMeter())
+                        .build();
         Uri uri = Uri.parse(dataSource);
 
         buildHttpDataSourceFactory(httpHeaders);
-        DataSource.Factory dataSourceFactory =
+        DefaultDataSource.Factory dataSourceFactory =
                 new DefaultDataSource.Factory(context, httpDataSourceFactory);
+        dataSourceFactory.setTransferListener(bandwidthParticipant);
+        baseDataSourceFactory = dataSourceFactory;
+
+        // Preparation is started by the plugin's PreparationScheduler.
+        if (playlist != null) {
+            // ExoPlayer buffers the next item before the current one ends, so transitions are gapless.
+            exoPlayer.setMediaSources(buildPlaylistMediaSources(playlist));
+        } else if (mediaBytes != null) {
+            exoPlayer.setMediaSource(buildInMemoryMediaSource(uri, mediaBytes));
+        } else if (offlineMedia != null) {
+            // Downloaded media is played from the download cache, limited to the downloaded tracks.
+            // Its manifest was downloaded too, so it is read from there as well.
+            DataSource.Factory offlineDataSourceFactory = offlineMedia.createDataSourceFactory(dataSourceFactory);
+            exoPlayer.setMediaSource(
+                    buildMediaSource(
+                            withLiveConfiguration(offlineMedia.toMediaItem()),
+                            offlineDataSourceFactory,
+                            offlineDataSourceFactory,
+                            formatHint));
+        } else {
+            // ✅ FIXED: Restored buildMediaSource call so video actually loads
+            exoPlayer.setMediaSource(
+                    buildMediaSource(
+                            withLiveConfiguration(MediaItem.fromUri(uri)),
+                            mediaDataSourceFactoryFor(uri),
+                            baseDataSourceFactory,
+                            formatHint));
+        }
+        if (options.startPositionMs > 0) {
+            // Loading starts at the segment holding the position instead of at the beginning.
+            exoPlayer.seekTo(options.startPositionMs);
+        }
 
-        // ✅ FIXED: Restored buildMediaSource call so video actually loads
-        MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint);
-
-        exoPlayer.setMediaSource(mediaSource);
-        exoPlayer.prepare();
-
-        setUpVideoPlayer(exoPlayer, new QueuingEventSink());
+        setUpVideoPlayer(exoPlayer, eventSink);
 
         // ✅ MUX Initialization logic
         if (Objects.equals(httpHeaders.get("enableMuxAnalytics"), "true")) {
@@ -96,6 +219,36 @@ final class VideoPlayer {
         }
     }
 
+    // Constructor used to directly test members of this class.
+    @VisibleForTesting
+    VideoPlayer(
+            ExoPlayer exoPlayer,
+            EventChannel eventChannel,
+            TextureRegistry.SurfaceTextureEntry textureEntry,
+            VideoPlayerOptions options,
+            QueuingEventSink eventSink,
+            DefaultHttpDataSource.Factory httpDataSourceFactory) {
+        this.eventChannel = eventChannel;
+        this.textureEntry = textureEntry;
+        this.options = options;
+        this.manifestCache = new ManifestCache();
+        this.compressionStats = new CompressionStats();
+        this.dataSource = null;
+        this.httpHeaders = new HashMap<>();
+        this.formatHint = null;
+        this.context = null;
+        this.mediaCache = null;
+        this.posterFrameKeys = PosterFrameCache.keyNormalizer(null, null);
+        this.baseDataSourceFactory = null;
+        this.isPlaylist = false;
+        this.httpDataSourceFactory = httpDataSourceFactory;
+        this.bandwidthArbiter = null;
+        this.bandwidthParticipant = null;
+        this.loadControl = new SuspendableLoadControl();
+
+        setUpVideoPlayer(exoPlayer, eventSink);
+    }
+
     @VisibleForTesting
     public void buildHttpDataSourceFactory(@NonNull Map<String, String> httpHeaders) {
         final boolean httpHeadersNotEmpty = !httpHeaders.isEmpty();
@@ -111,8 +264,66 @@ final class VideoPlayer {
         }
     }
 
+    private static boolean isHttp(Uri uri) {
+        String scheme = uri.getScheme();
+        return "http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme);
+    }
+
+    /** Returns the factory for the media data sources of {@code uri}. */
+    private DataSource.Factory mediaDataSourceFactoryFor(Uri uri) {
+        if ("asset".equals(uri.getScheme())) {
+            // Bundled assets are read through their file descriptor when stored uncompressed.
+            return new AssetFdDataSource.Factory(context, baseDataSourceFactory);
+        } else if (mediaCache != null && isHttp(uri)) {
+            return mediaCache.createDataSourceFactory(baseDataSourceFactory, options.cacheContentId);
+        }
+        return baseDataSourceFactory;
+    }
+
+    private MediaItem withLiveConfiguration(MediaItem mediaItem) {
+        if (options.liveConfiguration == null) return mediaItem;
+        // Overrides the offset and speeds the stream itself asks for, such as LL-HLS hold-backs.
+        return mediaItem.buildUpon().setLiveConfiguration(options.liveConfiguration).build();
+    }
+
+    private List<MediaSource> buildPlaylistMediaSources(List<PlaylistItem> items) {
+        List<MediaSource> mediaSources = new ArrayList<>(items.size());
+        for (PlaylistItem item : items) {
+            Uri uri = Uri.parse(item.uri);
+            // The tag keeps the hint with the item, see getFormatHint().
+            mediaSources.add(
+                    buildMediaSource(
+                            withLiveConfiguration(
+                                    new MediaItem.Builder().setUri(uri).setTag(item.formatHint).build()),
+                            mediaDataSourceFactoryFor(uri),
+                            baseDataSourceFactory,
+                            item.formatHint));
+        }
+        return mediaSources;
+    }
+
+    /** Plays progressive media directly from {@code mediaBytes}, without copying them. */
+    private MediaSource buildInMemoryMediaSource(Uri uri, byte[] mediaBytes) {
+        DataSource.Factory bytesDataSourceFactory = () -> new ByteArrayDataSource(mediaBytes);
+        ProgressiveMediaSource.Factory progressiveFactory =
+                options.fastStart
+                        ? new ProgressiveMediaSource.Factory(bytesDataSourceFactory, new FastStartExtractorsFactory())
+                        : new ProgressiveMediaSource.Factory(bytesDataSourceFactory);
+        return progressiveFactory.createMediaSource(MediaItem.fromUri(uri));
+    }
+
+    /**
+     * Builds the source of {@code mediaItem}. Segments and progressive media are loaded through
+     * {@code mediaDataSourceFactory}, which may read from the media cache, and manifests through
+     * the manifest cache on top of {@code manifestUpstreamFactory}, so that they never reach the
+     * media cache whatever their URLs look like.
+     */
     private MediaSource buildMediaSource(
-            Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint) {
+            MediaItem mediaItem,
+            DataSource.Factory mediaDataSourceFactory,
+            DataSource.Factory manifestUpstreamFactory,
+            String formatHint) {
+        Uri uri = mediaItem.localConfiguration.uri;
         int type;
         if (formatHint == null) {
             type = Util.inferContentType(uri);
@@ -125,17 +336,40 @@ final class VideoPlayer {
                 default: type = -1; break;
             }
         }
+        // Manifests are loaded through the shared cache so re-opening a stream can skip both the
+        // request and the parse; media segments go to the media data source.
+        ManifestCachingDataSource.Factory manifestDataSourceFactory =
+                new ManifestCachingDataSource.Factory(
+                        manifestUpstreamFactory, mediaDataSourceFactory, manifestCache, compressionStats);
         switch (type) {
             case C.CONTENT_TYPE_SS:
-                return new SsMediaSource.Factory(new DefaultSsChunkSource.Factory(mediaDataSourceFactory), mediaDataSourceFactory)
-                        .createMediaSource(MediaItem.fromUri(uri));
+                return new SsMediaSource.Factory(
+                        new TextTrackChunkSources.SsFactory(mediaDataSourceFactory, compressionStats), manifestDataSourceFactory)
+                        .setManifestParser(new CachingManifestParser<>(new SsManifestParser(), SsManifest.class, manifestCache))
+                        .createMediaSource(mediaItem);
             case C.CONTENT_TYPE_DASH:
-                return new DashMediaSource.Factory(new DefaultDashChunkSource.Factory(mediaDataSourceFactory), mediaDataSourceFactory)
-                        .createMediaSource(MediaItem.fromUri(uri));
+                return new DashMediaSource.Factory(
+                        new TextTrackChunkSources.DashFactory(mediaDataSourceFactory, compressionStats), manifestDataSourceFactory)
+                        .setManifestParser(new CachingManifestParser<>(new DashManifestParser(), DashManifest.class, manifestCache))
+                        .createMediaSource(mediaItem);
             case C.CONTENT_TYPE_HLS:
-                return new HlsMediaSource.Factory(mediaDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
+                // As an HlsDataSourceFactory it routes playlists through the manifest cache and
+                // segments to the media data source; HlsMediaSource.Factory also takes a plain
+                // DataSource.Factory.
+                return new HlsMediaSource.Factory((HlsDataSourceFactory) manifestDataSourceFactory)
+                        .setPlaylistParserFactory(new CachingManifestParser.HlsFactory(manifestCache))
+                        .createMediaSource(mediaItem);
             case C.CONTENT_TYPE_OTHER:
-                return new ProgressiveMediaSource.Factory(mediaDataSourceFactory).createMediaSource(MediaItem.fromUri(uri));
+                // The clip holds a single item, so playlists are always streamed.
+                DataSource.Factory clipDataSourceFactory =
+                        isPlaylist
+                                ? mediaDataSourceFactory
+                                : new InMemoryClipDataSource.Factory(mediaDataSourceFactory, loopClip);
+                ProgressiveMediaSource.Factory progressiveFactory =
+                        options.fastStart
+                                ? new ProgressiveMediaSource.Factory(clipDataSourceFactory, new FastStartExtractorsFactory())
+                                : new ProgressiveMediaSource.Factory(clipDataSourceFactory);
+                return progressiveFactory.createMediaSource(mediaItem);
             default: throw new IllegalStateException("Unsupported type: " + type);
         }
     }
@@ -143,34 +377,59 @@ final class VideoPlayer {
     private void setUpVideoPlayer(ExoPlayer exoPlayer, QueuingEventSink eventSink) {
         this.exoPlayer = exoPlayer;
         this.eventSink = eventSink;
+        this.handler = new Handler(Looper.getMainLooper());
+        this.seekScheduler = new SeekScheduler(exoPlayer, handler);
+
+        // Multiplexed players have no channel of their own; their sink forwards to the shared one.
+        if (eventChannel != null) {
+            eventChannel.setStreamHandler(
+                    new EventChannel.StreamHandler() {
+                        @Override
+                        public void onListen(Object o, EventChannel.EventSink sink) {
+                            eventSink.setDelegate(sink);
+                        }
 
-        eventChannel.setStreamHandler(
-                new EventChannel.StreamHandler() {
-                    @Override
-                    public void onListen(Object o, EventChannel.EventSink sink) {
-                        eventSink.setDelegate(sink);
-                    }
-
-                    @Override
-                    public void onCancel(Object o) {
-                        eventSink.setDelegate(null);
-                    }
-                });
+                        @Override
+                        public void onCancel(Object o) {
+                            eventSink.setDelegate(null);
+                        }
+                    });
+        }
 
         surface = new Surface(textureEntry.surfaceTexture());
-        exoPlayer.setVideoSurface(surface);
+        if (options.audioOnly) {
+            setVideoEnabled(false);
+        } else {
+            exoPlayer.setVideoSurface(surface);
+        }
+        if (options.trackPreferences != null) {
+            // Applied before preparation, so that unwanted renditions are never loaded.
+            setTrackPreferences(options.trackPreferences);
+        }
+        if (options.preferredTextLanguage != null) {
+            exoPlayer.setTrackSelectionParameters(
+                    exoPlayer.getTrackSelectionParameters()
+                            .buildUpon()
+                            .setPreferredTextLanguage(options.preferredTextLanguage)
+                            .build());
+        }
+        if (options.initialVideoBitrate > 0 || options.initialVideoWidth > 0) {
+            pinInitialVideo(options);
+        }
         setAudioAttributes(exoPlayer, options.mixWithOthers);
 
         exoPlayer.addListener(
                 new Player.Listener() {
                     @Override
                     public void onPlaybackStateChanged(final int playbackState) {
+                        seekScheduler.onPlaybackStateChanged(playbackState);
                         if (playbackState == Player.STATE_BUFFERING) {
                             sendBufferingUpdate();
                             Map<String, Object> event = new HashMap<>();
                             event.put("event", "bufferingStart");
                             eventSink.success(event);
                         } else if (playbackState == Player.STATE_READY) {
+                            finishPreparation();
                             if (!isInitialized) {
                                 isInitialized = true;
                                 sendInitialized();
@@ -179,14 +438,55 @@ final class VideoPlayer {
                             event.put("event", "bufferingEnd");
                             eventSink.success(event);
                         } else if (playbackState == Player.STATE_ENDED) {
+                            finishPreparation();
                             Map<String, Object> event = new HashMap<>();
                             event.put("event", "completed");
                             eventSink.success(event);
                         }
                     }
 
+                    @Override
+                    public void onEvents(@NonNull Player player, @NonNull Player.Events events) {
+                        updatePositionSnapshot();
+                        if (events.contains(Player.EVENT_IS_PLAYING_CHANGED)
+                                || events.contains(Player.EVENT_TIMELINE_CHANGED)) {
+                            updateLiveReports();
+                        }
+                    }
+
+                    @Override
+                    public void onTimelineChanged(@NonNull Timeline timeline, int reason) {
+                        // Edits before the current item move it without a transition.
+                        if (isPlaylist
+                                && reason == Player.TIMELINE_CHANGE_REASON_PLAYLIST_CHANGED
+                                && (exoPlayer.getCurrentMediaItemIndex() != lastPlaylistIndex
+                                        || exoPlayer.getMediaItemCount() != lastPlaylistItemCount)) {
+                            sendPlaylistIndexChanged("playlistChanged");
+                        }
+                    }
+
+                    @Override
+                    public void onMediaItemTransition(@Nullable MediaItem mediaItem, int reason) {
+                        if (isPlaylist) sendPlaylistIndexChanged(transitionReasonName(reason));
+                    }
+
+                    @Override
+                    public void onRenderedFirstFrame() {
+                        renderedFirstFrame = true;
+                        lastPosterFrameBucketMs = C.TIME_UNSET;
+                    }
+
+                    @Override
+                    public void onTracksChanged(@NonNull Tracks tracks) {
+                        updateAudioAllowed(tracks);
+                        if (initialVideoPinned && tracks.isTypeSelected(C.TRACK_TYPE_VIDEO)) {
+                            unpinInitialVideo();
+                        }
+                    }
+
                     @Override
                     public void onPlayerError(@NonNull final PlaybackException error) {
+                        finishPreparation();
                         if (eventSink != null) {
                             eventSink.error("VideoError", "Video player had error: " + error.getLocalizedMessage(), null);
                         }
@@ -228,6 +528,78 @@ final class VideoPlayer {
         }
     }
 
+    /** Re-captures the position; must be called on the main thread. */
+    void updatePositionSnapshot() {
+        positionSnapshot = PositionSnapshot.capture(exoPlayer, SystemClock.elapsedRealtime());
+    }
+
+    /** Reports the distance to the live edge every second while a live stream with settings plays. */
+    private void updateLiveReports() {
+        boolean shouldReport =
+                options.liveConfiguration != null
+                        && exoPlayer.isPlaying()
+                        && exoPlayer.isCurrentMediaItemLive();
+        if (shouldReport && !liveReportScheduled) {
+            liveReportScheduled = true;
+            handler.post(liveReport);
+        } else if (!shouldReport && liveReportScheduled) {
+            liveReportScheduled = false;
+            handler.removeCallbacks(liveReport);
+        }
+    }
+
+    private void sendLiveLatency() {
+        Map<String, Object> event = new HashMap<>();
+        event.put("event", "liveLatency");
+        long offsetMs = exoPlayer.getCurrentLiveOffset();
+        if (offsetMs != C.TIME_UNSET) event.put("offset", offsetMs);
+        long targetOffsetMs = liveLatencyMonitor.getTargetLiveOffsetMs();
+        if (targetOffsetMs != C.TIME_UNSET) event.put("targetOffset", targetOffsetMs);
+        event.put("speed", (double) liveLatencyMonitor.getAdjustedSpeed());
+        event.put("catchUp", liveLatencyMonitor.getCatchUpState());
+        eventSink.success(event);
+        handler.postDelayed(liveReport, LIVE_REPORT_INTERVAL_MS);
+    }
+
+    private static String transitionReasonName(int reason) {
+        switch (reason) {
+            case Player.MEDIA_ITEM_TRANSITION_REASON_AUTO: return "auto";
+            case Player.MEDIA_ITEM_TRANSITION_REASON_REPEAT: return "repeat";
+            case Player.MEDIA_ITEM_TRANSITION_REASON_SEEK: return "seek";
+            default: return "playlistChanged";
+        }
+    }
+
+    private void sendPlaylistIndexChanged(String reason) {
+        lastPlaylistIndex = exoPlayer.getCurrentMediaItemIndex();
+        lastPlaylistItemCount = exoPlayer.getMediaItemCount();
+        Map<String, Object> event = new HashMap<>();
+        event.put("event", "playlistIndexChanged");
+        event.put("index", lastPlaylistIndex);
+        event.put("itemCount", lastPlaylistItemCount);
+        event.put("reason", reason);
+        long duration = exoPlayer.getDuration();
+        if (duration != C.TIME_UNSET) {
+            event.put("duration", duration);
+        }
+        eventSink.success(event);
+    }
+
+    /** Inserts {@code items} before {@code index}, or appends them if it is null. */
+    void addPlaylistItems(@Nullable Integer index, @NonNull List<PlaylistItem> items) {
+        List<MediaSource> mediaSources = buildPlaylistMediaSources(items);
+        if (index == null) {
+            exoPlayer.addMediaSources(mediaSources);
+        } else {
+            exoPlayer.addMediaSources(index, mediaSources);
+        }
+    }
+
+    /** Removes the items from {@code fromIndex} inclusive to {@code toIndex} exclusive. */
+    void removePlaylistItems(int fromIndex, int toIndex) { exoPlayer.removeMediaItems(fromIndex, toIndex); }
+    void movePlaylistItem(int fromIndex, int toIndex) { exoPlayer.moveMediaItem(fromIndex, toIndex); }
+    boolean isPlaylist() { return isPlaylist; }
+
     void sendBufferingUpdate() {
         Map<String, Object> event = new HashMap<>();
         event.put("event", "bufferingUpdate");
@@ -242,13 +614,250 @@ final class VideoPlayer {
                 !isMixMode);
     }
 
-    void play() { exoPlayer.setPlayWhenReady(true); }
-    void pause() { exoPlayer.setPlayWhenReady(false); }
-    void setLooping(boolean value) { exoPlayer.setRepeatMode(value ? REPEAT_MODE_ALL : REPEAT_MODE_OFF); }
+    /**
+     * Starts preparing the player; {@code onFinished} runs once it is ready, has ended or has
+     * failed.
+     */
+    void prepare(@Nullable Runnable onFinished) {
+        if (prepareRequested) return;
+        prepareRequested = true;
+        onPreparationFinished = onFinished;
+        exoPlayer.prepare();
+    }
+
+    private void finishPreparation() {
+        Runnable onFinished = onPreparationFinished;
+        onPreparationFinished = null;
+        if (onFinished != null) onFinished.run();
+    }
+
+    /**
+     * Sets one of the {@link PreparationScheduler} priorities. Off-screen players only buffer while
+     * playing, and lower priorities yield bandwidth to higher ones.
+     */
+    void setPriority(int priority) {
+        backgroundLoadingAllowed = priority > PreparationScheduler.PRIORITY_OFFSCREEN;
+        if (bandwidthParticipant != null) bandwidthParticipant.setPriority(priority);
+        updateLoadingAllowed();
+    }
+
+    private void updateLoadingAllowed() {
+        loadControl.setLoadingAllowed(backgroundLoadingAllowed || exoPlayer.getPlayWhenReady());
+    }
+
+    void play() { setPlayWhenReady(true); }
+    void pause() { setPlayWhenReady(false); }
+
+    private void setPlayWhenReady(boolean playWhenReady) {
+        boolean pausing = !playWhenReady && exoPlayer.getPlayWhenReady();
+        exoPlayer.setPlayWhenReady(playWhenReady);
+        if (pausing) capturePosterFrame();
+        if (bandwidthParticipant != null) bandwidthParticipant.setPlaying(playWhenReady);
+        updateLoadingAllowed();
+    }
+    void setLooping(boolean value) {
+        // Later loops are then served from memory, without I/O at the loop boundary.
+        loopClip.setEnabled(value);
+        exoPlayer.setRepeatMode(value ? REPEAT_MODE_ALL : REPEAT_MODE_OFF);
+    }
     void setVolume(double value) { exoPlayer.setVolume((float) Math.max(0.0, Math.min(1.0, value))); }
     void setPlaybackSpeed(double value) { exoPlayer.setPlaybackParameters(new PlaybackParameters(((float) value))); }
-    void seekTo(int location) { exoPlayer.seekTo(location); }
-    long getPosition() { return exoPlayer.getCurrentPosition(); }
+    void seekTo(int location) { seekScheduler.seekTo(location); }
+
+    /**
+     * Turns video decoding on or off. While it is off, video tracks are deselected so that adaptive
+     * streams with separate audio renditions stop loading video, and the surface is detached. The
+     * surface is kept, so re-enabling only needs to reload video from the current position.
+     */
+    void setVideoEnabled(boolean enabled) {
+        if (enabled == videoEnabled) return;
+        videoEnabled = enabled;
+        if (enabled) exoPlayer.setVideoSurface(surface);
+        exoPlayer.setTrackSelectionParameters(
+                exoPlayer.getTrackSelectionParameters()
+                        .buildUpon()
+                        .setTrackTypeDisabled(C.TRACK_TYPE_VIDEO, !enabled)
+                        .build());
+        if (!enabled) exoPlayer.clearVideoSurface();
+    }
+    void setScrubbing(boolean scrubbing) { seekScheduler.setScrubbing(scrubbing); }
+
+    /** Frames are captured into {@code cache} on pause and dispose; null stops capturing. */
+    void setPosterFrameCache(@Nullable PosterFrameCache cache) { posterFrameCache = cache; }
+
+    /**
+     * Has the poster frame cache copy the frame on the surface on its own thread. The copy reads the
+     * last buffer the decoder queued, so it costs no decoding; it needs API 24. A frame already
+     * captured at the same position is not copied again.
+     */
+    private void capturePosterFrame() {
+        PosterFrameCache cache = posterFrameCache;
+        if (cache == null || surface == null || !renderedFirstFrame || !videoEnabled || isInMemory()) return;
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) return;
+        Format format = exoPlayer.getVideoFormat();
+        if (format == null || format.width <= 0 || format.height <= 0) return;
+        long positionMs = exoPlayer.getCurrentPosition();
+        long bucketMs = PosterFrameCache.bucketStartMs(positionMs);
+        if (bucketMs == lastPosterFrameBucketMs) return;
+        lastPosterFrameBucketMs = bucketMs;
+        posterFrameCopiesInFlight++;
+        cache.capture(
+                posterFrameKeys.normalize(getDataSource()),
+                positionMs,
+                surface,
+                format.width,
+                format.height,
+                this::onPosterFrameCopied);
+    }
+
+    private void onPosterFrameCopied() {
+        posterFrameCopiesInFlight--;
+        if (releasePending && posterFrameCopiesInFlight == 0) releasePlayer();
+    }
+
+    /**
+     * Applies several settings in one go; {@code null} leaves a setting unchanged.
+     *
+     * <p>Playback is started or stopped last, so the player never plays with only part of the new
+     * settings applied.
+     */
+    void applyState(
+            @Nullable Boolean looping,
+            @Nullable Double volume,
+            @Nullable Double speed,
+            @Nullable Long positionMs,
+            @Nullable Boolean playWhenReady) {
+        if (looping != null) setLooping(looping);
+        if (volume != null) setVolume(volume);
+        if (speed != null) setPlaybackSpeed(speed);
+        if (positionMs != null) seekTo(positionMs.intValue());
+        if (playWhenReady != null) setPlayWhenReady(playWhenReady);
+    }
+    /** Applies {@code preferences} to the next track selection, replacing earlier ones. */
+    void setTrackPreferences(@NonNull TrackPreferences preferences) {
+        trackPreferences = preferences;
+        exoPlayer.setTrackSelectionParameters(
+                preferences.applyTo(exoPlayer.getTrackSelectionParameters()));
+        updateAudioAllowed(exoPlayer.getCurrentTracks());
+    }
+
+    /** Disables audio while the stream has no audio in an allowed language. */
+    private void updateAudioAllowed(Tracks tracks) {
+        boolean disallowed = !trackPreferences.allowsAudioOf(tracks);
+        if (disallowed == audioDisallowed) return;
+        audioDisallowed = disallowed;
+        exoPlayer.setTrackSelectionParameters(
+                exoPlayer.getTrackSelectionParameters()
+                        .buildUpon()
+                        .setTrackTypeDisabled(C.TRACK_TYPE_AUDIO, disallowed)
+                        .build());
+    }
+
+    /**
+     * Limits video to the rendition of a restored snapshot. The seeded bandwidth estimate alone can
+     * land one rendition off, and a player cannot be told which adaptive rendition to start on.
+     */
+    private void pinInitialVideo(VideoPlayerOptions options) {
+        TrackSelectionParameters.Builder parameters =
+                exoPlayer.getTrackSelectionParameters().buildUpon();
+        if (options.initialVideoBitrate > 0) {
+            parameters
+                    .setMinVideoBitrate(options.initialVideoBitrate)
+                    .setMaxVideoBitrate(options.initialVideoBitrate);
+        }
+        if (options.initialVideoWidth > 0 && options.initialVideoHeight > 0) {
+            parameters
+                    .setMinVideoSize(options.initialVideoWidth, options.initialVideoHeight)
+                    .setMaxVideoSize(options.initialVideoWidth, options.initialVideoHeight);
+        }
+        exoPlayer.setTrackSelectionParameters(parameters.build());
+        initialVideoPinned = true;
+    }
+
+    /** Lets adaptive selection move away from the restored rendition once it has been selected. */
+    private void unpinInitialVideo() {
+        initialVideoPinned = false;
+        exoPlayer.setTrackSelectionParameters(
+                exoPlayer.getTrackSelectionParameters()
+                        .buildUpon()
+                        .setMinVideoBitrate(0)
+                        .setMaxVideoBitrate(Integer.MAX_VALUE)
+                        .setMinVideoSize(0, 0)
+                        .clearVideoSizeConstraints()
+                        .build());
+    }
+
+    Tracks getCurrentTracks() { return exoPlayer.getCurrentTracks(); }
+    @Nullable Format getVideoFormat() { return exoPlayer.getVideoFormat(); }
+    @Nullable Format getAudioFormat() { return exoPlayer.getAudioFormat(); }
+
+    /** Returns the language of the selected text track, if one is selected. */
+    @Nullable
+    String getTextLanguage() {
+        for (Tracks.Group group : exoPlayer.getCurrentTracks().getGroups()) {
+            if (group.getType() != C.TRACK_TYPE_TEXT) continue;
+            for (int i = 0; i < group.length; i++) {
+                if (group.isTrackSelected(i)) return group.getTrackFormat(i).language;
+            }
+        }
+        return null;
+    }
+
+    /** Returns the player's own position; must be called on the main thread. */
+    long getCurrentPosition() { return exoPlayer.getCurrentPosition(); }
+    float getPlaybackSpeed() { return exoPlayer.getPlaybackParameters().speed; }
+    boolean isPlaying() { return exoPlayer.isPlaying(); }
+    /** Returns the current position; may be called from any thread. */
+    long getPosition() { return positionSnapshot.positionAt(SystemClock.elapsedRealtime()); }
+    @Nullable String getCacheContentId() { return options.cacheContentId; }
+    boolean isInMemory() { return dataSource != null && dataSource.startsWith(IN_MEMORY_URI_PREFIX); }
+
+    /** Returns the format hint of the media, or of the current item of a playlist. */
+    @Nullable
+    String getFormatHint() {
+        if (isPlaylist) {
+            MediaItem item = exoPlayer.getCurrentMediaItem();
+            return item != null && item.localConfiguration != null ? (String) item.localConfiguration.tag : null;
+        }
+        return formatHint;
+    }
+
+    /** Returns the URI of the media, or of the current item of a playlist. */
+    String getDataSource() {
+        if (isPlaylist) {
+            MediaItem item = exoPlayer.getCurrentMediaItem();
+            if (item != null && item.localConfiguration != null) return item.localConfiguration.uri.toString();
+        }
+        return dataSource;
+    }
+    Map<String, String> getHttpHeaders() { return httpHeaders; }
+    /** Returns the estimated bitrate of the link shared by all players, in bits per second. */
+    long getBitrateEstimate() {
+        return bandwidthArbiter == null ? 0 : bandwidthArbiter.getBitrateEstimate();
+    }
+    long getBytesTransferred() {
+        return bandwidthParticipant == null ? 0 : bandwidthParticipant.getBytesTransferred();
+    }
+
+    /** Returns the memory held by this player's buffers, including the back buffer, in bytes. */
+    long getAllocatedBytes() {
+        return loadControl.getAllocatedBytes();
+    }
+
+    /** Returns how much media behind the playback position is kept for seeking back. */
+    int getBackBufferDurationMs() {
+        return options.backBufferDurationMs;
+    }
+
+    /** Returns how much media is buffered ahead of the playback position. */
+    long getBufferedAheadMs() {
+        return exoPlayer.getTotalBufferedDuration();
+    }
+
+    /** Returns the fraction of all players' network traffic that this player downloaded. */
+    double getBandwidthShare() {
+        return bandwidthParticipant == null ? 0 : bandwidthParticipant.getShare();
+    }
 
     void sendInitialized() {
         if (isInitialized) {
@@ -273,14 +882,32 @@ final class VideoPlayer {
     }
 
     void dispose() {
+        seekScheduler.release();
+        handler.removeCallbacks(liveReport);
+        loopClip.release();
+        if (bandwidthParticipant != null) {
+            loadControl.setParticipant(null);
+            bandwidthArbiter.unregister(bandwidthParticipant);
+        }
         if (muxStatsExoPlayer != null) {
             muxStatsExoPlayer.release();
         }
+        if (eventChannel != null) eventChannel.setStreamHandler(null);
+        // Holds the frame still until it is captured.
+        exoPlayer.setPlayWhenReady(false);
+        capturePosterFrame();
+        if (posterFrameCopiesInFlight > 0) {
+            releasePending = true;
+        } else {
+            releasePlayer();
+        }
+    }
+
+    private void releasePlayer() {
         if (isInitialized) {
             exoPlayer.stop();
         }
         textureEntry.release();
-        eventChannel.setStreamHandler(null);
         if (surface != null) surface.release();
         if (exoPlayer != null) exoPlayer.release();
     }
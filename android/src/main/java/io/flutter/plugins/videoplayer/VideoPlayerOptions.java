@@ -4,6 +4,50 @@
 
 package io.flutter.plugins.videoplayer;
 
+import com.google.android.exoplayer2.MediaItem;
+
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+  public boolean fastStart;
+  /** Identifies the media in the media cache regardless of its URL; null to key by URL. */
+  public String cacheContentId;
+  /** Overrides the live offset and catch-up speeds of live streams; null to use their defaults. */
+  public MediaItem.LiveConfiguration liveConfiguration;
+  /** How much media behind the playback position is kept for seeking back, in milliseconds. */
+  public int backBufferDurationMs;
+  /** Whether the back buffer extends to the keyframe before its start. */
+  public boolean retainBackBufferFromKeyframe;
+  /** Whether the player starts with video disabled, see {@link VideoPlayer#setVideoEnabled}. */
+  public boolean audioOnly;
+  /** Constrains the audio, text and codecs the player selects; null to select freely. */
+  public TrackPreferences trackPreferences;
+  /** Where playback starts, in milliseconds. */
+  public long startPositionMs;
+  /** The text language to select first; null to select text by the default rules. */
+  public String preferredTextLanguage;
+  /** The video rendition to select first, in bits per second; 0 to select by bandwidth. */
+  public int initialVideoBitrate;
+  /** The width of the video rendition to select first; 0 to select by bandwidth. */
+  public int initialVideoWidth;
+  /** The height of the video rendition to select first; 0 to select by bandwidth. */
+  public int initialVideoHeight;
+
+  /** Returns a copy of the plugin-wide options, to be customized for a single player. */
+  VideoPlayerOptions copy() {
+    VideoPlayerOptions copy = new VideoPlayerOptions();
+    copy.mixWithOthers = mixWithOthers;
+    copy.fastStart = fastStart;
+    copy.cacheContentId = cacheContentId;
+    copy.liveConfiguration = liveConfiguration;
+    copy.backBufferDurationMs = backBufferDurationMs;
+    copy.retainBackBufferFromKeyframe = retainBackBufferFromKeyframe;
+    copy.audioOnly = audioOnly;
+    copy.trackPreferences = trackPreferences;
+    copy.startPositionMs = startPositionMs;
+    copy.preferredTextLanguage = preferredTextLanguage;
+    copy.initialVideoBitrate = initialVideoBitrate;
+    copy.initialVideoWidth = initialVideoWidth;
+    copy.initialVideoHeight = initialVideoHeight;
+    return copy;
+  }
 }
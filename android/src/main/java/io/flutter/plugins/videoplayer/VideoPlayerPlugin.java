@@ -6,34 +6,97 @@ package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
 import android.os.Build;
-import android.util.LongSparseArray;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.Tracks;
+import com.google.android.exoplayer2.offline.Download;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.BandwidthEstimateMessage;
+import io.flutter.plugins.videoplayer.Messages.CompressionStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.BandwidthMessage;
+import io.flutter.plugins.videoplayer.Messages.BufferStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadIdMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadLimitMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadRequestMessage;
+import io.flutter.plugins.videoplayer.Messages.DownloadsMessage;
+import io.flutter.plugins.videoplayer.Messages.GroupCreateMessage;
+import io.flutter.plugins.videoplayer.Messages.GroupMessage;
+import io.flutter.plugins.videoplayer.Messages.GroupPositionMessage;
+import io.flutter.plugins.videoplayer.Messages.GroupSyncStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
+import io.flutter.plugins.videoplayer.Messages.MediaCacheConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.MediaCacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerCommand;
+import io.flutter.plugins.videoplayer.Messages.PlayerCommandsMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaylistItemMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaylistItemsMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaylistRangeMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PosterFrameConfigMessage;
+import io.flutter.plugins.videoplayer.Messages.PosterFrameMessage;
+import io.flutter.plugins.videoplayer.Messages.PosterFrameRequestMessage;
+import io.flutter.plugins.videoplayer.Messages.PreparationLimitMessage;
+import io.flutter.plugins.videoplayer.Messages.PriorityMessage;
+import io.flutter.plugins.videoplayer.Messages.ScrubbingMessage;
+import io.flutter.plugins.videoplayer.Messages.SelectedTrackMessage;
+import io.flutter.plugins.videoplayer.Messages.SelectedTracksMessage;
+import io.flutter.plugins.videoplayer.Messages.SnapshotMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailRequestMessage;
+import io.flutter.plugins.videoplayer.Messages.ThumbnailsMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackPreferencesMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
+import io.flutter.plugins.videoplayer.Messages.VideoEnabledMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.net.ssl.HttpsURLConnection;
 
 /** Android platform implementation of the VideoPlayerPlugin. */
 public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private static final String TAG = "VideoPlayerPlugin";
-  private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
+  // Read from the background thread that serves position requests.
+  private final Map<Long, VideoPlayer> videoPlayers = new ConcurrentHashMap<>();
+  private Handler mainHandler;
   private FlutterState flutterState;
   private final VideoPlayerOptions options = new VideoPlayerOptions();
+  private final ManifestCache manifestCache = new ManifestCache();
+  private final CompressionStats compressionStats = new CompressionStats();
+  // Off until configured through configureMediaCache.
+  private MediaCache mediaCache;
+  private DownloadTracker downloadTracker;
+  private ThumbnailExtractor thumbnailExtractor;
+  // Off until configured through configurePosterFrames.
+  private PosterFrameCache posterFrameCache;
+  private final MultiplexedEventSink multiplexedEventSink = new MultiplexedEventSink();
+  private final PreparationScheduler preparationScheduler = new PreparationScheduler();
+  private final Map<Long, PlaybackGroup> playbackGroups = new HashMap<>();
+  private long nextGroupId;
+  private BandwidthEstimateStore bandwidthEstimateStore;
+  // Created with the first player and dropped with the last, so that new players start from the
+  // stored estimate.
+  private BandwidthArbiter bandwidthArbiter;
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -47,7 +110,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             registrar::lookupKeyForAsset,
             registrar::lookupKeyForAsset,
             registrar.textures());
-    flutterState.startListening(this, registrar.messenger());
+    flutterState.startListening(this, registrar.messenger(), multiplexedEventSink);
   }
 
   /** Registers this with the stable v1 embedding. Will not respond to lifecycle events. */
@@ -85,7 +148,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             injector.flutterLoader()::getLookupKeyForAsset,
             injector.flutterLoader()::getLookupKeyForAsset,
             binding.getTextureRegistry());
-    flutterState.startListening(this, binding.getBinaryMessenger());
+    flutterState.startListening(this, binding.getBinaryMessenger(), multiplexedEventSink);
   }
 
   @Override
@@ -95,14 +158,57 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     }
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
+    if (thumbnailExtractor != null) {
+      thumbnailExtractor.release();
+      thumbnailExtractor = null;
+    }
     initialize();
+    if (mediaCache != null) {
+      mediaCache.release();
+      mediaCache = null;
+    }
+    if (posterFrameCache != null) {
+      posterFrameCache.release();
+      posterFrameCache = null;
+    }
+    if (downloadTracker != null) {
+      downloadTracker.release();
+      downloadTracker = null;
+    }
+  }
+
+  private Handler getMainHandler() {
+    if (mainHandler == null) {
+      mainHandler = new Handler(Looper.getMainLooper());
+    }
+    return mainHandler;
+  }
+
+  private BandwidthEstimateStore getBandwidthEstimateStore() {
+    if (bandwidthEstimateStore == null) {
+      bandwidthEstimateStore = new BandwidthEstimateStore(flutterState.applicationContext);
+    }
+    return bandwidthEstimateStore;
+  }
+
+  private DownloadTracker getDownloadTracker() {
+    if (downloadTracker == null) {
+      downloadTracker = new DownloadTracker(flutterState.applicationContext);
+    }
+    return downloadTracker;
   }
 
   private void disposeAllPlayers() {
-    for (int i = 0; i < videoPlayers.size(); i++) {
-      videoPlayers.valueAt(i).dispose();
+    preparationScheduler.clear();
+    for (PlaybackGroup group : playbackGroups.values()) {
+      group.release();
+    }
+    playbackGroups.clear();
+    for (VideoPlayer player : videoPlayers.values()) {
+      player.dispose();
     }
     videoPlayers.clear();
+    bandwidthArbiter = null;
   }
 
   private void onDestroy() {
@@ -116,17 +222,113 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
 
   public void initialize() {
     disposeAllPlayers();
+    if (DownloadTracker.hasDownloads(flutterState.applicationContext)) {
+      // Starts reading the completed downloads so that they are known when players are created.
+      getDownloadTracker();
+    }
   }
 
   public @NonNull TextureMessage create(@NonNull CreateMessage arg) {
     TextureRegistry.SurfaceTextureEntry handle =
         flutterState.textureRegistry.createSurfaceTexture();
-    EventChannel eventChannel =
-        new EventChannel(
-            flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
+    EventChannel eventChannel = null;
+    QueuingEventSink eventSink = new QueuingEventSink();
+    if (Boolean.TRUE.equals(arg.getMultiplexEvents())) {
+      eventSink.setDelegate(multiplexedEventSink.forPlayer(handle.id()));
+    } else {
+      eventChannel =
+          new EventChannel(
+              flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
+    }
+
+    VideoPlayerOptions playerOptions = options.copy();
+    playerOptions.fastStart = Boolean.TRUE.equals(arg.getFastStart());
+    playerOptions.cacheContentId = arg.getCacheContentId();
+    playerOptions.liveConfiguration = buildLiveConfiguration(arg);
+    if (arg.getBackBufferDurationMs() != null) {
+      playerOptions.backBufferDurationMs = Math.max(0, arg.getBackBufferDurationMs().intValue());
+    }
+    playerOptions.retainBackBufferFromKeyframe =
+        Boolean.TRUE.equals(arg.getRetainBackBufferFromKeyframe());
+    playerOptions.audioOnly = Boolean.TRUE.equals(arg.getAudioOnly());
+    if (arg.getTrackPreferences() != null) {
+      playerOptions.trackPreferences = toTrackPreferences(arg.getTrackPreferences());
+    }
+    SnapshotMessage snapshot = arg.getSnapshot();
+    if (snapshot != null) {
+      playerOptions.startPositionMs = Math.max(0, snapshot.getPosition());
+      if (playerOptions.trackPreferences == null && snapshot.getAudioLanguage() != null) {
+        playerOptions.trackPreferences =
+            new TrackPreferences(
+                Collections.singletonList(snapshot.getAudioLanguage()),
+                Collections.emptyList(),
+                false,
+                Collections.emptyList(),
+                Collections.emptyList());
+      }
+      playerOptions.preferredTextLanguage = snapshot.getTextLanguage();
+      if (snapshot.getVideoBitrate() != null) {
+        playerOptions.initialVideoBitrate = snapshot.getVideoBitrate().intValue();
+      }
+      if (snapshot.getVideoWidth() != null && snapshot.getVideoHeight() != null) {
+        playerOptions.initialVideoWidth = snapshot.getVideoWidth().intValue();
+        playerOptions.initialVideoHeight = snapshot.getVideoHeight().intValue();
+      }
+    }
+    if (bandwidthArbiter == null) {
+      // The new meter starts from the estimate of the snapshot, so adaptive streams start on the
+      // rendition they were playing. The stored estimate is left alone.
+      bandwidthArbiter =
+          new BandwidthArbiter(
+              getBandwidthEstimateStore()
+                  .createBandwidthMeter(
+                      flutterState.applicationContext,
+                      getMainHandler(),
+                      snapshot != null ? snapshot.getBitrateEstimate() : null));
+    }
 
     VideoPlayer player;
-    if (arg.getAsset() != null) {
+    if (arg.getPlaylist() != null) {
+      List<VideoPlayer.PlaylistItem> playlist = toPlaylistItems(arg.getPlaylist());
+      if (playlist.isEmpty()) {
+        throw new IllegalArgumentException("A playlist needs at least one item.");
+      }
+      player =
+          new VideoPlayer(
+              flutterState.applicationContext,
+              eventChannel,
+              eventSink,
+              handle,
+              playlist.get(0).uri,
+              null,
+              arg.getHttpHeaders(),
+              null,
+              playlist,
+              playerOptions,
+              manifestCache,
+              compressionStats,
+              mediaCache,
+              null,
+              bandwidthArbiter);
+    } else if (arg.getBytes() != null) {
+      player =
+          new VideoPlayer(
+              flutterState.applicationContext,
+              eventChannel,
+              eventSink,
+              handle,
+              VideoPlayer.IN_MEMORY_URI_PREFIX + handle.id(),
+              null,
+              new HashMap<>(),
+              arg.getBytes(),
+              null,
+              playerOptions,
+              manifestCache,
+              compressionStats,
+              mediaCache,
+              null,
+              bandwidthArbiter);
+    } else if (arg.getAsset() != null) {
       String assetLookupKey;
       if (arg.getPackageName() != null) {
         assetLookupKey =
@@ -138,32 +340,90 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
           new VideoPlayer(
               flutterState.applicationContext,
               eventChannel,
+              eventSink,
               handle,
               "asset:///" + assetLookupKey,
               null,
               new HashMap<>(),
-              options);
+              null,
+              null,
+              playerOptions,
+              manifestCache,
+              compressionStats,
+              mediaCache,
+              null,
+              bandwidthArbiter);
     } else {
       Map<String, String> httpHeaders = arg.getHttpHeaders();
+      DownloadTracker.OfflineMedia offlineMedia = null;
+      if (DownloadTracker.hasDownloads(flutterState.applicationContext)) {
+        offlineMedia = getDownloadTracker().getOfflineMedia(arg.getUri());
+      }
       player =
           new VideoPlayer(
               flutterState.applicationContext,
               eventChannel,
+              eventSink,
               handle,
               arg.getUri(),
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              null,
+              null,
+              playerOptions,
+              manifestCache,
+              compressionStats,
+              mediaCache,
+              offlineMedia,
+              bandwidthArbiter);
     }
+    player.setPosterFrameCache(posterFrameCache);
     videoPlayers.put(handle.id(), player);
+    preparationScheduler.add(
+        player,
+        arg.getPriority() != null
+            ? arg.getPriority().intValue()
+            : PreparationScheduler.PRIORITY_NORMAL);
 
     return new TextureMessage.Builder().setTextureId(handle.id()).build();
   }
 
+  /** Returns the live settings of {@code arg}, or null if it has none. */
+  @Nullable
+  private static MediaItem.LiveConfiguration buildLiveConfiguration(@NonNull CreateMessage arg) {
+    if (arg.getLiveTargetOffsetMs() == null
+        && arg.getLiveMaxOffsetMs() == null
+        && arg.getLiveMinPlaybackSpeed() == null
+        && arg.getLiveMaxPlaybackSpeed() == null) {
+      return null;
+    }
+    MediaItem.LiveConfiguration.Builder builder = new MediaItem.LiveConfiguration.Builder();
+    if (arg.getLiveTargetOffsetMs() != null) {
+      builder.setTargetOffsetMs(arg.getLiveTargetOffsetMs());
+    }
+    if (arg.getLiveMaxOffsetMs() != null) {
+      builder.setMaxOffsetMs(arg.getLiveMaxOffsetMs());
+    }
+    if (arg.getLiveMinPlaybackSpeed() != null) {
+      builder.setMinPlaybackSpeed(arg.getLiveMinPlaybackSpeed().floatValue());
+    }
+    if (arg.getLiveMaxPlaybackSpeed() != null) {
+      builder.setMaxPlaybackSpeed(arg.getLiveMaxPlaybackSpeed().floatValue());
+    }
+    return builder.build();
+  }
+
   public void dispose(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    preparationScheduler.remove(player);
+    for (PlaybackGroup group : playbackGroups.values()) {
+      group.remove(player);
+    }
     player.dispose();
     videoPlayers.remove(arg.getTextureId());
+    if (videoPlayers.isEmpty()) {
+      bandwidthArbiter = null;
+    }
   }
 
   public void setLooping(@NonNull LoopingMessage arg) {
@@ -183,9 +443,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
 
   public void play(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    preparationScheduler.startNow(player);
     player.play();
   }
 
+  // Runs on a background task queue: the position is derived from a snapshot, and the player
+  // itself is only touched on the main thread.
   public @NonNull PositionMessage position(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     PositionMessage result =
@@ -193,7 +456,13 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             .setPosition(player.getPosition())
             .setTextureId(arg.getTextureId())
             .build();
-    player.sendBufferingUpdate();
+    getMainHandler().post(
+        () -> {
+          if (videoPlayers.get(arg.getTextureId()) == player) {
+            player.updatePositionSnapshot();
+            player.sendBufferingUpdate();
+          }
+        });
     return result;
   }
 
@@ -202,16 +471,518 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     player.seekTo(arg.getPosition().intValue());
   }
 
+  public void setScrubbing(@NonNull ScrubbingMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setScrubbing(arg.getIsScrubbing());
+  }
+
+  public void addPlaylistItems(@NonNull PlaylistItemsMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    requirePlaylist(player);
+    Integer index = arg.getIndex() != null ? arg.getIndex().intValue() : null;
+    player.addPlaylistItems(index, toPlaylistItems(arg.getItems()));
+  }
+
+  public void removePlaylistItems(@NonNull PlaylistRangeMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    requirePlaylist(player);
+    player.removePlaylistItems(arg.getFromIndex().intValue(), arg.getToIndex().intValue());
+  }
+
+  public void movePlaylistItem(@NonNull PlaylistRangeMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    requirePlaylist(player);
+    player.movePlaylistItem(arg.getFromIndex().intValue(), arg.getToIndex().intValue());
+  }
+
+  private static void requirePlaylist(VideoPlayer player) {
+    if (!player.isPlaylist()) {
+      throw new IllegalStateException("The player was not created with a playlist.");
+    }
+  }
+
+  private static List<VideoPlayer.PlaylistItem> toPlaylistItems(List<PlaylistItemMessage> items) {
+    List<VideoPlayer.PlaylistItem> playlist = new ArrayList<>();
+    for (PlaylistItemMessage item : items) {
+      if (item != null) {
+        playlist.add(new VideoPlayer.PlaylistItem(item.getUri(), item.getFormatHint()));
+      }
+    }
+    return playlist;
+  }
+
+  public void setVideoEnabled(@NonNull VideoEnabledMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setVideoEnabled(arg.getEnabled());
+  }
+
+  public void setTrackSelection(@NonNull TrackSelectionMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setTrackPreferences(toTrackPreferences(arg.getPreferences()));
+  }
+
+  public @NonNull SelectedTracksMessage getSelectedTracks(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    Format videoFormat = player.getVideoFormat();
+    Format audioFormat = player.getAudioFormat();
+    List<SelectedTrackMessage> tracks = new ArrayList<>();
+    for (Tracks.Group group : player.getCurrentTracks().getGroups()) {
+      String type = trackTypeName(group.getType());
+      if (type == null || !group.isSelected()) {
+        continue;
+      }
+      for (int i = 0; i < group.length; i++) {
+        if (!group.isTrackSelected(i)) {
+          continue;
+        }
+        Format format = group.getTrackFormat(i);
+        tracks.add(
+            new SelectedTrackMessage.Builder()
+                .setType(type)
+                .setLanguage(format.language)
+                .setMimeType(format.sampleMimeType)
+                .setCodecs(format.codecs)
+                .setBitrate(format.bitrate != Format.NO_VALUE ? (long) format.bitrate : null)
+                .setWidth(format.width != Format.NO_VALUE ? (long) format.width : null)
+                .setHeight(format.height != Format.NO_VALUE ? (long) format.height : null)
+                .setIsCurrent(format.equals(videoFormat) || format.equals(audioFormat))
+                .build());
+      }
+    }
+    return new SelectedTracksMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setTracks(tracks)
+        .build();
+  }
+
+  public @NonNull SnapshotMessage getSnapshot(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    if (player.isInMemory()) {
+      throw new IllegalStateException("Players created from bytes cannot be restored.");
+    }
+    Format videoFormat = player.getVideoFormat();
+    Format audioFormat = player.getAudioFormat();
+    long bitrateEstimate = player.getBitrateEstimate();
+    SnapshotMessage.Builder snapshot =
+        new SnapshotMessage.Builder()
+            .setUri(player.getDataSource())
+            .setFormatHint(player.getFormatHint())
+            .setCacheContentId(player.getCacheContentId())
+            .setPosition(player.getCurrentPosition())
+            .setBitrateEstimate(bitrateEstimate > 0 ? bitrateEstimate : null)
+            .setAudioLanguage(audioFormat != null ? audioFormat.language : null)
+            .setTextLanguage(player.getTextLanguage());
+    if (videoFormat != null) {
+      snapshot
+          .setVideoBitrate(
+              videoFormat.bitrate != Format.NO_VALUE ? (long) videoFormat.bitrate : null)
+          .setVideoWidth(videoFormat.width != Format.NO_VALUE ? (long) videoFormat.width : null)
+          .setVideoHeight(videoFormat.height != Format.NO_VALUE ? (long) videoFormat.height : null);
+    }
+    return snapshot.build();
+  }
+
+  private static @NonNull TrackPreferences toTrackPreferences(
+      @NonNull TrackPreferencesMessage message) {
+    return new TrackPreferences(
+        nonNull(message.getPreferredAudioLanguages()),
+        nonNull(message.getAllowedAudioLanguages()),
+        message.getTextTracksDisabled(),
+        nonNull(message.getPreferredVideoMimeTypes()),
+        nonNull(message.getPreferredAudioMimeTypes()));
+  }
+
+  private static @NonNull List<String> nonNull(@NonNull List<String> values) {
+    List<String> result = new ArrayList<>();
+    for (String value : values) {
+      if (value != null) {
+        result.add(value);
+      }
+    }
+    return result;
+  }
+
+  @Nullable
+  private static String trackTypeName(int trackType) {
+    switch (trackType) {
+      case C.TRACK_TYPE_VIDEO:
+        return "video";
+      case C.TRACK_TYPE_AUDIO:
+        return "audio";
+      case C.TRACK_TYPE_TEXT:
+        return "text";
+      default:
+        return null;
+    }
+  }
+
   public void pause(@NonNull TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.pause();
   }
 
+  /**
+   * Creates a group that keeps its players in sync, with the first player as the master. Players
+   * are removed from their groups when they are disposed.
+   */
+  @Override
+  public @NonNull GroupMessage createGroup(@NonNull GroupCreateMessage arg) {
+    List<VideoPlayer> members = new ArrayList<>();
+    // Small ids arrive as Integer despite the declared element type.
+    for (Object textureId : arg.getTextureIds()) {
+      VideoPlayer player =
+          textureId == null ? null : videoPlayers.get(((Number) textureId).longValue());
+      if (player == null) {
+        throw new IllegalArgumentException("No player with texture id " + textureId + ".");
+      }
+      members.add(player);
+    }
+    long toleranceMs =
+        arg.getToleranceMs() != null
+            ? arg.getToleranceMs()
+            : PlaybackGroup.DEFAULT_TOLERANCE_MS;
+    long groupId = nextGroupId++;
+    playbackGroups.put(groupId, new PlaybackGroup(members, toleranceMs, getMainHandler()));
+    return new GroupMessage.Builder().setGroupId(groupId).build();
+  }
+
+  @Override
+  public void disposeGroup(@NonNull GroupMessage arg) {
+    PlaybackGroup group = playbackGroups.remove(arg.getGroupId());
+    if (group != null) {
+      group.release();
+    }
+  }
+
+  @Override
+  public void playGroup(@NonNull GroupMessage arg) {
+    PlaybackGroup group = playbackGroups.get(arg.getGroupId());
+    for (VideoPlayer player : group.getMembers()) {
+      preparationScheduler.startNow(player);
+    }
+    group.play();
+  }
+
+  @Override
+  public void pauseGroup(@NonNull GroupMessage arg) {
+    playbackGroups.get(arg.getGroupId()).pause();
+  }
+
+  @Override
+  public void seekGroup(@NonNull GroupPositionMessage arg) {
+    playbackGroups.get(arg.getGroupId()).seekTo(arg.getPosition().intValue());
+  }
+
+  @Override
+  public @NonNull GroupSyncStatsMessage getGroupSyncStats(@NonNull GroupMessage arg) {
+    PlaybackGroup group = playbackGroups.get(arg.getGroupId());
+    return new GroupSyncStatsMessage.Builder()
+        .setGroupId(arg.getGroupId())
+        .setSamples(group.getSampleCount())
+        .setMeanErrorMs(group.getMeanErrorMs())
+        .setMaxErrorMs(group.getMaxErrorMs())
+        .setLastErrorMs(group.getLastErrorMs())
+        .setReseeks(group.getReseekCount())
+        .setSpeedAdjustments(group.getSpeedAdjustmentCount())
+        .build();
+  }
+
+  @Override
+  public void applyCommands(@NonNull PlayerCommandsMessage arg) {
+    // Validate every command first so that a bad one does not leave the others half applied.
+    List<PlayerCommand> commands = arg.getCommands();
+    List<VideoPlayer> players = new ArrayList<>(commands.size());
+    for (PlayerCommand command : commands) {
+      VideoPlayer player = videoPlayers.get(command.getTextureId());
+      if (player == null) {
+        throw new IllegalArgumentException(
+            "No player with texture id " + command.getTextureId() + ".");
+      }
+      if (command.getSpeed() != null && command.getSpeed() <= 0) {
+        throw new IllegalArgumentException("Playback speed must be positive.");
+      }
+      players.add(player);
+    }
+    for (int i = 0; i < commands.size(); i++) {
+      PlayerCommand command = commands.get(i);
+      if (Boolean.TRUE.equals(command.getPlayWhenReady())) {
+        preparationScheduler.startNow(players.get(i));
+      }
+      players
+          .get(i)
+          .applyState(
+              command.getIsLooping(),
+              command.getVolume(),
+              command.getSpeed(),
+              command.getPosition(),
+              command.getPlayWhenReady());
+    }
+  }
+
+  @Override
+  public void setPriority(@NonNull PriorityMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    preparationScheduler.setPriority(player, arg.getPriority().intValue());
+  }
+
+  @Override
+  public void setMaxConcurrentPreparations(@NonNull PreparationLimitMessage arg) {
+    preparationScheduler.setMaxConcurrentPreparations(
+        arg.getMaxConcurrentPreparations().intValue());
+  }
+
+  // Runs on a background task queue; the bandwidth figures are safe to read from any thread.
+  @Override
+  public @NonNull BandwidthMessage getBandwidth(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return new BandwidthMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setBitrateEstimate(player.getBitrateEstimate())
+        .setShare(player.getBandwidthShare())
+        .setBytesTransferred(player.getBytesTransferred())
+        .build();
+  }
+
+  @Override
+  public @NonNull BufferStatsMessage getBufferStats(@NonNull TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return new BufferStatsMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setAllocatedBytes(player.getAllocatedBytes())
+        .setBackBufferDurationMs((long) player.getBackBufferDurationMs())
+        .setBufferedAheadMs(player.getBufferedAheadMs())
+        .build();
+  }
+
+  @Override
+  public @NonNull BandwidthEstimateMessage getBandwidthEstimate() {
+    Long bitrateEstimate;
+    if (bandwidthArbiter != null) {
+      // While players exist their shared meter has the most recent estimate.
+      bitrateEstimate = bandwidthArbiter.getBitrateEstimate();
+    } else {
+      bitrateEstimate = getBandwidthEstimateStore().getCurrent();
+    }
+    return new BandwidthEstimateMessage.Builder().setBitrateEstimate(bitrateEstimate).build();
+  }
+
+  @Override
+  public void setBandwidthEstimate(@NonNull BandwidthEstimateMessage arg) {
+    getBandwidthEstimateStore().overrideCurrent(arg.getBitrateEstimate());
+    if (bandwidthArbiter != null) {
+      bandwidthArbiter.seedBitrateEstimate(arg.getBitrateEstimate());
+    }
+  }
+
+  @Override
+  public void configureMediaCache(@NonNull MediaCacheConfigMessage arg) {
+    long maxBytes = arg.getMaxBytes();
+    long currentMaxBytes = mediaCache != null ? mediaCache.getMaxBytes() : 0;
+    if (maxBytes != currentMaxBytes) {
+      if (!videoPlayers.isEmpty()) {
+        throw new IllegalStateException("The media cache size cannot change while players exist.");
+      }
+      if (mediaCache != null) {
+        mediaCache.release();
+        mediaCache = null;
+      }
+      if (maxBytes > 0) {
+        mediaCache = new MediaCache(flutterState.applicationContext, maxBytes);
+      }
+    }
+    if (mediaCache != null) {
+      mediaCache.setRules(
+          new CacheKeyNormalizer.Rules(
+              arg.getStrippedParameters(), arg.getRewritePattern(), arg.getRewriteReplacement()));
+    }
+  }
+
+  @Override
+  public @NonNull MediaCacheStatsMessage getMediaCacheStats() {
+    MediaCacheStatsMessage.Builder builder =
+        new MediaCacheStatsMessage.Builder()
+            .setRequests(0L)
+            .setVariantRequests(0L)
+            .setDedupHits(0L)
+            .setCachedBytesRead(0L);
+    if (mediaCache != null) {
+      builder
+          .setRequests(mediaCache.getRequestCount())
+          .setVariantRequests(mediaCache.getVariantRequestCount())
+          .setDedupHits(mediaCache.getDedupHitCount())
+          .setCachedBytesRead(mediaCache.getCachedBytesRead());
+    }
+    return builder.build();
+  }
+
+  @Override
+  public @NonNull CompressionStatsMessage getCompressionStats() {
+    return new CompressionStatsMessage.Builder()
+        .setCompressedResponses(compressionStats.getCompressedResponseCount())
+        .setCompressedBytes(compressionStats.getCompressedBytes())
+        .setDecompressedBytes(compressionStats.getDecompressedBytes())
+        .build();
+  }
+
+  @Override
+  public void enqueueDownload(
+      @NonNull DownloadRequestMessage arg, @NonNull Messages.Result<Void> result) {
+    getDownloadTracker()
+        .enqueue(
+            arg.getUri(),
+            arg.getFormatHint(),
+            arg.getHttpHeaders(),
+            arg.getMaxVideoHeight() != null ? arg.getMaxVideoHeight().intValue() : null,
+            arg.getMaxVideoBitrate() != null ? arg.getMaxVideoBitrate().intValue() : null,
+            new DownloadTracker.Callback() {
+              @Override
+              public void onEnqueued() {
+                result.success(null);
+              }
+
+              @Override
+              public void onError(@NonNull Exception error) {
+                result.error(error);
+              }
+            });
+  }
+
+  @Override
+  public void pauseDownload(@NonNull DownloadIdMessage arg) {
+    getDownloadTracker().pause(arg.getUri());
+  }
+
+  @Override
+  public void resumeDownload(@NonNull DownloadIdMessage arg) {
+    getDownloadTracker().resume(arg.getUri(), arg.getHttpHeaders());
+  }
+
+  @Override
+  public void removeDownload(@NonNull DownloadIdMessage arg) {
+    getDownloadTracker().remove(arg.getUri());
+  }
+
+  @Override
+  public void getDownloads(@NonNull Messages.Result<DownloadsMessage> result) {
+    getDownloadTracker()
+        .getDownloads(
+            downloads -> {
+              List<DownloadMessage> messages = new ArrayList<>();
+              for (Download download : downloads) {
+                float percentDownloaded = download.getPercentDownloaded();
+                messages.add(
+                    new DownloadMessage.Builder()
+                        .setUri(download.request.id)
+                        .setState((long) download.state)
+                        .setBytesDownloaded(download.getBytesDownloaded())
+                        .setContentLength(
+                            download.contentLength != C.LENGTH_UNSET
+                                ? download.contentLength
+                                : null)
+                        .setPercentDownloaded(
+                            percentDownloaded != C.PERCENTAGE_UNSET
+                                ? (double) percentDownloaded
+                                : null)
+                        .setIsPaused(download.stopReason == DownloadTracker.STOP_REASON_PAUSED)
+                        .setNeedsCredentials(
+                            download.stopReason == DownloadTracker.STOP_REASON_NEEDS_CREDENTIALS)
+                        .build());
+              }
+              result.success(new DownloadsMessage.Builder().setDownloads(messages).build());
+            });
+  }
+
+  @Override
+  public void setMaxParallelDownloads(@NonNull DownloadLimitMessage arg) {
+    getDownloadTracker().setMaxParallelDownloads(arg.getMaxParallelDownloads().intValue());
+  }
+
   @Override
   public void setMixWithOthers(@NonNull MixWithOthersMessage arg) {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void getThumbnails(
+      @NonNull ThumbnailRequestMessage arg, @NonNull Messages.Result<ThumbnailsMessage> result) {
+    String uri;
+    String formatHint;
+    Map<String, String> httpHeaders;
+    if (arg.getTextureId() != null) {
+      VideoPlayer player = videoPlayers.get(arg.getTextureId());
+      if (player.getDataSource().startsWith(VideoPlayer.IN_MEMORY_URI_PREFIX)) {
+        result.error(
+            new IllegalArgumentException("Thumbnails are not supported for in-memory media."));
+        return;
+      }
+      uri = player.getDataSource();
+      formatHint = player.getFormatHint();
+      httpHeaders = player.getHttpHeaders();
+    } else if (arg.getUri() != null) {
+      uri = arg.getUri();
+      formatHint = arg.getFormatHint();
+      httpHeaders = arg.getHttpHeaders() != null ? arg.getHttpHeaders() : new HashMap<>();
+    } else {
+      result.error(new IllegalArgumentException("Either textureId or uri must be set."));
+      return;
+    }
+    if (thumbnailExtractor == null) {
+      thumbnailExtractor =
+          new ThumbnailExtractor(flutterState.applicationContext, manifestCache, compressionStats);
+    }
+    thumbnailExtractor.getThumbnails(
+        uri,
+        formatHint,
+        httpHeaders,
+        arg.getPositions(),
+        arg.getMaxSize().intValue(),
+        thumbnails ->
+            result.success(new ThumbnailsMessage.Builder().setThumbnails(thumbnails).build()));
+  }
+
+  @Override
+  public void configurePosterFrames(@NonNull PosterFrameConfigMessage arg) {
+    long maxDiskBytes = arg.getMaxDiskBytes();
+    int maxSize = arg.getMaxSize().intValue();
+    if (posterFrameCache != null
+        && posterFrameCache.getMaxDiskBytes() == maxDiskBytes
+        && posterFrameCache.getMaxSize() == maxSize) {
+      return;
+    }
+    if (posterFrameCache != null) {
+      posterFrameCache.release();
+      posterFrameCache = null;
+    }
+    if (maxDiskBytes > 0 && maxSize > 0) {
+      // Frames stored by earlier launches are kept.
+      posterFrameCache =
+          new PosterFrameCache(flutterState.applicationContext, maxDiskBytes, maxSize);
+    }
+    for (VideoPlayer player : videoPlayers.values()) {
+      player.setPosterFrameCache(posterFrameCache);
+    }
+  }
+
+  @Override
+  public void getPosterFrame(
+      @NonNull PosterFrameRequestMessage arg,
+      @NonNull Messages.Result<PosterFrameMessage> result) {
+    if (posterFrameCache == null) {
+      result.success(new PosterFrameMessage.Builder().build());
+      return;
+    }
+    posterFrameCache.get(
+        PosterFrameCache.keyNormalizer(mediaCache, arg.getCacheContentId()).normalize(arg.getUri()),
+        arg.getPosition(),
+        frame -> {
+          PosterFrameMessage.Builder message = new PosterFrameMessage.Builder();
+          if (frame != null) {
+            message.setBytes(frame.jpeg).setPosition(frame.positionMs);
+          }
+          result.success(message.build());
+        });
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -240,12 +1011,18 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
       this.textureRegistry = textureRegistry;
     }
 
-    void startListening(VideoPlayerPlugin methodCallHandler, BinaryMessenger messenger) {
+    void startListening(
+        VideoPlayerPlugin methodCallHandler,
+        BinaryMessenger messenger,
+        MultiplexedEventSink multiplexedEventSink) {
       AndroidVideoPlayerApi.setup(messenger, methodCallHandler);
+      new EventChannel(messenger, MultiplexedEventSink.CHANNEL_NAME)
+          .setStreamHandler(multiplexedEventSink);
     }
 
     void stopListening(BinaryMessenger messenger) {
       AndroidVideoPlayerApi.setup(messenger, null);
+      new EventChannel(messenger, MultiplexedEventSink.CHANNEL_NAME).setStreamHandler(null);
     }
   }
 }
@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import android.net.Uri;
+import android.os.ParcelFileDescriptor;
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class AssetFdDataSourceTest {
+  private static final Uri ASSET_URI = Uri.parse("asset:///flutter_assets/videos/intro.mp4");
+  private static final byte[] DATA = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final RecordingListener listener = new RecordingListener();
+
+  @Test
+  public void assetPathStripsTheUriPrefix() {
+    assertEquals(
+        "flutter_assets/videos/intro.mp4",
+        AssetFdDataSource.assetPath("/flutter_assets/videos/intro.mp4"));
+    assertEquals(
+        "flutter_assets/videos/intro.mp4",
+        AssetFdDataSource.assetPath("/android_asset/flutter_assets/videos/intro.mp4"));
+    assertEquals("intro.mp4", AssetFdDataSource.assetPath("intro.mp4"));
+    assertEquals("", AssetFdDataSource.assetPath(null));
+  }
+
+  @Test
+  public void fileDescriptorReadsAreReportedToListeners() throws IOException {
+    File file = temporaryFolder.newFile();
+    FileOutputStream outputStream = new FileOutputStream(file);
+    try {
+      outputStream.write(DATA);
+    } finally {
+      outputStream.close();
+    }
+    AssetManager assetManager = mock(AssetManager.class);
+    when(assetManager.openFd(anyString()))
+        .thenAnswer(
+            invocation ->
+                new AssetFileDescriptor(
+                    ParcelFileDescriptor.open(file, ParcelFileDescriptor.MODE_READ_ONLY),
+                    0,
+                    DATA.length));
+
+    readAll(new AssetFdDataSource(assetManager, new ByteArrayDataSource(new byte[0])));
+
+    assertEquals(Arrays.asList("initializing", "start", "end"), listener.events);
+    assertEquals(DATA.length, listener.bytesTransferred);
+  }
+
+  @Test
+  public void upstreamReadsAreReportedToListeners() throws IOException {
+    AssetManager assetManager = mock(AssetManager.class);
+    when(assetManager.openFd(anyString())).thenThrow(new FileNotFoundException("compressed"));
+
+    readAll(new AssetFdDataSource(assetManager, new ByteArrayDataSource(DATA)));
+
+    assertEquals(Arrays.asList("initializing", "start", "end"), listener.events);
+    assertEquals(DATA.length, listener.bytesTransferred);
+  }
+
+  private void readAll(DataSource dataSource) throws IOException {
+    dataSource.addTransferListener(listener);
+    dataSource.open(new DataSpec(ASSET_URI));
+    byte[] buffer = new byte[4];
+    while (dataSource.read(buffer, 0, buffer.length) != C.RESULT_END_OF_INPUT) {}
+    dataSource.close();
+  }
+
+  /** Records the transfer events it receives, other than transferred bytes, which it sums. */
+  private static final class RecordingListener implements TransferListener {
+    final List<String> events = new ArrayList<>();
+    long bytesTransferred;
+
+    @Override
+    public void onTransferInitializing(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {
+      events.add("initializing");
+    }
+
+    @Override
+    public void onTransferStart(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {
+      events.add("start");
+    }
+
+    @Override
+    public void onBytesTransferred(
+        @NonNull DataSource source,
+        @NonNull DataSpec dataSpec,
+        boolean isNetwork,
+        int bytesTransferred) {
+      this.bytesTransferred += bytesTransferred;
+    }
+
+    @Override
+    public void onTransferEnd(
+        @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {
+      events.add("end");
+    }
+  }
+}
@@ -0,0 +1,144 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.upstream.BandwidthMeter;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BandwidthArbiterTest {
+  private long nowMs;
+  private BandwidthArbiter arbiter;
+
+  @Before
+  public void before() {
+    nowMs = 1000;
+    arbiter =
+        new BandwidthArbiter(mock(BandwidthMeter.class)) {
+          @Override
+          long now() {
+            return nowMs;
+          }
+        };
+  }
+
+  @Test
+  public void seededEstimateIsReportedUntilTheMeterTakesASample() {
+    BandwidthMeter meter = mock(BandwidthMeter.class);
+    when(meter.getBitrateEstimate()).thenReturn(1_000_000L);
+    BandwidthArbiter seeded = new BandwidthArbiter(meter);
+
+    seeded.seedBitrateEstimate(5_000_000L);
+
+    assertEquals(5_000_000, seeded.getBandwidthMeter().getBitrateEstimate());
+    when(meter.getBitrateEstimate()).thenReturn(2_000_000L);
+    assertEquals(2_000_000, seeded.getBitrateEstimate());
+    when(meter.getBitrateEstimate()).thenReturn(1_000_000L);
+    assertEquals(1_000_000, seeded.getBitrateEstimate());
+  }
+
+  @Test
+  public void starvedPlayingPlayerBlocksOthers() {
+    BandwidthArbiter.Participant playing = arbiter.register();
+    BandwidthArbiter.Participant background = arbiter.register();
+    playing.setPlaying(true);
+    background.setPriority(PreparationScheduler.PRIORITY_VISIBLE);
+
+    assertTrue(playing.mayContinueLoading(2_000_000));
+    assertFalse(background.mayContinueLoading(0));
+
+    // Once the playing player is comfortably buffered the others may load again.
+    assertTrue(playing.mayContinueLoading(BandwidthArbiter.PROTECTED_BUFFER_US));
+    assertTrue(background.mayContinueLoading(0));
+  }
+
+  @Test
+  public void higherPriorityWinsWhenNeitherIsPlaying() {
+    BandwidthArbiter.Participant visible = arbiter.register();
+    BandwidthArbiter.Participant offscreen = arbiter.register();
+    visible.setPriority(PreparationScheduler.PRIORITY_VISIBLE);
+    offscreen.setPriority(PreparationScheduler.PRIORITY_OFFSCREEN);
+
+    assertTrue(visible.mayContinueLoading(0));
+    assertFalse(offscreen.mayContinueLoading(0));
+    assertTrue(visible.mayContinueLoading(0));
+  }
+
+  @Test
+  public void shallowLivePlayerBlocksOthersOnlyForATimeSlice() {
+    BandwidthArbiter.Participant live = arbiter.register();
+    BandwidthArbiter.Participant preloading = arbiter.register();
+    live.setPlaying(true);
+    live.setTargetLiveOffsetUs(3_000_000);
+
+    // Half the target offset is enough buffer for a live player.
+    assertTrue(live.mayContinueLoading(1_500_000));
+    assertTrue(preloading.mayContinueLoading(0));
+
+    assertTrue(live.mayContinueLoading(1_000_000));
+    assertFalse(preloading.mayContinueLoading(0));
+
+    // A player that stays shallow stops blocking the others after a while.
+    nowMs += BandwidthArbiter.MAX_STARVATION_MS + 1;
+    assertTrue(live.mayContinueLoading(1_000_000));
+    assertTrue(preloading.mayContinueLoading(0));
+  }
+
+  @Test
+  public void playingPlayersAreNeverBlocked() {
+    BandwidthArbiter.Participant visible = arbiter.register();
+    BandwidthArbiter.Participant follower = arbiter.register();
+    visible.setPlaying(true);
+    visible.setPriority(PreparationScheduler.PRIORITY_VISIBLE);
+    follower.setPlaying(true);
+    follower.setPriority(PreparationScheduler.PRIORITY_NORMAL);
+
+    assertTrue(visible.mayContinueLoading(0));
+    assertTrue(follower.mayContinueLoading(0));
+  }
+
+  @Test
+  public void staleAndUnregisteredReportsAreIgnored() {
+    BandwidthArbiter.Participant playing = arbiter.register();
+    BandwidthArbiter.Participant other = arbiter.register();
+    playing.setPlaying(true);
+    playing.mayContinueLoading(0);
+
+    nowMs += BandwidthArbiter.REPORT_VALIDITY_MS + 1;
+    assertTrue(other.mayContinueLoading(0));
+
+    playing.mayContinueLoading(0);
+    assertFalse(other.mayContinueLoading(0));
+    arbiter.unregister(playing);
+    assertTrue(other.mayContinueLoading(0));
+  }
+
+  @Test
+  public void shareCountsNetworkBytesOnly() {
+    BandwidthArbiter.Participant first = arbiter.register();
+    BandwidthArbiter.Participant second = arbiter.register();
+    DataSource source = mock(DataSource.class);
+    DataSpec dataSpec = mock(DataSpec.class);
+
+    assertEquals(0, first.getShare(), 0);
+
+    first.onBytesTransferred(source, dataSpec, true, 300);
+    second.onBytesTransferred(source, dataSpec, true, 100);
+    second.onBytesTransferred(source, dataSpec, false, 1000);
+
+    assertEquals(300, first.getBytesTransferred());
+    assertEquals(100, second.getBytesTransferred());
+    assertEquals(0.75, first.getShare(), 1e-9);
+    assertEquals(0.25, second.getShare(), 1e-9);
+  }
+}
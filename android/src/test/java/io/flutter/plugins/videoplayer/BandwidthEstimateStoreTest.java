@@ -0,0 +1,84 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import android.content.Context;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.C;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class BandwidthEstimateStoreTest {
+  private static final long NOW_MS = 1_000_000_000_000L;
+
+  private BandwidthEstimateStore store;
+
+  @Before
+  public void before() {
+    Context context = ApplicationProvider.getApplicationContext();
+    store =
+        new BandwidthEstimateStore(
+            context.getSharedPreferences("bandwidth_test", Context.MODE_PRIVATE), null);
+  }
+
+  @Test
+  public void estimatesAreKeptPerNetworkType() {
+    store.record(C.NETWORK_TYPE_WIFI, 20_000_000, NOW_MS);
+    store.record(C.NETWORK_TYPE_4G, 5_000_000, NOW_MS);
+
+    assertEquals(Long.valueOf(20_000_000), store.get(C.NETWORK_TYPE_WIFI, NOW_MS));
+    assertEquals(Long.valueOf(5_000_000), store.get(C.NETWORK_TYPE_4G, NOW_MS));
+    assertNull(store.get(C.NETWORK_TYPE_3G, NOW_MS));
+  }
+
+  @Test
+  public void olderEstimatesCountLess() {
+    store.record(C.NETWORK_TYPE_WIFI, 10_000_000, NOW_MS);
+    store.record(C.NETWORK_TYPE_WIFI, 20_000_000, NOW_MS);
+    // A fresh estimate keeps 70% of its weight.
+    assertEquals(Long.valueOf(13_000_000), store.get(C.NETWORK_TYPE_WIFI, NOW_MS));
+
+    long later = NOW_MS + BandwidthEstimateStore.HALF_LIFE_MS;
+    store.record(C.NETWORK_TYPE_WIFI, 20_000_000, later);
+    // After one half-life it keeps 35%.
+    assertEquals(Long.valueOf(17_550_000), store.get(C.NETWORK_TYPE_WIFI, later));
+  }
+
+  @Test
+  public void expiredEstimatesAreForgotten() {
+    store.record(C.NETWORK_TYPE_WIFI, 10_000_000, NOW_MS);
+
+    long later = NOW_MS + BandwidthEstimateStore.MAX_AGE_MS + 1;
+    assertNull(store.get(C.NETWORK_TYPE_WIFI, later));
+    store.record(C.NETWORK_TYPE_WIFI, 30_000_000, later);
+    assertEquals(Long.valueOf(30_000_000), store.get(C.NETWORK_TYPE_WIFI, later));
+  }
+
+  @Test
+  public void overrideReplacesOrClearsTheEstimate() {
+    store.record(C.NETWORK_TYPE_WIFI, 10_000_000, NOW_MS);
+
+    store.override(C.NETWORK_TYPE_WIFI, 2_000_000L, NOW_MS);
+    assertEquals(Long.valueOf(2_000_000), store.get(C.NETWORK_TYPE_WIFI, NOW_MS));
+
+    store.override(C.NETWORK_TYPE_WIFI, null, NOW_MS);
+    assertNull(store.get(C.NETWORK_TYPE_WIFI, NOW_MS));
+  }
+
+  @Test
+  public void unknownNetworksAreNotStored() {
+    store.record(C.NETWORK_TYPE_UNKNOWN, 10_000_000, NOW_MS);
+    store.record(C.NETWORK_TYPE_OFFLINE, 10_000_000, NOW_MS);
+
+    assertNull(store.get(C.NETWORK_TYPE_UNKNOWN, NOW_MS));
+    assertNull(store.get(C.NETWORK_TYPE_OFFLINE, NOW_MS));
+  }
+}
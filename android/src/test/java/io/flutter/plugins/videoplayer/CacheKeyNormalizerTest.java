@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class CacheKeyNormalizerTest {
+  @Test
+  public void strippedParametersAreRemoved() {
+    CacheKeyNormalizer normalizer =
+        new CacheKeyNormalizer(
+            new CacheKeyNormalizer.Rules(Arrays.asList("token", "expires"), null, null), null);
+
+    assertEquals(
+        "https://cdn.example.com/v/seg1.ts?quality=hd",
+        normalizer.normalize(
+            "https://cdn.example.com/v/seg1.ts?token=abc&quality=hd&expires=123#t=5"));
+    assertEquals(
+        normalizer.normalize("https://cdn.example.com/v/seg1.ts?token=abc"),
+        normalizer.normalize("https://cdn.example.com/v/seg1.ts?token=def"));
+    assertEquals(
+        "https://cdn.example.com/v/seg1.ts",
+        normalizer.normalize("https://cdn.example.com/v/seg1.ts?token=abc&&expires"));
+  }
+
+  @Test
+  public void rewriteIsAppliedAfterStripping() {
+    CacheKeyNormalizer normalizer =
+        new CacheKeyNormalizer(
+            new CacheKeyNormalizer.Rules(
+                Collections.singletonList("sig"), "^https://cdn\\d+\\.", "https://cdn."),
+            null);
+
+    assertEquals(
+        "https://cdn.example.com/a.mp4",
+        normalizer.normalize("https://cdn42.example.com/a.mp4?sig=1"));
+  }
+
+  @Test
+  public void contentIdReplacesHostAndQuery() {
+    CacheKeyNormalizer normalizer =
+        new CacheKeyNormalizer(CacheKeyNormalizer.Rules.NONE, "episode-1");
+
+    assertEquals(
+        "content:episode-1/v/720p/seg1.ts",
+        normalizer.normalize("https://edge-3.example.com/v/720p/seg1.ts?token=abc"));
+    assertEquals(
+        normalizer.normalize("https://a.example.com/v/720p/seg1.ts"),
+        normalizer.normalize("http://b.example.net/v/720p/seg1.ts#x"));
+  }
+
+  @Test
+  public void urlsWithoutRulesOnlyLoseTheirFragment() {
+    CacheKeyNormalizer normalizer = new CacheKeyNormalizer(CacheKeyNormalizer.Rules.NONE, null);
+
+    assertEquals(
+        "https://example.com/a.mp4?token=abc",
+        normalizer.normalize("https://example.com/a.mp4?token=abc#t=10"));
+  }
+}
@@ -0,0 +1,130 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CompressionNegotiatingDataSourceTest {
+  private static final Uri URI = Uri.parse("https://example.com/subtitles.vtt");
+
+  @Test
+  public void wholeResourceRequestsAllowGzip() throws IOException {
+    FakeDataSource upstream = new FakeDataSource(4, null);
+
+    read(new CompressionNegotiatingDataSource(upstream, new CompressionStats()), new DataSpec(URI));
+
+    assertTrue(upstream.lastDataSpec.isFlagSet(DataSpec.FLAG_ALLOW_GZIP));
+  }
+
+  @Test
+  public void rangeRequestsKeepTheIdentityEncoding() throws IOException {
+    FakeDataSource upstream = new FakeDataSource(4, null);
+
+    read(
+        new CompressionNegotiatingDataSource(upstream, new CompressionStats()),
+        new DataSpec.Builder().setUri(URI).setPosition(100).setLength(4).build());
+
+    assertFalse(upstream.lastDataSpec.isFlagSet(DataSpec.FLAG_ALLOW_GZIP));
+  }
+
+  @Test
+  public void compressedResponsesAreOnlyCountedByTheirOwnStats() throws IOException {
+    CompressionStats stats = new CompressionStats();
+    CompressionStats otherStats = new CompressionStats();
+
+    read(
+        new CompressionNegotiatingDataSource(new FakeDataSource(10, "4"), stats),
+        new DataSpec(URI));
+    read(
+        new CompressionNegotiatingDataSource(new FakeDataSource(10, null), stats),
+        new DataSpec(URI));
+
+    assertEquals(1, stats.getCompressedResponseCount());
+    assertEquals(4, stats.getCompressedBytes());
+    assertEquals(10, stats.getDecompressedBytes());
+    assertEquals(0, otherStats.getCompressedResponseCount());
+  }
+
+  private static void read(DataSource dataSource, DataSpec dataSpec) throws IOException {
+    dataSource.open(dataSpec);
+    byte[] buffer = new byte[16];
+    while (dataSource.read(buffer, 0, buffer.length) != C.RESULT_END_OF_INPUT) {}
+    dataSource.close();
+  }
+
+  /** Serves zeros, reporting a gzip encoding when given an encoded length. */
+  private static final class FakeDataSource implements DataSource {
+    private final int length;
+    @Nullable private final String encodedLength;
+    private DataSpec lastDataSpec;
+    private int position;
+
+    FakeDataSource(int length, @Nullable String encodedLength) {
+      this.length = length;
+      this.encodedLength = encodedLength;
+    }
+
+    @Override
+    public void addTransferListener(@NonNull TransferListener transferListener) {}
+
+    @Override
+    public long open(@NonNull DataSpec dataSpec) {
+      lastDataSpec = dataSpec;
+      position = 0;
+      return C.LENGTH_UNSET;
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int readLength) {
+      if (position == length) {
+        return C.RESULT_END_OF_INPUT;
+      }
+      int read = Math.min(readLength, length - position);
+      Arrays.fill(buffer, offset, offset + read, (byte) 0);
+      position += read;
+      return read;
+    }
+
+    @Nullable
+    @Override
+    public Uri getUri() {
+      return lastDataSpec != null ? lastDataSpec.uri : null;
+    }
+
+    @NonNull
+    @Override
+    public Map<String, List<String>> getResponseHeaders() {
+      Map<String, List<String>> headers = new HashMap<>();
+      if (encodedLength != null) {
+        headers.put("Content-Encoding", Collections.singletonList("gzip"));
+        headers.put("Content-Length", Collections.singletonList(encodedLength));
+      }
+      return headers;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
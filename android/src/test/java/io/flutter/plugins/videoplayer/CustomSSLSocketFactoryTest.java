@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import org.junit.Test;
+
+public class CustomSSLSocketFactoryTest {
+  @Test
+  public void socketsHaveModernProtocolsEnabled() throws Exception {
+    SSLSocketFactory delegate = mock(SSLSocketFactory.class);
+    SSLSocket socket = mock(SSLSocket.class);
+    when(delegate.createSocket("host", 443)).thenReturn(socket);
+
+    new CustomSSLSocketFactory(delegate).createSocket("host", 443);
+
+    verify(socket).setEnabledProtocols(new String[] {"TLSv1.1", "TLSv1.2"});
+  }
+
+  @Test
+  public void factoriesShareOneSessionCache() throws Exception {
+    SSLContext context = new CustomSSLSocketFactory().getSslContext();
+    SSLContext otherContext = new CustomSSLSocketFactory().getSslContext();
+
+    assertNotNull(context);
+    assertSame(context, otherContext);
+    SSLSessionContext sessionContext = context.getClientSessionContext();
+    assertSame(sessionContext, otherContext.getClientSessionContext());
+    assertEquals(CustomSSLSocketFactory.SESSION_CACHE_SIZE, sessionContext.getSessionCacheSize());
+    assertEquals(
+        CustomSSLSocketFactory.SESSION_TIMEOUT_SECONDS, sessionContext.getSessionTimeout());
+  }
+}
@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class DownloadTrackerTest {
+  @Test
+  public void headersSurviveEncoding() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("User-Agent", "player/1.0");
+    headers.put("X-Client", "tv");
+
+    assertEquals(headers, DownloadTracker.decodeHeaders(DownloadTracker.encodeHeaders(headers)));
+  }
+
+  @Test
+  public void credentialsAreNotEncoded() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("Authorization", "Bearer token");
+    headers.put("cookie", "session=1");
+    headers.put("User-Agent", "player/1.0");
+
+    Map<String, String> stored =
+        DownloadTracker.decodeHeaders(DownloadTracker.encodeHeaders(headers));
+
+    assertEquals(Collections.singletonMap("User-Agent", "player/1.0"), stored);
+    assertTrue(DownloadTracker.hadCredentials(DownloadTracker.encodeHeaders(headers)));
+    assertFalse(
+        DownloadTracker.hadCredentials(
+            DownloadTracker.encodeHeaders(Collections.singletonMap("User-Agent", "player/1.0"))));
+    Map<String, String> secrets = DownloadTracker.secretHeaders(headers);
+    assertEquals(2, secrets.size());
+    assertEquals("Bearer token", secrets.get("Authorization"));
+    assertEquals("session=1", secrets.get("cookie"));
+  }
+
+  @Test
+  public void missingOrMalformedHeadersDecodeToNothing() {
+    assertTrue(DownloadTracker.decodeHeaders(null).isEmpty());
+    assertTrue(DownloadTracker.decodeHeaders(new byte[0]).isEmpty());
+    assertTrue(DownloadTracker.decodeHeaders("not json".getBytes()).isEmpty());
+  }
+}
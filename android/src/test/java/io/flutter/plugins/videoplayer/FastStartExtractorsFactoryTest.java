@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.extractor.DefaultExtractorInput;
+import com.google.android.exoplayer2.extractor.Extractor;
+import com.google.android.exoplayer2.extractor.ExtractorInput;
+import com.google.android.exoplayer2.extractor.ExtractorOutput;
+import com.google.android.exoplayer2.extractor.PositionHolder;
+import com.google.android.exoplayer2.extractor.ts.TsExtractor;
+import com.google.android.exoplayer2.extractor.wav.WavExtractor;
+import com.google.android.exoplayer2.source.UnrecognizedInputFormatException;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class FastStartExtractorsFactoryTest {
+  private final FastStartExtractorsFactory factory = new FastStartExtractorsFactory();
+
+  @Test
+  public void knownContainerOnlyGetsItsOwnExtractors() {
+    Extractor[] extractors =
+        factory.createExtractors(Uri.parse("https://example.com/clip.ts"), Collections.emptyMap());
+
+    assertEquals(1, extractors.length);
+    assertTrue(extractors[0] instanceof FastStartExtractorsFactory.FallbackExtractor);
+  }
+
+  @Test
+  public void unknownContainerGetsTheDefaultExtractors() {
+    Extractor[] extractors =
+        factory.createExtractors(Uri.parse("https://example.com/clip"), Collections.emptyMap());
+
+    assertTrue(extractors.length > 1);
+  }
+
+  @Test
+  public void matchingStreamIsReadByThePreferredExtractor() throws IOException {
+    FastStartExtractorsFactory.FallbackExtractor extractor = createFallbackExtractor("clip.ts");
+
+    assertTrue(extractor.sniff(input(createTs())));
+    assertEquals(Extractor.RESULT_END_OF_INPUT, readToEnd(extractor, createTs()));
+    assertTrue(extractor.getSelectedExtractor() instanceof TsExtractor);
+  }
+
+  @Test
+  public void mislabelledStreamFallsBackToTheDefaultExtractors() throws IOException {
+    FastStartExtractorsFactory.FallbackExtractor extractor = createFallbackExtractor("clip.mp4");
+
+    assertTrue(extractor.sniff(input(createWav())));
+    assertEquals(Extractor.RESULT_END_OF_INPUT, readToEnd(extractor, createWav()));
+    assertTrue(extractor.getSelectedExtractor() instanceof WavExtractor);
+  }
+
+  @Test
+  public void unrecognizedStreamFailsAfterTryingEveryExtractor() throws IOException {
+    Extractor extractor = createFallbackExtractor("clip.mp4");
+    byte[] garbage = new byte[4096];
+
+    assertFalse(extractor.sniff(input(garbage)));
+    extractor.init(ExtractorOutput.PLACEHOLDER);
+    assertThrows(
+        UnrecognizedInputFormatException.class,
+        () -> extractor.read(input(garbage), new PositionHolder()));
+  }
+
+  private FastStartExtractorsFactory.FallbackExtractor createFallbackExtractor(String path) {
+    Extractor[] extractors =
+        factory.createExtractors(
+            Uri.parse("https://example.com/" + path), Collections.emptyMap());
+    assertEquals(1, extractors.length);
+    return (FastStartExtractorsFactory.FallbackExtractor) extractors[0];
+  }
+
+  private static int readToEnd(Extractor extractor, byte[] data) throws IOException {
+    extractor.init(ExtractorOutput.PLACEHOLDER);
+    ExtractorInput input = input(data);
+    PositionHolder positionHolder = new PositionHolder();
+    int result = Extractor.RESULT_CONTINUE;
+    while (result == Extractor.RESULT_CONTINUE) {
+      result = extractor.read(input, positionHolder);
+    }
+    return result;
+  }
+
+  private static ExtractorInput input(byte[] data) throws IOException {
+    ByteArrayDataSource dataSource = new ByteArrayDataSource(data);
+    long length = dataSource.open(new DataSpec(Uri.EMPTY));
+    return new DefaultExtractorInput(dataSource, 0, length);
+  }
+
+  /** Returns MPEG-TS null packets, which are only recognizable by their sync bytes. */
+  private static byte[] createTs() {
+    byte[] ts = new byte[TsExtractor.TS_PACKET_SIZE * 10];
+    for (int offset = 0; offset < ts.length; offset += TsExtractor.TS_PACKET_SIZE) {
+      ts[offset] = (byte) TsExtractor.TS_SYNC_BYTE;
+      ts[offset + 1] = 0x1F;
+      ts[offset + 2] = (byte) 0xFF;
+      ts[offset + 3] = 0x10;
+    }
+    return ts;
+  }
+
+  /** Returns a short silent mono WAV file. */
+  private static byte[] createWav() {
+    int sampleRate = 8000;
+    int dataBytes = sampleRate * 2;
+    ByteBuffer wav = ByteBuffer.allocate(44 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+    wav.put(new byte[] {'R', 'I', 'F', 'F'}).putInt(36 + dataBytes);
+    wav.put(new byte[] {'W', 'A', 'V', 'E', 'f', 'm', 't', ' '}).putInt(16);
+    wav.putShort((short) 1).putShort((short) 1);
+    wav.putInt(sampleRate).putInt(sampleRate * 2);
+    wav.putShort((short) 2).putShort((short) 16);
+    wav.put(new byte[] {'d', 'a', 't', 'a'}).putInt(dataBytes);
+    return wav.array();
+  }
+}
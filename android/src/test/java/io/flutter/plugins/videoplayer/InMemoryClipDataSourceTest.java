@@ -0,0 +1,159 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class InMemoryClipDataSourceTest {
+  private static final byte[] CLIP = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+  private static final DataSpec WHOLE_CLIP = new DataSpec(Uri.parse("https://example.com/a.mp4"));
+
+  @Test
+  public void loopingClipIsReadFromUpstreamOnce() throws IOException {
+    DataSource upstream = spy(new ByteArrayDataSource(CLIP));
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length);
+    clip.setEnabled(true);
+
+    assertArrayEquals(CLIP, readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP));
+    assertTrue(clip.isLoaded());
+    assertArrayEquals(CLIP, readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP));
+    DataSpec tail = WHOLE_CLIP.subrange(6);
+    assertArrayEquals(
+        new byte[] {6, 7, 8, 9}, readAll(new InMemoryClipDataSource(upstream, clip), tail));
+
+    verify(upstream, times(1)).open(any());
+  }
+
+  @Test
+  public void clipIsStreamedWhenNotLooping() throws IOException {
+    DataSource upstream = spy(new ByteArrayDataSource(CLIP));
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length);
+
+    readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP);
+    readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP);
+
+    assertFalse(clip.isLoaded());
+    verify(upstream, times(2)).open(any());
+  }
+
+  @Test
+  public void largeClipsAreStreamed() throws IOException {
+    DataSource upstream = spy(new ByteArrayDataSource(CLIP));
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length - 1);
+    clip.setEnabled(true);
+
+    assertArrayEquals(CLIP, readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP));
+    assertArrayEquals(CLIP, readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP));
+
+    assertFalse(clip.isLoaded());
+    // The size is known when the first pass opens, so the clip is never read ahead.
+    verify(upstream, times(2)).open(any());
+  }
+
+  @Test
+  public void firstPassIsStreamedWhileItIsRecorded() throws IOException {
+    DataSource upstream = spy(new ByteArrayDataSource(CLIP));
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length);
+    clip.setEnabled(true);
+    InMemoryClipDataSource dataSource = new InMemoryClipDataSource(upstream, clip);
+
+    dataSource.open(WHOLE_CLIP);
+    byte[] buffer = new byte[4];
+    assertEquals(4, dataSource.read(buffer, 0, buffer.length));
+
+    verify(upstream, times(1)).read(any(), anyInt(), anyInt());
+    dataSource.close();
+    assertFalse(clip.isLoaded());
+  }
+
+  @Test
+  public void largeClipsOfUnknownLengthAreStreamedOnce() throws IOException {
+    DataSource upstream = spy(new ByteArrayDataSource(CLIP));
+    doAnswer(
+            invocation -> {
+              invocation.callRealMethod();
+              return (long) C.LENGTH_UNSET;
+            })
+        .when(upstream)
+        .open(any());
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length - 1);
+    clip.setEnabled(true);
+
+    assertArrayEquals(CLIP, readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP));
+    assertArrayEquals(CLIP, readAll(new InMemoryClipDataSource(upstream, clip), WHOLE_CLIP));
+
+    assertFalse(clip.isLoaded());
+    verify(upstream, times(2)).open(any());
+  }
+
+  @Test
+  public void reopenAtAnOffsetLoadsTheClip() throws IOException {
+    DataSource upstream = spy(new ByteArrayDataSource(CLIP));
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length);
+    clip.setEnabled(true);
+    InMemoryClipDataSource dataSource = new InMemoryClipDataSource(upstream, clip);
+    dataSource.open(WHOLE_CLIP);
+    dataSource.read(new byte[4], 0, 4);
+    dataSource.close();
+
+    DataSpec tail = WHOLE_CLIP.subrange(6);
+    assertArrayEquals(
+        new byte[] {6, 7, 8, 9}, readAll(new InMemoryClipDataSource(upstream, clip), tail));
+
+    assertTrue(clip.isLoaded());
+    verify(upstream, times(2)).open(any());
+  }
+
+  @Test
+  public void disablingOrReleasingFreesTheClip() throws IOException {
+    InMemoryClipDataSource.Clip clip = new InMemoryClipDataSource.Clip(CLIP.length);
+    clip.setEnabled(true);
+    readAll(new InMemoryClipDataSource(new ByteArrayDataSource(CLIP), clip), WHOLE_CLIP);
+
+    clip.setEnabled(false);
+    assertFalse(clip.isLoaded());
+
+    clip.setEnabled(true);
+    readAll(new InMemoryClipDataSource(new ByteArrayDataSource(CLIP), clip), WHOLE_CLIP);
+    clip.release();
+    assertFalse(clip.isLoaded());
+  }
+
+  private static byte[] readAll(DataSource dataSource, DataSpec dataSpec) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try {
+      dataSource.open(dataSpec);
+      byte[] buffer = new byte[4];
+      int read;
+      while ((read = dataSource.read(buffer, 0, buffer.length)) != C.RESULT_END_OF_INPUT) {
+        output.write(buffer, 0, read);
+      }
+    } finally {
+      dataSource.close();
+    }
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,60 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.LivePlaybackSpeedControl;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LiveLatencyMonitorTest {
+  private LivePlaybackSpeedControl delegate;
+  private LiveLatencyMonitor monitor;
+
+  @Before
+  public void before() {
+    delegate = mock(LivePlaybackSpeedControl.class);
+    when(delegate.getTargetLiveOffsetUs()).thenReturn(C.TIME_UNSET);
+    monitor = new LiveLatencyMonitor(delegate);
+  }
+
+  @Test
+  public void reportsNoCatchUpBeforeTheFirstAdjustment() {
+    assertEquals(LiveLatencyMonitor.CATCH_UP_NONE, monitor.getCatchUpState());
+    assertEquals(1f, monitor.getAdjustedSpeed(), 0f);
+    assertEquals(C.TIME_UNSET, monitor.getTargetLiveOffsetMs());
+  }
+
+  @Test
+  public void recordsTheSpeedPickedByTheDelegate() {
+    when(delegate.getTargetLiveOffsetUs()).thenReturn(3_000_000L);
+    when(delegate.getAdjustedPlaybackSpeed(5_000_000L, 1_000_000L)).thenReturn(1.03f);
+    when(delegate.getAdjustedPlaybackSpeed(2_000_000L, 1_000_000L)).thenReturn(0.97f);
+    when(delegate.getAdjustedPlaybackSpeed(3_000_000L, 1_000_000L)).thenReturn(1f);
+
+    assertEquals(1.03f, monitor.getAdjustedPlaybackSpeed(5_000_000L, 1_000_000L), 0f);
+    assertEquals(LiveLatencyMonitor.CATCH_UP_SPEEDING_UP, monitor.getCatchUpState());
+    assertEquals(3000, monitor.getTargetLiveOffsetMs());
+
+    monitor.getAdjustedPlaybackSpeed(2_000_000L, 1_000_000L);
+    assertEquals(LiveLatencyMonitor.CATCH_UP_SLOWING_DOWN, monitor.getCatchUpState());
+
+    monitor.getAdjustedPlaybackSpeed(3_000_000L, 1_000_000L);
+    assertEquals(LiveLatencyMonitor.CATCH_UP_NONE, monitor.getCatchUpState());
+  }
+
+  @Test
+  public void tracksTheTargetAfterRebuffering() {
+    when(delegate.getTargetLiveOffsetUs()).thenReturn(3_500_000L);
+
+    monitor.notifyRebuffer();
+
+    assertEquals(3500, monitor.getTargetLiveOffsetMs());
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+import android.net.Uri;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ManifestCacheTest {
+  private static final String URI = "https://example.com/master.m3u8";
+  private static final byte[] DATA = new byte[] {1, 2, 3};
+
+  @Test
+  public void parsedManifestIsOnlyReusedForIdenticalBytes() {
+    ManifestCache cache = new ManifestCache();
+    Object manifest = new Object();
+    cache.putData(URI, DATA, Uri.parse(URI), "\"etag\"", null);
+    cache.putParsed(Uri.parse(URI), DATA, manifest);
+
+    assertSame(manifest, cache.getParsed(Uri.parse(URI), new byte[] {1, 2, 3}));
+    assertNull(cache.getParsed(Uri.parse(URI), new byte[] {1, 2, 4}));
+  }
+
+  @Test
+  public void parsedManifestIsFoundThroughRedirectedUri() {
+    ManifestCache cache = new ManifestCache();
+    Uri redirected = Uri.parse("https://cdn.example.com/master.m3u8");
+    Object manifest = new Object();
+    cache.putData(URI, DATA, redirected, null, null);
+    cache.putParsed(redirected, DATA, manifest);
+
+    assertSame(manifest, cache.getParsed(redirected, DATA));
+  }
+
+  @Test
+  public void vodEntryIsFreshUntilTtlExpires() {
+    ManifestCache cache = spy(new ManifestCache(ManifestCache.DEFAULT_MAX_BYTES, 1000));
+    doReturn(0L).when(cache).now();
+    cache.putData(URI, DATA, Uri.parse(URI), null, null);
+    cache.putParsed(Uri.parse(URI), DATA, new Object());
+
+    doReturn(1000L).when(cache).now();
+    assertNotNull(cache.getFresh(URI));
+    doReturn(1001L).when(cache).now();
+    assertNull(cache.getFresh(URI));
+    assertNotNull(cache.get(URI));
+  }
+
+  @Test
+  public void unparsedEntryIsNeverFresh() {
+    ManifestCache cache = new ManifestCache();
+    cache.putData(URI, DATA, Uri.parse(URI), null, null);
+
+    assertNull(cache.getFresh(URI));
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreEvictedWhenOverBudget() {
+    ManifestCache cache = new ManifestCache(5, 1000);
+    cache.putData("a", new byte[] {1, 2}, Uri.parse("a"), null, null);
+    cache.putData("b", new byte[] {1, 2}, Uri.parse("b"), null, null);
+    cache.get("a");
+    cache.putData("c", new byte[] {1, 2}, Uri.parse("c"), null, null);
+
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get("a"));
+    assertNull(cache.get("b"));
+  }
+
+  @Test
+  public void onlyManifestLoadsBypassTheMediaFactory() {
+    DataSource media = new ByteArrayDataSource(DATA);
+    ManifestCachingDataSource.Factory factory =
+        new ManifestCachingDataSource.Factory(
+            () -> new ByteArrayDataSource(DATA),
+            () -> media,
+            new ManifestCache(),
+            new CompressionStats());
+
+    assertSame(media, factory.createDataSource(C.DATA_TYPE_MEDIA));
+    assertNotSame(media, factory.createDataSource(C.DATA_TYPE_MANIFEST));
+    assertTrue(
+        factory.createDataSource(C.DATA_TYPE_MANIFEST) instanceof CompressionNegotiatingDataSource);
+  }
+}
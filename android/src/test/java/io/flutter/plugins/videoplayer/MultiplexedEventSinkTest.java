@@ -0,0 +1,53 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import io.flutter.plugin.common.EventChannel;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MultiplexedEventSinkTest {
+  @Test
+  public void eventsAreTaggedAndBatched() {
+    MultiplexedEventSink multiplexedEventSink = new MultiplexedEventSink();
+    EventChannel.EventSink fakeSink = mock(EventChannel.EventSink.class);
+    multiplexedEventSink.onListen(null, fakeSink);
+
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "bufferingStart");
+    multiplexedEventSink.forPlayer(1).success(event);
+    multiplexedEventSink.forPlayer(2).error("VideoError", "message", null);
+
+    verify(fakeSink, never()).success(any());
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+
+    ArgumentCaptor<Object> batchCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(fakeSink).success(batchCaptor.capture());
+    List<?> batch = (List<?>) batchCaptor.getValue();
+    assertEquals(2, batch.size());
+    Map<?, ?> first = (Map<?, ?>) batch.get(0);
+    assertEquals(1L, first.get("textureId"));
+    assertEquals("bufferingStart", first.get("event"));
+    Map<?, ?> second = (Map<?, ?>) batch.get(1);
+    assertEquals(2L, second.get("textureId"));
+    assertEquals("error", second.get("event"));
+    assertEquals("VideoError", second.get("code"));
+  }
+}
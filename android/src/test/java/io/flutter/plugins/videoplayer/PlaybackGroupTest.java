@@ -0,0 +1,126 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PlaybackGroupTest {
+  private VideoPlayer master;
+  private VideoPlayer follower;
+  private PlaybackGroup group;
+
+  @Before
+  public void before() {
+    master = mock(VideoPlayer.class);
+    follower = mock(VideoPlayer.class);
+    when(master.isPlaying()).thenReturn(true);
+    when(follower.isPlaying()).thenReturn(true);
+    when(master.getPlaybackSpeed()).thenReturn(1f);
+    when(follower.getPlaybackSpeed()).thenReturn(1f);
+    when(master.getCurrentPosition()).thenReturn(10_000L);
+    group = new PlaybackGroup(Arrays.asList(master, follower), 40, mock(Handler.class));
+  }
+
+  @Test
+  public void playLinesFollowersUpWithTheMaster() {
+    group.play();
+
+    verify(follower).seekTo(10_000);
+    verify(master, never()).seekTo(anyInt());
+    verify(master).play();
+    verify(follower).play();
+  }
+
+  @Test
+  public void driftWithinToleranceIsLeftAlone() {
+    when(follower.getCurrentPosition()).thenReturn(10_030L);
+
+    group.sync();
+
+    verify(follower, never()).setPlaybackSpeed(anyDouble());
+    verify(follower, never()).seekTo(anyInt());
+    assertEquals(30, group.getLastErrorMs());
+  }
+
+  @Test
+  public void smallDriftIsCorrectedBySpeed() {
+    ArgumentCaptor<Double> speed = ArgumentCaptor.forClass(Double.class);
+
+    when(follower.getCurrentPosition()).thenReturn(10_100L);
+    group.sync();
+    verify(follower).setPlaybackSpeed(speed.capture());
+    assertEquals(0.95, speed.getValue(), 0.001);
+
+    when(follower.getCurrentPosition()).thenReturn(9_960L);
+    group.sync();
+    verify(follower, never()).seekTo(anyInt());
+    assertEquals(2, group.getSpeedAdjustmentCount());
+  }
+
+  @Test
+  public void largeDriftIsCorrectedBySeeking() {
+    when(follower.getCurrentPosition()).thenReturn(8_000L);
+
+    group.sync();
+
+    verify(follower).seekTo(10_000);
+    assertEquals(1, group.getReseekCount());
+  }
+
+  @Test
+  public void bufferingFollowersAreNotSeeked() {
+    when(follower.isPlaying()).thenReturn(false);
+    when(follower.getCurrentPosition()).thenReturn(8_000L);
+
+    group.sync();
+
+    verify(follower, never()).seekTo(anyInt());
+    assertEquals(2000, group.getMaxErrorMs());
+  }
+
+  @Test
+  public void statsAggregateOverChecks() {
+    when(follower.getCurrentPosition()).thenReturn(10_020L);
+    group.sync();
+    when(follower.getCurrentPosition()).thenReturn(9_940L);
+    group.sync();
+
+    assertEquals(2, group.getSampleCount());
+    assertEquals(40.0, group.getMeanErrorMs(), 0.001);
+    assertEquals(60, group.getMaxErrorMs());
+    assertEquals(60, group.getLastErrorMs());
+  }
+
+  @Test
+  public void correctedSpeedsAreRestoredOnPauseRemoveAndRelease() {
+    when(follower.getCurrentPosition()).thenReturn(10_100L);
+    group.sync();
+    group.pause();
+    verify(follower).setPlaybackSpeed(1.0);
+
+    group.sync();
+    group.remove(master);
+    verify(follower, times(2)).setPlaybackSpeed(1.0);
+
+    PlaybackGroup released =
+        new PlaybackGroup(Arrays.asList(master, follower), 40, mock(Handler.class));
+    released.sync();
+    released.release();
+    verify(follower, times(3)).setPlaybackSpeed(1.0);
+  }
+}
@@ -0,0 +1,40 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.exoplayer2.C;
+import org.junit.Test;
+
+public class PositionSnapshotTest {
+  @Test
+  public void pausedPositionDoesNotAdvance() {
+    PositionSnapshot snapshot = new PositionSnapshot(5000, 60000, 1000, 1f, false);
+
+    assertEquals(5000, snapshot.positionAt(3000));
+  }
+
+  @Test
+  public void playingPositionAdvancesWithSpeed() {
+    PositionSnapshot snapshot = new PositionSnapshot(5000, 60000, 1000, 2f, true);
+
+    assertEquals(9000, snapshot.positionAt(3000));
+  }
+
+  @Test
+  public void playingPositionIsClampedToDuration() {
+    PositionSnapshot snapshot = new PositionSnapshot(59000, 60000, 1000, 1f, true);
+
+    assertEquals(60000, snapshot.positionAt(5000));
+  }
+
+  @Test
+  public void livePositionIsNotClamped() {
+    PositionSnapshot snapshot = new PositionSnapshot(59000, C.TIME_UNSET, 1000, 1f, true);
+
+    assertEquals(63000, snapshot.positionAt(5000));
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PosterFrameCacheTest {
+  private static final String URI = "https://example.com/video.mp4";
+  private static final byte[] FRAME = new byte[] {1, 2, 3, 4};
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+  private PosterFrameCache cache;
+
+  @Before
+  public void setUp() {
+    directory = new File(temporaryFolder.getRoot(), "posters");
+    cache = new PosterFrameCache(directory, 10, 480, Executors.newSingleThreadExecutor());
+  }
+
+  @After
+  public void tearDown() {
+    cache.release();
+  }
+
+  @Test
+  public void findsTheFrameNearestToThePosition() {
+    cache.putEncoded(URI, 1500, new byte[] {1});
+    cache.putEncoded(URI, 9000, new byte[] {9});
+
+    PosterFrameCache.PosterFrame frame = cache.find(URI, 7000L);
+
+    assertNotNull(frame);
+    assertEquals(9000, frame.positionMs);
+    assertArrayEquals(new byte[] {9}, frame.jpeg);
+    assertEquals(1000, cache.find(URI, 0L).positionMs);
+  }
+
+  @Test
+  public void findsTheMostRecentlyUsedFrameWithoutAPosition() {
+    cache.putEncoded(URI, 1000, new byte[] {1});
+    cache.putEncoded(URI, 2000, new byte[] {2});
+    assertTrue(new File(directory, PosterFrameCache.fileName(URI, 1000)).setLastModified(5000));
+    assertTrue(new File(directory, PosterFrameCache.fileName(URI, 2000)).setLastModified(1000));
+
+    assertEquals(1000, cache.find(URI, null).positionMs);
+  }
+
+  @Test
+  public void framesOfOtherMediaAreNotReturned() {
+    cache.putEncoded(URI, 1000, FRAME);
+
+    assertNull(cache.find("https://example.com/other.mp4", 1000L));
+  }
+
+  @Test
+  public void leastRecentlyUsedFramesAreDeletedBeyondTheLimit() {
+    cache.putEncoded(URI, 0, FRAME);
+    File first = new File(directory, PosterFrameCache.fileName(URI, 0));
+    assertTrue(first.setLastModified(1000));
+    cache.putEncoded(URI, 1000, FRAME);
+    assertTrue(new File(directory, PosterFrameCache.fileName(URI, 1000)).setLastModified(2000));
+
+    cache.putEncoded(URI, 2000, FRAME);
+
+    assertFalse(first.exists());
+    assertEquals(1000, cache.find(URI, 0L).positionMs);
+  }
+
+  @Test
+  public void framesAreSharedByUrlsWithTheSameContentId() {
+    CacheKeyNormalizer keys = PosterFrameCache.keyNormalizer(null, "episode-1");
+    cache.putEncoded(keys.normalize("https://cdn-a.example.com/video.mp4?token=1"), 1000, FRAME);
+
+    assertNotNull(cache.find(keys.normalize("https://cdn-b.example.com/video.mp4?token=2"), 1000L));
+  }
+
+  @Test
+  public void positionsInTheSameBucketShareAFile() {
+    assertEquals(
+        PosterFrameCache.fileName(URI, PosterFrameCache.bucketStartMs(1000)),
+        PosterFrameCache.fileName(URI, PosterFrameCache.bucketStartMs(1999)));
+    assertEquals(0, PosterFrameCache.bucketStartMs(-500));
+  }
+}
@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PreparationSchedulerTest {
+  private PreparationScheduler scheduler;
+
+  @Before
+  public void before() {
+    scheduler = new PreparationScheduler();
+  }
+
+  @Test
+  public void higherPriorityPlayersPrepareFirstWhenLimited() {
+    scheduler.setMaxConcurrentPreparations(1);
+    VideoPlayer first = mock(VideoPlayer.class);
+    VideoPlayer normal = mock(VideoPlayer.class);
+    VideoPlayer visible = mock(VideoPlayer.class);
+
+    scheduler.add(first, PreparationScheduler.PRIORITY_NORMAL);
+    scheduler.add(normal, PreparationScheduler.PRIORITY_NORMAL);
+    scheduler.add(visible, PreparationScheduler.PRIORITY_VISIBLE);
+
+    ArgumentCaptor<Runnable> onFinished = ArgumentCaptor.forClass(Runnable.class);
+    verify(first).prepare(onFinished.capture());
+    verify(normal, never()).prepare(any());
+    verify(visible, never()).prepare(any());
+
+    onFinished.getValue().run();
+
+    verify(visible).prepare(any());
+    verify(normal, never()).prepare(any());
+  }
+
+  @Test
+  public void offscreenPlayersWaitUntilRaised() {
+    VideoPlayer player = mock(VideoPlayer.class);
+
+    scheduler.add(player, PreparationScheduler.PRIORITY_OFFSCREEN);
+
+    verify(player).setPriority(PreparationScheduler.PRIORITY_OFFSCREEN);
+    verify(player, never()).prepare(any());
+
+    scheduler.setPriority(player, PreparationScheduler.PRIORITY_VISIBLE);
+
+    verify(player).setPriority(PreparationScheduler.PRIORITY_VISIBLE);
+    verify(player).prepare(any());
+  }
+
+  @Test
+  public void startNowBypassesTheQueue() {
+    scheduler.setMaxConcurrentPreparations(1);
+    VideoPlayer first = mock(VideoPlayer.class);
+    VideoPlayer second = mock(VideoPlayer.class);
+    scheduler.add(first, PreparationScheduler.PRIORITY_NORMAL);
+    scheduler.add(second, PreparationScheduler.PRIORITY_NORMAL);
+
+    scheduler.startNow(second);
+
+    verify(second).prepare(any());
+  }
+}
@@ -0,0 +1,55 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import io.flutter.plugin.common.EventChannel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class QueuingEventSinkTest {
+  @Test
+  public void eventsAreQueuedUntilDelegateIsSet() {
+    QueuingEventSink sink = new QueuingEventSink();
+    EventChannel.EventSink fakeDelegate = mock(EventChannel.EventSink.class);
+
+    sink.success("first");
+    sink.error("code", "message", null);
+    sink.setDelegate(fakeDelegate);
+
+    InOrder inOrder = inOrder(fakeDelegate);
+    inOrder.verify(fakeDelegate).success("first");
+    inOrder.verify(fakeDelegate).error("code", "message", null);
+  }
+
+  @Test
+  public void eventsFromBackgroundThreadsAreDeliveredOnMainThreadInOrder() throws Exception {
+    QueuingEventSink sink = new QueuingEventSink();
+    EventChannel.EventSink fakeDelegate = mock(EventChannel.EventSink.class);
+    sink.setDelegate(fakeDelegate);
+
+    Thread producer = new Thread(() -> sink.success("background"));
+    producer.start();
+    producer.join();
+    verify(fakeDelegate, never()).success(any());
+
+    sink.success("main");
+    shadowOf(Looper.getMainLooper()).idle();
+
+    InOrder inOrder = inOrder(fakeDelegate);
+    inOrder.verify(fakeDelegate).success("background");
+    inOrder.verify(fakeDelegate).success("main");
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import android.os.Looper;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.SeekParameters;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class SeekSchedulerTest {
+  private ExoPlayer fakeExoPlayer;
+  private SeekScheduler scheduler;
+
+  @Before
+  public void before() {
+    fakeExoPlayer = mock(ExoPlayer.class);
+    when(fakeExoPlayer.getPlaybackState()).thenReturn(Player.STATE_READY);
+    scheduler = new SeekScheduler(fakeExoPlayer, new Handler(Looper.getMainLooper()));
+  }
+
+  @Test
+  public void seeksWhileInFlightAreCoalescedToTheLatestTarget() {
+    scheduler.seekTo(1000);
+    scheduler.seekTo(2000);
+    scheduler.seekTo(3000);
+
+    verify(fakeExoPlayer).seekTo(1000);
+    verify(fakeExoPlayer, never()).seekTo(2000);
+    verify(fakeExoPlayer, never()).seekTo(3000);
+
+    scheduler.onPlaybackStateChanged(Player.STATE_READY);
+
+    verify(fakeExoPlayer, never()).seekTo(2000);
+    verify(fakeExoPlayer).seekTo(3000);
+  }
+
+  @Test
+  public void seekIsIssuedImmediatelyWhenIdle() {
+    when(fakeExoPlayer.getPlaybackState()).thenReturn(Player.STATE_IDLE);
+
+    scheduler.seekTo(1000);
+    scheduler.seekTo(2000);
+
+    verify(fakeExoPlayer).seekTo(1000);
+    verify(fakeExoPlayer).seekTo(2000);
+  }
+
+  @Test
+  public void scrubbingUsesClosestSyncAndEndsWithAnExactSeek() {
+    scheduler.setScrubbing(true);
+    scheduler.seekTo(1000);
+    scheduler.onPlaybackStateChanged(Player.STATE_READY);
+    scheduler.setScrubbing(false);
+
+    InOrder inOrder = inOrder(fakeExoPlayer);
+    inOrder.verify(fakeExoPlayer).setSeekParameters(SeekParameters.CLOSEST_SYNC);
+    inOrder.verify(fakeExoPlayer).seekTo(1000);
+    inOrder.verify(fakeExoPlayer).setSeekParameters(SeekParameters.EXACT);
+    inOrder.verify(fakeExoPlayer).seekTo(1000);
+  }
+
+  @Test
+  public void scrubWithoutSeeksDoesNotRepeatAnEarlierSeek() {
+    scheduler.seekTo(1000);
+    scheduler.onPlaybackStateChanged(Player.STATE_READY);
+
+    scheduler.setScrubbing(true);
+    scheduler.setScrubbing(false);
+
+    verify(fakeExoPlayer).seekTo(1000);
+  }
+}
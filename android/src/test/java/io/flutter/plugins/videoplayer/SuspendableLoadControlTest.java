@@ -0,0 +1,146 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.net.Uri;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class SuspendableLoadControlTest {
+  private static final int SAMPLE_RATE = 8000;
+  private static final int DURATION_SECONDS = 5;
+
+  private final AtomicInteger opens = new AtomicInteger();
+  private ExoPlayer player;
+
+  @After
+  public void tearDown() {
+    if (player != null) {
+      player.release();
+    }
+  }
+
+  @Test
+  public void seekBackWithinTheBackBufferDoesNotLoadAgain() throws InterruptedException {
+    prepare(new SuspendableLoadControl(DURATION_SECONDS * 1000, false));
+
+    seekAndWait(3000);
+    seekAndWait(1000);
+
+    assertEquals(1, opens.get());
+  }
+
+  @Test
+  public void seekBackWithoutABackBufferLoadsAgain() throws InterruptedException {
+    prepare(new SuspendableLoadControl(0, false));
+
+    seekAndWait(3000);
+    seekAndWait(1000);
+
+    assertEquals(2, opens.get());
+  }
+
+  private void prepare(SuspendableLoadControl loadControl) throws InterruptedException {
+    byte[] wav = createWav();
+    TransferListener countingListener =
+        new TransferListener() {
+          @Override
+          public void onTransferInitializing(
+              @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+          @Override
+          public void onTransferStart(
+              @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {
+            opens.incrementAndGet();
+          }
+
+          @Override
+          public void onBytesTransferred(
+              @NonNull DataSource source,
+              @NonNull DataSpec dataSpec,
+              boolean isNetwork,
+              int bytesTransferred) {}
+
+          @Override
+          public void onTransferEnd(
+              @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+        };
+    DataSource.Factory dataSourceFactory =
+        () -> {
+          ByteArrayDataSource dataSource = new ByteArrayDataSource(wav);
+          dataSource.addTransferListener(countingListener);
+          return dataSource;
+        };
+    player =
+        new ExoPlayer.Builder(ApplicationProvider.getApplicationContext())
+            .setLoadControl(loadControl)
+            .build();
+    player.setMediaSource(
+        new ProgressiveMediaSource.Factory(dataSourceFactory)
+            .createMediaSource(MediaItem.fromUri(Uri.parse("memory://clip.wav"))));
+    player.prepare();
+    waitUntilLoaded();
+  }
+
+  private void seekAndWait(long positionMs) throws InterruptedException {
+    player.seekTo(positionMs);
+    waitUntilLoaded();
+    // Lets the player discard the buffer behind the position, as it does while it is ready.
+    idle(Duration.ofSeconds(2));
+  }
+
+  private void waitUntilLoaded() throws InterruptedException {
+    for (int i = 0; i < 500; i++) {
+      if (player.getPlaybackState() == Player.STATE_READY && !player.isLoading()) {
+        return;
+      }
+      idle(Duration.ofMillis(10));
+    }
+    fail("The player did not finish loading.");
+  }
+
+  private static void idle(Duration duration) throws InterruptedException {
+    // The playback thread runs on its own, so it also needs some real time.
+    for (long elapsedMs = 0; elapsedMs < duration.toMillis(); elapsedMs += 10) {
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(10));
+      Thread.sleep(1);
+    }
+  }
+
+  /** Returns a silent mono WAV file, every sample of which is a keyframe. */
+  private static byte[] createWav() {
+    int dataBytes = SAMPLE_RATE * DURATION_SECONDS * 2;
+    ByteBuffer wav = ByteBuffer.allocate(44 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+    wav.put(new byte[] {'R', 'I', 'F', 'F'}).putInt(36 + dataBytes);
+    wav.put(new byte[] {'W', 'A', 'V', 'E', 'f', 'm', 't', ' '}).putInt(16);
+    wav.putShort((short) 1).putShort((short) 1);
+    wav.putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2);
+    wav.putShort((short) 2).putShort((short) 16);
+    wav.put(new byte[] {'d', 'a', 't', 'a'}).putInt(dataBytes);
+    return wav.array();
+  }
+}
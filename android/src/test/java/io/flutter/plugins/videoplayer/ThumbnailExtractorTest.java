@@ -0,0 +1,177 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.upstream.ByteArrayDataSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ThumbnailExtractorTest {
+  private static final String URI = "https://example.com/video.mp4";
+  private static final String HLS_URI = "https://example.com/master.m3u8";
+  private static final String MEDIA_PLAYLIST =
+      "#EXTM3U\n"
+          + "#EXT-X-TARGETDURATION:6\n"
+          + "#EXTINF:6.0,\n"
+          + "segment0.ts\n"
+          + "#EXTINF:6.0,\n"
+          + "segment1.ts\n"
+          + "#EXT-X-ENDLIST\n";
+
+  @Test
+  public void positionsInTheSameBucketShareACacheKey() {
+    assertEquals(
+        ThumbnailExtractor.cacheKey(URI, ThumbnailExtractor.bucketStartMs(1000), 160),
+        ThumbnailExtractor.cacheKey(URI, ThumbnailExtractor.bucketStartMs(1999), 160));
+    assertNotEquals(
+        ThumbnailExtractor.cacheKey(URI, ThumbnailExtractor.bucketStartMs(1999), 160),
+        ThumbnailExtractor.cacheKey(URI, ThumbnailExtractor.bucketStartMs(2000), 160));
+  }
+
+  @Test
+  public void cacheKeyDependsOnSize() {
+    assertNotEquals(
+        ThumbnailExtractor.cacheKey(URI, 0, 160), ThumbnailExtractor.cacheKey(URI, 0, 320));
+  }
+
+  @Test
+  public void negativePositionsUseTheFirstBucket() {
+    assertEquals(0, ThumbnailExtractor.bucketStartMs(-500));
+  }
+
+  @Test
+  public void formatHintTakesPrecedenceOverTheExtension() {
+    assertTrue(ThumbnailExtractor.isHls(Uri.parse("https://example.com/stream"), "hls"));
+    assertFalse(ThumbnailExtractor.isHls(Uri.parse(HLS_URI), "other"));
+    assertTrue(ThumbnailExtractor.isHls(Uri.parse(HLS_URI), null));
+  }
+
+  @Test
+  public void iFramePlaylistIsPreferred() throws IOException {
+    Map<String, String> responses = new HashMap<>();
+    responses.put(
+        HLS_URI,
+        "#EXTM3U\n"
+            + "#EXT-X-STREAM-INF:BANDWIDTH=800000,RESOLUTION=640x360\n"
+            + "low.m3u8\n"
+            + "#EXT-X-I-FRAME-STREAM-INF:BANDWIDTH=100000,RESOLUTION=320x180,"
+            + "URI=\"iframes.m3u8\"\n");
+    responses.put("https://example.com/iframes.m3u8", MEDIA_PLAYLIST);
+
+    ThumbnailExtractor.ThumbnailPlaylist playlist =
+        ThumbnailExtractor.loadThumbnailPlaylist(
+            new FakeDataSourceFactory(responses),
+            new ManifestCache(),
+            new CompressionStats(),
+            Uri.parse(HLS_URI),
+            160);
+
+    assertTrue(playlist.keyframesOnly);
+    assertEquals("https://example.com/iframes.m3u8", playlist.playlist.baseUri);
+  }
+
+  @Test
+  public void streamsWithoutIFramePlaylistFallBackToTheSmallestCoveringRendition()
+      throws IOException {
+    Map<String, String> responses = new HashMap<>();
+    responses.put(
+        HLS_URI,
+        "#EXTM3U\n"
+            + "#EXT-X-STREAM-INF:BANDWIDTH=2500000,RESOLUTION=1280x720\n"
+            + "high.m3u8\n"
+            + "#EXT-X-STREAM-INF:BANDWIDTH=800000,RESOLUTION=640x360\n"
+            + "low.m3u8\n"
+            + "#EXT-X-STREAM-INF:BANDWIDTH=200000,RESOLUTION=256x144\n"
+            + "tiny.m3u8\n");
+    responses.put("https://example.com/low.m3u8", MEDIA_PLAYLIST);
+
+    ThumbnailExtractor.ThumbnailPlaylist playlist =
+        ThumbnailExtractor.loadThumbnailPlaylist(
+            new FakeDataSourceFactory(responses),
+            new ManifestCache(),
+            new CompressionStats(),
+            Uri.parse(HLS_URI),
+            320);
+
+    assertFalse(playlist.keyframesOnly);
+    assertEquals("https://example.com/low.m3u8", playlist.playlist.baseUri);
+    assertEquals(2, playlist.playlist.segments.size());
+  }
+
+  /** Serves fixed responses by URI. */
+  private static final class FakeDataSourceFactory implements DataSource.Factory {
+    private final Map<String, String> responses;
+
+    FakeDataSourceFactory(Map<String, String> responses) {
+      this.responses = responses;
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new DataSource() {
+        @Nullable private ByteArrayDataSource current;
+
+        @Override
+        public void addTransferListener(@NonNull TransferListener transferListener) {}
+
+        @Override
+        public long open(@NonNull DataSpec dataSpec) throws IOException {
+          String response = responses.get(dataSpec.uri.toString());
+          if (response == null) {
+            throw new FileNotFoundException(dataSpec.uri.toString());
+          }
+          current = new ByteArrayDataSource(response.getBytes(Charset.forName("UTF-8")));
+          return current.open(dataSpec);
+        }
+
+        @Override
+        public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+          return current.read(buffer, offset, length);
+        }
+
+        @Nullable
+        @Override
+        public Uri getUri() {
+          return current != null ? current.getUri() : null;
+        }
+
+        @NonNull
+        @Override
+        public Map<String, List<String>> getResponseHeaders() {
+          return Collections.emptyMap();
+        }
+
+        @Override
+        public void close() throws IOException {
+          if (current != null) {
+            current.close();
+            current = null;
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,88 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Tracks;
+import com.google.android.exoplayer2.source.TrackGroup;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
+import com.google.android.exoplayer2.util.MimeTypes;
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class TrackPreferencesTest {
+  @Test
+  public void allowedLanguagesArePreferredAfterPreferredOnes() {
+    TrackPreferences preferences =
+        new TrackPreferences(
+            Collections.singletonList("de"),
+            Arrays.asList("en", "de"),
+            true,
+            Collections.singletonList(MimeTypes.VIDEO_H265),
+            Collections.emptyList());
+
+    TrackSelectionParameters parameters =
+        preferences.applyTo(TrackSelectionParameters.DEFAULT_WITHOUT_CONTEXT);
+
+    assertEquals(ImmutableList.of("de", "en"), parameters.preferredAudioLanguages);
+    assertEquals(ImmutableList.of(MimeTypes.VIDEO_H265), parameters.preferredVideoMimeTypes);
+    assertTrue(parameters.disabledTrackTypes.contains(C.TRACK_TYPE_TEXT));
+  }
+
+  @Test
+  public void languagesAreComparedInNormalizedForm() {
+    TrackPreferences preferences =
+        new TrackPreferences(
+            Collections.emptyList(),
+            Collections.singletonList("en"),
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+
+    assertTrue(preferences.isAudioLanguageAllowed("eng"));
+    assertFalse(preferences.isAudioLanguageAllowed("fr"));
+    assertFalse(preferences.isAudioLanguageAllowed(null));
+    assertTrue(TrackPreferences.NONE.isAudioLanguageAllowed(null));
+  }
+
+  @Test
+  public void audioIsOnlyAllowedIfALanguageMatches() {
+    TrackPreferences preferences =
+        new TrackPreferences(
+            Collections.emptyList(),
+            Collections.singletonList("en"),
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+
+    assertFalse(preferences.allowsAudioOf(tracks(audioGroup("fr"), audioGroup("es"))));
+    assertTrue(preferences.allowsAudioOf(tracks(audioGroup("fr"), audioGroup("en"))));
+    assertTrue(preferences.allowsAudioOf(Tracks.EMPTY));
+  }
+
+  private static Tracks tracks(Tracks.Group... groups) {
+    return new Tracks(ImmutableList.copyOf(groups));
+  }
+
+  private static Tracks.Group audioGroup(String language) {
+    Format format =
+        new Format.Builder().setSampleMimeType(MimeTypes.AUDIO_AAC).setLanguage(language).build();
+    return new Tracks.Group(
+        new TrackGroup(format),
+        false,
+        new int[] {C.FORMAT_HANDLED},
+        new boolean[] {false});
+  }
+}
@@ -5,9 +5,12 @@
 package io.flutter.plugins.videoplayer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -15,8 +18,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.trackselection.TrackSelectionParameters;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
@@ -27,6 +33,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.MockitoAnnotations;
 import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
@@ -278,4 +285,69 @@ public class VideoPlayerTest {
     assertEquals(event2.get("event"), "isPlayingStateUpdate");
     assertEquals(event2.get("isPlaying"), false);
   }
+
+  @Test
+  public void applyStateChangesSettingsBeforeStartingPlayback() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+
+    videoPlayer.applyState(true, 0.5, null, 1000L, true);
+
+    InOrder inOrder = inOrder(fakeExoPlayer);
+    inOrder.verify(fakeExoPlayer).setRepeatMode(Player.REPEAT_MODE_ALL);
+    inOrder.verify(fakeExoPlayer).setVolume(0.5f);
+    inOrder.verify(fakeExoPlayer).seekTo(1000);
+    inOrder.verify(fakeExoPlayer).setPlayWhenReady(true);
+    verify(fakeExoPlayer, never()).setPlaybackParameters(any());
+  }
+
+  @Test
+  public void audioOnlyPlayersDisableVideoWithoutASurface() {
+    fakeVideoPlayerOptions.audioOnly = true;
+    when(fakeExoPlayer.getTrackSelectionParameters())
+        .thenReturn(TrackSelectionParameters.DEFAULT_WITHOUT_CONTEXT);
+    ArgumentCaptor<TrackSelectionParameters> parameters =
+        ArgumentCaptor.forClass(TrackSelectionParameters.class);
+
+    new VideoPlayer(
+        fakeExoPlayer,
+        fakeEventChannel,
+        fakeSurfaceTextureEntry,
+        fakeVideoPlayerOptions,
+        fakeEventSink,
+        httpDataSourceFactorySpy);
+
+    verify(fakeExoPlayer, never()).setVideoSurface(any());
+    verify(fakeExoPlayer).setTrackSelectionParameters(parameters.capture());
+    assertTrue(parameters.getValue().disabledTrackTypes.contains(C.TRACK_TYPE_VIDEO));
+  }
+
+  @Test
+  public void enablingVideoReattachesTheSurface() {
+    fakeVideoPlayerOptions.audioOnly = true;
+    when(fakeExoPlayer.getTrackSelectionParameters())
+        .thenReturn(TrackSelectionParameters.DEFAULT_WITHOUT_CONTEXT);
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink,
+            httpDataSourceFactorySpy);
+    ArgumentCaptor<TrackSelectionParameters> parameters =
+        ArgumentCaptor.forClass(TrackSelectionParameters.class);
+
+    videoPlayer.setVideoEnabled(true);
+
+    verify(fakeExoPlayer).setVideoSurface(any());
+    verify(fakeExoPlayer, times(2)).setTrackSelectionParameters(parameters.capture());
+    assertFalse(parameters.getValue().disabledTrackTypes.contains(C.TRACK_TYPE_VIDEO));
+  }
 }
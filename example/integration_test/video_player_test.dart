@@ -36,8 +36,25 @@ String getUrlForAssetAsNetworkSource(String assetKey) {
       '?raw=true';
 }
 
+// Creates a player directly on the platform implementation and returns how long
+// it took until the player reported that it was initialized.
+Future<Duration> _timeToInitialized(
+    AndroidVideoPlayer player, AndroidCreateOptions options) async {
+  final Stopwatch stopwatch = Stopwatch()..start();
+  final int textureId = (await player.createWithOptions(
+    DataSource(sourceType: DataSourceType.asset, asset: _videoAssetKey),
+    options,
+  ))!;
+  await player.videoEventsFor(textureId).firstWhere(
+      (VideoEvent event) => event.eventType == VideoEventType.initialized);
+  stopwatch.stop();
+  await player.dispose(textureId);
+  return stopwatch.elapsed;
+}
+
 void main() {
-  IntegrationTestWidgetsFlutterBinding.ensureInitialized();
+  final IntegrationTestWidgetsFlutterBinding binding =
+      IntegrationTestWidgetsFlutterBinding.ensureInitialized();
 
   late MiniController controller;
   tearDown(() async => controller.dispose());
@@ -166,4 +183,43 @@ void main() {
           (Duration duration) => duration != Duration.zero);
     });
   });
+  group('fast start', () {
+    setUp(() {
+      // The tearDown shared by all tests disposes the controller.
+      controller = MiniController.asset(_videoAssetKey);
+    });
+
+    testWidgets('initializes no slower than the default path',
+        (WidgetTester tester) async {
+      const int runs = 9;
+      final AndroidVideoPlayer player = AndroidVideoPlayer();
+      // Warms up the asset lookup and the codecs, which only the first player
+      // of either kind would pay for.
+      await _timeToInitialized(player, const AndroidCreateOptions());
+      await _timeToInitialized(
+          player, const AndroidCreateOptions(fastStart: true));
+
+      final List<int> defaultMs = <int>[];
+      final List<int> fastStartMs = <int>[];
+      for (int i = 0; i < runs; i++) {
+        defaultMs.add((await _timeToInitialized(
+                player, const AndroidCreateOptions()))
+            .inMilliseconds);
+        fastStartMs.add((await _timeToInitialized(
+                player, const AndroidCreateOptions(fastStart: true)))
+            .inMilliseconds);
+      }
+      defaultMs.sort();
+      fastStartMs.sort();
+      binding.reportData = <String, dynamic>{
+        'default_time_to_initialized_ms': defaultMs,
+        'fast_start_time_to_initialized_ms': fastStartMs,
+      };
+
+      // Allows for scheduling noise of a tenth of the default median.
+      final int defaultMedianMs = defaultMs[runs ~/ 2];
+      expect(fastStartMs[runs ~/ 2],
+          lessThanOrEqualTo(defaultMedianMs + defaultMedianMs ~/ 10 + 1));
+    });
+  });
 }
@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -15,23 +16,65 @@ import 'messages.g.dart';
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
 
+  /// Event streams of the players created with
+  /// [AndroidCreateOptions.multiplexEvents], by texture id.
+  final Map<int, StreamController<VideoEvent>> _multiplexedEvents =
+      <int, StreamController<VideoEvent>>{};
+  StreamSubscription<dynamic>? _multiplexedSubscription;
+
+  /// Live latency reports of the players created with
+  /// [AndroidCreateOptions.live], by texture id.
+  final Map<int, StreamController<AndroidLiveLatency>> _liveLatencyEvents =
+      <int, StreamController<AndroidLiveLatency>>{};
+
+  /// Item changes of the players created with [createPlaylist], by texture id.
+  final Map<int, StreamController<AndroidPlaylistIndexChange>>
+      _playlistEvents = <int, StreamController<AndroidPlaylistIndexChange>>{};
+
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
     VideoPlayerPlatform.instance = AndroidVideoPlayer();
   }
 
   @override
-  Future<void> init() {
-    return _api.initialize();
+  Future<void> init() async {
+    await _api.initialize();
+    for (final StreamController<VideoEvent> events
+        in _multiplexedEvents.values) {
+      events.close();
+    }
+    _multiplexedEvents.clear();
+    _cancelMultiplexedSubscriptionIfUnused();
+    for (final StreamController<AndroidLiveLatency> events
+        in _liveLatencyEvents.values) {
+      events.close();
+    }
+    _liveLatencyEvents.clear();
+    for (final StreamController<AndroidPlaylistIndexChange> events
+        in _playlistEvents.values) {
+      events.close();
+    }
+    _playlistEvents.clear();
   }
 
   @override
-  Future<void> dispose(int textureId) {
-    return _api.dispose(TextureMessage(textureId: textureId));
+  Future<void> dispose(int textureId) async {
+    await _api.dispose(TextureMessage(textureId: textureId));
+    _multiplexedEvents.remove(textureId)?.close();
+    _cancelMultiplexedSubscriptionIfUnused();
+    _liveLatencyEvents.remove(textureId)?.close();
+    _playlistEvents.remove(textureId)?.close();
   }
 
   @override
-  Future<int?> create(DataSource dataSource) async {
+  Future<int?> create(DataSource dataSource) {
+    return createWithOptions(dataSource, const AndroidCreateOptions());
+  }
+
+  /// Creates an instance of a video player like [create], applying
+  /// Android-specific [options].
+  Future<int?> createWithOptions(
+      DataSource dataSource, AndroidCreateOptions options) {
     String? asset;
     String? packageName;
     String? uri;
@@ -61,9 +104,99 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
       uri: uri,
       httpHeaders: httpHeaders,
       formatHint: formatHint,
+      cacheContentId: options.cacheContentId,
+      liveTargetOffsetMs: options.live?.targetOffset?.inMilliseconds,
+      liveMaxOffsetMs: options.live?.maxOffset?.inMilliseconds,
+      liveMinPlaybackSpeed: options.live?.minPlaybackSpeed,
+      liveMaxPlaybackSpeed: options.live?.maxPlaybackSpeed,
+      backBufferDurationMs: options.backBuffer.inMilliseconds,
+      retainBackBufferFromKeyframe: options.retainBackBufferFromKeyframe,
+      audioOnly: options.audioOnly,
+      trackPreferences: _toTrackPreferencesMessage(options.trackPreferences),
+      fastStart: options.fastStart,
+      multiplexEvents: options.multiplexEvents,
+      priority: options.priority.index,
+    );
+    return _create(message, options);
+  }
+
+  /// Creates a player that plays the progressive media file held in [bytes].
+  ///
+  /// The bytes are copied to the platform once and played from memory there,
+  /// without writing a temporary file.
+  Future<int?> createFromBytes(
+    Uint8List bytes, {
+    AndroidCreateOptions options = const AndroidCreateOptions(),
+  }) {
+    final CreateMessage message = CreateMessage(
+      bytes: bytes,
+      httpHeaders: <String, String>{},
+      cacheContentId: options.cacheContentId,
+      backBufferDurationMs: options.backBuffer.inMilliseconds,
+      retainBackBufferFromKeyframe: options.retainBackBufferFromKeyframe,
+      audioOnly: options.audioOnly,
+      trackPreferences: _toTrackPreferencesMessage(options.trackPreferences),
+      fastStart: options.fastStart,
+      multiplexEvents: options.multiplexEvents,
+      priority: options.priority.index,
+    );
+    return _create(message, options);
+  }
+
+  /// Creates a player that plays [items] one after another.
+  ///
+  /// The player buffers the next item before the current one ends, so
+  /// transitions have no gap. Items can be changed while playing with
+  /// [addPlaylistItems], [removePlaylistItems] and [movePlaylistItem], and
+  /// [playlistEventsFor] reports the item being played. [httpHeaders] apply
+  /// to every item. The items are always streamed: downloads made with
+  /// [enqueueDownload] are not used.
+  Future<int?> createPlaylist(
+    List<AndroidPlaylistItem> items, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    AndroidCreateOptions options = const AndroidCreateOptions(),
+  }) {
+    final CreateMessage message = CreateMessage(
+      playlist: items.map(_toPlaylistItemMessage).toList(),
+      httpHeaders: httpHeaders,
+      cacheContentId: options.cacheContentId,
+      liveTargetOffsetMs: options.live?.targetOffset?.inMilliseconds,
+      liveMaxOffsetMs: options.live?.maxOffset?.inMilliseconds,
+      liveMinPlaybackSpeed: options.live?.minPlaybackSpeed,
+      liveMaxPlaybackSpeed: options.live?.maxPlaybackSpeed,
+      backBufferDurationMs: options.backBuffer.inMilliseconds,
+      retainBackBufferFromKeyframe: options.retainBackBufferFromKeyframe,
+      audioOnly: options.audioOnly,
+      trackPreferences: _toTrackPreferencesMessage(options.trackPreferences),
+      fastStart: options.fastStart,
+      multiplexEvents: options.multiplexEvents,
+      priority: options.priority.index,
     );
+    return _create(message, options);
+  }
 
+  Future<int?> _create(
+      CreateMessage message, AndroidCreateOptions options) async {
+    if (options.multiplexEvents) {
+      _multiplexedSubscription ??=
+          const EventChannel('flutter.io/videoPlayer/videoEvents')
+              .receiveBroadcastStream()
+              .listen(_onMultiplexedEvents);
+    }
     final TextureMessage response = await _api.create(message);
+    if (options.multiplexEvents) {
+      // Not a broadcast controller, so events are buffered until
+      // [videoEventsFor] is listened to.
+      _multiplexedEvents[response.textureId] = StreamController<VideoEvent>();
+    }
+    if (options.live != null) {
+      _liveLatencyEvents[response.textureId] =
+          StreamController<AndroidLiveLatency>.broadcast();
+    }
+    if (message.playlist != null) {
+      _playlistEvents[response.textureId] =
+          StreamController<AndroidPlaylistIndexChange>.broadcast();
+    }
     return response.textureId;
   }
 
@@ -111,6 +244,123 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     ));
   }
 
+  /// Tells the player whether a scrub gesture on [textureId] is in progress.
+  ///
+  /// While scrubbing, [seekTo] lands on the nearest keyframe and requests that
+  /// arrive while a seek is still being processed are coalesced to the latest
+  /// position. Ending the scrub seeks exactly to the last requested position.
+  Future<void> setScrubbing(int textureId, bool scrubbing) {
+    return _api.setScrubbing(ScrubbingMessage(
+      textureId: textureId,
+      isScrubbing: scrubbing,
+    ));
+  }
+
+  /// Inserts [items] into the playlist of [textureId] before [index], or
+  /// appends them if [index] is null.
+  Future<void> addPlaylistItems(
+    int textureId,
+    List<AndroidPlaylistItem> items, {
+    int? index,
+  }) {
+    return _api.addPlaylistItems(PlaylistItemsMessage(
+      textureId: textureId,
+      index: index,
+      items: items.map(_toPlaylistItemMessage).toList(),
+    ));
+  }
+
+  /// Removes the items of the playlist of [textureId] from [fromIndex]
+  /// inclusive to [toIndex] exclusive.
+  ///
+  /// Removing the item being played moves on to the next one.
+  Future<void> removePlaylistItems(int textureId, int fromIndex, int toIndex) {
+    return _api.removePlaylistItems(PlaylistRangeMessage(
+      textureId: textureId,
+      fromIndex: fromIndex,
+      toIndex: toIndex,
+    ));
+  }
+
+  /// Moves the item at [fromIndex] of the playlist of [textureId] to
+  /// [toIndex].
+  Future<void> movePlaylistItem(int textureId, int fromIndex, int toIndex) {
+    return _api.movePlaylistItem(PlaylistRangeMessage(
+      textureId: textureId,
+      fromIndex: fromIndex,
+      toIndex: toIndex,
+    ));
+  }
+
+  PlaylistItemMessage _toPlaylistItemMessage(AndroidPlaylistItem item) {
+    return PlaylistItemMessage(
+      uri: item.uri,
+      formatHint: _videoFormatStringMap[item.formatHint],
+    );
+  }
+
+  /// Turns video decoding of [textureId] on or off, keeping audio playing.
+  ///
+  /// While video is off, the player does not decode it, and adaptive streams
+  /// with separate audio renditions stop downloading video. When it is turned
+  /// back on, video resumes from the current position.
+  Future<void> setVideoEnabled(int textureId, bool enabled) {
+    return _api.setVideoEnabled(VideoEnabledMessage(
+      textureId: textureId,
+      enabled: enabled,
+    ));
+  }
+
+  /// Replaces the track preferences of [textureId], see
+  /// [AndroidCreateOptions.trackPreferences].
+  ///
+  /// The player reselects its tracks, which may reload media. Prefer passing
+  /// the preferences when creating the player, so that they apply before it
+  /// is prepared.
+  Future<void> setTrackPreferences(
+      int textureId, AndroidTrackPreferences preferences) {
+    return _api.setTrackSelection(TrackSelectionMessage(
+      textureId: textureId,
+      preferences: _toTrackPreferencesMessage(preferences)!,
+    ));
+  }
+
+  /// Returns the tracks [textureId] has selected.
+  ///
+  /// Adaptive video selects several tracks, one per quality the player may
+  /// switch between; the one being played is marked as current.
+  Future<List<AndroidSelectedTrack>> getSelectedTracks(int textureId) async {
+    final SelectedTracksMessage response =
+        await _api.getSelectedTracks(TextureMessage(textureId: textureId));
+    return response.tracks
+        .whereType<SelectedTrackMessage>()
+        .map((SelectedTrackMessage track) => AndroidSelectedTrack(
+              type: _trackTypeMap[track.type] ?? AndroidTrackType.video,
+              isCurrent: track.isCurrent,
+              language: track.language,
+              mimeType: track.mimeType,
+              codecs: track.codecs,
+              bitrate: track.bitrate,
+              width: track.width,
+              height: track.height,
+            ))
+        .toList();
+  }
+
+  TrackPreferencesMessage? _toTrackPreferencesMessage(
+      AndroidTrackPreferences? preferences) {
+    if (preferences == null) {
+      return null;
+    }
+    return TrackPreferencesMessage(
+      preferredAudioLanguages: preferences.preferredAudioLanguages,
+      allowedAudioLanguages: preferences.allowedAudioLanguages,
+      textTracksDisabled: preferences.textTracksDisabled,
+      preferredVideoMimeTypes: preferences.preferredVideoMimeTypes,
+      preferredAudioMimeTypes: preferences.preferredAudioMimeTypes,
+    );
+  }
+
   @override
   Future<Duration> getPosition(int textureId) async {
     final PositionMessage response =
@@ -120,43 +370,233 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Stream<VideoEvent> videoEventsFor(int textureId) {
+    final StreamController<VideoEvent>? multiplexed =
+        _multiplexedEvents[textureId];
+    if (multiplexed != null) {
+      return multiplexed.stream;
+    }
     return _eventChannelFor(textureId)
         .receiveBroadcastStream()
-        .map((dynamic event) {
+        .map((dynamic event) => event as Map<dynamic, dynamic>)
+        .where((Map<dynamic, dynamic> map) =>
+            !_dispatchLiveLatency(textureId, map) &&
+            !_dispatchPlaylistIndexChange(textureId, map))
+        .map(_toVideoEvent);
+  }
+
+  /// Returns the live latency reports of [textureId], a player created with
+  /// [AndroidCreateOptions.live].
+  ///
+  /// While a live stream plays, a report is sent every second. Reports travel
+  /// with the player's other events, so they are only delivered while
+  /// [videoEventsFor] is listened to, as it is by `VideoPlayerController`.
+  Stream<AndroidLiveLatency> liveLatencyEventsFor(int textureId) {
+    final StreamController<AndroidLiveLatency>? events =
+        _liveLatencyEvents[textureId];
+    assert(events != null, 'The player was created without live options.');
+    return events?.stream ?? const Stream<AndroidLiveLatency>.empty();
+  }
+
+  /// Forwards [map] to the live latency stream of [textureId] if it is a live
+  /// latency report, and returns whether it was one.
+  bool _dispatchLiveLatency(int textureId, Map<dynamic, dynamic> map) {
+    if (map['event'] != 'liveLatency') {
+      return false;
+    }
+    final int? offset = map['offset'] as int?;
+    final int? targetOffset = map['targetOffset'] as int?;
+    _liveLatencyEvents[textureId]?.add(AndroidLiveLatency(
+      offset: offset == null ? null : Duration(milliseconds: offset),
+      targetOffset:
+          targetOffset == null ? null : Duration(milliseconds: targetOffset),
+      speed: (map['speed'] as num).toDouble(),
+      catchUp: _liveCatchUpMap[map['catchUp']] ?? AndroidLiveCatchUp.none,
+    ));
+    return true;
+  }
+
+  /// Returns the item changes of [textureId], a player created with
+  /// [createPlaylist].
+  ///
+  /// Like [liveLatencyEventsFor], changes are only delivered while
+  /// [videoEventsFor] is listened to.
+  Stream<AndroidPlaylistIndexChange> playlistEventsFor(int textureId) {
+    final StreamController<AndroidPlaylistIndexChange>? events =
+        _playlistEvents[textureId];
+    assert(events != null, 'The player was not created with a playlist.');
+    return events?.stream ?? const Stream<AndroidPlaylistIndexChange>.empty();
+  }
+
+  /// Forwards [map] to the playlist stream of [textureId] if it is an item
+  /// change, and returns whether it was one.
+  bool _dispatchPlaylistIndexChange(int textureId, Map<dynamic, dynamic> map) {
+    if (map['event'] != 'playlistIndexChanged') {
+      return false;
+    }
+    final int? duration = map['duration'] as int?;
+    _playlistEvents[textureId]?.add(AndroidPlaylistIndexChange(
+      index: map['index'] as int,
+      itemCount: map['itemCount'] as int,
+      reason: _playlistReasonMap[map['reason']] ??
+          AndroidPlaylistChangeReason.playlistChanged,
+      duration: duration == null ? null : Duration(milliseconds: duration),
+    ));
+    return true;
+  }
+
+  void _onMultiplexedEvents(dynamic batch) {
+    for (final dynamic event in batch as List<dynamic>) {
       final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      final StreamController<VideoEvent>? events =
+          _multiplexedEvents[map['textureId'] as int];
+      if (events == null) {
+        continue;
+      }
       switch (map['event']) {
-        case 'initialized':
-          return VideoEvent(
-            eventType: VideoEventType.initialized,
-            duration: Duration(milliseconds: map['duration'] as int),
-            size: Size((map['width'] as num?)?.toDouble() ?? 0.0,
-                (map['height'] as num?)?.toDouble() ?? 0.0),
-            rotationCorrection: map['rotationCorrection'] as int? ?? 0,
-          );
-        case 'completed':
-          return VideoEvent(
-            eventType: VideoEventType.completed,
-          );
-        case 'bufferingUpdate':
-          final List<dynamic> values = map['values'] as List<dynamic>;
-
-          return VideoEvent(
-            buffered: values.map<DurationRange>(_toDurationRange).toList(),
-            eventType: VideoEventType.bufferingUpdate,
-          );
-        case 'bufferingStart':
-          return VideoEvent(eventType: VideoEventType.bufferingStart);
-        case 'bufferingEnd':
-          return VideoEvent(eventType: VideoEventType.bufferingEnd);
-        case 'isPlayingStateUpdate':
-          return VideoEvent(
-            eventType: VideoEventType.isPlayingStateUpdate,
-            isPlaying: map['isPlaying'] as bool,
-          );
+        case 'error':
+          events.addError(PlatformException(
+            code: map['code'] as String,
+            message: map['message'] as String?,
+            details: map['details'],
+          ));
+          break;
+        case 'endOfStream':
+          events.close();
+          break;
+        case 'liveLatency':
+          _dispatchLiveLatency(map['textureId'] as int, map);
+          break;
+        case 'playlistIndexChanged':
+          _dispatchPlaylistIndexChange(map['textureId'] as int, map);
+          break;
         default:
-          return VideoEvent(eventType: VideoEventType.unknown);
+          events.add(_toVideoEvent(map));
       }
-    });
+    }
+  }
+
+  void _cancelMultiplexedSubscriptionIfUnused() {
+    if (_multiplexedEvents.isEmpty) {
+      _multiplexedSubscription?.cancel();
+      _multiplexedSubscription = null;
+    }
+  }
+
+  VideoEvent _toVideoEvent(Map<dynamic, dynamic> map) {
+    switch (map['event']) {
+      case 'initialized':
+        return VideoEvent(
+          eventType: VideoEventType.initialized,
+          duration: Duration(milliseconds: map['duration'] as int),
+          size: Size((map['width'] as num?)?.toDouble() ?? 0.0,
+              (map['height'] as num?)?.toDouble() ?? 0.0),
+          rotationCorrection: map['rotationCorrection'] as int? ?? 0,
+        );
+      case 'completed':
+        return VideoEvent(
+          eventType: VideoEventType.completed,
+        );
+      case 'bufferingUpdate':
+        final List<dynamic> values = map['values'] as List<dynamic>;
+
+        return VideoEvent(
+          buffered: values.map<DurationRange>(_toDurationRange).toList(),
+          eventType: VideoEventType.bufferingUpdate,
+        );
+      case 'bufferingStart':
+        return VideoEvent(eventType: VideoEventType.bufferingStart);
+      case 'bufferingEnd':
+        return VideoEvent(eventType: VideoEventType.bufferingEnd);
+      case 'isPlayingStateUpdate':
+        return VideoEvent(
+          eventType: VideoEventType.isPlayingStateUpdate,
+          isPlaying: map['isPlaying'] as bool,
+        );
+      default:
+        return VideoEvent(eventType: VideoEventType.unknown);
+    }
+  }
+
+  /// Returns preview frames for a seek bar, one per entry in [positions].
+  ///
+  /// Frames are taken from the keyframe nearest to each position, scaled to
+  /// fit in a [maxSize] square and JPEG encoded. The source is either the
+  /// player for [textureId] or [uri] with [httpHeaders] and [formatHint].
+  /// Extraction does not use the decoders of any player. HLS streams are read
+  /// from their I-frame playlist, or from the start of the segments of their
+  /// smallest rendition if they have none. Entries are null where no frame
+  /// could be extracted.
+  Future<List<Uint8List?>> getThumbnails({
+    int? textureId,
+    String? uri,
+    VideoFormat? formatHint,
+    Map<String, String> httpHeaders = const <String, String>{},
+    required List<Duration> positions,
+    required int maxSize,
+  }) async {
+    assert((textureId == null) != (uri == null));
+    final ThumbnailsMessage response =
+        await _api.getThumbnails(ThumbnailRequestMessage(
+      textureId: textureId,
+      uri: uri,
+      formatHint: _videoFormatStringMap[formatHint],
+      httpHeaders: httpHeaders,
+      positions: positions
+          .map((Duration position) => position.inMilliseconds)
+          .toList(),
+      maxSize: maxSize,
+    ));
+    return response.thumbnails;
+  }
+
+  /// Configures the capture of poster frames, the frames players showed when
+  /// they were paused or disposed.
+  ///
+  /// Capturing is off until this is called with a positive [maxDiskBytes];
+  /// zero turns it off again. Frames are scaled down to fit in a [maxSize]
+  /// square and kept in memory and on disk, where the least recently used
+  /// ones are deleted beyond [maxDiskBytes]. Capturing needs Android 7.0.
+  Future<void> configurePosterFrames({
+    required int maxDiskBytes,
+    int maxSize = 480,
+  }) {
+    assert(maxDiskBytes >= 0);
+    assert(maxSize > 0);
+    return _api.configurePosterFrames(PosterFrameConfigMessage(
+      maxDiskBytes: maxDiskBytes,
+      maxSize: maxSize,
+    ));
+  }
+
+  /// Returns the poster frame of [uri] nearest to [position], or the most
+  /// recently used one if [position] is null, so that it can be shown while a
+  /// new player of [uri] prepares.
+  ///
+  /// Frames are stored under the media cache key of their player, so pass
+  /// the [cacheContentId] the player was created with, if any; URLs that
+  /// only differ in the parts the media cache ignores share frames.
+  ///
+  /// Frames are shown as the player's texture showed them, so they need the
+  /// same rotation correction. Returns null if no frame of [uri] is stored.
+  Future<AndroidPosterFrame?> getPosterFrame(
+    String uri, {
+    Duration? position,
+    String? cacheContentId,
+  }) async {
+    final PosterFrameMessage response =
+        await _api.getPosterFrame(PosterFrameRequestMessage(
+      uri: uri,
+      position: position?.inMilliseconds,
+      cacheContentId: cacheContentId,
+    ));
+    final Uint8List? bytes = response.bytes;
+    if (bytes == null) {
+      return null;
+    }
+    return AndroidPosterFrame(
+      bytes: bytes,
+      position: Duration(milliseconds: response.position ?? 0),
+    );
   }
 
   @override
@@ -164,6 +604,356 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     return Texture(textureId: textureId);
   }
 
+  /// Applies several player settings in a single platform call.
+  ///
+  /// Each command changes only the settings it sets, and commands for
+  /// different players may be mixed. Either every command is applied or, if
+  /// one refers to an unknown player, none is. Playback is started or paused
+  /// after the other settings of the same command have been applied.
+  Future<void> applyCommands(List<AndroidPlayerCommand> commands) {
+    return _api.applyCommands(PlayerCommandsMessage(
+      commands: commands
+          .map((AndroidPlayerCommand command) => PlayerCommand(
+                textureId: command.textureId,
+                isLooping: command.looping,
+                volume: command.volume,
+                speed: command.speed,
+                position: command.position?.inMilliseconds,
+                playWhenReady: command.playWhenReady,
+              ))
+          .toList(),
+    ));
+  }
+
+  /// Groups the players of [textureIds] so that they play in sync, and returns
+  /// the id of the group.
+  ///
+  /// The first player is the master. While the group plays, the others follow
+  /// its position: drift beyond [tolerance] is corrected by adjusting their
+  /// speed by up to 5%, and drift beyond a second, or four times [tolerance],
+  /// by seeking. Control the group with [playGroup], [pauseGroup] and
+  /// [seekGroup] rather than the methods of its players. Disposed players
+  /// leave their group.
+  Future<int> createGroup(List<int> textureIds, {Duration? tolerance}) async {
+    assert(textureIds.isNotEmpty);
+    final GroupMessage response = await _api.createGroup(GroupCreateMessage(
+      textureIds: textureIds,
+      toleranceMs: tolerance?.inMilliseconds,
+    ));
+    return response.groupId;
+  }
+
+  /// Stops keeping the players of [groupId] in sync; the players remain.
+  Future<void> disposeGroup(int groupId) {
+    return _api.disposeGroup(GroupMessage(groupId: groupId));
+  }
+
+  /// Seeks the players of [groupId] to the master's position and plays them.
+  Future<void> playGroup(int groupId) {
+    return _api.playGroup(GroupMessage(groupId: groupId));
+  }
+
+  /// Pauses the players of [groupId].
+  Future<void> pauseGroup(int groupId) {
+    return _api.pauseGroup(GroupMessage(groupId: groupId));
+  }
+
+  /// Seeks every player of [groupId] to [position].
+  Future<void> seekGroup(int groupId, Duration position) {
+    return _api.seekGroup(GroupPositionMessage(
+      groupId: groupId,
+      position: position.inMilliseconds,
+    ));
+  }
+
+  /// Returns how far the players of [groupId] have drifted from the master.
+  Future<AndroidGroupSyncStats> getGroupSyncStats(int groupId) async {
+    final GroupSyncStatsMessage response =
+        await _api.getGroupSyncStats(GroupMessage(groupId: groupId));
+    return AndroidGroupSyncStats(
+      samples: response.samples,
+      meanError: Duration(microseconds: (response.meanErrorMs * 1000).round()),
+      maxError: Duration(milliseconds: response.maxErrorMs),
+      lastError: Duration(milliseconds: response.lastErrorMs),
+      reseeks: response.reseeks,
+      speedAdjustments: response.speedAdjustments,
+    );
+  }
+
+  /// Tells the plugin how important the player for [textureId] currently is.
+  ///
+  /// Players are prepared in order of priority. Off-screen players are not
+  /// prepared, and stop buffering while paused, until their priority is raised
+  /// or they are played.
+  Future<void> setPriority(int textureId, AndroidPlayerPriority priority) {
+    return _api.setPriority(PriorityMessage(
+      textureId: textureId,
+      priority: priority.index,
+    ));
+  }
+
+  /// Limits how many players may prepare at the same time.
+  ///
+  /// Other players wait until a preparation finishes. Zero, the default,
+  /// means no limit. Playing a player always prepares it immediately.
+  Future<void> setMaxConcurrentPreparations(int maxConcurrentPreparations) {
+    assert(maxConcurrentPreparations >= 0);
+    return _api.setMaxConcurrentPreparations(PreparationLimitMessage(
+      maxConcurrentPreparations: maxConcurrentPreparations,
+    ));
+  }
+
+  /// Returns how much bandwidth the player for [textureId] is getting.
+  ///
+  /// All players share one bandwidth estimate. While a player that is
+  /// playing, or has a higher priority, has less than ten seconds buffered,
+  /// lower-priority players pause loading.
+  Future<AndroidBandwidthInfo> getBandwidth(int textureId) async {
+    final BandwidthMessage response =
+        await _api.getBandwidth(TextureMessage(textureId: textureId));
+    return AndroidBandwidthInfo(
+      bitrateEstimate: response.bitrateEstimate,
+      share: response.share,
+      bytesTransferred: response.bytesTransferred,
+    );
+  }
+
+  /// Returns the state of [textureId] needed to resume it later with
+  /// [restore], such as after the app process was killed in the background.
+  ///
+  /// Request headers are not included, since they may hold credentials. For
+  /// a player created with [createPlaylist], the snapshot holds the item
+  /// being played. Players created with [createFromBytes] cannot be
+  /// snapshotted.
+  Future<AndroidPlaybackSnapshot> snapshot(int textureId) async {
+    final SnapshotMessage response =
+        await _api.getSnapshot(TextureMessage(textureId: textureId));
+    final int? videoWidth = response.videoWidth;
+    final int? videoHeight = response.videoHeight;
+    return AndroidPlaybackSnapshot(
+      uri: response.uri,
+      formatHint: _videoFormatFromString(response.formatHint),
+      cacheContentId: response.cacheContentId,
+      position: Duration(milliseconds: response.position),
+      bitrateEstimate: response.bitrateEstimate,
+      audioLanguage: response.audioLanguage,
+      textLanguage: response.textLanguage,
+      videoBitrate: response.videoBitrate,
+      videoSize: videoWidth == null || videoHeight == null
+          ? null
+          : Size(videoWidth.toDouble(), videoHeight.toDouble()),
+    );
+  }
+
+  /// Creates a player from a [snapshot], starting where it was taken.
+  ///
+  /// The player starts loading at the snapshot position instead of the
+  /// beginning, prefers the audio and text languages that were selected, and,
+  /// if no other player exists, starts from the bandwidth estimate of the
+  /// snapshot. Adaptive streams start on the video rendition that was
+  /// playing and adapt freely once it is selected. Media cached under the
+  /// snapshot's cache key is reused. Preferences in [options] take precedence
+  /// over the snapshot's audio language.
+  Future<int?> restore(
+    AndroidPlaybackSnapshot snapshot, {
+    Map<String, String> httpHeaders = const <String, String>{},
+    AndroidCreateOptions options = const AndroidCreateOptions(),
+  }) {
+    final CreateMessage message = CreateMessage(
+      uri: snapshot.uri,
+      formatHint: _videoFormatStringMap[snapshot.formatHint],
+      httpHeaders: httpHeaders,
+      snapshot: SnapshotMessage(
+        uri: snapshot.uri,
+        position: snapshot.position.inMilliseconds,
+        bitrateEstimate: snapshot.bitrateEstimate,
+        audioLanguage: snapshot.audioLanguage,
+        textLanguage: snapshot.textLanguage,
+        videoBitrate: snapshot.videoBitrate,
+        videoWidth: snapshot.videoSize?.width.round(),
+        videoHeight: snapshot.videoSize?.height.round(),
+      ),
+      cacheContentId: options.cacheContentId ?? snapshot.cacheContentId,
+      liveTargetOffsetMs: options.live?.targetOffset?.inMilliseconds,
+      liveMaxOffsetMs: options.live?.maxOffset?.inMilliseconds,
+      liveMinPlaybackSpeed: options.live?.minPlaybackSpeed,
+      liveMaxPlaybackSpeed: options.live?.maxPlaybackSpeed,
+      backBufferDurationMs: options.backBuffer.inMilliseconds,
+      retainBackBufferFromKeyframe: options.retainBackBufferFromKeyframe,
+      audioOnly: options.audioOnly,
+      trackPreferences: _toTrackPreferencesMessage(options.trackPreferences),
+      fastStart: options.fastStart,
+      multiplexEvents: options.multiplexEvents,
+      priority: options.priority.index,
+    );
+    return _create(message, options);
+  }
+
+  /// Returns the memory used by the buffers of [textureId].
+  ///
+  /// The figures include the back buffer requested with
+  /// [AndroidCreateOptions.backBuffer], so comparing players created with and
+  /// without one shows its cost.
+  Future<AndroidBufferStats> getBufferStats(int textureId) async {
+    final BufferStatsMessage response =
+        await _api.getBufferStats(TextureMessage(textureId: textureId));
+    return AndroidBufferStats(
+      allocatedBytes: response.allocatedBytes,
+      backBuffer: Duration(milliseconds: response.backBufferDurationMs),
+      bufferedAhead: Duration(milliseconds: response.bufferedAheadMs),
+    );
+  }
+
+  /// Returns the current bandwidth estimate, in bits per second.
+  ///
+  /// While players exist this is the live estimate of the meter they share.
+  /// Otherwise it is the estimate that new players on the current network
+  /// type start from, or null if none is stored; the plugin remembers it for
+  /// each network type across app launches, giving older measurements
+  /// progressively less weight.
+  Future<int?> getBandwidthEstimate() async {
+    final BandwidthEstimateMessage response = await _api.getBandwidthEstimate();
+    return response.bitrateEstimate;
+  }
+
+  /// Replaces the stored bandwidth estimate for the current network type;
+  /// null forgets it.
+  ///
+  /// Current players select tracks from the new estimate until their shared
+  /// meter measures the link again, and players created while no other player
+  /// exists start from it.
+  Future<void> setBandwidthEstimate(int? bitsPerSecond) {
+    assert(bitsPerSecond == null || bitsPerSecond > 0);
+    return _api.setBandwidthEstimate(
+        BandwidthEstimateMessage(bitrateEstimate: bitsPerSecond));
+  }
+
+  /// Configures the on-disk cache that media segments are read through.
+  ///
+  /// The cache is off until this is called with a positive [maxBytes]; zero
+  /// turns it off again. The size can only change while no players exist.
+  ///
+  /// Cache keys are the segment URLs without the query parameters named in
+  /// [strippedParameters], such as signatures and expiry times, after
+  /// replacing matches of the regular expression [rewritePattern] with
+  /// [rewriteReplacement]. The key rules apply to players created afterwards.
+  Future<void> configureMediaCache({
+    required int maxBytes,
+    List<String> strippedParameters = const <String>[],
+    String? rewritePattern,
+    String? rewriteReplacement,
+  }) {
+    assert(maxBytes >= 0);
+    return _api.configureMediaCache(MediaCacheConfigMessage(
+      maxBytes: maxBytes,
+      strippedParameters: strippedParameters,
+      rewritePattern: rewritePattern,
+      rewriteReplacement: rewriteReplacement,
+    ));
+  }
+
+  /// Returns counters describing how well the media cache deduplicates URL
+  /// variants.
+  Future<AndroidMediaCacheStats> getMediaCacheStats() async {
+    final MediaCacheStatsMessage response = await _api.getMediaCacheStats();
+    return AndroidMediaCacheStats(
+      requests: response.requests,
+      variantRequests: response.variantRequests,
+      dedupHits: response.dedupHits,
+      cachedBytesRead: response.cachedBytesRead,
+    );
+  }
+
+  /// Returns counters describing how much gzip saved on the manifest and
+  /// subtitle requests of this plugin instance's players.
+  ///
+  /// Subtitle segments are only negotiated for DASH and SmoothStreaming.
+  Future<AndroidCompressionStats> getCompressionStats() async {
+    final CompressionStatsMessage response = await _api.getCompressionStats();
+    return AndroidCompressionStats(
+      compressedResponses: response.compressedResponses,
+      compressedBytes: response.compressedBytes,
+      decompressedBytes: response.decompressedBytes,
+    );
+  }
+
+  /// Downloads [uri] for offline playback.
+  ///
+  /// Downloads continue in the background while the app runs, resume after a
+  /// restart once any download method is called, and are identified by their
+  /// URI: a player later created for the same URI plays the completed download
+  /// without using the network.
+  ///
+  /// The `Authorization`, `Proxy-Authorization` and `Cookie` headers are only
+  /// kept in memory. After a restart, unfinished downloads that were made with
+  /// them stay stopped, see [AndroidDownload.needsCredentials], until they are
+  /// passed again to [resumeDownload].
+  ///
+  /// For HLS, DASH and SmoothStreaming the best video rendition no taller
+  /// than [maxVideoHeight] and no higher than [maxVideoBitrate] bits per
+  /// second is downloaded, with matching audio and subtitles. The returned
+  /// future completes once the download is queued.
+  Future<void> enqueueDownload(
+    String uri, {
+    VideoFormat? formatHint,
+    Map<String, String> httpHeaders = const <String, String>{},
+    int? maxVideoHeight,
+    int? maxVideoBitrate,
+  }) {
+    return _api.enqueueDownload(DownloadRequestMessage(
+      uri: uri,
+      formatHint: _videoFormatStringMap[formatHint],
+      httpHeaders: httpHeaders,
+      maxVideoHeight: maxVideoHeight,
+      maxVideoBitrate: maxVideoBitrate,
+    ));
+  }
+
+  /// Pauses the download of [uri], keeping what was downloaded so far.
+  Future<void> pauseDownload(String uri) {
+    return _api.pauseDownload(DownloadIdMessage(uri: uri));
+  }
+
+  /// Resumes a download paused with [pauseDownload].
+  ///
+  /// The credentials in [httpHeaders], if given, replace the ones passed to
+  /// [enqueueDownload], which are lost when the app restarts.
+  Future<void> resumeDownload(String uri, {Map<String, String>? httpHeaders}) {
+    return _api.resumeDownload(
+        DownloadIdMessage(uri: uri, httpHeaders: httpHeaders));
+  }
+
+  /// Cancels the download of [uri] and deletes its data.
+  Future<void> removeDownload(String uri) {
+    return _api.removeDownload(DownloadIdMessage(uri: uri));
+  }
+
+  /// Returns the state and progress of all downloads.
+  Future<List<AndroidDownload>> getDownloads() async {
+    final DownloadsMessage response = await _api.getDownloads();
+    return response.downloads
+        .whereType<DownloadMessage>()
+        .map((DownloadMessage download) => AndroidDownload(
+              uri: download.uri,
+              state: _downloadStateMap[download.state] ??
+                  AndroidDownloadState.failed,
+              isPaused: download.isPaused,
+              needsCredentials: download.needsCredentials ?? false,
+              bytesDownloaded: download.bytesDownloaded,
+              contentLength: download.contentLength,
+              percentDownloaded: download.percentDownloaded,
+            ))
+        .toList();
+  }
+
+  /// Limits how many downloads run at the same time; the default is three.
+  Future<void> setMaxParallelDownloads(int maxParallelDownloads) {
+    assert(maxParallelDownloads > 0);
+    return _api.setMaxParallelDownloads(DownloadLimitMessage(
+      maxParallelDownloads: maxParallelDownloads,
+    ));
+  }
+
   @override
   Future<void> setMixWithOthers(bool mixWithOthers) {
     return _api
@@ -174,6 +964,40 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
 
+  // The values of ExoPlayer's Download.STATE_* constants.
+  static const Map<int, AndroidDownloadState> _downloadStateMap =
+      <int, AndroidDownloadState>{
+    0: AndroidDownloadState.queued,
+    1: AndroidDownloadState.stopped,
+    2: AndroidDownloadState.downloading,
+    3: AndroidDownloadState.completed,
+    4: AndroidDownloadState.failed,
+    5: AndroidDownloadState.removing,
+    7: AndroidDownloadState.restarting,
+  };
+
+  static const Map<String, AndroidTrackType> _trackTypeMap =
+      <String, AndroidTrackType>{
+    'video': AndroidTrackType.video,
+    'audio': AndroidTrackType.audio,
+    'text': AndroidTrackType.text,
+  };
+
+  static const Map<String, AndroidPlaylistChangeReason> _playlistReasonMap =
+      <String, AndroidPlaylistChangeReason>{
+    'auto': AndroidPlaylistChangeReason.auto,
+    'seek': AndroidPlaylistChangeReason.seek,
+    'repeat': AndroidPlaylistChangeReason.repeat,
+    'playlistChanged': AndroidPlaylistChangeReason.playlistChanged,
+  };
+
+  static const Map<String, AndroidLiveCatchUp> _liveCatchUpMap =
+      <String, AndroidLiveCatchUp>{
+    'none': AndroidLiveCatchUp.none,
+    'speedingUp': AndroidLiveCatchUp.speedingUp,
+    'slowingDown': AndroidLiveCatchUp.slowingDown,
+  };
+
   static const Map<VideoFormat, String> _videoFormatStringMap =
       <VideoFormat, String>{
     VideoFormat.ss: 'ss',
@@ -182,6 +1006,16 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     VideoFormat.other: 'other',
   };
 
+  static VideoFormat? _videoFormatFromString(String? formatHint) {
+    for (final MapEntry<VideoFormat, String> entry
+        in _videoFormatStringMap.entries) {
+      if (entry.value == formatHint) {
+        return entry.key;
+      }
+    }
+    return null;
+  }
+
   DurationRange _toDurationRange(dynamic value) {
     final List<dynamic> pair = value as List<dynamic>;
     return DurationRange(
@@ -190,3 +1024,629 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 }
+
+/// Android-specific options for [AndroidVideoPlayer.createWithOptions].
+@immutable
+class AndroidCreateOptions {
+  /// Creates options for a new player.
+  const AndroidCreateOptions({
+    this.fastStart = false,
+    this.multiplexEvents = false,
+    this.priority = AndroidPlayerPriority.normal,
+    this.cacheContentId,
+    this.live,
+    this.backBuffer = Duration.zero,
+    this.retainBackBufferFromKeyframe = false,
+    this.audioOnly = false,
+    this.trackPreferences,
+  });
+
+  /// Whether progressive media should start with the extractors for the
+  /// container implied by the response or the file extension.
+  ///
+  /// Only MP4 and MPEG-TS are recognized, and MPEG-TS streams may start on
+  /// the first I slice instead of an IDR frame. A stream that turns out to be
+  /// in another container still plays, after the remaining extractors have
+  /// been tried. Adaptive streams are not affected.
+  final bool fastStart;
+
+  /// Whether to deliver the player's events over the plugin-wide event channel.
+  ///
+  /// Events of all multiplexed players are tagged with their texture id and
+  /// sent in one batch per frame, so creating a player does not set up a
+  /// channel of its own.
+  final bool multiplexEvents;
+
+  /// The initial priority, see [AndroidVideoPlayer.setPriority].
+  final AndroidPlayerPriority priority;
+
+  /// Identifies the media in the media cache independently of its URLs.
+  ///
+  /// When set, cache keys are this id followed by the URL path, so the same
+  /// media served from different hosts or with different query parameters is
+  /// cached once. See [AndroidVideoPlayer.configureMediaCache].
+  final String? cacheContentId;
+
+  /// Latency settings for live streams, which also turn on
+  /// [AndroidVideoPlayer.liveLatencyEventsFor]; null to use the stream's own.
+  final AndroidLiveConfiguration? live;
+
+  /// How much media behind the playback position to keep in memory.
+  ///
+  /// Seeking back within it, such as a ten second rewind, is served from
+  /// memory without loading or parsing the media again. The back buffer
+  /// counts towards the player's buffer size limit, see
+  /// [AndroidVideoPlayer.getBufferStats].
+  final Duration backBuffer;
+
+  /// Whether the back buffer extends to the keyframe before its start, so that
+  /// a seek to its oldest position does not need to load media for decoding.
+  final bool retainBackBufferFromKeyframe;
+
+  /// Whether the player starts with video turned off, as after
+  /// [AndroidVideoPlayer.setVideoEnabled] with false.
+  ///
+  /// Suited to background listening; the player reports no video size.
+  final bool audioOnly;
+
+  /// Constrains the tracks the player selects; null to select freely.
+  final AndroidTrackPreferences? trackPreferences;
+}
+
+/// Which audio languages, text tracks and codecs a player selects, see
+/// [AndroidCreateOptions.trackPreferences].
+///
+/// Renditions that are not selected are not downloaded, so narrowing the
+/// selection saves bandwidth on streams with many languages.
+@immutable
+class AndroidTrackPreferences {
+  /// Creates track preferences.
+  const AndroidTrackPreferences({
+    this.preferredAudioLanguages = const <String>[],
+    this.allowedAudioLanguages = const <String>[],
+    this.textTracksDisabled = false,
+    this.preferredVideoMimeTypes = const <String>[],
+    this.preferredAudioMimeTypes = const <String>[],
+  });
+
+  /// Audio languages to select, most preferred first, as IETF BCP 47 or
+  /// ISO 639 codes.
+  final List<String> preferredAudioLanguages;
+
+  /// The only audio languages that may be played; empty to allow any.
+  ///
+  /// They are preferred after [preferredAudioLanguages]. If a stream has no
+  /// audio in any of them, its audio is turned off.
+  final List<String> allowedAudioLanguages;
+
+  /// Whether to select no subtitles or captions.
+  final bool textTracksDisabled;
+
+  /// Video sample MIME types to prefer, most preferred first, such as
+  /// `video/hevc` or `video/avc`.
+  final List<String> preferredVideoMimeTypes;
+
+  /// Audio sample MIME types to prefer, most preferred first, such as
+  /// `audio/mp4a-latm` or `audio/eac3`.
+  final List<String> preferredAudioMimeTypes;
+}
+
+/// The kind of a track, see [AndroidSelectedTrack].
+enum AndroidTrackType {
+  /// A video track.
+  video,
+
+  /// An audio track.
+  audio,
+
+  /// A subtitle or caption track.
+  text,
+}
+
+/// A track selected by a player, returned by
+/// [AndroidVideoPlayer.getSelectedTracks].
+@immutable
+class AndroidSelectedTrack {
+  /// Creates a selected track description.
+  const AndroidSelectedTrack({
+    required this.type,
+    required this.isCurrent,
+    this.language,
+    this.mimeType,
+    this.codecs,
+    this.bitrate,
+    this.width,
+    this.height,
+  });
+
+  /// The kind of track.
+  final AndroidTrackType type;
+
+  /// Whether this is the video or audio track being played.
+  final bool isCurrent;
+
+  /// The language of the track, if known.
+  final String? language;
+
+  /// The sample MIME type of the track, if known.
+  final String? mimeType;
+
+  /// The RFC 6381 codecs string of the track, if known.
+  final String? codecs;
+
+  /// The bitrate of the track in bits per second, if known.
+  final int? bitrate;
+
+  /// The width of a video track in pixels, if known.
+  final int? width;
+
+  /// The height of a video track in pixels, if known.
+  final int? height;
+}
+
+/// How closely a live stream follows the live edge, see
+/// [AndroidCreateOptions.live].
+///
+/// The player adjusts its speed between [minPlaybackSpeed] and
+/// [maxPlaybackSpeed] to stay at [targetOffset] behind the live edge. Settings
+/// left null are taken from the stream, such as the part hold-back of LL-HLS
+/// playlists, or from the player's defaults.
+@immutable
+class AndroidLiveConfiguration {
+  /// Creates live settings.
+  const AndroidLiveConfiguration({
+    this.targetOffset,
+    this.maxOffset,
+    this.minPlaybackSpeed,
+    this.maxPlaybackSpeed,
+  })  : assert(minPlaybackSpeed == null || minPlaybackSpeed > 0),
+        assert(maxPlaybackSpeed == null || maxPlaybackSpeed >= 1);
+
+  /// The distance to the live edge to play at.
+  final Duration? targetOffset;
+
+  /// The largest distance to the live edge the target may grow to.
+  ///
+  /// The player moves its target away from the live edge after each stall;
+  /// this bounds the latency that can accumulate that way.
+  final Duration? maxOffset;
+
+  /// The slowest speed used to fall back from the live edge.
+  final double? minPlaybackSpeed;
+
+  /// The fastest speed used to catch up with the live edge.
+  final double? maxPlaybackSpeed;
+}
+
+/// Whether a live player is adjusting its speed, see [AndroidLiveLatency].
+enum AndroidLiveCatchUp {
+  /// Playing at normal speed, close enough to the target offset.
+  none,
+
+  /// Playing faster because the player fell behind its target offset.
+  speedingUp,
+
+  /// Playing slower because the player is ahead of its target offset.
+  slowingDown,
+}
+
+/// A report on the distance of a live player to the live edge, from
+/// [AndroidVideoPlayer.liveLatencyEventsFor].
+@immutable
+class AndroidLiveLatency {
+  /// Creates a live latency report.
+  const AndroidLiveLatency({
+    required this.offset,
+    required this.targetOffset,
+    required this.speed,
+    required this.catchUp,
+  });
+
+  /// The distance between the playback position and the live edge, or null
+  /// if it is not known.
+  final Duration? offset;
+
+  /// The distance the player is aiming for, or null if it is not known yet.
+  final Duration? targetOffset;
+
+  /// The speed factor the player applies to approach [targetOffset].
+  final double speed;
+
+  /// Whether the player is adjusting its speed.
+  final AndroidLiveCatchUp catchUp;
+}
+
+/// One item of a player created with [AndroidVideoPlayer.createPlaylist].
+@immutable
+class AndroidPlaylistItem {
+  /// Creates a playlist item.
+  const AndroidPlaylistItem(this.uri, {this.formatHint});
+
+  /// The URI of the media, such as a network URL or a `file://` URI.
+  final String uri;
+
+  /// The format of the media, if it cannot be told from [uri].
+  final VideoFormat? formatHint;
+}
+
+/// Why the item being played changed, see [AndroidPlaylistIndexChange].
+enum AndroidPlaylistChangeReason {
+  /// The previous item ended.
+  auto,
+
+  /// The player seeked to another item.
+  seek,
+
+  /// The item started again because it loops.
+  repeat,
+
+  /// Items were added, removed or moved.
+  playlistChanged,
+}
+
+/// A change of the item being played, from
+/// [AndroidVideoPlayer.playlistEventsFor].
+@immutable
+class AndroidPlaylistIndexChange {
+  /// Creates a playlist item change.
+  const AndroidPlaylistIndexChange({
+    required this.index,
+    required this.itemCount,
+    required this.reason,
+    this.duration,
+  });
+
+  /// The index of the item now being played.
+  final int index;
+
+  /// The number of items in the playlist.
+  final int itemCount;
+
+  /// Why the item changed.
+  final AndroidPlaylistChangeReason reason;
+
+  /// The duration of the item, or null if it is not known yet.
+  final Duration? duration;
+}
+
+/// The state of a player from [AndroidVideoPlayer.snapshot], to be resumed
+/// with [AndroidVideoPlayer.restore].
+///
+/// Snapshots convert to and from JSON, so they can be saved with the app's
+/// instance state.
+@immutable
+class AndroidPlaybackSnapshot {
+  /// Creates a playback snapshot.
+  const AndroidPlaybackSnapshot({
+    required this.uri,
+    required this.position,
+    this.formatHint,
+    this.cacheContentId,
+    this.bitrateEstimate,
+    this.audioLanguage,
+    this.textLanguage,
+    this.videoBitrate,
+    this.videoSize,
+  });
+
+  /// Creates a snapshot from the result of [toJson].
+  factory AndroidPlaybackSnapshot.fromJson(Map<String, Object?> json) {
+    final String? formatHint = json['formatHint'] as String?;
+    final num? videoWidth = json['videoWidth'] as num?;
+    final num? videoHeight = json['videoHeight'] as num?;
+    return AndroidPlaybackSnapshot(
+      uri: json['uri']! as String,
+      position: Duration(milliseconds: json['position']! as int),
+      formatHint:
+          formatHint == null ? null : VideoFormat.values.byName(formatHint),
+      cacheContentId: json['cacheContentId'] as String?,
+      bitrateEstimate: json['bitrateEstimate'] as int?,
+      audioLanguage: json['audioLanguage'] as String?,
+      textLanguage: json['textLanguage'] as String?,
+      videoBitrate: json['videoBitrate'] as int?,
+      videoSize: videoWidth == null || videoHeight == null
+          ? null
+          : Size(videoWidth.toDouble(), videoHeight.toDouble()),
+    );
+  }
+
+  /// The URI of the media.
+  final String uri;
+
+  /// The playback position.
+  final Duration position;
+
+  /// The format the media was created with, if it was given.
+  final VideoFormat? formatHint;
+
+  /// The key of the media in the media cache, see
+  /// [AndroidCreateOptions.cacheContentId].
+  final String? cacheContentId;
+
+  /// The bandwidth estimate of the player, in bits per second.
+  final int? bitrateEstimate;
+
+  /// The language of the audio being played, if known.
+  final String? audioLanguage;
+
+  /// The language of the selected text track, if one was selected.
+  final String? textLanguage;
+
+  /// The bitrate of the video rendition being played, in bits per second.
+  final int? videoBitrate;
+
+  /// The size of the video rendition being played.
+  final Size? videoSize;
+
+  /// Returns a JSON representation of this snapshot; fields that are not
+  /// known are left out.
+  Map<String, Object?> toJson() {
+    final Map<String, Object?> json = <String, Object?>{
+      'uri': uri,
+      'position': position.inMilliseconds,
+    };
+    void put(String key, Object? value) {
+      if (value != null) {
+        json[key] = value;
+      }
+    }
+
+    put('formatHint', formatHint?.name);
+    put('cacheContentId', cacheContentId);
+    put('bitrateEstimate', bitrateEstimate);
+    put('audioLanguage', audioLanguage);
+    put('textLanguage', textLanguage);
+    put('videoBitrate', videoBitrate);
+    put('videoWidth', videoSize?.width.round());
+    put('videoHeight', videoSize?.height.round());
+    return json;
+  }
+}
+
+/// How important a player is for preparation and buffering.
+enum AndroidPlayerPriority {
+  /// Not visible; the player is not prepared and does not buffer while paused.
+  offscreen,
+
+  /// The default priority.
+  normal,
+
+  /// Visible to the user; prepared before any other player.
+  visible,
+}
+
+/// A set of changes to one player, applied by
+/// [AndroidVideoPlayer.applyCommands].
+@immutable
+class AndroidPlayerCommand {
+  /// Creates a command for the player with [textureId]; settings left null
+  /// are not changed.
+  const AndroidPlayerCommand(
+    this.textureId, {
+    this.looping,
+    this.volume,
+    this.speed,
+    this.position,
+    this.playWhenReady,
+  }) : assert(speed == null || speed > 0);
+
+  /// The texture id of the player.
+  final int textureId;
+
+  /// Whether to loop, as in [AndroidVideoPlayer.setLooping].
+  final bool? looping;
+
+  /// The volume, as in [AndroidVideoPlayer.setVolume].
+  final double? volume;
+
+  /// The playback speed, as in [AndroidVideoPlayer.setPlaybackSpeed].
+  final double? speed;
+
+  /// The position to seek to, as in [AndroidVideoPlayer.seekTo].
+  final Duration? position;
+
+  /// Whether to play or pause, as in [AndroidVideoPlayer.play] and
+  /// [AndroidVideoPlayer.pause].
+  final bool? playWhenReady;
+}
+
+/// Bandwidth figures for one player, returned by
+/// [AndroidVideoPlayer.getBandwidth].
+@immutable
+class AndroidBandwidthInfo {
+  /// Creates bandwidth figures.
+  const AndroidBandwidthInfo({
+    required this.bitrateEstimate,
+    required this.share,
+    required this.bytesTransferred,
+  });
+
+  /// The estimated bitrate of the network, shared by all players, in bits per
+  /// second.
+  final int bitrateEstimate;
+
+  /// The fraction, between 0 and 1, of all players' network traffic that this
+  /// player downloaded.
+  final double share;
+
+  /// The number of bytes this player downloaded from the network.
+  final int bytesTransferred;
+}
+
+/// Buffer figures for one player, returned by
+/// [AndroidVideoPlayer.getBufferStats].
+@immutable
+class AndroidBufferStats {
+  /// Creates buffer figures.
+  const AndroidBufferStats({
+    required this.allocatedBytes,
+    required this.backBuffer,
+    required this.bufferedAhead,
+  });
+
+  /// The memory held by the player's buffers, including the back buffer, in
+  /// bytes.
+  final int allocatedBytes;
+
+  /// The back buffer the player was created with.
+  final Duration backBuffer;
+
+  /// The media buffered ahead of the playback position.
+  final Duration bufferedAhead;
+}
+
+/// Sync figures of a group of players, returned by
+/// [AndroidVideoPlayer.getGroupSyncStats].
+@immutable
+class AndroidGroupSyncStats {
+  /// Creates sync figures.
+  const AndroidGroupSyncStats({
+    required this.samples,
+    required this.meanError,
+    required this.maxError,
+    required this.lastError,
+    required this.reseeks,
+    required this.speedAdjustments,
+  });
+
+  /// The number of times the players were compared with the master while it
+  /// was playing, four times a second.
+  final int samples;
+
+  /// The mean distance between a player and the master.
+  final Duration meanError;
+
+  /// The largest distance between a player and the master seen so far.
+  final Duration maxError;
+
+  /// The largest distance between a player and the master at the last check.
+  final Duration lastError;
+
+  /// The number of times a player was seeked to the master's position.
+  final int reseeks;
+
+  /// The number of times the speed of a player was changed to correct drift.
+  final int speedAdjustments;
+}
+
+/// A stored frame of a video, from [AndroidVideoPlayer.getPosterFrame].
+@immutable
+class AndroidPosterFrame {
+  /// Creates a poster frame.
+  const AndroidPosterFrame({required this.bytes, required this.position});
+
+  /// The JPEG encoded frame.
+  final Uint8List bytes;
+
+  /// The position of the frame, rounded down to a whole second.
+  final Duration position;
+}
+
+/// Media cache counters, returned by [AndroidVideoPlayer.getMediaCacheStats].
+@immutable
+class AndroidMediaCacheStats {
+  /// Creates media cache counters.
+  const AndroidMediaCacheStats({
+    required this.requests,
+    required this.variantRequests,
+    required this.dedupHits,
+    required this.cachedBytesRead,
+  });
+
+  /// The number of media requests made through the cache.
+  final int requests;
+
+  /// The number of requests whose URL differed from an earlier request with
+  /// the same cache key.
+  final int variantRequests;
+
+  /// The number of [variantRequests] that found their bytes already cached.
+  final int dedupHits;
+
+  /// The number of bytes served from the cache.
+  final int cachedBytesRead;
+}
+
+/// Manifest and subtitle compression counters, returned by
+/// [AndroidVideoPlayer.getCompressionStats].
+@immutable
+class AndroidCompressionStats {
+  /// Creates compression counters.
+  const AndroidCompressionStats({
+    required this.compressedResponses,
+    required this.compressedBytes,
+    required this.decompressedBytes,
+  });
+
+  /// The number of gzip encoded responses with a known length.
+  final int compressedResponses;
+
+  /// The number of bytes those responses took on the wire.
+  final int compressedBytes;
+
+  /// The number of bytes those responses decoded to.
+  final int decompressedBytes;
+}
+
+/// The state of a download, see [AndroidVideoPlayer.getDownloads].
+enum AndroidDownloadState {
+  /// Waiting for a download slot or for network connectivity.
+  queued,
+
+  /// Not downloading, for example because it was paused.
+  stopped,
+
+  /// Downloading.
+  downloading,
+
+  /// Downloaded; players created for its URI play it offline.
+  completed,
+
+  /// Failed after retrying.
+  failed,
+
+  /// Being removed.
+  removing,
+
+  /// Being removed before it is downloaded again.
+  restarting,
+}
+
+/// The state and progress of one download, returned by
+/// [AndroidVideoPlayer.getDownloads].
+@immutable
+class AndroidDownload {
+  /// Creates a download description.
+  const AndroidDownload({
+    required this.uri,
+    required this.state,
+    required this.isPaused,
+    this.needsCredentials = false,
+    required this.bytesDownloaded,
+    this.contentLength,
+    this.percentDownloaded,
+  });
+
+  /// The URI the download was enqueued with.
+  final String uri;
+
+  /// The state of the download.
+  final AndroidDownloadState state;
+
+  /// Whether the download was paused with [AndroidVideoPlayer.pauseDownload].
+  final bool isPaused;
+
+  /// Whether the download was made with credentials that were lost when the
+  /// app restarted; it stays stopped until they are passed to
+  /// [AndroidVideoPlayer.resumeDownload].
+  final bool needsCredentials;
+
+  /// The number of bytes downloaded so far.
+  final int bytesDownloaded;
+
+  /// The total size in bytes, or null if it is not known yet.
+  final int? contentLength;
+
+  /// The progress between 0 and 100, or null if it is not known yet.
+  final double? percentDownloaded;
+}
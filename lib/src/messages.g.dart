@@ -136,6 +136,32 @@ class PositionMessage {
   }
 }
 
+class ScrubbingMessage {
+  ScrubbingMessage({
+    required this.textureId,
+    required this.isScrubbing,
+  });
+
+  int textureId;
+
+  bool isScrubbing;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      isScrubbing,
+    ];
+  }
+
+  static ScrubbingMessage decode(Object result) {
+    result as List<Object?>;
+    return ScrubbingMessage(
+      textureId: result[0]! as int,
+      isScrubbing: result[1]! as bool,
+    );
+  }
+}
+
 class CreateMessage {
   CreateMessage({
     this.asset,
@@ -143,6 +169,21 @@ class CreateMessage {
     this.packageName,
     this.formatHint,
     required this.httpHeaders,
+    this.bytes,
+    this.cacheContentId,
+    this.liveTargetOffsetMs,
+    this.liveMaxOffsetMs,
+    this.liveMinPlaybackSpeed,
+    this.liveMaxPlaybackSpeed,
+    this.backBufferDurationMs,
+    this.retainBackBufferFromKeyframe,
+    this.audioOnly,
+    this.trackPreferences,
+    this.playlist,
+    this.snapshot,
+    this.fastStart,
+    this.multiplexEvents,
+    this.priority,
   });
 
   String? asset;
@@ -155,6 +196,36 @@ class CreateMessage {
 
   Map<String?, String?> httpHeaders;
 
+  Uint8List? bytes;
+
+  String? cacheContentId;
+
+  int? liveTargetOffsetMs;
+
+  int? liveMaxOffsetMs;
+
+  double? liveMinPlaybackSpeed;
+
+  double? liveMaxPlaybackSpeed;
+
+  int? backBufferDurationMs;
+
+  bool? retainBackBufferFromKeyframe;
+
+  bool? audioOnly;
+
+  TrackPreferencesMessage? trackPreferences;
+
+  List<PlaylistItemMessage?>? playlist;
+
+  SnapshotMessage? snapshot;
+
+  bool? fastStart;
+
+  bool? multiplexEvents;
+
+  int? priority;
+
   Object encode() {
     return <Object?>[
       asset,
@@ -162,6 +233,21 @@ class CreateMessage {
       packageName,
       formatHint,
       httpHeaders,
+      bytes,
+      cacheContentId,
+      liveTargetOffsetMs,
+      liveMaxOffsetMs,
+      liveMinPlaybackSpeed,
+      liveMaxPlaybackSpeed,
+      backBufferDurationMs,
+      retainBackBufferFromKeyframe,
+      audioOnly,
+      trackPreferences?.encode(),
+      playlist,
+      snapshot?.encode(),
+      fastStart,
+      multiplexEvents,
+      priority,
     ];
   }
 
@@ -174,99 +260,1969 @@ class CreateMessage {
       formatHint: result[3] as String?,
       httpHeaders:
           (result[4] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      bytes: result[5] as Uint8List?,
+      cacheContentId: result[6] as String?,
+      liveTargetOffsetMs: result[7] as int?,
+      liveMaxOffsetMs: result[8] as int?,
+      liveMinPlaybackSpeed: result[9] as double?,
+      liveMaxPlaybackSpeed: result[10] as double?,
+      backBufferDurationMs: result[11] as int?,
+      retainBackBufferFromKeyframe: result[12] as bool?,
+      audioOnly: result[13] as bool?,
+      trackPreferences: result[14] != null
+          ? TrackPreferencesMessage.decode(result[14]! as List<Object?>)
+          : null,
+      playlist: (result[15] as List<Object?>?)?.cast<PlaylistItemMessage?>(),
+      snapshot: result[16] != null
+          ? SnapshotMessage.decode(result[16]! as List<Object?>)
+          : null,
+      fastStart: result[17] as bool?,
+      multiplexEvents: result[18] as bool?,
+      priority: result[19] as int?,
     );
   }
 }
 
-class MixWithOthersMessage {
-  MixWithOthersMessage({
-    required this.mixWithOthers,
+class SnapshotMessage {
+  SnapshotMessage({
+    required this.uri,
+    this.formatHint,
+    this.cacheContentId,
+    required this.position,
+    this.bitrateEstimate,
+    this.audioLanguage,
+    this.textLanguage,
+    this.videoBitrate,
+    this.videoWidth,
+    this.videoHeight,
   });
 
-  bool mixWithOthers;
+  String uri;
+
+  String? formatHint;
+
+  String? cacheContentId;
+
+  int position;
+
+  int? bitrateEstimate;
+
+  String? audioLanguage;
+
+  String? textLanguage;
+
+  int? videoBitrate;
+
+  int? videoWidth;
+
+  int? videoHeight;
 
   Object encode() {
     return <Object?>[
-      mixWithOthers,
+      uri,
+      formatHint,
+      cacheContentId,
+      position,
+      bitrateEstimate,
+      audioLanguage,
+      textLanguage,
+      videoBitrate,
+      videoWidth,
+      videoHeight,
     ];
   }
 
-  static MixWithOthersMessage decode(Object result) {
+  static SnapshotMessage decode(Object result) {
     result as List<Object?>;
-    return MixWithOthersMessage(
-      mixWithOthers: result[0]! as bool,
+    return SnapshotMessage(
+      uri: result[0]! as String,
+      formatHint: result[1] as String?,
+      cacheContentId: result[2] as String?,
+      position: result[3]! as int,
+      bitrateEstimate: result[4] as int?,
+      audioLanguage: result[5] as String?,
+      textLanguage: result[6] as String?,
+      videoBitrate: result[7] as int?,
+      videoWidth: result[8] as int?,
+      videoHeight: result[9] as int?,
     );
   }
 }
 
-class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
-  const _AndroidVideoPlayerApiCodec();
-  @override
-  void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
-      buffer.putUint8(128);
-      writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
-      buffer.putUint8(129);
-      writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
-      buffer.putUint8(130);
-      writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
-      buffer.putUint8(131);
-      writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
-      buffer.putUint8(132);
-      writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
-      buffer.putUint8(133);
-      writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
-      buffer.putUint8(134);
-      writeValue(buffer, value.encode());
+class PlaylistItemMessage {
+  PlaylistItemMessage({
+    required this.uri,
+    this.formatHint,
+  });
+
+  String uri;
+
+  String? formatHint;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      formatHint,
+    ];
+  }
+
+  static PlaylistItemMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaylistItemMessage(
+      uri: result[0]! as String,
+      formatHint: result[1] as String?,
+    );
+  }
+}
+
+class PlaylistItemsMessage {
+  PlaylistItemsMessage({
+    required this.textureId,
+    this.index,
+    required this.items,
+  });
+
+  int textureId;
+
+  int? index;
+
+  List<PlaylistItemMessage?> items;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      index,
+      items,
+    ];
+  }
+
+  static PlaylistItemsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaylistItemsMessage(
+      textureId: result[0]! as int,
+      index: result[1] as int?,
+      items: (result[2] as List<Object?>?)!.cast<PlaylistItemMessage?>(),
+    );
+  }
+}
+
+class PlaylistRangeMessage {
+  PlaylistRangeMessage({
+    required this.textureId,
+    required this.fromIndex,
+    required this.toIndex,
+  });
+
+  int textureId;
+
+  int fromIndex;
+
+  int toIndex;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      fromIndex,
+      toIndex,
+    ];
+  }
+
+  static PlaylistRangeMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaylistRangeMessage(
+      textureId: result[0]! as int,
+      fromIndex: result[1]! as int,
+      toIndex: result[2]! as int,
+    );
+  }
+}
+
+class VideoEnabledMessage {
+  VideoEnabledMessage({
+    required this.textureId,
+    required this.enabled,
+  });
+
+  int textureId;
+
+  bool enabled;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      enabled,
+    ];
+  }
+
+  static VideoEnabledMessage decode(Object result) {
+    result as List<Object?>;
+    return VideoEnabledMessage(
+      textureId: result[0]! as int,
+      enabled: result[1]! as bool,
+    );
+  }
+}
+
+class TrackPreferencesMessage {
+  TrackPreferencesMessage({
+    required this.preferredAudioLanguages,
+    required this.allowedAudioLanguages,
+    required this.textTracksDisabled,
+    required this.preferredVideoMimeTypes,
+    required this.preferredAudioMimeTypes,
+  });
+
+  List<String?> preferredAudioLanguages;
+
+  List<String?> allowedAudioLanguages;
+
+  bool textTracksDisabled;
+
+  List<String?> preferredVideoMimeTypes;
+
+  List<String?> preferredAudioMimeTypes;
+
+  Object encode() {
+    return <Object?>[
+      preferredAudioLanguages,
+      allowedAudioLanguages,
+      textTracksDisabled,
+      preferredVideoMimeTypes,
+      preferredAudioMimeTypes,
+    ];
+  }
+
+  static TrackPreferencesMessage decode(Object result) {
+    result as List<Object?>;
+    return TrackPreferencesMessage(
+      preferredAudioLanguages: (result[0] as List<Object?>?)!.cast<String?>(),
+      allowedAudioLanguages: (result[1] as List<Object?>?)!.cast<String?>(),
+      textTracksDisabled: result[2]! as bool,
+      preferredVideoMimeTypes: (result[3] as List<Object?>?)!.cast<String?>(),
+      preferredAudioMimeTypes: (result[4] as List<Object?>?)!.cast<String?>(),
+    );
+  }
+}
+
+class TrackSelectionMessage {
+  TrackSelectionMessage({
+    required this.textureId,
+    required this.preferences,
+  });
+
+  int textureId;
+
+  TrackPreferencesMessage preferences;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      preferences.encode(),
+    ];
+  }
+
+  static TrackSelectionMessage decode(Object result) {
+    result as List<Object?>;
+    return TrackSelectionMessage(
+      textureId: result[0]! as int,
+      preferences: TrackPreferencesMessage.decode(result[1]! as List<Object?>),
+    );
+  }
+}
+
+class SelectedTrackMessage {
+  SelectedTrackMessage({
+    required this.type,
+    this.language,
+    this.mimeType,
+    this.codecs,
+    this.bitrate,
+    this.width,
+    this.height,
+    required this.isCurrent,
+  });
+
+  String type;
+
+  String? language;
+
+  String? mimeType;
+
+  String? codecs;
+
+  int? bitrate;
+
+  int? width;
+
+  int? height;
+
+  bool isCurrent;
+
+  Object encode() {
+    return <Object?>[
+      type,
+      language,
+      mimeType,
+      codecs,
+      bitrate,
+      width,
+      height,
+      isCurrent,
+    ];
+  }
+
+  static SelectedTrackMessage decode(Object result) {
+    result as List<Object?>;
+    return SelectedTrackMessage(
+      type: result[0]! as String,
+      language: result[1] as String?,
+      mimeType: result[2] as String?,
+      codecs: result[3] as String?,
+      bitrate: result[4] as int?,
+      width: result[5] as int?,
+      height: result[6] as int?,
+      isCurrent: result[7]! as bool,
+    );
+  }
+}
+
+class SelectedTracksMessage {
+  SelectedTracksMessage({
+    required this.textureId,
+    required this.tracks,
+  });
+
+  int textureId;
+
+  List<SelectedTrackMessage?> tracks;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      tracks,
+    ];
+  }
+
+  static SelectedTracksMessage decode(Object result) {
+    result as List<Object?>;
+    return SelectedTracksMessage(
+      textureId: result[0]! as int,
+      tracks: (result[1] as List<Object?>?)!.cast<SelectedTrackMessage?>(),
+    );
+  }
+}
+
+class GroupCreateMessage {
+  GroupCreateMessage({
+    required this.textureIds,
+    this.toleranceMs,
+  });
+
+  List<int?> textureIds;
+
+  int? toleranceMs;
+
+  Object encode() {
+    return <Object?>[
+      textureIds,
+      toleranceMs,
+    ];
+  }
+
+  static GroupCreateMessage decode(Object result) {
+    result as List<Object?>;
+    return GroupCreateMessage(
+      textureIds: (result[0] as List<Object?>?)!.cast<int?>(),
+      toleranceMs: result[1] as int?,
+    );
+  }
+}
+
+class GroupMessage {
+  GroupMessage({
+    required this.groupId,
+  });
+
+  int groupId;
+
+  Object encode() {
+    return <Object?>[
+      groupId,
+    ];
+  }
+
+  static GroupMessage decode(Object result) {
+    result as List<Object?>;
+    return GroupMessage(
+      groupId: result[0]! as int,
+    );
+  }
+}
+
+class GroupPositionMessage {
+  GroupPositionMessage({
+    required this.groupId,
+    required this.position,
+  });
+
+  int groupId;
+
+  int position;
+
+  Object encode() {
+    return <Object?>[
+      groupId,
+      position,
+    ];
+  }
+
+  static GroupPositionMessage decode(Object result) {
+    result as List<Object?>;
+    return GroupPositionMessage(
+      groupId: result[0]! as int,
+      position: result[1]! as int,
+    );
+  }
+}
+
+class GroupSyncStatsMessage {
+  GroupSyncStatsMessage({
+    required this.groupId,
+    required this.samples,
+    required this.meanErrorMs,
+    required this.maxErrorMs,
+    required this.lastErrorMs,
+    required this.reseeks,
+    required this.speedAdjustments,
+  });
+
+  int groupId;
+
+  int samples;
+
+  double meanErrorMs;
+
+  int maxErrorMs;
+
+  int lastErrorMs;
+
+  int reseeks;
+
+  int speedAdjustments;
+
+  Object encode() {
+    return <Object?>[
+      groupId,
+      samples,
+      meanErrorMs,
+      maxErrorMs,
+      lastErrorMs,
+      reseeks,
+      speedAdjustments,
+    ];
+  }
+
+  static GroupSyncStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return GroupSyncStatsMessage(
+      groupId: result[0]! as int,
+      samples: result[1]! as int,
+      meanErrorMs: result[2]! as double,
+      maxErrorMs: result[3]! as int,
+      lastErrorMs: result[4]! as int,
+      reseeks: result[5]! as int,
+      speedAdjustments: result[6]! as int,
+    );
+  }
+}
+
+class PriorityMessage {
+  PriorityMessage({
+    required this.textureId,
+    required this.priority,
+  });
+
+  int textureId;
+
+  int priority;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      priority,
+    ];
+  }
+
+  static PriorityMessage decode(Object result) {
+    result as List<Object?>;
+    return PriorityMessage(
+      textureId: result[0]! as int,
+      priority: result[1]! as int,
+    );
+  }
+}
+
+class PreparationLimitMessage {
+  PreparationLimitMessage({
+    required this.maxConcurrentPreparations,
+  });
+
+  int maxConcurrentPreparations;
+
+  Object encode() {
+    return <Object?>[
+      maxConcurrentPreparations,
+    ];
+  }
+
+  static PreparationLimitMessage decode(Object result) {
+    result as List<Object?>;
+    return PreparationLimitMessage(
+      maxConcurrentPreparations: result[0]! as int,
+    );
+  }
+}
+
+class BandwidthMessage {
+  BandwidthMessage({
+    required this.textureId,
+    required this.bitrateEstimate,
+    required this.share,
+    required this.bytesTransferred,
+  });
+
+  int textureId;
+
+  int bitrateEstimate;
+
+  double share;
+
+  int bytesTransferred;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      bitrateEstimate,
+      share,
+      bytesTransferred,
+    ];
+  }
+
+  static BandwidthMessage decode(Object result) {
+    result as List<Object?>;
+    return BandwidthMessage(
+      textureId: result[0]! as int,
+      bitrateEstimate: result[1]! as int,
+      share: result[2]! as double,
+      bytesTransferred: result[3]! as int,
+    );
+  }
+}
+
+class BufferStatsMessage {
+  BufferStatsMessage({
+    required this.textureId,
+    required this.allocatedBytes,
+    required this.backBufferDurationMs,
+    required this.bufferedAheadMs,
+  });
+
+  int textureId;
+
+  int allocatedBytes;
+
+  int backBufferDurationMs;
+
+  int bufferedAheadMs;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      allocatedBytes,
+      backBufferDurationMs,
+      bufferedAheadMs,
+    ];
+  }
+
+  static BufferStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return BufferStatsMessage(
+      textureId: result[0]! as int,
+      allocatedBytes: result[1]! as int,
+      backBufferDurationMs: result[2]! as int,
+      bufferedAheadMs: result[3]! as int,
+    );
+  }
+}
+
+class BandwidthEstimateMessage {
+  BandwidthEstimateMessage({
+    this.bitrateEstimate,
+  });
+
+  int? bitrateEstimate;
+
+  Object encode() {
+    return <Object?>[
+      bitrateEstimate,
+    ];
+  }
+
+  static BandwidthEstimateMessage decode(Object result) {
+    result as List<Object?>;
+    return BandwidthEstimateMessage(
+      bitrateEstimate: result[0] as int?,
+    );
+  }
+}
+
+class MediaCacheConfigMessage {
+  MediaCacheConfigMessage({
+    required this.maxBytes,
+    required this.strippedParameters,
+    this.rewritePattern,
+    this.rewriteReplacement,
+  });
+
+  int maxBytes;
+
+  List<String?> strippedParameters;
+
+  String? rewritePattern;
+
+  String? rewriteReplacement;
+
+  Object encode() {
+    return <Object?>[
+      maxBytes,
+      strippedParameters,
+      rewritePattern,
+      rewriteReplacement,
+    ];
+  }
+
+  static MediaCacheConfigMessage decode(Object result) {
+    result as List<Object?>;
+    return MediaCacheConfigMessage(
+      maxBytes: result[0]! as int,
+      strippedParameters: (result[1] as List<Object?>?)!.cast<String?>(),
+      rewritePattern: result[2] as String?,
+      rewriteReplacement: result[3] as String?,
+    );
+  }
+}
+
+class MediaCacheStatsMessage {
+  MediaCacheStatsMessage({
+    required this.requests,
+    required this.variantRequests,
+    required this.dedupHits,
+    required this.cachedBytesRead,
+  });
+
+  int requests;
+
+  int variantRequests;
+
+  int dedupHits;
+
+  int cachedBytesRead;
+
+  Object encode() {
+    return <Object?>[
+      requests,
+      variantRequests,
+      dedupHits,
+      cachedBytesRead,
+    ];
+  }
+
+  static MediaCacheStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return MediaCacheStatsMessage(
+      requests: result[0]! as int,
+      variantRequests: result[1]! as int,
+      dedupHits: result[2]! as int,
+      cachedBytesRead: result[3]! as int,
+    );
+  }
+}
+
+class CompressionStatsMessage {
+  CompressionStatsMessage({
+    required this.compressedResponses,
+    required this.compressedBytes,
+    required this.decompressedBytes,
+  });
+
+  int compressedResponses;
+
+  int compressedBytes;
+
+  int decompressedBytes;
+
+  Object encode() {
+    return <Object?>[
+      compressedResponses,
+      compressedBytes,
+      decompressedBytes,
+    ];
+  }
+
+  static CompressionStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return CompressionStatsMessage(
+      compressedResponses: result[0]! as int,
+      compressedBytes: result[1]! as int,
+      decompressedBytes: result[2]! as int,
+    );
+  }
+}
+
+class DownloadRequestMessage {
+  DownloadRequestMessage({
+    required this.uri,
+    this.formatHint,
+    required this.httpHeaders,
+    this.maxVideoHeight,
+    this.maxVideoBitrate,
+  });
+
+  String uri;
+
+  String? formatHint;
+
+  Map<String?, String?> httpHeaders;
+
+  int? maxVideoHeight;
+
+  int? maxVideoBitrate;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      formatHint,
+      httpHeaders,
+      maxVideoHeight,
+      maxVideoBitrate,
+    ];
+  }
+
+  static DownloadRequestMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadRequestMessage(
+      uri: result[0]! as String,
+      formatHint: result[1] as String?,
+      httpHeaders:
+          (result[2] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+      maxVideoHeight: result[3] as int?,
+      maxVideoBitrate: result[4] as int?,
+    );
+  }
+}
+
+class DownloadIdMessage {
+  DownloadIdMessage({
+    required this.uri,
+    this.httpHeaders,
+  });
+
+  String uri;
+
+  Map<String?, String?>? httpHeaders;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      httpHeaders,
+    ];
+  }
+
+  static DownloadIdMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadIdMessage(
+      uri: result[0]! as String,
+      httpHeaders:
+          (result[1] as Map<Object?, Object?>?)?.cast<String?, String?>(),
+    );
+  }
+}
+
+class DownloadMessage {
+  DownloadMessage({
+    required this.uri,
+    required this.state,
+    required this.bytesDownloaded,
+    this.contentLength,
+    this.percentDownloaded,
+    required this.isPaused,
+    this.needsCredentials,
+  });
+
+  String uri;
+
+  int state;
+
+  int bytesDownloaded;
+
+  int? contentLength;
+
+  double? percentDownloaded;
+
+  bool isPaused;
+
+  bool? needsCredentials;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      state,
+      bytesDownloaded,
+      contentLength,
+      percentDownloaded,
+      isPaused,
+      needsCredentials,
+    ];
+  }
+
+  static DownloadMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadMessage(
+      uri: result[0]! as String,
+      state: result[1]! as int,
+      bytesDownloaded: result[2]! as int,
+      contentLength: result[3] as int?,
+      percentDownloaded: result[4] as double?,
+      isPaused: result[5]! as bool,
+      needsCredentials: result[6] as bool?,
+    );
+  }
+}
+
+class DownloadsMessage {
+  DownloadsMessage({
+    required this.downloads,
+  });
+
+  List<DownloadMessage?> downloads;
+
+  Object encode() {
+    return <Object?>[
+      downloads,
+    ];
+  }
+
+  static DownloadsMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadsMessage(
+      downloads: (result[0] as List<Object?>?)!.cast<DownloadMessage?>(),
+    );
+  }
+}
+
+class DownloadLimitMessage {
+  DownloadLimitMessage({
+    required this.maxParallelDownloads,
+  });
+
+  int maxParallelDownloads;
+
+  Object encode() {
+    return <Object?>[
+      maxParallelDownloads,
+    ];
+  }
+
+  static DownloadLimitMessage decode(Object result) {
+    result as List<Object?>;
+    return DownloadLimitMessage(
+      maxParallelDownloads: result[0]! as int,
+    );
+  }
+}
+
+class ThumbnailRequestMessage {
+  ThumbnailRequestMessage({
+    this.textureId,
+    this.uri,
+    this.formatHint,
+    this.httpHeaders,
+    required this.positions,
+    required this.maxSize,
+  });
+
+  int? textureId;
+
+  String? uri;
+
+  String? formatHint;
+
+  Map<String?, String?>? httpHeaders;
+
+  List<int?> positions;
+
+  int maxSize;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      uri,
+      formatHint,
+      httpHeaders,
+      positions,
+      maxSize,
+    ];
+  }
+
+  static ThumbnailRequestMessage decode(Object result) {
+    result as List<Object?>;
+    return ThumbnailRequestMessage(
+      textureId: result[0] as int?,
+      uri: result[1] as String?,
+      formatHint: result[2] as String?,
+      httpHeaders:
+          (result[3] as Map<Object?, Object?>?)?.cast<String?, String?>(),
+      positions: (result[4] as List<Object?>?)!.cast<int?>(),
+      maxSize: result[5]! as int,
+    );
+  }
+}
+
+class ThumbnailsMessage {
+  ThumbnailsMessage({
+    required this.thumbnails,
+  });
+
+  List<Uint8List?> thumbnails;
+
+  Object encode() {
+    return <Object?>[
+      thumbnails,
+    ];
+  }
+
+  static ThumbnailsMessage decode(Object result) {
+    result as List<Object?>;
+    return ThumbnailsMessage(
+      thumbnails: (result[0] as List<Object?>?)!.cast<Uint8List?>(),
+    );
+  }
+}
+
+class PosterFrameConfigMessage {
+  PosterFrameConfigMessage({
+    required this.maxDiskBytes,
+    required this.maxSize,
+  });
+
+  int maxDiskBytes;
+
+  int maxSize;
+
+  Object encode() {
+    return <Object?>[
+      maxDiskBytes,
+      maxSize,
+    ];
+  }
+
+  static PosterFrameConfigMessage decode(Object result) {
+    result as List<Object?>;
+    return PosterFrameConfigMessage(
+      maxDiskBytes: result[0]! as int,
+      maxSize: result[1]! as int,
+    );
+  }
+}
+
+class PosterFrameRequestMessage {
+  PosterFrameRequestMessage({
+    required this.uri,
+    this.position,
+    this.cacheContentId,
+  });
+
+  String uri;
+
+  int? position;
+
+  String? cacheContentId;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      position,
+      cacheContentId,
+    ];
+  }
+
+  static PosterFrameRequestMessage decode(Object result) {
+    result as List<Object?>;
+    return PosterFrameRequestMessage(
+      uri: result[0]! as String,
+      position: result[1] as int?,
+      cacheContentId: result[2] as String?,
+    );
+  }
+}
+
+class PosterFrameMessage {
+  PosterFrameMessage({
+    this.bytes,
+    this.position,
+  });
+
+  Uint8List? bytes;
+
+  int? position;
+
+  Object encode() {
+    return <Object?>[
+      bytes,
+      position,
+    ];
+  }
+
+  static PosterFrameMessage decode(Object result) {
+    result as List<Object?>;
+    return PosterFrameMessage(
+      bytes: result[0] as Uint8List?,
+      position: result[1] as int?,
+    );
+  }
+}
+
+class PlayerCommand {
+  PlayerCommand({
+    required this.textureId,
+    this.isLooping,
+    this.volume,
+    this.speed,
+    this.position,
+    this.playWhenReady,
+  });
+
+  int textureId;
+
+  bool? isLooping;
+
+  double? volume;
+
+  double? speed;
+
+  int? position;
+
+  bool? playWhenReady;
+
+  Object encode() {
+    return <Object?>[
+      textureId,
+      isLooping,
+      volume,
+      speed,
+      position,
+      playWhenReady,
+    ];
+  }
+
+  static PlayerCommand decode(Object result) {
+    result as List<Object?>;
+    return PlayerCommand(
+      textureId: result[0]! as int,
+      isLooping: result[1] as bool?,
+      volume: result[2] as double?,
+      speed: result[3] as double?,
+      position: result[4] as int?,
+      playWhenReady: result[5] as bool?,
+    );
+  }
+}
+
+class PlayerCommandsMessage {
+  PlayerCommandsMessage({
+    required this.commands,
+  });
+
+  List<PlayerCommand?> commands;
+
+  Object encode() {
+    return <Object?>[
+      commands,
+    ];
+  }
+
+  static PlayerCommandsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlayerCommandsMessage(
+      commands: (result[0] as List<Object?>?)!.cast<PlayerCommand?>(),
+    );
+  }
+}
+
+class MixWithOthersMessage {
+  MixWithOthersMessage({
+    required this.mixWithOthers,
+  });
+
+  bool mixWithOthers;
+
+  Object encode() {
+    return <Object?>[
+      mixWithOthers,
+    ];
+  }
+
+  static MixWithOthersMessage decode(Object result) {
+    result as List<Object?>;
+    return MixWithOthersMessage(
+      mixWithOthers: result[0]! as bool,
+    );
+  }
+}
+
+class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
+  const _AndroidVideoPlayerApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is BandwidthEstimateMessage) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else if (value is BandwidthMessage) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is BufferStatsMessage) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
+    } else if (value is CompressionStatsMessage) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.encode());
+    } else if (value is CreateMessage) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadIdMessage) {
+      buffer.putUint8(133);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadLimitMessage) {
+      buffer.putUint8(134);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadRequestMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadsMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupCreateMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupPositionMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupSyncStatsMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is LoopingMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is MediaCacheConfigMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is MediaCacheStatsMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is MixWithOthersMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerCommand) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerCommandsMessage) {
+      buffer.putUint8(148);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistItemMessage) {
+      buffer.putUint8(149);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistItemsMessage) {
+      buffer.putUint8(150);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistRangeMessage) {
+      buffer.putUint8(151);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(152);
+      writeValue(buffer, value.encode());
+    } else if (value is PosterFrameConfigMessage) {
+      buffer.putUint8(153);
+      writeValue(buffer, value.encode());
+    } else if (value is PosterFrameMessage) {
+      buffer.putUint8(154);
+      writeValue(buffer, value.encode());
+    } else if (value is PosterFrameRequestMessage) {
+      buffer.putUint8(155);
+      writeValue(buffer, value.encode());
+    } else if (value is PreparationLimitMessage) {
+      buffer.putUint8(156);
+      writeValue(buffer, value.encode());
+    } else if (value is PriorityMessage) {
+      buffer.putUint8(157);
+      writeValue(buffer, value.encode());
+    } else if (value is ScrubbingMessage) {
+      buffer.putUint8(158);
+      writeValue(buffer, value.encode());
+    } else if (value is SelectedTrackMessage) {
+      buffer.putUint8(159);
+      writeValue(buffer, value.encode());
+    } else if (value is SelectedTracksMessage) {
+      buffer.putUint8(160);
+      writeValue(buffer, value.encode());
+    } else if (value is SnapshotMessage) {
+      buffer.putUint8(161);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(162);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailRequestMessage) {
+      buffer.putUint8(163);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailsMessage) {
+      buffer.putUint8(164);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackPreferencesMessage) {
+      buffer.putUint8(165);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackSelectionMessage) {
+      buffer.putUint8(166);
+      writeValue(buffer, value.encode());
+    } else if (value is VideoEnabledMessage) {
+      buffer.putUint8(167);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(168);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return BandwidthEstimateMessage.decode(readValue(buffer)!);
+      case 129:
+        return BandwidthMessage.decode(readValue(buffer)!);
+      case 130:
+        return BufferStatsMessage.decode(readValue(buffer)!);
+      case 131:
+        return CompressionStatsMessage.decode(readValue(buffer)!);
+      case 132:
+        return CreateMessage.decode(readValue(buffer)!);
+      case 133:
+        return DownloadIdMessage.decode(readValue(buffer)!);
+      case 134:
+        return DownloadLimitMessage.decode(readValue(buffer)!);
+      case 135:
+        return DownloadMessage.decode(readValue(buffer)!);
+      case 136:
+        return DownloadRequestMessage.decode(readValue(buffer)!);
+      case 137:
+        return DownloadsMessage.decode(readValue(buffer)!);
+      case 138:
+        return GroupCreateMessage.decode(readValue(buffer)!);
+      case 139:
+        return GroupMessage.decode(readValue(buffer)!);
+      case 140:
+        return GroupPositionMessage.decode(readValue(buffer)!);
+      case 141:
+        return GroupSyncStatsMessage.decode(readValue(buffer)!);
+      case 142:
+        return LoopingMessage.decode(readValue(buffer)!);
+      case 143:
+        return MediaCacheConfigMessage.decode(readValue(buffer)!);
+      case 144:
+        return MediaCacheStatsMessage.decode(readValue(buffer)!);
+      case 145:
+        return MixWithOthersMessage.decode(readValue(buffer)!);
+      case 146:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 147:
+        return PlayerCommand.decode(readValue(buffer)!);
+      case 148:
+        return PlayerCommandsMessage.decode(readValue(buffer)!);
+      case 149:
+        return PlaylistItemMessage.decode(readValue(buffer)!);
+      case 150:
+        return PlaylistItemsMessage.decode(readValue(buffer)!);
+      case 151:
+        return PlaylistRangeMessage.decode(readValue(buffer)!);
+      case 152:
+        return PositionMessage.decode(readValue(buffer)!);
+      case 153:
+        return PosterFrameConfigMessage.decode(readValue(buffer)!);
+      case 154:
+        return PosterFrameMessage.decode(readValue(buffer)!);
+      case 155:
+        return PosterFrameRequestMessage.decode(readValue(buffer)!);
+      case 156:
+        return PreparationLimitMessage.decode(readValue(buffer)!);
+      case 157:
+        return PriorityMessage.decode(readValue(buffer)!);
+      case 158:
+        return ScrubbingMessage.decode(readValue(buffer)!);
+      case 159:
+        return SelectedTrackMessage.decode(readValue(buffer)!);
+      case 160:
+        return SelectedTracksMessage.decode(readValue(buffer)!);
+      case 161:
+        return SnapshotMessage.decode(readValue(buffer)!);
+      case 162:
+        return TextureMessage.decode(readValue(buffer)!);
+      case 163:
+        return ThumbnailRequestMessage.decode(readValue(buffer)!);
+      case 164:
+        return ThumbnailsMessage.decode(readValue(buffer)!);
+      case 165:
+        return TrackPreferencesMessage.decode(readValue(buffer)!);
+      case 166:
+        return TrackSelectionMessage.decode(readValue(buffer)!);
+      case 167:
+        return VideoEnabledMessage.decode(readValue(buffer)!);
+      case 168:
+        return VolumeMessage.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class AndroidVideoPlayerApi {
+  /// Constructor for [AndroidVideoPlayerApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  AndroidVideoPlayerApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _AndroidVideoPlayerApiCodec();
+
+  Future<void> initialize() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.initialize', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<TextureMessage> create(CreateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.create', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as TextureMessage?)!;
+    }
+  }
+
+  Future<void> dispose(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.dispose', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setLooping(LoopingMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setVolume(VolumeMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPlaybackSpeed(PlaybackSpeedMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> play(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.play', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<PositionMessage> position(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.position', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as PositionMessage?)!;
+    }
+  }
+
+  Future<void> seekTo(PositionMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setScrubbing(ScrubbingMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setScrubbing', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setVideoEnabled(VideoEnabledMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoEnabled', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setTrackSelection(TrackSelectionMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<SelectedTracksMessage> getSelectedTracks(
+      TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getSelectedTracks', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as SelectedTracksMessage?)!;
+    }
+  }
+
+  Future<SnapshotMessage> getSnapshot(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getSnapshot', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as SnapshotMessage?)!;
+    }
+  }
+
+  Future<void> pause(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> addPlaylistItems(PlaylistItemsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.addPlaylistItems', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removePlaylistItems(PlaylistRangeMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.removePlaylistItems', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> movePlaylistItem(PlaylistRangeMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.movePlaylistItem', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> applyCommands(PlayerCommandsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.applyCommands', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<GroupMessage> createGroup(GroupCreateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.createGroup', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as GroupMessage?)!;
+    }
+  }
+
+  Future<void> disposeGroup(GroupMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.disposeGroup', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> playGroup(GroupMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.playGroup', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> pauseGroup(GroupMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.pauseGroup', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> seekGroup(GroupPositionMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekGroup', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<GroupSyncStatsMessage> getGroupSyncStats(GroupMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getGroupSyncStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      super.writeValue(buffer, value);
+      return (replyList[0] as GroupSyncStatsMessage?)!;
     }
   }
 
-  @override
-  Object? readValueOfType(int type, ReadBuffer buffer) {
-    switch (type) {
-      case 128:
-        return CreateMessage.decode(readValue(buffer)!);
-      case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
-      case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
-      case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
-      case 132:
-        return PositionMessage.decode(readValue(buffer)!);
-      case 133:
-        return TextureMessage.decode(readValue(buffer)!);
-      case 134:
-        return VolumeMessage.decode(readValue(buffer)!);
-      default:
-        return super.readValueOfType(type, buffer);
+  Future<void> setPriority(PriorityMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPriority', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
     }
   }
-}
-
-class AndroidVideoPlayerApi {
-  /// Constructor for [AndroidVideoPlayerApi].  The [binaryMessenger] named argument is
-  /// available for dependency injection.  If it is left null, the default
-  /// BinaryMessenger will be used which routes to the host platform.
-  AndroidVideoPlayerApi({BinaryMessenger? binaryMessenger})
-      : _binaryMessenger = binaryMessenger;
-  final BinaryMessenger? _binaryMessenger;
-
-  static const MessageCodec<Object?> codec = _AndroidVideoPlayerApiCodec();
 
-  Future<void> initialize() async {
+  Future<void> setMaxConcurrentPreparations(
+      PreparationLimitMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.initialize', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxConcurrentPreparations',
+        codec,
         binaryMessenger: _binaryMessenger);
-    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -283,9 +2239,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<TextureMessage> create(CreateMessage arg_msg) async {
+  Future<BandwidthMessage> getBandwidth(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.create', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidth', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -306,13 +2262,66 @@ class AndroidVideoPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyList[0] as TextureMessage?)!;
+      return (replyList[0] as BandwidthMessage?)!;
     }
   }
 
-  Future<void> dispose(TextureMessage arg_msg) async {
+  Future<BufferStatsMessage> getBufferStats(TextureMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.dispose', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getBufferStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as BufferStatsMessage?)!;
+    }
+  }
+
+  Future<BandwidthEstimateMessage> getBandwidthEstimate() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidthEstimate', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as BandwidthEstimateMessage?)!;
+    }
+  }
+
+  Future<void> setBandwidthEstimate(BandwidthEstimateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setBandwidthEstimate', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -332,9 +2341,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setLooping(LoopingMessage arg_msg) async {
+  Future<void> configureMediaCache(MediaCacheConfigMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setLooping', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.configureMediaCache', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -354,9 +2363,61 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setVolume(VolumeMessage arg_msg) async {
+  Future<MediaCacheStatsMessage> getMediaCacheStats() async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setVolume', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getMediaCacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as MediaCacheStatsMessage?)!;
+    }
+  }
+
+  Future<CompressionStatsMessage> getCompressionStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getCompressionStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CompressionStatsMessage?)!;
+    }
+  }
+
+  Future<void> enqueueDownload(DownloadRequestMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.enqueueDownload', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -376,9 +2437,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setPlaybackSpeed(PlaybackSpeedMessage arg_msg) async {
+  Future<void> pauseDownload(DownloadIdMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackSpeed', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.pauseDownload', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -398,9 +2459,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> play(TextureMessage arg_msg) async {
+  Future<void> resumeDownload(DownloadIdMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.play', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.resumeDownload', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -420,12 +2481,33 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<PositionMessage> position(TextureMessage arg_msg) async {
+  Future<void> removeDownload(DownloadIdMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.position', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<DownloadsMessage> getDownloads() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getDownloads', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
         code: 'channel-error',
@@ -443,13 +2525,14 @@ class AndroidVideoPlayerApi {
         message: 'Host platform returned null value for non-null return value.',
       );
     } else {
-      return (replyList[0] as PositionMessage?)!;
+      return (replyList[0] as DownloadsMessage?)!;
     }
   }
 
-  Future<void> seekTo(PositionMessage arg_msg) async {
+  Future<void> setMaxParallelDownloads(DownloadLimitMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.seekTo', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxParallelDownloads',
+        codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -469,9 +2552,9 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> pause(TextureMessage arg_msg) async {
+  Future<void> setMixWithOthers(MixWithOthersMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -491,9 +2574,37 @@ class AndroidVideoPlayerApi {
     }
   }
 
-  Future<void> setMixWithOthers(MixWithOthersMessage arg_msg) async {
+  Future<ThumbnailsMessage> getThumbnails(
+      ThumbnailRequestMessage arg_msg) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as ThumbnailsMessage?)!;
+    }
+  }
+
+  Future<void> configurePosterFrames(PosterFrameConfigMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.configurePosterFrames', codec,
         binaryMessenger: _binaryMessenger);
     final List<Object?>? replyList =
         await channel.send(<Object?>[arg_msg]) as List<Object?>?;
@@ -512,4 +2623,32 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<PosterFrameMessage> getPosterFrame(
+      PosterFrameRequestMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getPosterFrame', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as PosterFrameMessage?)!;
+    }
+  }
 }
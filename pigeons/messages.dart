@@ -42,6 +42,12 @@ class PositionMessage {
   int position;
 }
 
+class ScrubbingMessage {
+  ScrubbingMessage(this.textureId, this.isScrubbing);
+  int textureId;
+  bool isScrubbing;
+}
+
 class CreateMessage {
   CreateMessage({required this.httpHeaders});
   String? asset;
@@ -49,6 +55,270 @@ class CreateMessage {
   String? packageName;
   String? formatHint;
   Map<String?, String?> httpHeaders;
+  Uint8List? bytes;
+  String? cacheContentId;
+  int? liveTargetOffsetMs;
+  int? liveMaxOffsetMs;
+  double? liveMinPlaybackSpeed;
+  double? liveMaxPlaybackSpeed;
+  int? backBufferDurationMs;
+  bool? retainBackBufferFromKeyframe;
+  bool? audioOnly;
+  TrackPreferencesMessage? trackPreferences;
+  List<PlaylistItemMessage?>? playlist;
+  SnapshotMessage? snapshot;
+  bool? fastStart;
+  bool? multiplexEvents;
+  int? priority;
+}
+
+class SnapshotMessage {
+  SnapshotMessage(this.uri, this.position);
+  String uri;
+  String? formatHint;
+  String? cacheContentId;
+  int position;
+  int? bitrateEstimate;
+  String? audioLanguage;
+  String? textLanguage;
+  int? videoBitrate;
+  int? videoWidth;
+  int? videoHeight;
+}
+
+class PlaylistItemMessage {
+  PlaylistItemMessage(this.uri);
+  String uri;
+  String? formatHint;
+}
+
+class PlaylistItemsMessage {
+  PlaylistItemsMessage(this.textureId, this.items);
+  int textureId;
+  int? index;
+  List<PlaylistItemMessage?> items;
+}
+
+class PlaylistRangeMessage {
+  PlaylistRangeMessage(this.textureId, this.fromIndex, this.toIndex);
+  int textureId;
+  int fromIndex;
+  int toIndex;
+}
+
+class VideoEnabledMessage {
+  VideoEnabledMessage(this.textureId, this.enabled);
+  int textureId;
+  bool enabled;
+}
+
+class TrackPreferencesMessage {
+  TrackPreferencesMessage(
+      this.preferredAudioLanguages,
+      this.allowedAudioLanguages,
+      this.textTracksDisabled,
+      this.preferredVideoMimeTypes,
+      this.preferredAudioMimeTypes);
+  List<String?> preferredAudioLanguages;
+  List<String?> allowedAudioLanguages;
+  bool textTracksDisabled;
+  List<String?> preferredVideoMimeTypes;
+  List<String?> preferredAudioMimeTypes;
+}
+
+class TrackSelectionMessage {
+  TrackSelectionMessage(this.textureId, this.preferences);
+  int textureId;
+  TrackPreferencesMessage preferences;
+}
+
+class SelectedTrackMessage {
+  SelectedTrackMessage(this.type, this.isCurrent);
+  String type;
+  String? language;
+  String? mimeType;
+  String? codecs;
+  int? bitrate;
+  int? width;
+  int? height;
+  bool isCurrent;
+}
+
+class SelectedTracksMessage {
+  SelectedTracksMessage(this.textureId, this.tracks);
+  int textureId;
+  List<SelectedTrackMessage?> tracks;
+}
+
+class GroupCreateMessage {
+  GroupCreateMessage(this.textureIds);
+  List<int?> textureIds;
+  int? toleranceMs;
+}
+
+class GroupMessage {
+  GroupMessage(this.groupId);
+  int groupId;
+}
+
+class GroupPositionMessage {
+  GroupPositionMessage(this.groupId, this.position);
+  int groupId;
+  int position;
+}
+
+class GroupSyncStatsMessage {
+  GroupSyncStatsMessage(this.groupId, this.samples, this.meanErrorMs,
+      this.maxErrorMs, this.lastErrorMs, this.reseeks, this.speedAdjustments);
+  int groupId;
+  int samples;
+  double meanErrorMs;
+  int maxErrorMs;
+  int lastErrorMs;
+  int reseeks;
+  int speedAdjustments;
+}
+
+class PriorityMessage {
+  PriorityMessage(this.textureId, this.priority);
+  int textureId;
+  int priority;
+}
+
+class PreparationLimitMessage {
+  PreparationLimitMessage(this.maxConcurrentPreparations);
+  int maxConcurrentPreparations;
+}
+
+class BandwidthMessage {
+  BandwidthMessage(
+      this.textureId, this.bitrateEstimate, this.share, this.bytesTransferred);
+  int textureId;
+  int bitrateEstimate;
+  double share;
+  int bytesTransferred;
+}
+
+class BufferStatsMessage {
+  BufferStatsMessage(this.textureId, this.allocatedBytes,
+      this.backBufferDurationMs, this.bufferedAheadMs);
+  int textureId;
+  int allocatedBytes;
+  int backBufferDurationMs;
+  int bufferedAheadMs;
+}
+
+class BandwidthEstimateMessage {
+  int? bitrateEstimate;
+}
+
+class MediaCacheConfigMessage {
+  MediaCacheConfigMessage(this.maxBytes, this.strippedParameters);
+  int maxBytes;
+  List<String?> strippedParameters;
+  String? rewritePattern;
+  String? rewriteReplacement;
+}
+
+class MediaCacheStatsMessage {
+  MediaCacheStatsMessage(
+      this.requests, this.variantRequests, this.dedupHits, this.cachedBytesRead);
+  int requests;
+  int variantRequests;
+  int dedupHits;
+  int cachedBytesRead;
+}
+
+class CompressionStatsMessage {
+  CompressionStatsMessage(
+      this.compressedResponses, this.compressedBytes, this.decompressedBytes);
+  int compressedResponses;
+  int compressedBytes;
+  int decompressedBytes;
+}
+
+class DownloadRequestMessage {
+  DownloadRequestMessage(this.uri, this.httpHeaders);
+  String uri;
+  String? formatHint;
+  Map<String?, String?> httpHeaders;
+  int? maxVideoHeight;
+  int? maxVideoBitrate;
+}
+
+class DownloadIdMessage {
+  DownloadIdMessage(this.uri);
+  String uri;
+  Map<String?, String?>? httpHeaders;
+}
+
+class DownloadMessage {
+  DownloadMessage(this.uri, this.state, this.bytesDownloaded, this.isPaused);
+  String uri;
+  int state;
+  int bytesDownloaded;
+  int? contentLength;
+  double? percentDownloaded;
+  bool isPaused;
+  bool? needsCredentials;
+}
+
+class DownloadsMessage {
+  DownloadsMessage(this.downloads);
+  List<DownloadMessage?> downloads;
+}
+
+class DownloadLimitMessage {
+  DownloadLimitMessage(this.maxParallelDownloads);
+  int maxParallelDownloads;
+}
+
+class ThumbnailRequestMessage {
+  ThumbnailRequestMessage({required this.positions, required this.maxSize});
+  int? textureId;
+  String? uri;
+  String? formatHint;
+  Map<String?, String?>? httpHeaders;
+  List<int?> positions;
+  int maxSize;
+}
+
+class ThumbnailsMessage {
+  ThumbnailsMessage(this.thumbnails);
+  List<Uint8List?> thumbnails;
+}
+
+class PosterFrameConfigMessage {
+  PosterFrameConfigMessage(this.maxDiskBytes, this.maxSize);
+  int maxDiskBytes;
+  int maxSize;
+}
+
+class PosterFrameRequestMessage {
+  PosterFrameRequestMessage(this.uri);
+  String uri;
+  int? position;
+  String? cacheContentId;
+}
+
+class PosterFrameMessage {
+  Uint8List? bytes;
+  int? position;
+}
+
+class PlayerCommand {
+  PlayerCommand(this.textureId);
+  int textureId;
+  bool? isLooping;
+  double? volume;
+  double? speed;
+  int? position;
+  bool? playWhenReady;
+}
+
+class PlayerCommandsMessage {
+  PlayerCommandsMessage(this.commands);
+  List<PlayerCommand?> commands;
 }
 
 class MixWithOthersMessage {
@@ -65,8 +335,47 @@ abstract class AndroidVideoPlayerApi {
   void setVolume(VolumeMessage msg);
   void setPlaybackSpeed(PlaybackSpeedMessage msg);
   void play(TextureMessage msg);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   PositionMessage position(TextureMessage msg);
   void seekTo(PositionMessage msg);
+  void setScrubbing(ScrubbingMessage msg);
+  void setVideoEnabled(VideoEnabledMessage msg);
+  void setTrackSelection(TrackSelectionMessage msg);
+  SelectedTracksMessage getSelectedTracks(TextureMessage msg);
+  SnapshotMessage getSnapshot(TextureMessage msg);
   void pause(TextureMessage msg);
+  void addPlaylistItems(PlaylistItemsMessage msg);
+  void removePlaylistItems(PlaylistRangeMessage msg);
+  void movePlaylistItem(PlaylistRangeMessage msg);
+  void applyCommands(PlayerCommandsMessage msg);
+  GroupMessage createGroup(GroupCreateMessage msg);
+  void disposeGroup(GroupMessage msg);
+  void playGroup(GroupMessage msg);
+  void pauseGroup(GroupMessage msg);
+  void seekGroup(GroupPositionMessage msg);
+  GroupSyncStatsMessage getGroupSyncStats(GroupMessage msg);
+  void setPriority(PriorityMessage msg);
+  void setMaxConcurrentPreparations(PreparationLimitMessage msg);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  BandwidthMessage getBandwidth(TextureMessage msg);
+  BufferStatsMessage getBufferStats(TextureMessage msg);
+  BandwidthEstimateMessage getBandwidthEstimate();
+  void setBandwidthEstimate(BandwidthEstimateMessage msg);
+  void configureMediaCache(MediaCacheConfigMessage msg);
+  MediaCacheStatsMessage getMediaCacheStats();
+  CompressionStatsMessage getCompressionStats();
+  @async
+  void enqueueDownload(DownloadRequestMessage msg);
+  void pauseDownload(DownloadIdMessage msg);
+  void resumeDownload(DownloadIdMessage msg);
+  void removeDownload(DownloadIdMessage msg);
+  @async
+  DownloadsMessage getDownloads();
+  void setMaxParallelDownloads(DownloadLimitMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  @async
+  ThumbnailsMessage getThumbnails(ThumbnailRequestMessage msg);
+  void configurePosterFrames(PosterFrameConfigMessage msg);
+  @async
+  PosterFrameMessage getPosterFrame(PosterFrameRequestMessage msg);
 }
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:video_player_android/src/messages.g.dart';
@@ -15,6 +17,25 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   TextureMessage? textureMessage;
   CreateMessage? createMessage;
   PositionMessage? positionMessage;
+  ScrubbingMessage? scrubbingMessage;
+  VideoEnabledMessage? videoEnabledMessage;
+  PlaylistItemsMessage? playlistItemsMessage;
+  PlaylistRangeMessage? playlistRangeMessage;
+  TrackSelectionMessage? trackSelectionMessage;
+  GroupCreateMessage? groupCreateMessage;
+  GroupMessage? groupMessage;
+  GroupPositionMessage? groupPositionMessage;
+  ThumbnailRequestMessage? thumbnailRequestMessage;
+  PosterFrameConfigMessage? posterFrameConfigMessage;
+  PosterFrameRequestMessage? posterFrameRequestMessage;
+  PlayerCommandsMessage? playerCommandsMessage;
+  PriorityMessage? priorityMessage;
+  PreparationLimitMessage? preparationLimitMessage;
+  BandwidthEstimateMessage? bandwidthEstimateMessage;
+  MediaCacheConfigMessage? mediaCacheConfigMessage;
+  DownloadRequestMessage? downloadRequestMessage;
+  DownloadIdMessage? downloadIdMessage;
+  DownloadLimitMessage? downloadLimitMessage;
   LoopingMessage? loopingMessage;
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
@@ -69,6 +90,293 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     positionMessage = arg;
   }
 
+  @override
+  void setScrubbing(ScrubbingMessage arg) {
+    log.add('setScrubbing');
+    scrubbingMessage = arg;
+  }
+
+  @override
+  void addPlaylistItems(PlaylistItemsMessage arg) {
+    log.add('addPlaylistItems');
+    playlistItemsMessage = arg;
+  }
+
+  @override
+  void removePlaylistItems(PlaylistRangeMessage arg) {
+    log.add('removePlaylistItems');
+    playlistRangeMessage = arg;
+  }
+
+  @override
+  void movePlaylistItem(PlaylistRangeMessage arg) {
+    log.add('movePlaylistItem');
+    playlistRangeMessage = arg;
+  }
+
+  @override
+  void setVideoEnabled(VideoEnabledMessage arg) {
+    log.add('setVideoEnabled');
+    videoEnabledMessage = arg;
+  }
+
+  @override
+  GroupMessage createGroup(GroupCreateMessage arg) {
+    log.add('createGroup');
+    groupCreateMessage = arg;
+    return GroupMessage(groupId: 5);
+  }
+
+  @override
+  void disposeGroup(GroupMessage arg) {
+    log.add('disposeGroup');
+    groupMessage = arg;
+  }
+
+  @override
+  void playGroup(GroupMessage arg) {
+    log.add('playGroup');
+    groupMessage = arg;
+  }
+
+  @override
+  void pauseGroup(GroupMessage arg) {
+    log.add('pauseGroup');
+    groupMessage = arg;
+  }
+
+  @override
+  void seekGroup(GroupPositionMessage arg) {
+    log.add('seekGroup');
+    groupPositionMessage = arg;
+  }
+
+  @override
+  GroupSyncStatsMessage getGroupSyncStats(GroupMessage arg) {
+    log.add('getGroupSyncStats');
+    groupMessage = arg;
+    return GroupSyncStatsMessage(
+      groupId: arg.groupId,
+      samples: 120,
+      meanErrorMs: 12.5,
+      maxErrorMs: 80,
+      lastErrorMs: 10,
+      reseeks: 1,
+      speedAdjustments: 6,
+    );
+  }
+
+  @override
+  void setTrackSelection(TrackSelectionMessage arg) {
+    log.add('setTrackSelection');
+    trackSelectionMessage = arg;
+  }
+
+  @override
+  SelectedTracksMessage getSelectedTracks(TextureMessage arg) {
+    log.add('getSelectedTracks');
+    textureMessage = arg;
+    return SelectedTracksMessage(
+      textureId: arg.textureId,
+      tracks: <SelectedTrackMessage?>[
+        SelectedTrackMessage(
+          type: 'video',
+          mimeType: 'video/avc',
+          bitrate: 2500000,
+          width: 1280,
+          height: 720,
+          isCurrent: true,
+        ),
+        SelectedTrackMessage(
+          type: 'audio',
+          language: 'de',
+          bitrate: 128000,
+          isCurrent: true,
+        ),
+      ],
+    );
+  }
+
+  @override
+  SnapshotMessage getSnapshot(TextureMessage arg) {
+    log.add('getSnapshot');
+    textureMessage = arg;
+    return SnapshotMessage(
+      uri: 'https://example.com/live.m3u8',
+      formatHint: 'hls',
+      cacheContentId: 'episode-1',
+      position: 61500,
+      bitrateEstimate: 4200000,
+      audioLanguage: 'de',
+      videoBitrate: 2500000,
+      videoWidth: 1280,
+      videoHeight: 720,
+    );
+  }
+
+  @override
+  Future<ThumbnailsMessage> getThumbnails(ThumbnailRequestMessage arg) async {
+    log.add('getThumbnails');
+    thumbnailRequestMessage = arg;
+    return ThumbnailsMessage(thumbnails: <Uint8List?>[
+      Uint8List.fromList(<int>[1, 2, 3]),
+      null,
+    ]);
+  }
+
+  @override
+  void configurePosterFrames(PosterFrameConfigMessage arg) {
+    log.add('configurePosterFrames');
+    posterFrameConfigMessage = arg;
+  }
+
+  @override
+  Future<PosterFrameMessage> getPosterFrame(
+      PosterFrameRequestMessage arg) async {
+    log.add('getPosterFrame');
+    posterFrameRequestMessage = arg;
+    if (arg.uri != 'https://example.com/a.mp4') {
+      return PosterFrameMessage();
+    }
+    return PosterFrameMessage(
+      bytes: Uint8List.fromList(<int>[0xff, 0xd8]),
+      position: 12000,
+    );
+  }
+
+  @override
+  void applyCommands(PlayerCommandsMessage arg) {
+    log.add('applyCommands');
+    playerCommandsMessage = arg;
+  }
+
+  @override
+  void setPriority(PriorityMessage arg) {
+    log.add('setPriority');
+    priorityMessage = arg;
+  }
+
+  @override
+  void setMaxConcurrentPreparations(PreparationLimitMessage arg) {
+    log.add('setMaxConcurrentPreparations');
+    preparationLimitMessage = arg;
+  }
+
+  @override
+  BandwidthMessage getBandwidth(TextureMessage arg) {
+    log.add('getBandwidth');
+    textureMessage = arg;
+    return BandwidthMessage(
+      textureId: arg.textureId,
+      bitrateEstimate: 2000000,
+      share: 0.25,
+      bytesTransferred: 4096,
+    );
+  }
+
+  @override
+  BufferStatsMessage getBufferStats(TextureMessage arg) {
+    log.add('getBufferStats');
+    textureMessage = arg;
+    return BufferStatsMessage(
+      textureId: arg.textureId,
+      allocatedBytes: 3 * 1024 * 1024,
+      backBufferDurationMs: 10000,
+      bufferedAheadMs: 25000,
+    );
+  }
+
+  @override
+  BandwidthEstimateMessage getBandwidthEstimate() {
+    log.add('getBandwidthEstimate');
+    return BandwidthEstimateMessage(bitrateEstimate: 3000000);
+  }
+
+  @override
+  void setBandwidthEstimate(BandwidthEstimateMessage arg) {
+    log.add('setBandwidthEstimate');
+    bandwidthEstimateMessage = arg;
+  }
+
+  @override
+  void configureMediaCache(MediaCacheConfigMessage arg) {
+    log.add('configureMediaCache');
+    mediaCacheConfigMessage = arg;
+  }
+
+  @override
+  MediaCacheStatsMessage getMediaCacheStats() {
+    log.add('getMediaCacheStats');
+    return MediaCacheStatsMessage(
+      requests: 10,
+      variantRequests: 4,
+      dedupHits: 3,
+      cachedBytesRead: 65536,
+    );
+  }
+
+  @override
+  CompressionStatsMessage getCompressionStats() {
+    log.add('getCompressionStats');
+    return CompressionStatsMessage(
+      compressedResponses: 2,
+      compressedBytes: 4096,
+      decompressedBytes: 32768,
+    );
+  }
+
+  @override
+  Future<void> enqueueDownload(DownloadRequestMessage arg) async {
+    log.add('enqueueDownload');
+    downloadRequestMessage = arg;
+  }
+
+  @override
+  void pauseDownload(DownloadIdMessage arg) {
+    log.add('pauseDownload');
+    downloadIdMessage = arg;
+  }
+
+  @override
+  void resumeDownload(DownloadIdMessage arg) {
+    log.add('resumeDownload');
+    downloadIdMessage = arg;
+  }
+
+  @override
+  void removeDownload(DownloadIdMessage arg) {
+    log.add('removeDownload');
+    downloadIdMessage = arg;
+  }
+
+  @override
+  Future<DownloadsMessage> getDownloads() async {
+    log.add('getDownloads');
+    return DownloadsMessage(downloads: <DownloadMessage?>[
+      DownloadMessage(
+        uri: 'https://example.com/a.m3u8',
+        state: 2,
+        bytesDownloaded: 1024,
+        contentLength: 4096,
+        percentDownloaded: 25.0,
+        isPaused: false,
+      ),
+      DownloadMessage(
+        uri: 'https://example.com/b.mp4',
+        state: 1,
+        bytesDownloaded: 0,
+        isPaused: false,
+        needsCredentials: true,
+      ),
+    ]);
+  }
+
+  @override
+  void setMaxParallelDownloads(DownloadLimitMessage arg) {
+    log.add('setMaxParallelDownloads');
+    downloadLimitMessage = arg;
+  }
+
   @override
   void setLooping(LoopingMessage arg) {
     log.add('setLooping');
@@ -184,6 +492,308 @@ void main() {
           <String, String>{'Authorization': 'Bearer token'});
       expect(textureId, 3);
     });
+
+    test('create with fastStart', () async {
+      final int? textureId = await player.createWithOptions(
+        DataSource(
+          sourceType: DataSourceType.network,
+          uri: 'someUri',
+          formatHint: VideoFormat.hls,
+        ),
+        const AndroidCreateOptions(fastStart: true),
+      );
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.uri, 'someUri');
+      expect(log.createMessage?.formatHint, 'hls');
+      expect(log.createMessage?.fastStart, true);
+      expect(textureId, 3);
+    });
+
+    test('create without options does not request fastStart', () async {
+      await player.create(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+      ));
+      expect(log.createMessage?.fastStart, false);
+      expect(log.createMessage?.priority, 1);
+    });
+
+    test('create with priority', () async {
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(priority: AndroidPlayerPriority.offscreen),
+      );
+      expect(log.createMessage?.priority, 0);
+    });
+
+    test('create with back buffer', () async {
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(
+          backBuffer: Duration(seconds: 10),
+          retainBackBufferFromKeyframe: true,
+        ),
+      );
+      expect(log.createMessage?.backBufferDurationMs, 10000);
+      expect(log.createMessage?.retainBackBufferFromKeyframe, true);
+    });
+
+    test('create audio only', () async {
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(audioOnly: true),
+      );
+      expect(log.createMessage?.audioOnly, true);
+    });
+
+    test('create with track preferences', () async {
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(
+          trackPreferences: AndroidTrackPreferences(
+            preferredAudioLanguages: <String>['fr'],
+            textTracksDisabled: true,
+          ),
+        ),
+      );
+      expect(log.createMessage?.trackPreferences?.preferredAudioLanguages,
+          <String>['fr']);
+      expect(log.createMessage?.trackPreferences?.textTracksDisabled, true);
+    });
+
+    test('create with live options', () async {
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(
+          live: AndroidLiveConfiguration(
+            targetOffset: Duration(seconds: 3),
+            maxOffset: Duration(seconds: 6),
+            minPlaybackSpeed: 0.95,
+            maxPlaybackSpeed: 1.05,
+          ),
+        ),
+      );
+      expect(log.createMessage?.liveTargetOffsetMs, 3000);
+      expect(log.createMessage?.liveMaxOffsetMs, 6000);
+      expect(log.createMessage?.liveMinPlaybackSpeed, 0.95);
+      expect(log.createMessage?.liveMaxPlaybackSpeed, 1.05);
+    });
+
+    test('createFromBytes', () async {
+      final int? textureId = await player.createFromBytes(
+        Uint8List.fromList(<int>[0, 0, 0, 24, 102, 116, 121, 112]),
+        options: const AndroidCreateOptions(fastStart: true),
+      );
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.bytes, <int>[0, 0, 0, 24, 102, 116, 121, 112]);
+      expect(log.createMessage?.asset, null);
+      expect(log.createMessage?.uri, null);
+      expect(log.createMessage?.fastStart, true);
+      expect(textureId, 3);
+    });
+
+    test('createPlaylist', () async {
+      final int? textureId = await player.createPlaylist(
+        const <AndroidPlaylistItem>[
+          AndroidPlaylistItem('https://example.com/a.mp4'),
+          AndroidPlaylistItem(
+            'https://example.com/b',
+            formatHint: VideoFormat.hls,
+          ),
+        ],
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+      );
+      expect(log.log.last, 'create');
+      final List<PlaylistItemMessage?> items = log.createMessage!.playlist!;
+      expect(items[0]?.uri, 'https://example.com/a.mp4');
+      expect(items[0]?.formatHint, null);
+      expect(items[1]?.uri, 'https://example.com/b');
+      expect(items[1]?.formatHint, 'hls');
+      expect(log.createMessage?.uri, null);
+      expect(log.createMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(textureId, 3);
+    });
+
+    test('addPlaylistItems', () async {
+      await player.addPlaylistItems(
+        1,
+        const <AndroidPlaylistItem>[
+          AndroidPlaylistItem('https://example.com/c'),
+        ],
+        index: 1,
+      );
+      expect(log.log.last, 'addPlaylistItems');
+      expect(log.playlistItemsMessage?.textureId, 1);
+      expect(log.playlistItemsMessage?.index, 1);
+      expect(log.playlistItemsMessage?.items.single?.uri,
+          'https://example.com/c');
+    });
+
+    test('removePlaylistItems', () async {
+      await player.removePlaylistItems(1, 2, 4);
+      expect(log.log.last, 'removePlaylistItems');
+      expect(log.playlistRangeMessage?.textureId, 1);
+      expect(log.playlistRangeMessage?.fromIndex, 2);
+      expect(log.playlistRangeMessage?.toIndex, 4);
+    });
+
+    test('movePlaylistItem', () async {
+      await player.movePlaylistItem(1, 0, 3);
+      expect(log.log.last, 'movePlaylistItem');
+      expect(log.playlistRangeMessage?.fromIndex, 0);
+      expect(log.playlistRangeMessage?.toIndex, 3);
+    });
+
+    test('setPriority', () async {
+      await player.setPriority(1, AndroidPlayerPriority.visible);
+      expect(log.log.last, 'setPriority');
+      expect(log.priorityMessage?.textureId, 1);
+      expect(log.priorityMessage?.priority, 2);
+    });
+
+    test('setMaxConcurrentPreparations', () async {
+      await player.setMaxConcurrentPreparations(2);
+      expect(log.log.last, 'setMaxConcurrentPreparations');
+      expect(log.preparationLimitMessage?.maxConcurrentPreparations, 2);
+    });
+
+    test('getBandwidth', () async {
+      final AndroidBandwidthInfo info = await player.getBandwidth(1);
+      expect(log.log.last, 'getBandwidth');
+      expect(log.textureMessage?.textureId, 1);
+      expect(info.bitrateEstimate, 2000000);
+      expect(info.share, 0.25);
+      expect(info.bytesTransferred, 4096);
+    });
+
+    test('getBufferStats', () async {
+      final AndroidBufferStats stats = await player.getBufferStats(1);
+      expect(log.log.last, 'getBufferStats');
+      expect(log.textureMessage?.textureId, 1);
+      expect(stats.allocatedBytes, 3 * 1024 * 1024);
+      expect(stats.backBuffer, const Duration(seconds: 10));
+      expect(stats.bufferedAhead, const Duration(seconds: 25));
+    });
+
+    test('getBandwidthEstimate', () async {
+      expect(await player.getBandwidthEstimate(), 3000000);
+      expect(log.log.last, 'getBandwidthEstimate');
+    });
+
+    test('setBandwidthEstimate', () async {
+      await player.setBandwidthEstimate(1500000);
+      expect(log.log.last, 'setBandwidthEstimate');
+      expect(log.bandwidthEstimateMessage?.bitrateEstimate, 1500000);
+
+      await player.setBandwidthEstimate(null);
+      expect(log.bandwidthEstimateMessage?.bitrateEstimate, null);
+    });
+
+    test('create with cacheContentId', () async {
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(cacheContentId: 'episode-1'),
+      );
+      expect(log.createMessage?.cacheContentId, 'episode-1');
+    });
+
+    test('configureMediaCache', () async {
+      await player.configureMediaCache(
+        maxBytes: 100 * 1024 * 1024,
+        strippedParameters: <String>['token', 'expires'],
+        rewritePattern: r'^https://cdn\d\.',
+        rewriteReplacement: 'https://cdn.',
+      );
+      expect(log.log.last, 'configureMediaCache');
+      expect(log.mediaCacheConfigMessage?.maxBytes, 100 * 1024 * 1024);
+      expect(log.mediaCacheConfigMessage?.strippedParameters,
+          <String>['token', 'expires']);
+      expect(log.mediaCacheConfigMessage?.rewritePattern, r'^https://cdn\d\.');
+      expect(log.mediaCacheConfigMessage?.rewriteReplacement, 'https://cdn.');
+    });
+
+    test('getMediaCacheStats', () async {
+      final AndroidMediaCacheStats stats = await player.getMediaCacheStats();
+      expect(log.log.last, 'getMediaCacheStats');
+      expect(stats.requests, 10);
+      expect(stats.variantRequests, 4);
+      expect(stats.dedupHits, 3);
+      expect(stats.cachedBytesRead, 65536);
+    });
+
+    test('getCompressionStats', () async {
+      final AndroidCompressionStats stats = await player.getCompressionStats();
+      expect(log.log.last, 'getCompressionStats');
+      expect(stats.compressedResponses, 2);
+      expect(stats.compressedBytes, 4096);
+      expect(stats.decompressedBytes, 32768);
+    });
+
+    test('enqueueDownload', () async {
+      await player.enqueueDownload(
+        'https://example.com/a.m3u8',
+        formatHint: VideoFormat.hls,
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+        maxVideoHeight: 720,
+      );
+      expect(log.log.last, 'enqueueDownload');
+      expect(log.downloadRequestMessage?.uri, 'https://example.com/a.m3u8');
+      expect(log.downloadRequestMessage?.formatHint, 'hls');
+      expect(log.downloadRequestMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(log.downloadRequestMessage?.maxVideoHeight, 720);
+      expect(log.downloadRequestMessage?.maxVideoBitrate, null);
+    });
+
+    test('pauseDownload', () async {
+      await player.pauseDownload('https://example.com/a.m3u8');
+      expect(log.log.last, 'pauseDownload');
+      expect(log.downloadIdMessage?.uri, 'https://example.com/a.m3u8');
+    });
+
+    test('resumeDownload', () async {
+      await player.resumeDownload('https://example.com/a.m3u8');
+      expect(log.log.last, 'resumeDownload');
+      expect(log.downloadIdMessage?.uri, 'https://example.com/a.m3u8');
+    });
+
+    test('resumeDownload with credentials', () async {
+      await player.resumeDownload('https://example.com/a.m3u8',
+          httpHeaders: <String, String>{'Authorization': 'Bearer token'});
+      expect(log.log.last, 'resumeDownload');
+      expect(log.downloadIdMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+    });
+
+    test('removeDownload', () async {
+      await player.removeDownload('https://example.com/a.m3u8');
+      expect(log.log.last, 'removeDownload');
+      expect(log.downloadIdMessage?.uri, 'https://example.com/a.m3u8');
+    });
+
+    test('getDownloads', () async {
+      final List<AndroidDownload> downloads = await player.getDownloads();
+      expect(log.log.last, 'getDownloads');
+      expect(downloads, hasLength(2));
+      expect(downloads[0].uri, 'https://example.com/a.m3u8');
+      expect(downloads[0].state, AndroidDownloadState.downloading);
+      expect(downloads[0].bytesDownloaded, 1024);
+      expect(downloads[0].contentLength, 4096);
+      expect(downloads[0].percentDownloaded, 25.0);
+      expect(downloads[1].state, AndroidDownloadState.stopped);
+      expect(downloads[0].needsCredentials, false);
+      expect(downloads[1].isPaused, false);
+      expect(downloads[1].needsCredentials, true);
+      expect(downloads[1].contentLength, null);
+    });
+
+    test('setMaxParallelDownloads', () async {
+      await player.setMaxParallelDownloads(2);
+      expect(log.log.last, 'setMaxParallelDownloads');
+      expect(log.downloadLimitMessage?.maxParallelDownloads, 2);
+    });
+
     test('setLooping', () async {
       await player.setLooping(1, true);
       expect(log.log.last, 'setLooping');
@@ -234,6 +844,249 @@ void main() {
       expect(log.positionMessage?.position, 12345);
     });
 
+    test('setScrubbing', () async {
+      await player.setScrubbing(1, true);
+      expect(log.log.last, 'setScrubbing');
+      expect(log.scrubbingMessage?.textureId, 1);
+      expect(log.scrubbingMessage?.isScrubbing, true);
+    });
+
+    test('setTrackPreferences', () async {
+      await player.setTrackPreferences(
+        1,
+        const AndroidTrackPreferences(
+          preferredAudioLanguages: <String>['de'],
+          allowedAudioLanguages: <String>['de', 'en'],
+          textTracksDisabled: true,
+          preferredVideoMimeTypes: <String>['video/hevc'],
+        ),
+      );
+      expect(log.log.last, 'setTrackSelection');
+      final TrackPreferencesMessage? preferences =
+          log.trackSelectionMessage?.preferences;
+      expect(log.trackSelectionMessage?.textureId, 1);
+      expect(preferences?.preferredAudioLanguages, <String>['de']);
+      expect(preferences?.allowedAudioLanguages, <String>['de', 'en']);
+      expect(preferences?.textTracksDisabled, true);
+      expect(preferences?.preferredVideoMimeTypes, <String>['video/hevc']);
+      expect(preferences?.preferredAudioMimeTypes, isEmpty);
+    });
+
+    test('getSelectedTracks', () async {
+      final List<AndroidSelectedTrack> tracks =
+          await player.getSelectedTracks(1);
+      expect(log.log.last, 'getSelectedTracks');
+      expect(log.textureMessage?.textureId, 1);
+      expect(tracks, hasLength(2));
+      expect(tracks[0].type, AndroidTrackType.video);
+      expect(tracks[0].bitrate, 2500000);
+      expect(tracks[0].height, 720);
+      expect(tracks[1].type, AndroidTrackType.audio);
+      expect(tracks[1].language, 'de');
+      expect(tracks[1].isCurrent, true);
+    });
+
+    test('snapshot', () async {
+      final AndroidPlaybackSnapshot snapshot = await player.snapshot(1);
+      expect(log.log.last, 'getSnapshot');
+      expect(log.textureMessage?.textureId, 1);
+      expect(snapshot.uri, 'https://example.com/live.m3u8');
+      expect(snapshot.formatHint, VideoFormat.hls);
+      expect(snapshot.cacheContentId, 'episode-1');
+      expect(snapshot.position, const Duration(milliseconds: 61500));
+      expect(snapshot.bitrateEstimate, 4200000);
+      expect(snapshot.audioLanguage, 'de');
+      expect(snapshot.textLanguage, null);
+      expect(snapshot.videoSize, const Size(1280, 720));
+    });
+
+    test('snapshot JSON round trip', () async {
+      final AndroidPlaybackSnapshot snapshot = await player.snapshot(1);
+      final Map<String, Object?> json = snapshot.toJson();
+      expect(json.containsKey('textLanguage'), false);
+      final AndroidPlaybackSnapshot restored =
+          AndroidPlaybackSnapshot.fromJson(json);
+      expect(restored.uri, snapshot.uri);
+      expect(restored.formatHint, VideoFormat.hls);
+      expect(restored.position, snapshot.position);
+      expect(restored.bitrateEstimate, snapshot.bitrateEstimate);
+      expect(restored.audioLanguage, 'de');
+      expect(restored.videoBitrate, 2500000);
+      expect(restored.videoSize, const Size(1280, 720));
+    });
+
+    test('restore', () async {
+      final int? textureId = await player.restore(
+        const AndroidPlaybackSnapshot(
+          uri: 'https://example.com/live.m3u8',
+          position: Duration(seconds: 42),
+          formatHint: VideoFormat.hls,
+          cacheContentId: 'episode-1',
+          bitrateEstimate: 4200000,
+          audioLanguage: 'de',
+          textLanguage: 'en',
+          videoBitrate: 2500000,
+          videoSize: Size(1280, 720),
+        ),
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+      );
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.uri, 'https://example.com/live.m3u8');
+      expect(log.createMessage?.formatHint, 'hls');
+      expect(log.createMessage?.cacheContentId, 'episode-1');
+      expect(log.createMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(log.createMessage?.snapshot?.position, 42000);
+      expect(log.createMessage?.snapshot?.bitrateEstimate, 4200000);
+      expect(log.createMessage?.snapshot?.audioLanguage, 'de');
+      expect(log.createMessage?.snapshot?.textLanguage, 'en');
+      expect(log.createMessage?.snapshot?.videoBitrate, 2500000);
+      expect(log.createMessage?.snapshot?.videoWidth, 1280);
+      expect(log.createMessage?.snapshot?.videoHeight, 720);
+      expect(textureId, 3);
+    });
+
+    test('createGroup', () async {
+      final int groupId = await player.createGroup(<int>[1, 2],
+          tolerance: const Duration(milliseconds: 30));
+      expect(log.log.last, 'createGroup');
+      expect(log.groupCreateMessage?.textureIds, <int>[1, 2]);
+      expect(log.groupCreateMessage?.toleranceMs, 30);
+      expect(groupId, 5);
+    });
+
+    test('disposeGroup', () async {
+      await player.disposeGroup(5);
+      expect(log.log.last, 'disposeGroup');
+      expect(log.groupMessage?.groupId, 5);
+    });
+
+    test('playGroup', () async {
+      await player.playGroup(5);
+      expect(log.log.last, 'playGroup');
+      expect(log.groupMessage?.groupId, 5);
+    });
+
+    test('pauseGroup', () async {
+      await player.pauseGroup(5);
+      expect(log.log.last, 'pauseGroup');
+      expect(log.groupMessage?.groupId, 5);
+    });
+
+    test('seekGroup', () async {
+      await player.seekGroup(5, const Duration(seconds: 12));
+      expect(log.log.last, 'seekGroup');
+      expect(log.groupPositionMessage?.groupId, 5);
+      expect(log.groupPositionMessage?.position, 12000);
+    });
+
+    test('getGroupSyncStats', () async {
+      final AndroidGroupSyncStats stats = await player.getGroupSyncStats(5);
+      expect(log.log.last, 'getGroupSyncStats');
+      expect(log.groupMessage?.groupId, 5);
+      expect(stats.samples, 120);
+      expect(stats.meanError, const Duration(microseconds: 12500));
+      expect(stats.maxError, const Duration(milliseconds: 80));
+      expect(stats.lastError, const Duration(milliseconds: 10));
+      expect(stats.reseeks, 1);
+      expect(stats.speedAdjustments, 6);
+    });
+
+    test('setVideoEnabled', () async {
+      await player.setVideoEnabled(1, false);
+      expect(log.log.last, 'setVideoEnabled');
+      expect(log.videoEnabledMessage?.textureId, 1);
+      expect(log.videoEnabledMessage?.enabled, false);
+    });
+
+    test('applyCommands', () async {
+      await player.applyCommands(const <AndroidPlayerCommand>[
+        AndroidPlayerCommand(
+          1,
+          looping: true,
+          volume: 0.5,
+          position: Duration(milliseconds: 1500),
+          playWhenReady: true,
+        ),
+        AndroidPlayerCommand(2, playWhenReady: false),
+      ]);
+      expect(log.log.last, 'applyCommands');
+      final List<PlayerCommand?> commands =
+          log.playerCommandsMessage!.commands;
+      expect(commands, hasLength(2));
+      expect(commands[0]?.textureId, 1);
+      expect(commands[0]?.isLooping, true);
+      expect(commands[0]?.volume, 0.5);
+      expect(commands[0]?.speed, null);
+      expect(commands[0]?.position, 1500);
+      expect(commands[0]?.playWhenReady, true);
+      expect(commands[1]?.textureId, 2);
+      expect(commands[1]?.volume, null);
+      expect(commands[1]?.playWhenReady, false);
+    });
+
+    test('getThumbnails', () async {
+      final List<Uint8List?> thumbnails = await player.getThumbnails(
+        textureId: 1,
+        positions: const <Duration>[
+          Duration(seconds: 1),
+          Duration(milliseconds: 2500),
+        ],
+        maxSize: 160,
+      );
+      expect(log.log.last, 'getThumbnails');
+      expect(log.thumbnailRequestMessage?.textureId, 1);
+      expect(log.thumbnailRequestMessage?.uri, null);
+      expect(log.thumbnailRequestMessage?.positions, <int>[1000, 2500]);
+      expect(log.thumbnailRequestMessage?.maxSize, 160);
+      expect(thumbnails, hasLength(2));
+      expect(thumbnails[0], <int>[1, 2, 3]);
+      expect(thumbnails[1], null);
+    });
+
+    test('getThumbnails with a format hint', () async {
+      await player.getThumbnails(
+        uri: 'https://example.com/stream',
+        formatHint: VideoFormat.hls,
+        positions: const <Duration>[Duration.zero],
+        maxSize: 160,
+      );
+      expect(log.thumbnailRequestMessage?.uri, 'https://example.com/stream');
+      expect(log.thumbnailRequestMessage?.formatHint, 'hls');
+    });
+
+    test('configurePosterFrames', () async {
+      await player.configurePosterFrames(maxDiskBytes: 8 << 20, maxSize: 320);
+      expect(log.log.last, 'configurePosterFrames');
+      expect(log.posterFrameConfigMessage?.maxDiskBytes, 8 << 20);
+      expect(log.posterFrameConfigMessage?.maxSize, 320);
+    });
+
+    test('getPosterFrame', () async {
+      final AndroidPosterFrame? frame = await player.getPosterFrame(
+        'https://example.com/a.mp4',
+        position: const Duration(milliseconds: 12400),
+      );
+      expect(log.log.last, 'getPosterFrame');
+      expect(log.posterFrameRequestMessage?.uri, 'https://example.com/a.mp4');
+      expect(log.posterFrameRequestMessage?.position, 12400);
+      expect(frame?.bytes, <int>[0xff, 0xd8]);
+      expect(frame?.position, const Duration(seconds: 12));
+    });
+
+    test('getPosterFrame with a content id', () async {
+      await player.getPosterFrame('https://example.com/a.mp4',
+          cacheContentId: 'episode-1');
+      expect(log.posterFrameRequestMessage?.cacheContentId, 'episode-1');
+    });
+
+    test('getPosterFrame without a stored frame', () async {
+      final AndroidPosterFrame? frame =
+          await player.getPosterFrame('https://example.com/b.mp4');
+      expect(log.posterFrameRequestMessage?.position, null);
+      expect(frame, null);
+    });
+
     test('getPosition', () async {
       final Duration position = await player.getPosition(1);
       expect(log.log.last, 'position');
@@ -392,6 +1245,188 @@ void main() {
             ),
           ]));
     });
+
+    test('videoEventsFor with multiplexed events', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/videoEvents';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen' || methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          }
+          fail('Expected listen or cancel');
+        },
+      );
+
+      final int? textureId = await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(multiplexEvents: true),
+      );
+      expect(log.createMessage?.multiplexEvents, true);
+      expect(textureId, 3);
+
+      final Stream<VideoEvent> events = player.videoEventsFor(3);
+      await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .handlePlatformMessage(
+              mockChannel,
+              const StandardMethodCodec()
+                  .encodeSuccessEnvelope(<Map<String, dynamic>>[
+                <String, dynamic>{'textureId': 7, 'event': 'completed'},
+                <String, dynamic>{
+                  'textureId': 3,
+                  'event': 'initialized',
+                  'duration': 98765,
+                  'width': 1920,
+                  'height': 1080,
+                },
+                <String, dynamic>{'textureId': 3, 'event': 'bufferingStart'},
+                <String, dynamic>{
+                  'textureId': 3,
+                  'event': 'error',
+                  'code': 'VideoError',
+                  'message': 'Video player had error',
+                },
+              ]),
+              (ByteData? data) {});
+
+      expect(
+          events,
+          emitsInOrder(<dynamic>[
+            VideoEvent(
+              eventType: VideoEventType.initialized,
+              duration: const Duration(milliseconds: 98765),
+              size: const Size(1920, 1080),
+              rotationCorrection: 0,
+            ),
+            VideoEvent(eventType: VideoEventType.bufferingStart),
+            emitsError(isA<PlatformException>()
+                .having((PlatformException e) => e.code, 'code', 'VideoError')),
+          ]));
+    });
+
+    test('liveLatencyEventsFor', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/videoEvents';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          return const StandardMethodCodec().encodeSuccessEnvelope(null);
+        },
+      );
+
+      await player.createWithOptions(
+        DataSource(sourceType: DataSourceType.network, uri: 'someUri'),
+        const AndroidCreateOptions(
+          multiplexEvents: true,
+          live: AndroidLiveConfiguration(targetOffset: Duration(seconds: 3)),
+        ),
+      );
+      final Future<List<AndroidLiveLatency>> reports =
+          player.liveLatencyEventsFor(3).take(2).toList();
+      final Future<VideoEvent> videoEvent = player.videoEventsFor(3).first;
+      await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .handlePlatformMessage(
+              mockChannel,
+              const StandardMethodCodec()
+                  .encodeSuccessEnvelope(<Map<String, dynamic>>[
+                <String, dynamic>{
+                  'textureId': 3,
+                  'event': 'liveLatency',
+                  'offset': 5200,
+                  'targetOffset': 3000,
+                  'speed': 1.05,
+                  'catchUp': 'speedingUp',
+                },
+                <String, dynamic>{
+                  'textureId': 3,
+                  'event': 'liveLatency',
+                  'speed': 1.0,
+                  'catchUp': 'none',
+                },
+                <String, dynamic>{'textureId': 3, 'event': 'bufferingStart'},
+              ]),
+              (ByteData? data) {});
+
+      final List<AndroidLiveLatency> received = await reports;
+      expect(received[0].offset, const Duration(milliseconds: 5200));
+      expect(received[0].targetOffset, const Duration(seconds: 3));
+      expect(received[0].speed, 1.05);
+      expect(received[0].catchUp, AndroidLiveCatchUp.speedingUp);
+      expect(received[1].offset, null);
+      expect(received[1].catchUp, AndroidLiveCatchUp.none);
+      expect((await videoEvent).eventType, VideoEventType.bufferingStart);
+    });
+
+    test('playlistEventsFor', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/videoEvents3';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          return const StandardMethodCodec().encodeSuccessEnvelope(null);
+        },
+      );
+
+      await player.createPlaylist(
+        const <AndroidPlaylistItem>[
+          AndroidPlaylistItem('https://example.com/a.mp4'),
+          AndroidPlaylistItem('https://example.com/b.mp4'),
+        ],
+      );
+      final Future<List<AndroidPlaylistIndexChange>> changes =
+          player.playlistEventsFor(3).take(2).toList();
+      final Future<VideoEvent> videoEvent = player.videoEventsFor(3).first;
+      await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .handlePlatformMessage(
+              mockChannel,
+              const StandardMethodCodec()
+                  .encodeSuccessEnvelope(<String, dynamic>{
+                'event': 'playlistIndexChanged',
+                'index': 1,
+                'itemCount': 2,
+                'reason': 'auto',
+                'duration': 30000,
+              }),
+              (ByteData? data) {});
+      await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .handlePlatformMessage(
+              mockChannel,
+              const StandardMethodCodec()
+                  .encodeSuccessEnvelope(<String, dynamic>{
+                'event': 'playlistIndexChanged',
+                'index': 0,
+                'itemCount': 1,
+                'reason': 'playlistChanged',
+              }),
+              (ByteData? data) {});
+      await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .handlePlatformMessage(
+              mockChannel,
+              const StandardMethodCodec().encodeSuccessEnvelope(
+                  <String, dynamic>{'event': 'bufferingStart'}),
+              (ByteData? data) {});
+
+      final List<AndroidPlaylistIndexChange> received = await changes;
+      expect(received[0].index, 1);
+      expect(received[0].itemCount, 2);
+      expect(received[0].reason, AndroidPlaylistChangeReason.auto);
+      expect(received[0].duration, const Duration(seconds: 30));
+      expect(received[1].index, 0);
+      expect(received[1].reason, AndroidPlaylistChangeReason.playlistChanged);
+      expect(received[1].duration, null);
+      expect((await videoEvent).eventType, VideoEventType.bufferingStart);
+    });
   });
 }
 
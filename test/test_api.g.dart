@@ -17,27 +17,129 @@ class _TestHostVideoPlayerApiCodec extends StandardMessageCodec {
   const _TestHostVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is BandwidthEstimateMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is BandwidthMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is BufferStatsMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is CompressionStatsMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is DownloadIdMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is DownloadLimitMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is DownloadMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadRequestMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is DownloadsMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupCreateMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupPositionMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is GroupSyncStatsMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is LoopingMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is MediaCacheConfigMessage) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is MediaCacheStatsMessage) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is MixWithOthersMessage) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerCommand) {
+      buffer.putUint8(147);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerCommandsMessage) {
+      buffer.putUint8(148);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistItemMessage) {
+      buffer.putUint8(149);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistItemsMessage) {
+      buffer.putUint8(150);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaylistRangeMessage) {
+      buffer.putUint8(151);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(152);
+      writeValue(buffer, value.encode());
+    } else if (value is PosterFrameConfigMessage) {
+      buffer.putUint8(153);
+      writeValue(buffer, value.encode());
+    } else if (value is PosterFrameMessage) {
+      buffer.putUint8(154);
+      writeValue(buffer, value.encode());
+    } else if (value is PosterFrameRequestMessage) {
+      buffer.putUint8(155);
+      writeValue(buffer, value.encode());
+    } else if (value is PreparationLimitMessage) {
+      buffer.putUint8(156);
+      writeValue(buffer, value.encode());
+    } else if (value is PriorityMessage) {
+      buffer.putUint8(157);
+      writeValue(buffer, value.encode());
+    } else if (value is ScrubbingMessage) {
+      buffer.putUint8(158);
+      writeValue(buffer, value.encode());
+    } else if (value is SelectedTrackMessage) {
+      buffer.putUint8(159);
+      writeValue(buffer, value.encode());
+    } else if (value is SelectedTracksMessage) {
+      buffer.putUint8(160);
+      writeValue(buffer, value.encode());
+    } else if (value is SnapshotMessage) {
+      buffer.putUint8(161);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(162);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailRequestMessage) {
+      buffer.putUint8(163);
+      writeValue(buffer, value.encode());
+    } else if (value is ThumbnailsMessage) {
+      buffer.putUint8(164);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackPreferencesMessage) {
+      buffer.putUint8(165);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackSelectionMessage) {
+      buffer.putUint8(166);
+      writeValue(buffer, value.encode());
+    } else if (value is VideoEnabledMessage) {
+      buffer.putUint8(167);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(168);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -47,18 +149,86 @@ class _TestHostVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return BandwidthEstimateMessage.decode(readValue(buffer)!);
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return BandwidthMessage.decode(readValue(buffer)!);
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return BufferStatsMessage.decode(readValue(buffer)!);
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return CompressionStatsMessage.decode(readValue(buffer)!);
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return DownloadIdMessage.decode(readValue(buffer)!);
       case 134:
+        return DownloadLimitMessage.decode(readValue(buffer)!);
+      case 135:
+        return DownloadMessage.decode(readValue(buffer)!);
+      case 136:
+        return DownloadRequestMessage.decode(readValue(buffer)!);
+      case 137:
+        return DownloadsMessage.decode(readValue(buffer)!);
+      case 138:
+        return GroupCreateMessage.decode(readValue(buffer)!);
+      case 139:
+        return GroupMessage.decode(readValue(buffer)!);
+      case 140:
+        return GroupPositionMessage.decode(readValue(buffer)!);
+      case 141:
+        return GroupSyncStatsMessage.decode(readValue(buffer)!);
+      case 142:
+        return LoopingMessage.decode(readValue(buffer)!);
+      case 143:
+        return MediaCacheConfigMessage.decode(readValue(buffer)!);
+      case 144:
+        return MediaCacheStatsMessage.decode(readValue(buffer)!);
+      case 145:
+        return MixWithOthersMessage.decode(readValue(buffer)!);
+      case 146:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 147:
+        return PlayerCommand.decode(readValue(buffer)!);
+      case 148:
+        return PlayerCommandsMessage.decode(readValue(buffer)!);
+      case 149:
+        return PlaylistItemMessage.decode(readValue(buffer)!);
+      case 150:
+        return PlaylistItemsMessage.decode(readValue(buffer)!);
+      case 151:
+        return PlaylistRangeMessage.decode(readValue(buffer)!);
+      case 152:
+        return PositionMessage.decode(readValue(buffer)!);
+      case 153:
+        return PosterFrameConfigMessage.decode(readValue(buffer)!);
+      case 154:
+        return PosterFrameMessage.decode(readValue(buffer)!);
+      case 155:
+        return PosterFrameRequestMessage.decode(readValue(buffer)!);
+      case 156:
+        return PreparationLimitMessage.decode(readValue(buffer)!);
+      case 157:
+        return PriorityMessage.decode(readValue(buffer)!);
+      case 158:
+        return ScrubbingMessage.decode(readValue(buffer)!);
+      case 159:
+        return SelectedTrackMessage.decode(readValue(buffer)!);
+      case 160:
+        return SelectedTracksMessage.decode(readValue(buffer)!);
+      case 161:
+        return SnapshotMessage.decode(readValue(buffer)!);
+      case 162:
+        return TextureMessage.decode(readValue(buffer)!);
+      case 163:
+        return ThumbnailRequestMessage.decode(readValue(buffer)!);
+      case 164:
+        return ThumbnailsMessage.decode(readValue(buffer)!);
+      case 165:
+        return TrackPreferencesMessage.decode(readValue(buffer)!);
+      case 166:
+        return TrackSelectionMessage.decode(readValue(buffer)!);
+      case 167:
+        return VideoEnabledMessage.decode(readValue(buffer)!);
+      case 168:
         return VolumeMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -89,10 +259,76 @@ abstract class TestHostVideoPlayerApi {
 
   void seekTo(PositionMessage msg);
 
+  void setScrubbing(ScrubbingMessage msg);
+
+  void setVideoEnabled(VideoEnabledMessage msg);
+
+  void setTrackSelection(TrackSelectionMessage msg);
+
+  SelectedTracksMessage getSelectedTracks(TextureMessage msg);
+
+  SnapshotMessage getSnapshot(TextureMessage msg);
+
   void pause(TextureMessage msg);
 
+  void addPlaylistItems(PlaylistItemsMessage msg);
+
+  void removePlaylistItems(PlaylistRangeMessage msg);
+
+  void movePlaylistItem(PlaylistRangeMessage msg);
+
+  void applyCommands(PlayerCommandsMessage msg);
+
+  GroupMessage createGroup(GroupCreateMessage msg);
+
+  void disposeGroup(GroupMessage msg);
+
+  void playGroup(GroupMessage msg);
+
+  void pauseGroup(GroupMessage msg);
+
+  void seekGroup(GroupPositionMessage msg);
+
+  GroupSyncStatsMessage getGroupSyncStats(GroupMessage msg);
+
+  void setPriority(PriorityMessage msg);
+
+  void setMaxConcurrentPreparations(PreparationLimitMessage msg);
+
+  BandwidthMessage getBandwidth(TextureMessage msg);
+
+  BufferStatsMessage getBufferStats(TextureMessage msg);
+
+  BandwidthEstimateMessage getBandwidthEstimate();
+
+  void setBandwidthEstimate(BandwidthEstimateMessage msg);
+
+  void configureMediaCache(MediaCacheConfigMessage msg);
+
+  MediaCacheStatsMessage getMediaCacheStats();
+
+  CompressionStatsMessage getCompressionStats();
+
+  Future<void> enqueueDownload(DownloadRequestMessage msg);
+
+  void pauseDownload(DownloadIdMessage msg);
+
+  void resumeDownload(DownloadIdMessage msg);
+
+  void removeDownload(DownloadIdMessage msg);
+
+  Future<DownloadsMessage> getDownloads();
+
+  void setMaxParallelDownloads(DownloadLimitMessage msg);
+
   void setMixWithOthers(MixWithOthersMessage msg);
 
+  Future<ThumbnailsMessage> getThumbnails(ThumbnailRequestMessage msg);
+
+  void configurePosterFrames(PosterFrameConfigMessage msg);
+
+  Future<PosterFrameMessage> getPosterFrame(PosterFrameRequestMessage msg);
+
   static void setup(TestHostVideoPlayerApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -289,6 +525,118 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setScrubbing', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setScrubbing was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final ScrubbingMessage? arg_msg = (args[0] as ScrubbingMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setScrubbing was null, expected non-null ScrubbingMessage.');
+          api.setScrubbing(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoEnabled', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final VideoEnabledMessage? arg_msg =
+              (args[0] as VideoEnabledMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setVideoEnabled was null, expected non-null VideoEnabledMessage.');
+          api.setVideoEnabled(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TrackSelectionMessage? arg_msg =
+              (args[0] as TrackSelectionMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection was null, expected non-null TrackSelectionMessage.');
+          api.setTrackSelection(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getSelectedTracks', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getSelectedTracks was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getSelectedTracks was null, expected non-null TextureMessage.');
+          final SelectedTracksMessage output = api.getSelectedTracks(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getSnapshot', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getSnapshot was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getSnapshot was null, expected non-null TextureMessage.');
+          final SnapshotMessage output = api.getSnapshot(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.AndroidVideoPlayerApi.pause', codec,
@@ -313,7 +661,7 @@ abstract class TestHostVideoPlayerApi {
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.addPlaylistItems', codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
         _testBinaryMessengerBinding!.defaultBinaryMessenger
@@ -323,16 +671,630 @@ abstract class TestHostVideoPlayerApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers was null.');
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.addPlaylistItems was null.');
           final List<Object?> args = (message as List<Object?>?)!;
-          final MixWithOthersMessage? arg_msg =
-              (args[0] as MixWithOthersMessage?);
+          final PlaylistItemsMessage? arg_msg =
+              (args[0] as PlaylistItemsMessage?);
           assert(arg_msg != null,
-              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers was null, expected non-null MixWithOthersMessage.');
-          api.setMixWithOthers(arg_msg!);
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.addPlaylistItems was null, expected non-null PlaylistItemsMessage.');
+          api.addPlaylistItems(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.removePlaylistItems', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.removePlaylistItems was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PlaylistRangeMessage? arg_msg =
+              (args[0] as PlaylistRangeMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.removePlaylistItems was null, expected non-null PlaylistRangeMessage.');
+          api.removePlaylistItems(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.movePlaylistItem', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.movePlaylistItem was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PlaylistRangeMessage? arg_msg =
+              (args[0] as PlaylistRangeMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.movePlaylistItem was null, expected non-null PlaylistRangeMessage.');
+          api.movePlaylistItem(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.applyCommands', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.applyCommands was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PlayerCommandsMessage? arg_msg =
+              (args[0] as PlayerCommandsMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.applyCommands was null, expected non-null PlayerCommandsMessage.');
+          api.applyCommands(arg_msg!);
           return <Object?>[];
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.createGroup', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.createGroup was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final GroupCreateMessage? arg_msg = (args[0] as GroupCreateMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.createGroup was null, expected non-null GroupCreateMessage.');
+          final GroupMessage output = api.createGroup(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.disposeGroup', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.disposeGroup was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final GroupMessage? arg_msg = (args[0] as GroupMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.disposeGroup was null, expected non-null GroupMessage.');
+          api.disposeGroup(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.playGroup', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.playGroup was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final GroupMessage? arg_msg = (args[0] as GroupMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.playGroup was null, expected non-null GroupMessage.');
+          api.playGroup(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.pauseGroup', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.pauseGroup was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final GroupMessage? arg_msg = (args[0] as GroupMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.pauseGroup was null, expected non-null GroupMessage.');
+          api.pauseGroup(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.seekGroup', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.seekGroup was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final GroupPositionMessage? arg_msg =
+              (args[0] as GroupPositionMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.seekGroup was null, expected non-null GroupPositionMessage.');
+          api.seekGroup(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getGroupSyncStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getGroupSyncStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final GroupMessage? arg_msg = (args[0] as GroupMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getGroupSyncStats was null, expected non-null GroupMessage.');
+          final GroupSyncStatsMessage output = api.getGroupSyncStats(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setPriority', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setPriority was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PriorityMessage? arg_msg = (args[0] as PriorityMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setPriority was null, expected non-null PriorityMessage.');
+          api.setPriority(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxConcurrentPreparations',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxConcurrentPreparations was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PreparationLimitMessage? arg_msg =
+              (args[0] as PreparationLimitMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxConcurrentPreparations was null, expected non-null PreparationLimitMessage.');
+          api.setMaxConcurrentPreparations(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidth', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidth was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidth was null, expected non-null TextureMessage.');
+          final BandwidthMessage output = api.getBandwidth(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getBufferStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getBufferStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final TextureMessage? arg_msg = (args[0] as TextureMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getBufferStats was null, expected non-null TextureMessage.');
+          final BufferStatsMessage output = api.getBufferStats(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getBandwidthEstimate',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final BandwidthEstimateMessage output = api.getBandwidthEstimate();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setBandwidthEstimate',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setBandwidthEstimate was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final BandwidthEstimateMessage? arg_msg =
+              (args[0] as BandwidthEstimateMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setBandwidthEstimate was null, expected non-null BandwidthEstimateMessage.');
+          api.setBandwidthEstimate(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.configureMediaCache', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.configureMediaCache was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final MediaCacheConfigMessage? arg_msg =
+              (args[0] as MediaCacheConfigMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.configureMediaCache was null, expected non-null MediaCacheConfigMessage.');
+          api.configureMediaCache(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getMediaCacheStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final MediaCacheStatsMessage output = api.getMediaCacheStats();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getCompressionStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final CompressionStatsMessage output = api.getCompressionStats();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.enqueueDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.enqueueDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadRequestMessage? arg_msg =
+              (args[0] as DownloadRequestMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.enqueueDownload was null, expected non-null DownloadRequestMessage.');
+          await api.enqueueDownload(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.pauseDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.pauseDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadIdMessage? arg_msg = (args[0] as DownloadIdMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.pauseDownload was null, expected non-null DownloadIdMessage.');
+          api.pauseDownload(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.resumeDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.resumeDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadIdMessage? arg_msg = (args[0] as DownloadIdMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.resumeDownload was null, expected non-null DownloadIdMessage.');
+          api.resumeDownload(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadIdMessage? arg_msg = (args[0] as DownloadIdMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.removeDownload was null, expected non-null DownloadIdMessage.');
+          api.removeDownload(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getDownloads', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final DownloadsMessage output = await api.getDownloads();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxParallelDownloads',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxParallelDownloads was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final DownloadLimitMessage? arg_msg =
+              (args[0] as DownloadLimitMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMaxParallelDownloads was null, expected non-null DownloadLimitMessage.');
+          api.setMaxParallelDownloads(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final MixWithOthersMessage? arg_msg =
+              (args[0] as MixWithOthersMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.setMixWithOthers was null, expected non-null MixWithOthersMessage.');
+          api.setMixWithOthers(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final ThumbnailRequestMessage? arg_msg =
+              (args[0] as ThumbnailRequestMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getThumbnails was null, expected non-null ThumbnailRequestMessage.');
+          final ThumbnailsMessage output = await api.getThumbnails(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.configurePosterFrames',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.configurePosterFrames was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PosterFrameConfigMessage? arg_msg =
+              (args[0] as PosterFrameConfigMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.configurePosterFrames was null, expected non-null PosterFrameConfigMessage.');
+          api.configurePosterFrames(arg_msg!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AndroidVideoPlayerApi.getPosterFrame', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getPosterFrame was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PosterFrameRequestMessage? arg_msg =
+              (args[0] as PosterFrameRequestMessage?);
+          assert(arg_msg != null,
+              'Argument for dev.flutter.pigeon.AndroidVideoPlayerApi.getPosterFrame was null, expected non-null PosterFrameRequestMessage.');
+          final PosterFrameMessage output = await api.getPosterFrame(arg_msg!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }